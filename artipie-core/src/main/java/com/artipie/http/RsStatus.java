@@ -34,6 +34,10 @@ public enum RsStatus {
      * No Content.
      */
     NO_CONTENT(HttpStatus.SC_NO_CONTENT),
+    /**
+     * Partial Content.
+     */
+    PARTIAL_CONTENT(HttpStatus.SC_PARTIAL_CONTENT),
     /**
      * Moved Permanently.
      */
@@ -83,6 +87,10 @@ public enum RsStatus {
      * Length Required.
      */
     LENGTH_REQUIRED(HttpStatus.SC_LENGTH_REQUIRED),
+    /**
+     * Precondition Failed.
+     */
+    PRECONDITION_FAILED(HttpStatus.SC_PRECONDITION_FAILED),
     /**
      * Payload Too Large.
      */
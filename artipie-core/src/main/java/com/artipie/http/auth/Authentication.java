@@ -7,6 +7,8 @@ package com.artipie.http.auth;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,6 +25,18 @@ public interface Authentication {
      */
     Optional<AuthUser> user(String username, String password);
 
+    /**
+     * Find user by credentials asynchronously. Implementations that read users from
+     * storage or verify slow password hashes should override it to not block the caller,
+     * default implementation calls {@link #user(String, String)}.
+     * @param username Username
+     * @param password Password
+     * @return User login if found
+     */
+    default CompletionStage<Optional<AuthUser>> userAsync(String username, String password) {
+        return CompletableFuture.completedFuture(this.user(username, password));
+    }
+
     /**
      * Abstract decorator for Authentication.
      *
@@ -48,6 +62,13 @@ public interface Authentication {
         public final Optional<AuthUser> user(final String username, final String password) {
             return this.auth.user(username, password);
         }
+
+        @Override
+        public final CompletionStage<Optional<AuthUser>> userAsync(
+            final String username, final String password
+        ) {
+            return this.auth.userAsync(username, password);
+        }
     }
 
     /**
@@ -136,6 +157,26 @@ public interface Authentication {
                 .findFirst();
         }
 
+        @Override
+        public CompletionStage<Optional<AuthUser>> userAsync(final String user, final String pass) {
+            CompletionStage<Optional<AuthUser>> res =
+                CompletableFuture.completedFuture(Optional.empty());
+            for (final Authentication auth : this.origins) {
+                res = res.thenCompose(
+                    found -> {
+                        final CompletionStage<Optional<AuthUser>> next;
+                        if (found.isPresent()) {
+                            next = CompletableFuture.completedFuture(found);
+                        } else {
+                            next = auth.userAsync(user, pass);
+                        }
+                        return next;
+                    }
+                );
+            }
+            return res;
+        }
+
         @Override
         public String toString() {
             return String.format(
@@ -49,12 +49,18 @@ public final class BasicAuthScheme implements AuthScheme {
     public CompletionStage<Result> authenticate(
         Headers headers, RequestLine line
     ) {
-        final AuthScheme.Result result = new RqHeaders(headers, Authorization.NAME)
+        return new RqHeaders(headers, Authorization.NAME)
             .stream()
             .findFirst()
-            .map(s -> AuthScheme.result(this.user(s), BasicAuthScheme.CHALLENGE))
-            .orElseGet(() -> AuthScheme.result(AuthUser.ANONYMOUS, BasicAuthScheme.CHALLENGE));
-        return CompletableFuture.completedFuture(result);
+            .map(
+                s -> this.user(s).thenApply(
+                    user -> AuthScheme.result(user, BasicAuthScheme.CHALLENGE)
+                )
+            ).orElseGet(
+                () -> CompletableFuture.completedFuture(
+                    AuthScheme.result(AuthUser.ANONYMOUS, BasicAuthScheme.CHALLENGE)
+                )
+            );
     }
 
     /**
@@ -63,12 +69,12 @@ public final class BasicAuthScheme implements AuthScheme {
      * @param header Authorization header's value
      * @return User if authorised
      */
-    private Optional<AuthUser> user(final String header) {
+    private CompletionStage<Optional<AuthUser>> user(final String header) {
         final Authorization atz = new Authorization(header);
         if (BasicAuthScheme.NAME.equals(atz.scheme())) {
             final Authorization.Basic basic = new Authorization.Basic(atz.credentials());
-            return this.auth.user(basic.username(), basic.password());
+            return this.auth.userAsync(basic.username(), basic.password());
         }
-        return Optional.empty();
+        return CompletableFuture.completedFuture(Optional.empty());
     }
 }
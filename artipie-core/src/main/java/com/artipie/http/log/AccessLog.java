@@ -0,0 +1,322 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.log;
+
+import com.artipie.http.Headers;
+import com.artipie.http.RsStatus;
+import com.artipie.http.auth.AuthzSlice;
+import com.artipie.http.auth.BasicAuthScheme;
+import com.artipie.http.headers.Authorization;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RequestLine;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import javax.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access log.
+ * <p>
+ * Writes one JSON record per completed HTTP exchange to {@code access} logger.
+ * Request threads only put entries into bounded lock-free ring buffer,
+ * entries are formatted and written to logging backend by single writer thread,
+ * so request threads never wait for backend appender locks. If the buffer is full,
+ * the entry is dropped and counted.
+ * </p>
+ * <p>
+ * Nothing is recorded when {@code access} logger is not enabled for {@code INFO} level.
+ * Successful exchanges may be sampled, server errors are always recorded.
+ * Request headers are never written, credentials are only used to find user name.
+ * </p>
+ * @since 1.0
+ */
+public final class AccessLog implements AutoCloseable {
+
+    /**
+     * Access logger.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger("access");
+
+    /**
+     * Default ring buffer capacity.
+     */
+    private static final int CAP_DEFAULT = 8192;
+
+    /**
+     * Writer idle park time.
+     */
+    private static final long IDLE = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Unknown value.
+     */
+    private static final String UNKNOWN = "-";
+
+    /**
+     * Sampling rate of successful exchanges from 0 to 1.
+     */
+    private final double sample;
+
+    /**
+     * Ring buffer of entries.
+     */
+    private final AtomicReferenceArray<Entry> ring;
+
+    /**
+     * Ring index mask.
+     */
+    private final int mask;
+
+    /**
+     * Next position to put entry to.
+     */
+    private final AtomicLong head;
+
+    /**
+     * Next position to write entry from.
+     */
+    private final AtomicLong tail;
+
+    /**
+     * Dropped entries count.
+     */
+    private final AtomicLong lost;
+
+    /**
+     * Writer thread started flag.
+     */
+    private final AtomicBoolean started;
+
+    /**
+     * Closed flag.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Writer thread.
+     */
+    private volatile Thread writer;
+
+    /**
+     * Access log of all exchanges.
+     */
+    public AccessLog() {
+        this(1.0);
+    }
+
+    /**
+     * Access log with sampling rate.
+     * @param sample Sampling rate of successful exchanges from 0 to 1
+     */
+    public AccessLog(final double sample) {
+        this(sample, AccessLog.CAP_DEFAULT);
+    }
+
+    /**
+     * Access log with sampling rate and ring buffer capacity.
+     * @param sample Sampling rate of successful exchanges from 0 to 1
+     * @param capacity Buffer capacity, rounded up to power of two
+     */
+    public AccessLog(final double sample, final int capacity) {
+        if (sample < 0 || sample > 1) {
+            throw new IllegalArgumentException(
+                String.format("Access log sample rate should be from 0 to 1: %f", sample)
+            );
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Access log capacity should be positive: %d", capacity)
+            );
+        }
+        this.sample = sample;
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.mask = this.ring.length() - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+        this.lost = new AtomicLong();
+        this.started = new AtomicBoolean();
+    }
+
+    /**
+     * Check if access log records anything, it's cheap enough to call for each request.
+     * @return True if enabled
+     */
+    public boolean enabled() {
+        return !this.closed && AccessLog.LOGGER.isInfoEnabled();
+    }
+
+    /**
+     * Check if exchange with response status should be recorded.
+     * @param status Response status
+     * @return True if exchange should be recorded
+     */
+    public boolean sampled(final RsStatus status) {
+        return this.sample >= 1 || status.serverError()
+            || this.sample > 0 && ThreadLocalRandom.current().nextDouble() < this.sample;
+    }
+
+    /**
+     * Put entry to the log. Entry is dropped if buffer is full or log is closed.
+     * @param entry Entry
+     */
+    public void add(final Entry entry) {
+        if (!this.closed && this.started.compareAndSet(false, true)) {
+            final Thread thread = new Thread(this::write, "artipie-access-log");
+            thread.setDaemon(true);
+            this.writer = thread;
+            thread.start();
+        }
+        boolean added = false;
+        while (!added && !this.closed) {
+            final long pos = this.head.get();
+            if (pos - this.tail.get() >= this.ring.length()) {
+                break;
+            }
+            if (this.head.compareAndSet(pos, pos + 1)) {
+                this.ring.set((int) pos & this.mask, entry);
+                added = true;
+            }
+        }
+        if (!added) {
+            this.lost.incrementAndGet();
+        }
+    }
+
+    /**
+     * Count of entries dropped because buffer was full.
+     * @return Dropped entries count
+     */
+    public long dropped() {
+        return this.lost.get();
+    }
+
+    /**
+     * Stop accepting entries and write all buffered entries.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        final Thread thread = this.writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (final InterruptedException err) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Writer loop: write entries from buffer until closed.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void write() {
+        while (!this.closed || this.tail.get() != this.head.get()) {
+            final long pos = this.tail.get();
+            final int idx = (int) pos & this.mask;
+            final Entry entry = this.ring.get(idx);
+            if (entry == null) {
+                LockSupport.parkNanos(AccessLog.IDLE);
+            } else {
+                this.ring.set(idx, null);
+                this.tail.set(pos + 1);
+                try {
+                    AccessLog.LOGGER.info(entry.json());
+                } catch (final RuntimeException err) {
+                    AccessLog.LOGGER.warn("Failed to write access log entry", err);
+                }
+            }
+        }
+    }
+
+    /**
+     * Access log entry of completed exchange.
+     * <p>
+     * Entry keeps request line and headers as is, fields are extracted from them
+     * only by log writer.
+     * </p>
+     * @param line Request line
+     * @param headers Request headers
+     * @param status Response status
+     * @param bytes Response body size in bytes or -1 if body was failed
+     * @param latency Time from request to the end of response body in nanoseconds
+     * @since 1.0
+     */
+    public record Entry(
+        RequestLine line, Headers headers, RsStatus status, long bytes, long latency
+    ) {
+
+        /**
+         * Repository name: first segment of request path.
+         * @return Repository name
+         */
+        public String repo() {
+            final String path = this.line.uri().getPath();
+            final String res;
+            if (path == null || path.length() <= 1) {
+                res = AccessLog.UNKNOWN;
+            } else {
+                final int end = path.indexOf('/', 1);
+                if (end < 0) {
+                    res = path.substring(1);
+                } else {
+                    res = path.substring(1, end);
+                }
+            }
+            return res;
+        }
+
+        /**
+         * User name: authenticated login if known or basic authentication user name.
+         * @return User name
+         */
+        public String user() {
+            String res = AccessLog.UNKNOWN;
+            for (final Header header : this.headers) {
+                if (AuthzSlice.LOGIN_HDR.equalsIgnoreCase(header.getKey())) {
+                    res = header.getValue();
+                    break;
+                }
+                if (Authorization.NAME.equalsIgnoreCase(header.getKey())
+                    && header.getValue().toLowerCase(Locale.US).startsWith(
+                        BasicAuthScheme.NAME.toLowerCase(Locale.US)
+                    )) {
+                    try {
+                        res = new Authorization.Basic(
+                            new Authorization(header.getValue()).credentials()
+                        ).username();
+                    } catch (final IllegalArgumentException | IllegalStateException err) {
+                        res = AccessLog.UNKNOWN;
+                    }
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Entry as JSON record.
+         * @return JSON string
+         */
+        public String json() {
+            return Json.createObjectBuilder()
+                .add("method", this.line.method().value())
+                .add("path", String.valueOf(this.line.uri().getPath()))
+                .add("status", this.status.code())
+                .add("bytes", this.bytes)
+                .add("latency_ms", TimeUnit.NANOSECONDS.toMillis(this.latency))
+                .add("user", this.user())
+                .add("repo", this.repo())
+                .build().toString();
+        }
+    }
+}
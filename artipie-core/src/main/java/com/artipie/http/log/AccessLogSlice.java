@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.log;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.jfr.ChunksAndSizeMetricsPublisher;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Slice which records completed exchanges to {@link AccessLog}.
+ * <p>
+ * Exchange is recorded when response body is fully sent, so the record has
+ * response body size and full latency. If access log is disabled, request is passed
+ * to origin slice as is.
+ * </p>
+ * @since 1.0
+ */
+public final class AccessLogSlice implements Slice {
+
+    /**
+     * Access log.
+     */
+    private final AccessLog log;
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Wraps origin slice with access log.
+     * @param log Access log
+     * @param origin Origin slice
+     */
+    public AccessLogSlice(final AccessLog log, final Slice origin) {
+        this.log = log;
+        this.origin = origin;
+    }
+
+    @Override
+    public CompletableFuture<Response> response(
+        final RequestLine line, final Headers headers, final Content body
+    ) {
+        final CompletableFuture<Response> res;
+        if (this.log.enabled()) {
+            final long start = System.nanoTime();
+            res = this.origin.response(line, headers, body).thenApply(
+                rsp -> {
+                    final Response out;
+                    if (this.log.sampled(rsp.status())) {
+                        out = new Response(
+                            rsp.status(), rsp.headers(),
+                            new Content.From(
+                                rsp.body().size(),
+                                new ChunksAndSizeMetricsPublisher(
+                                    rsp.body(),
+                                    (chunks, size) -> this.log.add(
+                                        new AccessLog.Entry(
+                                            line, headers, rsp.status(),
+                                            chunks < 0 ? -1 : size,
+                                            System.nanoTime() - start
+                                        )
+                                    )
+                                )
+                            )
+                        );
+                    } else {
+                        out = rsp;
+                    }
+                    return out;
+                }
+            );
+        } else {
+            res = this.origin.response(line, headers, body);
+        }
+        return res;
+    }
+}
@@ -4,7 +4,7 @@
  */
 
 /**
- * JRuby implementation of API interfaces.
+ * HTTP access log.
  * @since 1.0
  */
-package com.artipie.gem.ruby;
+package com.artipie.http.log;
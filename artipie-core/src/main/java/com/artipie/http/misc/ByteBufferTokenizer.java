@@ -49,6 +49,11 @@ public final class ByteBufferTokenizer implements Closeable {
      */
     private final byte[] delim;
 
+    /**
+     * Delimiter skip table: shift of search position by last byte of the window.
+     */
+    private final int[] skip;
+
     /**
      * Tokens receiver.
      */
@@ -79,6 +84,11 @@ public final class ByteBufferTokenizer implements Closeable {
     public ByteBufferTokenizer(final Receiver receiver, final byte[] delim, final int cap) {
         this.receiver = receiver;
         this.delim = Arrays.copyOf(delim, delim.length);
+        this.skip = new int[256];
+        Arrays.fill(this.skip, delim.length);
+        for (int pos = 0; pos < delim.length - 1; ++pos) {
+            this.skip[delim[pos] & 0xff] = delim.length - 1 - pos;
+        }
         this.acc = new BufAccumulator(cap);
     }
 
@@ -97,7 +107,7 @@ public final class ByteBufferTokenizer implements Closeable {
         int bid;
         int offset = 0;
         // find next boundary token with offset as `bid`
-        while ((bid = indexOf(offset, arr, this.delim)) >= 0) {
+        while ((bid = this.indexOf(offset, arr)) >= 0) {
             if (bid == 0) {
                 // if boundary seq is a head, then next token is and empty token
                 this.receiver.receive(ByteBufferTokenizer.EMPTY_BUF, true);
@@ -151,27 +161,27 @@ public final class ByteBufferTokenizer implements Closeable {
     }
 
     /**
-     * Finds index of token in array starting with offset.
+     * Finds index of delimiter in array starting with offset
+     * using Boyer-Moore-Horspool skip table.
      *
      * @param offset Offset to start
      * @param array Source array
-     * @param token Token to find
-     * @return Position of token or -1 if not found
+     * @return Position of delimiter or -1 if not found
      */
-    private static int indexOf(final int offset, final byte[] array, final byte[] token) {
+    private int indexOf(final int offset, final byte[] array) {
+        final int last = this.delim.length - 1;
         int res = -1;
-        TOP: for (int i = offset; i < array.length - token.length + 1; ++i) {
-            boolean found = true;
-            for (int j = 0; j < token.length; ++j) {
-                if (array[i + j] != token[j]) {
-                    found = false;
-                    break;
-                }
+        int pos = offset;
+        while (pos < array.length - last) {
+            int idx = last;
+            while (idx >= 0 && array[pos + idx] == this.delim[idx]) {
+                --idx;
             }
-            if (found) {
-                res = i;
-                break TOP;
+            if (idx < 0) {
+                res = pos;
+                break;
             }
+            pos += this.skip[array[pos + last] & 0xff];
         }
         return res;
     }
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rq.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Multipart delimiter search.
+ * <p>
+ * Delimiter is searched with Boyer-Moore-Horspool skip table in a sequence of two buffers:
+ * a tail of previous chunk which may contain the beginning of delimiter and the next chunk.
+ * Buffers are read with absolute get methods, so they are not copied and
+ * their positions are not changed.
+ * </p>
+ * @since 1.0
+ */
+final class Delimiter {
+
+    /**
+     * Delimiter bytes.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Skip table: shift of search position by last byte of the window.
+     */
+    private final int[] skip;
+
+    /**
+     * New delimiter.
+     * @param bytes Delimiter bytes
+     */
+    Delimiter(final byte[] bytes) {
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("Delimiter should not be empty");
+        }
+        this.bytes = Arrays.copyOf(bytes, bytes.length);
+        this.skip = new int[256];
+        Arrays.fill(this.skip, bytes.length);
+        for (int pos = 0; pos < bytes.length - 1; ++pos) {
+            this.skip[bytes[pos] & 0xff] = bytes.length - 1 - pos;
+        }
+    }
+
+    /**
+     * Delimiter length.
+     * @return Length in bytes
+     */
+    int length() {
+        return this.bytes.length;
+    }
+
+    /**
+     * Finds delimiter in the sequence of tail and chunk remaining bytes.
+     * @param tail Tail of previous chunk
+     * @param chunk Next chunk
+     * @return Delimiter position in the sequence or -1 if not found
+     */
+    int find(final ByteBuffer tail, final ByteBuffer chunk) {
+        final int size = tail.remaining() + chunk.remaining();
+        final int last = this.bytes.length - 1;
+        int res = -1;
+        int pos = 0;
+        while (pos <= size - this.bytes.length) {
+            int idx = last;
+            while (idx >= 0 && Delimiter.get(tail, chunk, pos + idx) == this.bytes[idx]) {
+                --idx;
+            }
+            if (idx < 0) {
+                res = pos;
+                break;
+            }
+            pos += this.skip[Delimiter.get(tail, chunk, pos + last) & 0xff];
+        }
+        return res;
+    }
+
+    /**
+     * Length of the longest end of the sequence of tail and chunk remaining bytes
+     * which is the beginning of the delimiter. These bytes may be the part of delimiter
+     * continued in next chunk.
+     * @param tail Tail of previous chunk
+     * @param chunk Next chunk
+     * @return Length of possible delimiter beginning
+     */
+    int overlap(final ByteBuffer tail, final ByteBuffer chunk) {
+        final int size = tail.remaining() + chunk.remaining();
+        int res = 0;
+        for (int len = Math.min(this.bytes.length - 1, size); len > 0; --len) {
+            int idx = 0;
+            while (idx < len && Delimiter.get(tail, chunk, size - len + idx) == this.bytes[idx]) {
+                ++idx;
+            }
+            if (idx == len) {
+                res = len;
+                break;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Byte of the sequence of tail and chunk remaining bytes.
+     * @param tail Tail of previous chunk
+     * @param chunk Next chunk
+     * @param pos Position in the sequence
+     * @return Byte
+     */
+    private static byte get(final ByteBuffer tail, final ByteBuffer chunk, final int pos) {
+        final byte res;
+        if (pos < tail.remaining()) {
+            res = tail.get(tail.position() + pos);
+        } else {
+            res = chunk.get(chunk.position() + pos - tail.remaining());
+        }
+        return res;
+    }
+}
@@ -5,249 +5,189 @@
 package com.artipie.http.rq.multipart;
 
 import com.artipie.http.Headers;
-import com.artipie.http.misc.BufAccumulator;
-import com.artipie.http.misc.ByteBufferTokenizer;
 import com.artipie.http.misc.DummySubscription;
 import java.nio.ByteBuffer;
-import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
-import net.jcip.annotations.GuardedBy;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 /**
  * Multipart request part.
+ * <p>
+ * Part doesn't keep its body: body chunks are slices of request body buffers which
+ * are passed by {@link MultiParts} parser to part subscriber according to its demand.
+ * All signals to subscriber are sent from parser drain loop, part subscription
+ * only records requests and cancellation and resumes the parser.
+ * </p>
+ * @since 1.0
  */
-@SuppressWarnings("PMD.NullAssignment")
-final class MultiPart implements RqMultipart.Part, ByteBufferTokenizer.Receiver, Subscription {
+final class MultiPart implements RqMultipart.Part, Subscription {
 
     /**
-     * Header buffer capacity.
+     * Empty buffer to complete part without body.
      */
-    private static final int CAP_HEADER = 256;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0).asReadOnlyBuffer();
 
     /**
-     * Part body buffer capacity.
+     * Part headers.
      */
-    private static final int CAP_PART = 1024;
+    private final MultipartHeaders hdrs;
 
     /**
-     * Delimiter token.
+     * Parser drain action.
      */
-    private static final String DELIM = "\r\n\r\n";
+    private final Runnable drain;
 
     /**
-     * CRLF tokenizer.
+     * Subscribed flag.
      */
-    @GuardedBy("lock")
-    private final ByteBufferTokenizer tokenizer;
+    private final AtomicBoolean subscribed;
 
     /**
-     * Part processor executor.
+     * Downstream demand.
      */
-    private final ExecutorService exec;
+    private final AtomicLong demand;
 
     /**
-     * Multipart header.
-     */
-    private final MultipartHeaders mpartHeaders;
-
-    /**
-     * Downstream.
+     * Downstream, it's ready to receive signals when not null.
      */
     private volatile Subscriber<? super ByteBuffer> downstream;
 
     /**
-     * Head processed.
-     */
-    private volatile boolean head;
-
-    /**
-     * Ready callback.
-     * <p>
-     * Called when the header is received and the part could be submitted to
-     * {@link RqMultipart.Part} downstream.
-     * </p>
-     */
-    private final Consumer<? super RqMultipart.Part> ready;
-
-    /**
-     * Temporary body accumulator.
-     * <p>
-     * It's needed when the downstream connected after the part of body received.
-     * It may happen if the first chunk of body received with last header chunk
-     * before downstream subscription.
-     * </p>
+     * Cancelled flag.
      */
-    @GuardedBy("lock")
-    private final BufAccumulator tmpacc;
+    private volatile boolean cancelled;
 
     /**
-     * Completed flag.
+     * Invalid request error to signal.
      */
-    private volatile boolean completed;
+    private volatile Throwable invalid;
 
     /**
-     * Completion handler.
+     * Any chunk was delivered to downstream.
      */
-    private final Completion<?> completion;
-
-    /**
-     * State synchronization.
-     */
-    private final Object lock;
-
-    /**
-     * Downstream demand counter.
-     */
-    private volatile long demand;
+    private boolean delivered;
 
     /**
      * New multipart request part.
-     * @param completion Upstream completion handler
-     * @param ready Ready callback
-     * @param exec Executor service
-     */
-    MultiPart(final Completion<?> completion, final Consumer<? super RqMultipart.Part> ready,
-        final ExecutorService exec) {
-        this.ready = ready;
-        this.completion = completion;
-        this.tokenizer = new ByteBufferTokenizer(
-            this, MultiPart.DELIM.getBytes(), MultiPart.CAP_PART
-        );
-        this.mpartHeaders = new MultipartHeaders(MultiPart.CAP_HEADER);
-        this.tmpacc = new BufAccumulator(MultiPart.CAP_HEADER);
-        this.lock = new Object();
-        this.exec = exec;
+     * @param hdrs Part headers
+     * @param drain Parser drain action
+     */
+    MultiPart(final MultipartHeaders hdrs, final Runnable drain) {
+        this.hdrs = hdrs;
+        this.drain = drain;
+        this.subscribed = new AtomicBoolean();
+        this.demand = new AtomicLong();
     }
 
     @Override
     public Headers headers() {
-        return this.mpartHeaders.headers();
+        return this.hdrs.headers();
     }
 
     @Override
     public void subscribe(final Subscriber<? super ByteBuffer> sub) {
-        synchronized (this.lock) {
-            if (this.downstream != null) {
-                sub.onSubscribe(DummySubscription.VALUE);
-                sub.onError(new IllegalStateException("Downstream already connected"));
-                return;
-            }
-            this.downstream = sub;
+        if (this.subscribed.compareAndSet(false, true)) {
             sub.onSubscribe(this);
-        }
-    }
-
-    @Override
-    public void receive(final ByteBuffer next, final boolean end) {
-        synchronized (this.lock) {
-            if (this.head) {
-                this.nextChunk(next);
-            } else {
-                this.mpartHeaders.push(next);
-                if (end) {
-                    this.head = true;
-                    this.ready.accept(this);
-                }
-            }
+            this.downstream = sub;
+            this.drain.run();
+        } else {
+            sub.onSubscribe(DummySubscription.VALUE);
+            sub.onError(new IllegalStateException("Downstream already connected"));
         }
     }
 
     @Override
     public void request(final long amt) {
         if (amt <= 0) {
-            throw new IllegalStateException("Requested amount should be greater than zero");
-        }
-        if (this.downstream == null) {
-            return;
-        }
-        synchronized (this.lock) {
-            if (amt == Long.MAX_VALUE || this.demand == Long.MAX_VALUE || amt + this.demand < 0) {
-                this.demand = Long.MAX_VALUE;
-            } else {
-                this.demand += amt;
-            }
+            this.invalid = new IllegalArgumentException(
+                "Requested amount should be greater than zero"
+            );
+        } else {
+            this.demand.getAndAccumulate(
+                amt, (cur, add) -> cur + add < 0 ? Long.MAX_VALUE : cur + add
+            );
         }
-        this.exec.submit(this::deliver);
+        this.drain.run();
     }
 
     @Override
     public void cancel() {
-        synchronized (this.lock) {
-            this.downstream = null;
-        }
+        this.cancelled = true;
+        this.drain.run();
     }
 
     /**
-     * Push next chunk of raw data.
-     * @param chunk Chunk buffer
+     * Deliver pending body chunks to downstream according to its demand.
+     * Chunks are dropped if downstream cancelled subscription.
+     * @param pending Pending chunks
+     * @return True if all chunks were delivered or dropped
      */
-    void push(final ByteBuffer chunk) {
-        synchronized (this.lock) {
-            if (this.head) {
-                this.nextChunk(chunk);
-            } else {
-                this.tokenizer.push(chunk);
-                // head flag could be changed to true after processing chunk
-                if (this.head) {
-                    this.tokenizer.close();
-                }
+    boolean deliver(final Queue<ByteBuffer> pending) {
+        if (this.discards()) {
+            pending.clear();
+        }
+        final Subscriber<? super ByteBuffer> sub = this.downstream;
+        if (sub != null) {
+            while (!pending.isEmpty() && this.take()) {
+                this.delivered = true;
+                sub.onNext(pending.poll());
             }
         }
+        return pending.isEmpty();
     }
 
     /**
-     * Flush all data in temporary buffers.
+     * Complete downstream, part without body is completed with empty chunk.
+     * @return True if completed
      */
-    void flush() {
-        synchronized (this.lock) {
-            if (!this.head) {
-                this.tokenizer.close();
+    boolean complete() {
+        final Subscriber<? super ByteBuffer> sub = this.downstream;
+        boolean res = this.discards();
+        if (!res && sub != null && (this.delivered || this.take())) {
+            if (!this.delivered) {
+                sub.onNext(MultiPart.EMPTY);
             }
-            this.completed = true;
-            this.exec.submit(this::deliver);
+            sub.onComplete();
+            res = true;
         }
+        return res;
     }
 
     /**
-     * Process next chunk of body data.
-     * @param next Next buffer
+     * Signal error to downstream.
+     * @param err Error
      */
-    private void nextChunk(final ByteBuffer next) {
-        this.tmpacc.write(next);
-        if (this.downstream != null) {
-            this.exec.submit(this::deliver);
+    void fail(final Throwable err) {
+        final Subscriber<? super ByteBuffer> sub = this.downstream;
+        if (!this.discards() && sub != null) {
+            sub.onError(err);
         }
     }
 
     /**
-     * Deliver accumulated data to downstream.
+     * Check if downstream doesn't receive chunks anymore: it either cancelled
+     * or requested invalid amount, invalid request error is signaled once.
+     * @return True if chunks should be dropped
      */
-    private void deliver() {
-        synchronized (this.lock) {
-            boolean delivered = false;
-            while (this.demand > 0) {
-                final ByteBuffer out = ByteBuffer.allocate(4096);
-                if (this.tmpacc.read(out) < 0) {
-                    break;
-                }
-                out.flip();
-                this.downstream.onNext(out);
-                delivered = true;
-                if (this.demand != Long.MAX_VALUE) {
-                    --this.demand;
-                }
-            }
-            if (this.completed && this.tmpacc.empty()) {
-                if (!delivered) {
-                    this.downstream.onNext(ByteBuffer.allocate(0));
-                }
-                this.tmpacc.close();
-                this.downstream.onComplete();
-                this.downstream = null;
-                this.completion.itemCompleted();
-            }
+    private boolean discards() {
+        final Subscriber<? super ByteBuffer> sub = this.downstream;
+        if (this.invalid != null && !this.cancelled && sub != null) {
+            this.cancelled = true;
+            sub.onError(this.invalid);
         }
+        return this.cancelled;
+    }
+
+    /**
+     * Take one item from demand.
+     * @return True if demand was not zero
+     */
+    private boolean take() {
+        return this.demand.getAndUpdate(
+            cur -> cur == Long.MAX_VALUE || cur == 0 ? cur : cur - 1
+        ) > 0;
     }
 }
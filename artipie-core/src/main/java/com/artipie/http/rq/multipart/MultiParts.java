@@ -5,12 +5,15 @@
 package com.artipie.http.rq.multipart;
 
 import com.artipie.ArtipieException;
-import com.artipie.http.misc.ByteBufferTokenizer;
-import com.artipie.http.misc.Pipeline;
+import com.artipie.http.misc.DummySubscription;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Processor;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -18,150 +21,515 @@ import org.reactivestreams.Subscription;
 
 /**
  * Multipart parts publisher.
- *
+ * <p>
+ * Single pass multipart parser: request body chunks are scanned for delimiter
+ * by {@link Delimiter} and part bodies are passed to part subscribers as slices of
+ * request body chunks. Next body chunk is requested only when all slices of previous
+ * chunk were requested by part subscriber, so the body is never accumulated in memory.
+ * Parser doesn't use any threads: it runs in a drain loop on the thread
+ * of upstream or downstream signal which resumed it.
+ * </p>
  * @since 1.0
  */
-final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>,
-    ByteBufferTokenizer.Receiver {
+@SuppressWarnings("PMD.TooManyFields")
+final class MultiParts implements Processor<ByteBuffer, RqMultipart.Part>, Subscription {
 
     /**
-     * Cached thread pool for parts processing.
+     * Preamble state: data before first delimiter is ignored.
      */
-    private static final ExecutorService CACHED_PEXEC = Executors.newCachedThreadPool();
+    private static final int PREAMBLE = 0;
 
     /**
-     * Upstream downstream pipeline.
+     * Delimiter state: delimiter was found, checking if it's a close delimiter.
      */
-    private final Pipeline<RqMultipart.Part> pipeline;
+    private static final int DELIMITER = 1;
 
     /**
-     * Parts tokenizer.
+     * Close delimiter state: one dash was found after delimiter.
      */
-    private final ByteBufferTokenizer tokenizer;
+    private static final int DASH = 2;
 
     /**
-     * Subscription executor service.
+     * Padding state: skipping transport padding until the end of delimiter line.
      */
-    private final ExecutorService exec;
+    private static final int PADDING = 3;
 
     /**
-     * Part executor service.
+     * Line feed state: waiting for line feed to end delimiter line.
      */
-    private final ExecutorService pexec;
+    private static final int FEED = 4;
 
     /**
-     * State synchronization.
+     * Headers state: reading part headers until empty line.
      */
-    private final Object lock;
+    private static final int HEADERS = 5;
 
     /**
-     * Current part.
+     * Body state: passing part body to part subscriber until next delimiter.
      */
-    private volatile MultiPart current;
+    private static final int BODY = 6;
 
     /**
-     * State flags.
+     * Epilogue state: data after close delimiter is ignored.
      */
-    private final State state;
+    private static final int EPILOGUE = 7;
 
     /**
-     * Completion handler.
+     * End of headers: empty line.
      */
-    private final Completion<?> completion;
+    private static final byte[] HEADERS_END = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
 
     /**
-     * New multipart parts publisher for upstream publisher.
-     * @param boundary Boundary token delimiter of parts
+     * Headers buffer capacity.
      */
-    MultiParts(final String boundary) {
-        this(boundary, MultiParts.CACHED_PEXEC);
-    }
+    private static final int CAP_HEADER = 256;
 
     /**
-     * New multipart parts publisher for upstream publisher.
-     * @param boundary Boundary token delimiter of parts
-     * @param pexec Parts processing executor
+     * Empty buffer.
      */
-    MultiParts(final String boundary, final ExecutorService pexec) {
-        this.tokenizer = new ByteBufferTokenizer(
-            this, boundary.getBytes(StandardCharsets.US_ASCII)
-        );
-        this.exec = Executors.newSingleThreadExecutor();
-        this.pipeline = new Pipeline<>();
-        this.completion = new Completion<>(this.pipeline);
-        this.state = new State();
-        this.lock = new Object();
-        this.pexec = pexec;
-    }
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    /**
+     * Request body.
+     */
+    private final Publisher<ByteBuffer> origin;
+
+    /**
+     * Parts delimiter.
+     */
+    private final Delimiter delim;
+
+    /**
+     * Drain loop work counter.
+     */
+    private final AtomicInteger wip;
+
+    /**
+     * Received body chunks.
+     */
+    private final Queue<ByteBuffer> inbox;
+
+    /**
+     * Parts demand.
+     */
+    private final AtomicLong demand;
+
+    /**
+     * Downstream subscribed flag.
+     */
+    private final AtomicBoolean subscribed;
+
+    /**
+     * Body slices pending delivery to current part.
+     */
+    private final Queue<ByteBuffer> pending;
+
+    /**
+     * Parts downstream.
+     */
+    private volatile Subscriber<? super RqMultipart.Part> downstream;
+
+    /**
+     * Body upstream subscription.
+     */
+    private volatile Subscription upstream;
+
+    /**
+     * Upstream completed.
+     */
+    private volatile boolean done;
+
+    /**
+     * Upstream error.
+     */
+    private volatile Throwable error;
+
+    /**
+     * Downstream cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Invalid downstream request error.
+     */
+    private volatile Throwable invalid;
+
+    /**
+     * Parser state.
+     */
+    private int state;
 
     /**
-     * Subscribe publisher to this processor asynchronously.
-     * @param pub Upstream publisher
+     * Current chunk, its remaining bytes are not parsed yet.
      */
-    public void subscribeAsync(final Publisher<ByteBuffer> pub) {
-        this.exec.submit(() -> pub.subscribe(this));
+    private ByteBuffer chunk;
+
+    /**
+     * Tail of previous chunk which may be the beginning of delimiter.
+     */
+    private ByteBuffer tail;
+
+    /**
+     * Chunk was requested from upstream.
+     */
+    private boolean requested;
+
+    /**
+     * Number of matched bytes of headers end.
+     */
+    private int matched;
+
+    /**
+     * Current part headers.
+     */
+    private MultipartHeaders headers;
+
+    /**
+     * Current part.
+     */
+    private MultiPart current;
+
+    /**
+     * Current part was sent to downstream.
+     */
+    private boolean published;
+
+    /**
+     * Current part body is ended.
+     */
+    private boolean ended;
+
+    /**
+     * Parser is terminated.
+     */
+    private boolean terminated;
+
+    /**
+     * New multipart parts publisher for upstream publisher.
+     * @param boundary Boundary token delimiter of parts
+     * @param origin Request body
+     */
+    MultiParts(final String boundary, final Publisher<ByteBuffer> origin) {
+        this.origin = origin;
+        this.delim = new Delimiter(boundary.getBytes(StandardCharsets.US_ASCII));
+        this.wip = new AtomicInteger();
+        this.inbox = new ConcurrentLinkedQueue<>();
+        this.demand = new AtomicLong();
+        this.subscribed = new AtomicBoolean();
+        this.pending = new ArrayDeque<>(2);
+        this.state = MultiParts.PREAMBLE;
+        this.chunk = MultiParts.EMPTY;
+        // if request is started with boundary, then it doesn't have a preamble,
+        // but parts are split by `\r\n<boundary>` token, so the body is
+        // parsed as if it's started with `\r\n`
+        this.tail = ByteBuffer.wrap("\r\n".getBytes(StandardCharsets.US_ASCII));
     }
 
     @Override
     public void subscribe(final Subscriber<? super RqMultipart.Part> sub) {
-        this.pipeline.connect(sub);
+        if (this.subscribed.compareAndSet(false, true)) {
+            sub.onSubscribe(this);
+            this.downstream = sub;
+            this.origin.subscribe(this);
+        } else {
+            sub.onSubscribe(DummySubscription.VALUE);
+            sub.onError(new IllegalStateException("Downstream already connected"));
+        }
     }
 
     @Override
     public void onSubscribe(final Subscription sub) {
-        this.pipeline.onSubscribe(sub);
+        if (this.upstream == null) {
+            this.upstream = sub;
+            this.drain();
+        } else {
+            sub.cancel();
+        }
     }
 
     @Override
-    public void onNext(final ByteBuffer chunk) {
-        final ByteBuffer next;
-        if (this.state.isInit()) {
-            // multipart preamble is tricky:
-            // if request is started with boundary, then it donesn't have a preamble
-            // but we're splitting it by \r\n<boundary> token.
-            // To tell tokenizer emmit empty chunk on non-preamble first buffer started with
-            // boudnary we need to add \r\n to it.
-            next = ByteBuffer.allocate(chunk.limit() + 2);
-            next.put("\r\n".getBytes(StandardCharsets.US_ASCII));
-            next.put(chunk);
-            next.rewind();
-        } else {
-            next = chunk;
-        }
-        this.tokenizer.push(next);
-        this.pipeline.request(1L);
+    public void onNext(final ByteBuffer next) {
+        this.inbox.add(next);
+        this.drain();
     }
 
     @Override
     public void onError(final Throwable err) {
-        this.pipeline.onError(new ArtipieException("Upstream failed", err));
-        this.exec.shutdown();
+        this.error = new ArtipieException("Upstream failed", err);
+        this.drain();
     }
 
     @Override
     public void onComplete() {
-        this.completion.upstreamCompleted();
+        this.done = true;
+        this.drain();
+    }
+
+    @Override
+    public void request(final long amt) {
+        if (amt <= 0) {
+            this.invalid = new IllegalArgumentException(
+                "Requested amount should be greater than zero"
+            );
+        } else {
+            this.demand.getAndAccumulate(
+                amt, (cur, add) -> cur + add < 0 ? Long.MAX_VALUE : cur + add
+            );
+        }
+        this.drain();
     }
 
     @Override
-    public void receive(final ByteBuffer next, final boolean end) {
-        synchronized (this.lock) {
-            this.state.patch(next, end);
-            if (this.state.shouldIgnore()) {
-                return;
+    public void cancel() {
+        this.cancelled = true;
+        this.drain();
+    }
+
+    /**
+     * Run parser drain loop, if it's running on another thread, it will repeat the loop.
+     */
+    private void drain() {
+        if (this.wip.getAndIncrement() == 0) {
+            int missed = 1;
+            do {
+                this.process();
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    /**
+     * Parse available chunks until parser needs more data or downstream demand.
+     */
+    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.AvoidBreakInLoop"})
+    private void process() {
+        while (!this.terminated && this.downstream != null) {
+            if (this.cancelled || this.invalid != null) {
+                this.terminate();
+                if (!this.cancelled) {
+                    this.downstream.onError(this.invalid);
+                }
+                break;
+            }
+            if (this.state == MultiParts.BODY && !this.body()) {
+                break;
+            }
+            if (this.chunk.hasRemaining()) {
+                this.parse();
+                continue;
             }
-            if (this.state.started()) {
-                this.completion.itemStarted();
-                this.current = new MultiPart(
-                    this.completion,
-                    part -> this.exec.submit(() -> this.pipeline.onNext(part)),
-                    this.pexec
-                );
+            final ByteBuffer next = this.inbox.poll();
+            if (next != null) {
+                this.chunk = next;
+                this.requested = false;
+            } else if (this.error != null) {
+                this.terminate();
+                if (this.current != null) {
+                    this.current.fail(this.error);
+                }
+                this.downstream.onError(this.error);
+            } else if (this.done) {
+                if (this.state == MultiParts.BODY) {
+                    // close delimiter is missing, the rest of the body belongs to the last part
+                    this.emit(this.tail);
+                    this.tail = MultiParts.EMPTY;
+                    this.ended = true;
+                } else {
+                    this.terminate();
+                    this.downstream.onComplete();
+                }
+            } else {
+                if (!this.requested && this.upstream != null) {
+                    this.requested = true;
+                    this.upstream.request(1L);
+                }
+                break;
             }
-            this.current.push(next);
-            if (this.state.ended()) {
-                this.current.flush();
+        }
+    }
+
+    /**
+     * Publish current part, deliver its pending body and complete it when body is ended.
+     * @return False if parser should wait for downstream demand
+     */
+    private boolean body() {
+        boolean res = true;
+        if (!this.published) {
+            if (this.take()) {
+                this.published = true;
+                this.downstream.onNext(this.current);
+            } else {
+                res = false;
             }
         }
+        if (res) {
+            res = this.current.deliver(this.pending);
+        }
+        if (res && this.ended) {
+            res = this.current.complete();
+            if (res) {
+                this.current = null;
+                this.ended = false;
+                this.state = MultiParts.DELIMITER;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Parse remaining bytes of current chunk according to parser state.
+     */
+    private void parse() {
+        switch (this.state) {
+            case MultiParts.PREAMBLE:
+            case MultiParts.BODY:
+                this.search();
+                break;
+            case MultiParts.HEADERS:
+                this.headers();
+                break;
+            case MultiParts.EPILOGUE:
+                this.chunk.position(this.chunk.limit());
+                break;
+            default:
+                this.delimiter(this.chunk.get());
+                break;
+        }
+    }
+
+    /**
+     * Search delimiter in tail and current chunk. Bytes before delimiter
+     * are the body of current part. If delimiter is not found, bytes which may be the
+     * beginning of the delimiter are kept as a tail.
+     */
+    private void search() {
+        final int found = this.delim.find(this.tail, this.chunk);
+        final int size = this.tail.remaining() + this.chunk.remaining();
+        final int end;
+        if (found >= 0) {
+            end = found;
+        } else {
+            end = size - this.delim.overlap(this.tail, this.chunk);
+        }
+        final int head = Math.min(end, this.tail.remaining());
+        this.emit(MultiParts.slice(this.tail, 0, head));
+        this.emit(MultiParts.slice(this.chunk, 0, end - head));
+        if (found >= 0) {
+            this.chunk.position(
+                this.chunk.position() + found + this.delim.length() - this.tail.remaining()
+            );
+            this.tail = MultiParts.EMPTY;
+            if (this.state == MultiParts.BODY) {
+                this.ended = true;
+            } else {
+                this.state = MultiParts.DELIMITER;
+            }
+        } else {
+            final int rest = size - end;
+            if (rest <= this.chunk.remaining()) {
+                this.tail = MultiParts.slice(this.chunk, this.chunk.remaining() - rest, rest);
+            } else {
+                // chunk is shorter than the delimiter beginning, so tail continues in chunk
+                final int kept = rest - this.chunk.remaining();
+                final ByteBuffer joined = ByteBuffer.allocate(rest);
+                joined.put(MultiParts.slice(this.tail, this.tail.remaining() - kept, kept));
+                joined.put(this.chunk.duplicate());
+                joined.flip();
+                this.tail = joined;
+            }
+            this.chunk.position(this.chunk.limit());
+        }
+    }
+
+    /**
+     * Read part headers until empty line.
+     */
+    private void headers() {
+        final int start = this.chunk.position();
+        while (this.chunk.hasRemaining() && this.matched < MultiParts.HEADERS_END.length) {
+            final byte next = this.chunk.get();
+            if (next == MultiParts.HEADERS_END[this.matched]) {
+                ++this.matched;
+            } else if (next == '\r') {
+                this.matched = 1;
+            } else {
+                this.matched = 0;
+            }
+        }
+        final ByteBuffer read = this.chunk.duplicate();
+        read.flip().position(start);
+        this.headers.push(read);
+        if (this.matched == MultiParts.HEADERS_END.length) {
+            this.current = new MultiPart(this.headers, this::drain);
+            this.headers = null;
+            this.published = false;
+            this.state = MultiParts.BODY;
+        }
+    }
+
+    /**
+     * Parse delimiter line byte: close delimiter `--` or transport padding until line end.
+     * @param next Next byte
+     */
+    private void delimiter(final byte next) {
+        if (this.state == MultiParts.DELIMITER && next == '-') {
+            this.state = MultiParts.DASH;
+        } else if (this.state == MultiParts.DASH && next == '-') {
+            this.state = MultiParts.EPILOGUE;
+        } else if (next == '\n') {
+            this.headers = new MultipartHeaders(MultiParts.CAP_HEADER);
+            // headers may be empty, so the line end of delimiter is the beginning of headers end
+            this.matched = 2;
+            this.state = MultiParts.HEADERS;
+        } else if (next == '\r') {
+            this.state = MultiParts.FEED;
+        } else {
+            this.state = MultiParts.PADDING;
+        }
+    }
+
+    /**
+     * Add body slice of current part to pending slices, preamble and epilogue are ignored.
+     * @param slice Body slice
+     */
+    private void emit(final ByteBuffer slice) {
+        if (this.state == MultiParts.BODY && slice.hasRemaining()) {
+            this.pending.add(slice);
+        }
+    }
+
+    /**
+     * Take one part from downstream demand.
+     * @return True if demand was not zero
+     */
+    private boolean take() {
+        return this.demand.getAndUpdate(
+            cur -> cur == Long.MAX_VALUE || cur == 0 ? cur : cur - 1
+        ) > 0;
+    }
+
+    /**
+     * Terminate parser and cancel upstream.
+     */
+    private void terminate() {
+        this.terminated = true;
+        this.pending.clear();
+        if (this.upstream != null) {
+            this.upstream.cancel();
+        }
+    }
+
+    /**
+     * Slice of buffer remaining bytes.
+     * @param buf Buffer
+     * @param offset Slice offset from buffer position
+     * @param length Slice length
+     * @return Slice sharing buffer content
+     */
+    private static ByteBuffer slice(final ByteBuffer buf, final int offset, final int length) {
+        final ByteBuffer res = buf.duplicate();
+        res.position(buf.position() + offset);
+        res.limit(buf.position() + offset + length);
+        return res.slice();
     }
 }
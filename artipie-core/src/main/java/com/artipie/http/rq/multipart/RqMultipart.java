@@ -74,9 +74,7 @@ public final class RqMultipart {
      * @return Publisher of parts
      */
     public Publisher<Part> parts() {
-        final MultiParts pub = new MultiParts(this.boundary());
-        pub.subscribeAsync(this.upstream);
-        return pub;
+        return new MultiParts(this.boundary(), this.upstream);
     }
 
     /**
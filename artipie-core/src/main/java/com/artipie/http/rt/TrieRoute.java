@@ -0,0 +1,535 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.ResponseBuilder;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.slice.SliceSimple;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Routing slice by path segments trie.
+ * <p>
+ * Routes are path patterns of segments separated by {@code /}, segment can be:
+ * static name, {@code {param}} to match any single segment or {@code **} as the last
+ * segment to match the rest of the path including empty rest. Static segments take
+ * precedence over parameters, parameters take precedence over {@code **}.
+ * Empty segments are ignored, so {@code //a/} path is the same as {@code /a}.
+ * Request is routed to the slice of matched route and request method, or to fallback
+ * slice if nothing matched.
+ * </p>
+ * <p>
+ * Routes are compiled into trie of segments with hash tables of static children,
+ * so routing takes time proportional to the number of path segments and doesn't
+ * depend on the number of routes. Path is not split and no objects are allocated
+ * unless matched route has parameters.
+ * </p>
+ * Usage:
+ * <pre><code>
+ * new TrieRoute.Builder()
+ *   .route(RqMethod.GET, "/.version", new VersionSlice())
+ *   .route(RqMethod.PUT, "/{repo}/**", (line, headers, body, params) -> ...)
+ *   .fallback(new SliceSimple(() -> ResponseBuilder.notFound().build()))
+ *   .build();
+ * </code></pre>
+ * @since 1.0
+ */
+public final class TrieRoute implements Slice {
+
+    /**
+     * Rest of the path segment.
+     */
+    private static final String REST = "**";
+
+    /**
+     * Request methods.
+     */
+    private static final RqMethod[] METHODS = RqMethod.values();
+
+    /**
+     * Trie root.
+     */
+    private final Node root;
+
+    /**
+     * Fallback slice.
+     */
+    private final Slice fallback;
+
+    /**
+     * Max number of parameters of all routes.
+     */
+    private final int params;
+
+    /**
+     * Ctor.
+     * @param root Trie root
+     * @param fallback Fallback slice
+     * @param params Max number of parameters of all routes
+     */
+    private TrieRoute(final Node root, final Slice fallback, final int params) {
+        this.root = root;
+        this.fallback = fallback;
+        this.params = params;
+    }
+
+    @Override
+    public CompletableFuture<Response> response(final RequestLine line, final Headers headers,
+        final Content body) {
+        final String path = line.uri().getRawPath();
+        final int[] bounds;
+        if (this.params == 0) {
+            bounds = null;
+        } else {
+            bounds = new int[this.params * 2];
+        }
+        final Target target;
+        if (path == null) {
+            target = null;
+        } else {
+            target = TrieRoute.find(this.root, path, 0, line.method(), bounds, 0);
+        }
+        final CompletableFuture<Response> res;
+        if (target == null) {
+            res = this.fallback.response(line, headers, body);
+        } else {
+            res = target.handler.response(
+                line, headers, body, new Params(path, target.names, bounds)
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Find route target.
+     * @param node Current node
+     * @param path Request path
+     * @param pos Position in path after current node segment
+     * @param method Request method
+     * @param bounds Bounds of parameters values
+     * @param param Number of captured parameters
+     * @return Target or null if not found
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static Target find(final Node node, final String path, final int pos,
+        final RqMethod method, final int[] bounds, final int param) {
+        final int len = path.length();
+        int start = pos;
+        while (start < len && path.charAt(start) == '/') {
+            ++start;
+        }
+        Target res = null;
+        if (start == len) {
+            res = node.target(method);
+            if (res == null && node.rest != null) {
+                res = node.rest.target(method);
+                if (res != null) {
+                    bounds[param * 2] = len;
+                    bounds[param * 2 + 1] = len;
+                }
+            }
+        } else {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = len;
+            }
+            final Node child = node.child(path, start, end);
+            if (child != null) {
+                res = TrieRoute.find(child, path, end, method, bounds, param);
+            }
+            if (res == null && node.param != null) {
+                res = TrieRoute.find(node.param, path, end, method, bounds, param + 1);
+                if (res != null) {
+                    bounds[param * 2] = start;
+                    bounds[param * 2 + 1] = end;
+                }
+            }
+            if (res == null && node.rest != null) {
+                res = node.rest.target(method);
+                if (res != null) {
+                    bounds[param * 2] = start;
+                    bounds[param * 2 + 1] = len;
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Route handler with path parameters.
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Respond to request.
+         * @param line Request line
+         * @param headers Request headers
+         * @param body Request body
+         * @param params Path parameters
+         * @return Response future
+         */
+        CompletableFuture<Response> response(
+            RequestLine line, Headers headers, Content body, Params params
+        );
+    }
+
+    /**
+     * Path parameters of matched route. Values are taken from raw (not decoded) path.
+     * @since 1.0
+     */
+    public static final class Params {
+
+        /**
+         * Request path.
+         */
+        private final String path;
+
+        /**
+         * Parameters names.
+         */
+        private final String[] names;
+
+        /**
+         * Parameters values bounds in path.
+         */
+        private final int[] bounds;
+
+        /**
+         * Ctor.
+         * @param path Request path
+         * @param names Parameters names
+         * @param bounds Parameters values bounds in path
+         */
+        Params(final String path, final String[] names, final int[] bounds) {
+            this.path = path;
+            this.names = names;
+            this.bounds = bounds;
+        }
+
+        /**
+         * Parameter value, {@code **} segment value is available by {@code **} name.
+         * @param name Parameter name
+         * @return Value
+         * @throws IllegalArgumentException If route has no such parameter
+         */
+        public String get(final String name) {
+            for (int idx = 0; idx < this.names.length; ++idx) {
+                if (this.names[idx].equals(name)) {
+                    return this.path.substring(this.bounds[idx * 2], this.bounds[idx * 2 + 1]);
+                }
+            }
+            throw new IllegalArgumentException(
+                String.format("Route has no parameter '%s'", name)
+            );
+        }
+    }
+
+    /**
+     * Builder of trie route.
+     * @since 1.0
+     */
+    public static final class Builder {
+
+        /**
+         * Trie root.
+         */
+        private final Node root;
+
+        /**
+         * Fallback slice.
+         */
+        private Slice fbk;
+
+        /**
+         * Max number of parameters.
+         */
+        private int params;
+
+        /**
+         * New builder with not found fallback.
+         */
+        public Builder() {
+            this.root = new Node();
+            this.fbk = new SliceSimple(() -> ResponseBuilder.notFound().build());
+        }
+
+        /**
+         * Add route for any request method.
+         * @param pattern Path pattern
+         * @param slice Slice
+         * @return This builder
+         */
+        public Builder route(final String pattern, final Slice slice) {
+            return this.route(null, pattern, Builder.handler(slice));
+        }
+
+        /**
+         * Add route for request method.
+         * @param method Request method
+         * @param pattern Path pattern
+         * @param slice Slice
+         * @return This builder
+         */
+        public Builder route(final RqMethod method, final String pattern, final Slice slice) {
+            return this.route(method, pattern, Builder.handler(slice));
+        }
+
+        /**
+         * Add route with handler of path parameters.
+         * @param method Request method, null for any method
+         * @param pattern Path pattern
+         * @param handler Handler
+         * @return This builder
+         */
+        public Builder route(final RqMethod method, final String pattern, final Handler handler) {
+            Node node = this.root;
+            final List<String> names = new ArrayList<>(0);
+            final String[] segments = pattern.split("/");
+            for (int idx = 0; idx < segments.length; ++idx) {
+                final String segment = segments[idx];
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (TrieRoute.REST.equals(segment)) {
+                    if (idx != segments.length - 1) {
+                        throw new IllegalArgumentException(
+                            String.format("'**' should be the last segment: %s", pattern)
+                        );
+                    }
+                    if (node.rest == null) {
+                        node.rest = new Node();
+                    }
+                    names.add(TrieRoute.REST);
+                    node = node.rest;
+                } else if (segment.startsWith("{") && segment.endsWith("}")) {
+                    if (node.param == null) {
+                        node.param = new Node();
+                    }
+                    names.add(segment.substring(1, segment.length() - 1));
+                    node = node.param;
+                } else {
+                    node = node.statics.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+            final Target target = new Target(handler, names.toArray(new String[0]));
+            if (method == null) {
+                if (node.any != null) {
+                    throw new IllegalArgumentException(
+                        String.format("Duplicate route: %s", pattern)
+                    );
+                }
+                node.any = target;
+            } else {
+                if (node.methods[method.ordinal()] != null) {
+                    throw new IllegalArgumentException(
+                        String.format("Duplicate route: %s %s", method, pattern)
+                    );
+                }
+                node.methods[method.ordinal()] = target;
+            }
+            this.params = Math.max(this.params, names.size());
+            return this;
+        }
+
+        /**
+         * Set fallback slice for requests which match no route.
+         * @param slice Fallback slice
+         * @return This builder
+         */
+        public Builder fallback(final Slice slice) {
+            this.fbk = slice;
+            return this;
+        }
+
+        /**
+         * Compile routes trie.
+         * @return Trie route slice
+         */
+        public TrieRoute build() {
+            this.root.compile();
+            return new TrieRoute(this.root, this.fbk, this.params);
+        }
+
+        /**
+         * Handler of slice.
+         * @param slice Slice
+         * @return Handler ignoring parameters
+         */
+        private static Handler handler(final Slice slice) {
+            return (line, headers, body, params) -> slice.response(line, headers, body);
+        }
+    }
+
+    /**
+     * Route target.
+     * @since 1.0
+     */
+    private static final class Target {
+
+        /**
+         * Handler.
+         */
+        private final Handler handler;
+
+        /**
+         * Parameters names.
+         */
+        private final String[] names;
+
+        /**
+         * Ctor.
+         * @param handler Handler
+         * @param names Parameters names
+         */
+        Target(final Handler handler, final String[] names) {
+            this.handler = handler;
+            this.names = names;
+        }
+    }
+
+    /**
+     * Trie node.
+     * @since 1.0
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    private static final class Node {
+
+        /**
+         * Static children by segment, used only while building.
+         */
+        private final Map<String, Node> statics;
+
+        /**
+         * Targets by request method.
+         */
+        private final Target[] methods;
+
+        /**
+         * Target of any request method.
+         */
+        private Target any;
+
+        /**
+         * Parameter child.
+         */
+        private Node param;
+
+        /**
+         * Rest of the path child.
+         */
+        private Node rest;
+
+        /**
+         * Static children hash table: segments.
+         */
+        private String[] names;
+
+        /**
+         * Static children hash table: segments hashes.
+         */
+        private int[] hashes;
+
+        /**
+         * Static children hash table: nodes.
+         */
+        private Node[] nodes;
+
+        /**
+         * Ctor.
+         */
+        Node() {
+            this.statics = new HashMap<>();
+            this.methods = new Target[TrieRoute.METHODS.length];
+        }
+
+        /**
+         * Target of request method.
+         * @param method Request method
+         * @return Target or null
+         */
+        Target target(final RqMethod method) {
+            Target res = this.methods[method.ordinal()];
+            if (res == null) {
+                res = this.any;
+            }
+            return res;
+        }
+
+        /**
+         * Static child by path segment.
+         * @param path Path
+         * @param start Segment start
+         * @param end Segment end
+         * @return Child node or null
+         */
+        Node child(final String path, final int start, final int end) {
+            Node res = null;
+            if (this.names != null) {
+                int hash = 0;
+                for (int pos = start; pos < end; ++pos) {
+                    hash = 31 * hash + path.charAt(pos);
+                }
+                final int mask = this.names.length - 1;
+                int idx = Node.spread(hash) & mask;
+                final int len = end - start;
+                while (this.names[idx] != null) {
+                    if (this.hashes[idx] == hash && this.names[idx].length() == len
+                        && path.regionMatches(start, this.names[idx], 0, len)) {
+                        res = this.nodes[idx];
+                        break;
+                    }
+                    idx = idx + 1 & mask;
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Compile static children into hash table.
+         */
+        void compile() {
+            if (!this.statics.isEmpty()) {
+                final int size = Integer.highestOneBit(this.statics.size() * 2 - 1) << 1;
+                this.names = new String[size];
+                this.hashes = new int[size];
+                this.nodes = new Node[size];
+                for (final Map.Entry<String, Node> entry : this.statics.entrySet()) {
+                    final int hash = entry.getKey().hashCode();
+                    int idx = Node.spread(hash) & size - 1;
+                    while (this.names[idx] != null) {
+                        idx = idx + 1 & size - 1;
+                    }
+                    this.names[idx] = entry.getKey();
+                    this.hashes[idx] = hash;
+                    this.nodes[idx] = entry.getValue();
+                    entry.getValue().compile();
+                }
+            }
+            if (this.param != null) {
+                this.param.compile();
+            }
+        }
+
+        /**
+         * Spread hash bits.
+         * @param hash Hash
+         * @return Spread hash
+         */
+        private static int spread(final int hash) {
+            return hash ^ hash >>> 16;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single byte range from {@code Range} request header, e.g. {@code bytes=0-499},
+ * {@code bytes=500-} or {@code bytes=-500}. Multiple ranges are not supported,
+ * such requests are answered with full content as RFC 9110 allows.
+ *
+ * @param first First byte position, or -1 for suffix range
+ * @param last Last byte position, or suffix length for suffix range, or -1 if open
+ */
+record ByteRange(long first, long last) {
+
+    /**
+     * Range header name.
+     */
+    static final String NAME = "Range";
+
+    /**
+     * Single bytes range pattern.
+     */
+    private static final Pattern RANGE = Pattern.compile(
+        "^\\s*bytes\\s*=\\s*(\\d*)\\s*-\\s*(\\d*)\\s*$", Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Parses range header value.
+     * @param header Range header value
+     * @return Byte range if header is a valid single bytes range
+     */
+    static Optional<ByteRange> parse(final String header) {
+        Optional<ByteRange> res = Optional.empty();
+        final Matcher matcher = ByteRange.RANGE.matcher(header);
+        if (matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            try {
+                final ByteRange range;
+                if (matcher.group(1).isEmpty()) {
+                    range = new ByteRange(-1L, Long.parseLong(matcher.group(2)));
+                } else if (matcher.group(2).isEmpty()) {
+                    range = new ByteRange(Long.parseLong(matcher.group(1)), -1L);
+                } else {
+                    range = new ByteRange(
+                        Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2))
+                    );
+                }
+                if (range.first() < 0 || range.last() < 0 || range.first() <= range.last()) {
+                    res = Optional.of(range);
+                }
+            } catch (final NumberFormatException ignored) {
+                res = Optional.empty();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Whether the range can be served from content of given size.
+     * @param size Content size
+     * @return True if satisfiable
+     */
+    boolean satisfiable(final long size) {
+        final boolean res;
+        if (this.first < 0) {
+            res = this.last > 0 && size > 0;
+        } else {
+            res = this.first < size;
+        }
+        return res;
+    }
+
+    /**
+     * Position of the first byte of the range.
+     * @param size Content size
+     * @return Start position
+     */
+    long start(final long size) {
+        final long res;
+        if (this.first < 0) {
+            res = Math.max(0L, size - this.last);
+        } else {
+            res = this.first;
+        }
+        return res;
+    }
+
+    /**
+     * Number of bytes in the range.
+     * @param size Content size
+     * @return Range length
+     */
+    long length(final long size) {
+        final long res;
+        if (this.first < 0 || this.last < 0 || this.last >= size) {
+            res = size - this.start(size);
+        } else {
+            res = this.last - this.first + 1;
+        }
+        return res;
+    }
+
+    /**
+     * Content-Range header value for the range.
+     * @param size Content size
+     * @return Header value
+     */
+    String contentRange(final long size) {
+        final long start = this.start(size);
+        return String.format("bytes %d-%d/%d", start, start + this.length(size) - 1, size);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Meta;
+import com.artipie.http.Headers;
+import com.artipie.http.RsStatus;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RqMethod;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Validators of stored content: {@code ETag} and {@code Last-Modified} derived from
+ * storage {@link Meta}, and evaluation of conditional request headers against them
+ * as described in RFC 9110, section 13.
+ * <p>
+ * MD5 from metadata is used as entity tag if present, otherwise entity tag is built
+ * from content size and modification time.
+ * </p>
+ */
+final class ContentValidators {
+
+    /**
+     * Content-Range header name.
+     */
+    static final String CONTENT_RANGE = "Content-Range";
+
+    /**
+     * HTTP date format.
+     */
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter
+        .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+        .withZone(ZoneOffset.UTC);
+
+    /**
+     * Content size.
+     */
+    private final Optional<Long> size;
+
+    /**
+     * Content modification time truncated to seconds.
+     */
+    private final Optional<Instant> modified;
+
+    /**
+     * Content entity tag.
+     */
+    private final Optional<String> etag;
+
+    /**
+     * Ctor.
+     * @param meta Content metadata
+     */
+    ContentValidators(final Meta meta) {
+        this.size = meta.read(Meta.OP_SIZE).map(Long.class::cast);
+        this.modified = meta.read(Meta.OP_UPDATED_AT).map(Instant.class::cast)
+            .or(() -> meta.read(Meta.OP_CREATED_AT).map(Instant.class::cast))
+            .map(time -> time.truncatedTo(ChronoUnit.SECONDS));
+        final Optional<String> md5 = meta.read(Meta.OP_MD5).map(String.class::cast);
+        if (md5.isPresent()) {
+            this.etag = md5.map(val -> String.format("\"%s\"", val));
+        } else if (this.size.isPresent() && this.modified.isPresent()) {
+            this.etag = Optional.of(
+                String.format(
+                    "\"%x-%x\"", this.modified.get().toEpochMilli(), this.size.get()
+                )
+            );
+        } else {
+            this.etag = Optional.empty();
+        }
+    }
+
+    /**
+     * Content size.
+     * @return Size if known
+     */
+    Optional<Long> size() {
+        return this.size;
+    }
+
+    /**
+     * Validator response headers and {@code Accept-Ranges} if content size is known.
+     * @return Headers
+     */
+    Headers headers() {
+        final Headers res = new Headers();
+        this.etag.ifPresent(val -> res.add("ETag", val));
+        this.modified.ifPresent(
+            val -> res.add("Last-Modified", ContentValidators.HTTP_DATE.format(val))
+        );
+        if (this.size.isPresent()) {
+            res.add("Accept-Ranges", "bytes");
+        }
+        return res;
+    }
+
+    /**
+     * Evaluates request preconditions.
+     * @param method Request method
+     * @param headers Request headers
+     * @return OK if request should be served, NOT_MODIFIED or PRECONDITION_FAILED otherwise
+     */
+    RsStatus precondition(final RqMethod method, final Headers headers) {
+        final boolean safe = method == RqMethod.GET || method == RqMethod.HEAD;
+        final Optional<String> match = ContentValidators.header(headers, "If-Match");
+        final Optional<String> nonematch = ContentValidators.header(headers, "If-None-Match");
+        RsStatus res = RsStatus.OK;
+        if (match.isPresent()) {
+            if (!this.matches(match.get(), true)) {
+                res = RsStatus.PRECONDITION_FAILED;
+            }
+        } else if (this.modifiedSince(headers, "If-Unmodified-Since").orElse(false)) {
+            res = RsStatus.PRECONDITION_FAILED;
+        }
+        if (res == RsStatus.OK) {
+            if (nonematch.isPresent()) {
+                if (this.matches(nonematch.get(), false)) {
+                    if (safe) {
+                        res = RsStatus.NOT_MODIFIED;
+                    } else {
+                        res = RsStatus.PRECONDITION_FAILED;
+                    }
+                }
+            } else if (safe && !this.modifiedSince(headers, "If-Modified-Since").orElse(true)) {
+                res = RsStatus.NOT_MODIFIED;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Evaluates {@code If-Range} condition.
+     * @param headers Request headers
+     * @return True if range request can be served
+     */
+    boolean ranged(final Headers headers) {
+        return ContentValidators.header(headers, "If-Range").map(
+            val -> {
+                final boolean res;
+                if (val.startsWith("\"") || val.startsWith("W/")) {
+                    res = this.etag.isPresent() && this.etag.get().equals(val);
+                } else {
+                    res = this.modified.isPresent()
+                        && ContentValidators.date(val).equals(this.modified);
+                }
+                return res;
+            }
+        ).orElse(true);
+    }
+
+    /**
+     * Whether content entity tag matches the list of entity tags from header.
+     * @param header Header value
+     * @param strong Use strong comparison
+     * @return True if matches
+     */
+    private boolean matches(final String header, final boolean strong) {
+        final boolean res;
+        if ("*".equals(header.trim())) {
+            res = true;
+        } else if (this.etag.isEmpty()) {
+            res = false;
+        } else {
+            res = Arrays.stream(header.split(",")).map(String::trim).anyMatch(
+                tag -> {
+                    final boolean same;
+                    if (tag.startsWith("W/")) {
+                        same = !strong && tag.substring(2).equals(this.etag.get());
+                    } else {
+                        same = tag.equals(this.etag.get());
+                    }
+                    return same;
+                }
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Checks whether content was modified since date from header.
+     * @param headers Request headers
+     * @param name Date header name
+     * @return Empty if header is absent or invalid or modification time is unknown
+     */
+    private Optional<Boolean> modifiedSince(final Headers headers, final String name) {
+        return this.modified.flatMap(
+            time -> ContentValidators.header(headers, name)
+                .flatMap(ContentValidators::date)
+                .map(time::isAfter)
+        );
+    }
+
+    /**
+     * Parses HTTP date.
+     * @param value Date string
+     * @return Instant if date is valid
+     */
+    private static Optional<Instant> date(final String value) {
+        Optional<Instant> res;
+        try {
+            res = Optional.of(
+                ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+            );
+        } catch (final DateTimeParseException ignored) {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * First header value by name.
+     * @param headers Headers
+     * @param name Header name
+     * @return Header value if present
+     */
+    private static Optional<String> header(final Headers headers, final String name) {
+        return headers.find(name).stream().findFirst().map(Header::getValue);
+    }
+}
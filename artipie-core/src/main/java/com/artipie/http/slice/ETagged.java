@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.ArtipieException;
+import com.artipie.http.Headers;
+import com.artipie.http.ResponseBuilder;
+import com.artipie.http.RsStatus;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Strong entity tag of a response built in memory, e.g. index page or metadata
+ * document: {@code 304 Not Modified} is answered without building the body if request
+ * {@code If-None-Match} header contains the same tag or {@code *}.
+ *
+ * @since 1.0
+ */
+public final class ETagged {
+
+    /**
+     * Entity tag header name.
+     */
+    public static final String ETAG = "ETag";
+
+    /**
+     * Entity tag, quoted.
+     */
+    private final String tag;
+
+    /**
+     * Ctor.
+     *
+     * @param tag Entity tag, quoted
+     */
+    public ETagged(final String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Entity tag calculated as SHA-256 checksum of the body.
+     *
+     * @param body Response body
+     * @return Tagged response
+     */
+    public static ETagged of(final byte[] body) {
+        try {
+            return new ETagged(
+                String.format(
+                    "\"%s\"",
+                    HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body))
+                )
+            );
+        } catch (final NoSuchAlgorithmException err) {
+            throw new ArtipieException(err);
+        }
+    }
+
+    /**
+     * Entity tag.
+     *
+     * @return Quoted tag
+     */
+    public String tag() {
+        return this.tag;
+    }
+
+    /**
+     * Whether request {@code If-None-Match} header matches the tag,
+     * tags are compared weakly as RFC 9110 requires for this header.
+     *
+     * @param headers Request headers
+     * @return True if client has the same representation
+     */
+    public boolean matches(final Headers headers) {
+        return headers.values("If-None-Match").stream()
+            .flatMap(val -> Arrays.stream(val.split(",")))
+            .map(String::trim)
+            .map(val -> val.startsWith("W/") ? val.substring(2) : val)
+            .anyMatch(val -> "*".equals(val) || this.tag.equals(val));
+    }
+
+    /**
+     * Response builder with {@code ETag} header: {@code 304 Not Modified} if request
+     * {@code If-None-Match} header matches the tag, response of {@code ok} otherwise.
+     *
+     * @param headers Request headers
+     * @param ok Response to send if client does not have the same representation
+     * @return Response builder
+     */
+    public ResponseBuilder response(final Headers headers, final Supplier<ResponseBuilder> ok) {
+        final ResponseBuilder res;
+        if (this.matches(headers)) {
+            res = ResponseBuilder.from(RsStatus.NOT_MODIFIED);
+        } else {
+            res = ok.get();
+        }
+        return res.header(ETagged.ETAG, this.tag);
+    }
+}
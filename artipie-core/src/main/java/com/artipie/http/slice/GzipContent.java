@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Gzip compressed content. Origin chunks are deflated with {@link Deflater} as they
+ * are emitted, without blocking streams, pipes or extra threads: gzip header is emitted
+ * first, then compressed chunks, then remaining compressed data with gzip trailer.
+ * Compressed size is not known in advance.
+ *
+ * @since 1.0
+ */
+public final class GzipContent implements Content {
+
+    /**
+     * Gzip header: magic number, deflate method, no flags, no mtime, no extra flags,
+     * unknown OS.
+     */
+    private static final byte[] HEADER = {
+        (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff,
+    };
+
+    /**
+     * Output buffer size.
+     */
+    private static final int BUFFER = 8192;
+
+    /**
+     * Origin content.
+     */
+    private final Publisher<ByteBuffer> origin;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Ctor.
+     * @param origin Origin content
+     */
+    public GzipContent(final Publisher<ByteBuffer> origin) {
+        this(origin, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin content
+     * @param level Compression level
+     */
+    public GzipContent(final Publisher<ByteBuffer> origin, final int level) {
+        this.origin = origin;
+        this.level = level;
+    }
+
+    @Override
+    public Optional<Long> size() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+        Flowable.defer(
+            () -> {
+                final Deflater deflater = new Deflater(this.level, true);
+                final CRC32 crc = new CRC32();
+                return Flowable.just(ByteBuffer.wrap(GzipContent.HEADER.clone()))
+                    .concatWith(
+                        Flowable.fromPublisher(this.origin).map(
+                            chunk -> {
+                                crc.update(chunk.duplicate());
+                                deflater.setInput(chunk.duplicate());
+                                return GzipContent.deflate(deflater, false);
+                            }
+                        ).filter(ByteBuffer::hasRemaining)
+                    ).concatWith(
+                        Flowable.fromCallable(
+                            () -> {
+                                deflater.finish();
+                                final ByteBuffer last = GzipContent.deflate(deflater, true);
+                                final ByteBuffer res = ByteBuffer.allocate(last.remaining() + 8)
+                                    .put(last)
+                                    .put(GzipContent.intLe(crc.getValue()))
+                                    .put(GzipContent.intLe(deflater.getBytesRead()));
+                                res.flip();
+                                return res;
+                            }
+                        )
+                    ).doFinally(deflater::end);
+            }
+        ).subscribe(subscriber);
+    }
+
+    /**
+     * Compresses the input set to deflater, or all the remaining data
+     * if deflater is finishing.
+     * @param deflater Deflater
+     * @param finish Whether deflater is finishing
+     * @return Compressed data, may be empty
+     */
+    private static ByteBuffer deflate(final Deflater deflater, final boolean finish) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[GzipContent.BUFFER];
+        while (finish && !deflater.finished() || !finish && !deflater.needsInput()) {
+            out.write(buf, 0, deflater.deflate(buf));
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    /**
+     * Lower four bytes of the value in little-endian order, as gzip trailer stores them.
+     * @param value Value
+     * @return Bytes
+     */
+    private static byte[] intLe(final long value) {
+        return new byte[] {
+            (byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24),
+        };
+    }
+}
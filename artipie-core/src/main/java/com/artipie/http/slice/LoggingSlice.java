@@ -12,14 +12,23 @@ import com.artipie.http.headers.Header;
 import com.artipie.http.rq.RequestLine;
 import com.jcabi.log.Logger;
 
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 
 /**
  * Slice that logs incoming requests and outgoing responses.
+ * Messages are not built if logging level is disabled,
+ * values of headers with credentials are not logged.
  */
 public final class LoggingSlice implements Slice {
 
+    /**
+     * Names of headers which values are not logged.
+     */
+    private static final Set<String> SENSITIVE = LoggingSlice.sensitive();
+
     /**
      * Logging level.
      */
@@ -50,6 +59,9 @@ public final class LoggingSlice implements Slice {
     public CompletableFuture<Response> response(
         RequestLine line, Headers headers, Content body
     ) {
+        if (!this.enabled()) {
+            return this.slice.response(line, headers, body);
+        }
         final StringBuilder msg = new StringBuilder(">> ").append(line);
         LoggingSlice.append(msg, headers);
         Logger.log(this.level, this.slice, msg.toString());
@@ -62,6 +74,26 @@ public final class LoggingSlice implements Slice {
             });
     }
 
+    /**
+     * Check if logging level is enabled for delegate slice logger.
+     *
+     * @return True if enabled
+     */
+    private boolean enabled() {
+        final int value = this.level.intValue();
+        final boolean res;
+        if (value >= Level.WARNING.intValue()) {
+            res = true;
+        } else if (value >= Level.CONFIG.intValue()) {
+            res = Logger.isInfoEnabled(this.slice);
+        } else if (value >= Level.FINE.intValue()) {
+            res = Logger.isDebugEnabled(this.slice);
+        } else {
+            res = Logger.isTraceEnabled(this.slice);
+        }
+        return res;
+    }
+
     /**
      * Append headers to {@link StringBuilder}.
      *
@@ -70,7 +102,26 @@ public final class LoggingSlice implements Slice {
      */
     private static void append(StringBuilder builder, Headers headers) {
         for (Header header : headers) {
-            builder.append('\n').append(header.getKey()).append(": ").append(header.getValue());
+            builder.append('\n').append(header.getKey()).append(": ");
+            if (LoggingSlice.SENSITIVE.contains(header.getKey())) {
+                builder.append("***");
+            } else {
+                builder.append(header.getValue());
+            }
         }
     }
+
+    /**
+     * Names of headers with credentials.
+     *
+     * @return Case-insensitive set of names
+     */
+    private static Set<String> sensitive() {
+        final Set<String> res = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        res.add("Authorization");
+        res.add("Proxy-Authorization");
+        res.add("Cookie");
+        res.add("Set-Cookie");
+        return res;
+    }
 }
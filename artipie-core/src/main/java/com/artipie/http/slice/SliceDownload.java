@@ -6,14 +6,19 @@ package com.artipie.http.slice;
 
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
 import com.artipie.asto.Storage;
 import com.artipie.http.Headers;
 import com.artipie.http.ResponseBuilder;
 import com.artipie.http.Response;
+import com.artipie.http.RsStatus;
 import com.artipie.http.Slice;
 import com.artipie.http.headers.ContentFileName;
+import com.artipie.http.headers.ContentLength;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -23,6 +28,12 @@ import java.util.function.Function;
  * It converts URI path to storage {@link Key}
  * and use it to access storage.
  * </p>
+ * <p>
+ * Responses carry {@code ETag} and {@code Last-Modified} validators derived from
+ * storage {@link Meta}, conditional requests are answered with 304 and 412 statuses.
+ * Single byte range requests are answered with 206 status, range content is read
+ * with {@link Storage#value(Key, long, long)}.
+ * </p>
  * @see SliceUpload
  */
 public final class SliceDownload implements Slice {
@@ -62,11 +73,10 @@ public final class SliceDownload implements Slice {
                 .thenCompose(
                     exist -> {
                         if (exist) {
-                            return this.storage.value(key).thenApply(
-                                content -> ResponseBuilder.ok()
-                                    .header(new ContentFileName(line.uri()))
-                                    .body(content)
-                                    .build()
+                            return this.metadata(key).thenCompose(
+                                meta -> this.download(
+                                    line, headers, key, new ContentValidators(meta)
+                                )
                             );
                         }
                         return CompletableFuture.completedFuture(
@@ -77,4 +87,96 @@ public final class SliceDownload implements Slice {
                     }
         );
     }
+
+    /**
+     * Responds with value or its range, or with conditional request status.
+     * @param line Request line
+     * @param headers Request headers
+     * @param key Value key
+     * @param validators Value validators
+     * @return Response
+     */
+    private CompletableFuture<Response> download(final RequestLine line, final Headers headers,
+        final Key key, final ContentValidators validators) {
+        final RsStatus precondition = validators.precondition(line.method(), headers);
+        final CompletableFuture<Response> res;
+        if (precondition == RsStatus.OK) {
+            final Optional<ByteRange> range = SliceDownload.range(line, headers, validators);
+            if (range.isEmpty()) {
+                res = this.storage.value(key).thenApply(
+                    content -> ResponseBuilder.ok()
+                        .headers(validators.headers())
+                        .header(new ContentFileName(line.uri()))
+                        .body(content)
+                        .build()
+                );
+            } else {
+                final long size = validators.size().orElseThrow();
+                if (range.get().satisfiable(size)) {
+                    res = this.storage.value(
+                        key, range.get().start(size), range.get().length(size)
+                    ).thenApply(
+                        content -> ResponseBuilder.from(RsStatus.PARTIAL_CONTENT)
+                            .headers(validators.headers())
+                            .header(new ContentFileName(line.uri()))
+                            .header(ContentValidators.CONTENT_RANGE, range.get().contentRange(size))
+                            .body(content)
+                            .header(new ContentLength(range.get().length(size)), true)
+                            .build()
+                    );
+                } else {
+                    res = CompletableFuture.completedFuture(
+                        ResponseBuilder.from(RsStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .headers(validators.headers())
+                            .header(
+                                ContentValidators.CONTENT_RANGE, String.format("bytes */%d", size)
+                            )
+                            .build()
+                    );
+                }
+            }
+        } else if (precondition == RsStatus.NOT_MODIFIED) {
+            res = CompletableFuture.completedFuture(
+                ResponseBuilder.from(precondition).headers(validators.headers()).build()
+            );
+        } else {
+            res = CompletableFuture.completedFuture(ResponseBuilder.from(precondition).build());
+        }
+        return res;
+    }
+
+    /**
+     * Value metadata, empty metadata is used if storage is not able to provide it.
+     * @param key Value key
+     * @return Metadata
+     */
+    private CompletableFuture<Meta> metadata(final Key key) {
+        CompletableFuture<Meta> res;
+        try {
+            res = this.storage.metadata(key).<Meta>thenApply(meta -> meta)
+                .exceptionally(err -> Meta.EMPTY);
+        } catch (final UnsupportedOperationException err) {
+            res = CompletableFuture.completedFuture(Meta.EMPTY);
+        }
+        return res;
+    }
+
+    /**
+     * Requested byte range, it's ignored for non GET requests, if value size is unknown or
+     * {@code If-Range} condition does not match.
+     * @param line Request line
+     * @param headers Request headers
+     * @param validators Value validators
+     * @return Range to respond with
+     */
+    private static Optional<ByteRange> range(final RequestLine line, final Headers headers,
+        final ContentValidators validators) {
+        Optional<ByteRange> res = Optional.empty();
+        if (line.method() == RqMethod.GET && validators.size().isPresent()
+            && validators.ranged(headers)) {
+            res = headers.find(ByteRange.NAME).stream().findFirst()
+                .flatMap(header -> ByteRange.parse(header.getValue()));
+        }
+        return res;
+    }
 }
@@ -4,32 +4,182 @@
  */
 package com.artipie.http.slice;
 
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.ResponseBuilder;
+import com.artipie.http.RsStatus;
 import com.artipie.http.Slice;
-import com.artipie.http.rt.RtRule;
-import com.artipie.http.rt.RtRulePath;
-import com.artipie.http.rt.SliceRoute;
-import java.util.regex.Pattern;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * This slice checks that request Accept-Encoding header contains gzip value,
- * compress output body with gzip and adds {@code Content-Encoding: gzip} header.
+ * This slice compresses output body with gzip and adds {@code Content-Encoding: gzip} header
+ * when request {@code Accept-Encoding} header allows gzip, and response content type and size
+ * are worth compressing: textual content of unknown size or at least minimal size, not encoded
+ * by origin. {@code Vary: Accept-Encoding} is added to every response that could be compressed,
+ * so caches keep compressed and identity representations apart. Binary content, like
+ * package archives, is returned as is.
  * <p>
  * <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Content-Encoding">Headers Docs</a>.
  */
-public final class WithGzipSlice extends Slice.Wrap {
+public final class WithGzipSlice implements Slice {
+
+    /**
+     * Default minimal size of the content to compress.
+     */
+    public static final long MIN_SIZE = 1024;
+
+    /**
+     * Compressible content types besides {@code text/*}, {@code +json} and {@code +xml}.
+     */
+    private static final Set<String> TYPES = Set.of(
+        "application/json", "application/xml", "application/javascript",
+        "application/x-javascript", "application/yaml", "application/x-yaml",
+        "application/x-ndjson", "application/ecmascript", "image/svg+xml"
+    );
+
+    private final Slice origin;
+
+    /**
+     * Minimal size of the content to compress.
+     */
+    private final long min;
 
     /**
      * @param origin Slice.
      */
     public WithGzipSlice(final Slice origin) {
-        super(
-            new SliceRoute(
-                new RtRulePath(
-                    new RtRule.ByHeader("Accept-Encoding", Pattern.compile(".*gzip.*")),
-                    new GzipSlice(origin)
-                ),
-                new RtRulePath(RtRule.FALLBACK, origin)
-            )
+        this(origin, WithGzipSlice.MIN_SIZE);
+    }
+
+    /**
+     * @param origin Slice.
+     * @param min Minimal size of the content to compress.
+     */
+    public WithGzipSlice(final Slice origin, final long min) {
+        this.origin = origin;
+        this.min = min;
+    }
+
+    @Override
+    public CompletableFuture<Response> response(
+        RequestLine line, Headers headers, Content body
+    ) {
+        final boolean accepts = line.method() != RqMethod.HEAD
+            && WithGzipSlice.acceptsGzip(headers);
+        return this.origin.response(line, headers, body).thenApply(
+            rsp -> {
+                final Response res;
+                if (this.compressible(rsp)) {
+                    final Response varied = ResponseBuilder.from(rsp.status())
+                        .headers(rsp.headers())
+                        .header("Vary", "Accept-Encoding")
+                        .body(rsp.body())
+                        .build();
+                    if (accepts) {
+                        res = GzipSlice.gzip(varied);
+                    } else {
+                        res = varied;
+                    }
+                } else {
+                    res = rsp;
+                }
+                return res;
+            }
         );
     }
+
+    /**
+     * Checks whether response is worth compressing.
+     * @param rsp Response
+     * @return True if response should be compressed when client accepts gzip
+     */
+    private boolean compressible(final Response rsp) {
+        return rsp.status() != RsStatus.NO_CONTENT && rsp.status() != RsStatus.NOT_MODIFIED
+            && rsp.headers().find(GzipSlice.ENCODING).isEmpty()
+            && WithGzipSlice.size(rsp).map(size -> size >= this.min).orElse(true)
+            && rsp.headers().values(ContentType.NAME).stream()
+                .findFirst().map(WithGzipSlice::textual).orElse(false);
+    }
+
+    /**
+     * Response content size if known.
+     * @param rsp Response
+     * @return Size
+     */
+    private static Optional<Long> size(final Response rsp) {
+        return rsp.body().size().or(
+            () -> rsp.headers().values(ContentLength.NAME).stream()
+                .findFirst().map(String::trim).map(Long::parseLong)
+        );
+    }
+
+    /**
+     * Checks whether content type is textual and compresses well.
+     * @param type Content type header value
+     * @return True if textual
+     */
+    private static boolean textual(final String type) {
+        final String mime = type.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        return mime.startsWith("text/") || mime.endsWith("+json") || mime.endsWith("+xml")
+            || WithGzipSlice.TYPES.contains(mime);
+    }
+
+    /**
+     * Checks whether request {@code Accept-Encoding} allows gzip: gzip or any coding
+     * is listed without zero weight.
+     * @param headers Request headers
+     * @return True if gzip is acceptable
+     */
+    private static boolean acceptsGzip(final Headers headers) {
+        double gzip = -1;
+        double any = -1;
+        for (final String value : headers.values("Accept-Encoding")) {
+            for (final String coding : value.split(",")) {
+                final String[] parts = coding.split(";");
+                final String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                final double weight = WithGzipSlice.weight(parts);
+                if ("gzip".equals(name) || "x-gzip".equals(name)) {
+                    gzip = Math.max(gzip, weight);
+                } else if ("*".equals(name)) {
+                    any = weight;
+                }
+            }
+        }
+        final boolean res;
+        if (gzip < 0) {
+            res = any > 0;
+        } else {
+            res = gzip > 0;
+        }
+        return res;
+    }
+
+    /**
+     * Weight of the content coding, {@code q} parameter value or 1 if absent.
+     * @param parts Content coding and its parameters
+     * @return Weight
+     */
+    private static double weight(final String... parts) {
+        double res = 1;
+        for (int idx = 1; idx < parts.length; idx += 1) {
+            final String param = parts[idx].trim();
+            if (param.startsWith("q=") || param.startsWith("Q=")) {
+                try {
+                    res = Double.parseDouble(param.substring(2).trim());
+                } catch (final NumberFormatException ignored) {
+                    res = 0;
+                }
+            }
+        }
+        return res;
+    }
 }
@@ -6,6 +6,7 @@ package com.artipie.jfr;
 
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
+import com.artipie.asto.ListResult;
 import com.artipie.asto.Meta;
 import com.artipie.asto.Storage;
 
@@ -102,6 +103,28 @@ public final class JfrStorage implements Storage {
         return res;
     }
 
+    @Override
+    public CompletableFuture<Content> value(final Key key, final long offset, final long length) {
+        final CompletableFuture<Content> res;
+        final StorageValueEvent event = new StorageValueEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            res = this.original.value(key, offset, length)
+                .thenApply(
+                    content -> this.metricsContent(
+                        key, content, event,
+                        (chunks, size) -> {
+                            event.chunks = chunks;
+                            event.size = size;
+                        }
+                    )
+                );
+        } else {
+            res = this.original.value(key, offset, length);
+        }
+        return res;
+    }
+
     @Override
     public CompletableFuture<Collection<Key>> list(final Key key) {
         final CompletableFuture<Collection<Key>> res;
@@ -119,6 +142,24 @@ public final class JfrStorage implements Storage {
         return res;
     }
 
+    @Override
+    public CompletableFuture<ListResult> list(final Key key, final String delimiter) {
+        final CompletableFuture<ListResult> res;
+        final StorageListEvent event = new StorageListEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            res = this.original.list(key, delimiter).thenApply(
+                list -> this.eventProcess(
+                    list, key, event,
+                    () -> event.keysCount = list.files().size() + list.directories().size()
+                )
+            );
+        } else {
+            res = this.original.list(key, delimiter);
+        }
+        return res;
+    }
+
     @Override
     public CompletableFuture<Void> move(final Key source, final Key target) {
         final CompletableFuture<Void> res;
@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.log;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.RsStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.slice.SliceSimple;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AccessLogSlice}.
+ */
+final class AccessLogSliceTest {
+
+    @Test
+    void keepsResponse() {
+        final AccessLog log = new AccessLog();
+        final Response rsp = new AccessLogSlice(
+            log,
+            new SliceSimple(
+                new Response(RsStatus.OK, Headers.from("Content-Length", "100"), Content.EMPTY)
+            )
+        ).response(RequestLine.from("HEAD /repo/file HTTP/1.1"), Headers.EMPTY, Content.EMPTY)
+            .join();
+        MatcherAssert.assertThat(
+            "Status is not changed",
+            rsp.status(),
+            new IsEqual<>(RsStatus.OK)
+        );
+        MatcherAssert.assertThat(
+            "Headers are not changed",
+            rsp.headers().values("Content-Length"),
+            Matchers.contains("100")
+        );
+        MatcherAssert.assertThat(
+            "Body is not changed",
+            new Content.From(rsp.body()).asBytes().length,
+            new IsEqual<>(0)
+        );
+        log.close();
+    }
+}
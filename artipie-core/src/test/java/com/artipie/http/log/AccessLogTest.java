@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.log;
+
+import com.artipie.http.Headers;
+import com.artipie.http.RsStatus;
+import com.artipie.http.auth.AuthzSlice;
+import com.artipie.http.headers.Authorization;
+import com.artipie.http.rq.RequestLine;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AccessLog}.
+ */
+final class AccessLogTest {
+
+    @Test
+    void writesEntryAsJsonRecord() {
+        final String json = new AccessLog.Entry(
+            RequestLine.from("GET /maven/com/artipie/1.0/lib.jar?token=secret HTTP/1.1"),
+            Headers.from(new Authorization.Basic("alice", "password")),
+            RsStatus.OK, 42L, TimeUnit.MILLISECONDS.toNanos(15)
+        ).json();
+        MatcherAssert.assertThat(
+            "Record has exchange fields",
+            Json.createReader(new StringReader(json)).readObject(),
+            new IsEqual<JsonObject>(
+                Json.createObjectBuilder()
+                    .add("method", "GET")
+                    .add("path", "/maven/com/artipie/1.0/lib.jar")
+                    .add("status", 200)
+                    .add("bytes", 42)
+                    .add("latency_ms", 15)
+                    .add("user", "alice")
+                    .add("repo", "maven")
+                    .build()
+            )
+        );
+        MatcherAssert.assertThat(
+            "Credentials are not written",
+            json,
+            Matchers.not(
+                Matchers.anyOf(
+                    Matchers.containsString("password"),
+                    Matchers.containsString("secret"),
+                    Matchers.containsString(
+                        new Authorization.Basic("alice", "password").getValue()
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void prefersAuthenticatedLogin() {
+        MatcherAssert.assertThat(
+            new AccessLog.Entry(
+                RequestLine.from("PUT / HTTP/1.1"),
+                Headers.from(new Authorization.Bearer("abc"))
+                    .add(AuthzSlice.LOGIN_HDR, "bob"),
+                RsStatus.CREATED, 0L, 0L
+            ).user(),
+            new IsEqual<>("bob")
+        );
+    }
+
+    @Test
+    void usesPlaceholdersForUnknownFields() {
+        final AccessLog.Entry entry = new AccessLog.Entry(
+            RequestLine.from("GET / HTTP/1.1"),
+            Headers.from(new Authorization("Basic", "not base64!")),
+            RsStatus.OK, 0L, 0L
+        );
+        MatcherAssert.assertThat(
+            entry.user() + entry.repo(),
+            new IsEqual<>("--")
+        );
+    }
+
+    @Test
+    void samplesOnlySuccessfulExchanges() {
+        final AccessLog log = new AccessLog(0);
+        MatcherAssert.assertThat(
+            "Successful exchange is not sampled",
+            log.sampled(RsStatus.OK),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Server error is always recorded",
+            log.sampled(RsStatus.INTERNAL_ERROR),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void dropsEntriesAfterClose() {
+        final AccessLog log = new AccessLog(1, 2);
+        log.close();
+        log.add(
+            new AccessLog.Entry(
+                RequestLine.from("GET / HTTP/1.1"), Headers.EMPTY, RsStatus.OK, 0L, 0L
+            )
+        );
+        MatcherAssert.assertThat(
+            log.dropped(),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void rejectsInvalidSampleRate() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AccessLog(2));
+    }
+}
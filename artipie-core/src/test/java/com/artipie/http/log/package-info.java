@@ -4,7 +4,7 @@
  */
 
 /**
- * Tests for JRuby implementation of API interfaces.
- * @since 2.0
+ * Tests for HTTP access log.
+ * @since 1.0
  */
-package com.artipie.gem.ruby;
+package com.artipie.http.log;
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rq.multipart;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test case for {@link Delimiter}.
+ *
+ * @since 1.0
+ */
+final class DelimiterTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "'',abc--bnd,3",
+        "'',--bnd,0",
+        "ab,c--bnd,3",
+        "ab--b,nd,2",
+        "--bn,d,0",
+        "'',-bnd--bn,-1",
+        "--,bx--bn,-1"
+    })
+    void findsDelimiterInTailAndChunk(final String tail, final String chunk, final int pos) {
+        MatcherAssert.assertThat(
+            new Delimiter(DelimiterTest.bytes("--bnd")).find(
+                DelimiterTest.buffer(tail), DelimiterTest.buffer(chunk)
+            ),
+            new IsEqual<>(pos)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'',abc,0",
+        "'',abc-,1",
+        "ab,c--b,3",
+        "ab-,-,2",
+        "--bn,'',4",
+        "'',--bnd,0",
+        "'',-bnd-x,0"
+    })
+    void measuresDelimiterBeginningAtTheEnd(final String tail, final String chunk,
+        final int len) {
+        MatcherAssert.assertThat(
+            new Delimiter(DelimiterTest.bytes("--bnd")).overlap(
+                DelimiterTest.buffer(tail), DelimiterTest.buffer(chunk)
+            ),
+            new IsEqual<>(len)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'',x--bnd", "x-,-bnd"})
+    void doesNotChangeBuffersPositions(final String tail, final String chunk) {
+        final ByteBuffer first = DelimiterTest.buffer(tail);
+        final ByteBuffer second = DelimiterTest.buffer(chunk);
+        new Delimiter(DelimiterTest.bytes("--bnd")).find(first, second);
+        MatcherAssert.assertThat(
+            first.position() + second.position(),
+            new IsEqual<>(0)
+        );
+    }
+
+    private static ByteBuffer buffer(final String str) {
+        return ByteBuffer.wrap(DelimiterTest.bytes(str));
+    }
+
+    private static byte[] bytes(final String str) {
+        return str.getBytes(StandardCharsets.US_ASCII);
+    }
+}
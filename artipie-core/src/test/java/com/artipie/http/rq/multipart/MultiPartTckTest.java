@@ -4,11 +4,11 @@
  */
 package com.artipie.http.rq.multipart;
 
+import io.reactivex.Flowable;
 import io.reactivex.internal.functions.Functions;
-import io.reactivex.subjects.SingleSubject;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.concurrent.Executors;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.tck.PublisherVerification;
 import org.reactivestreams.tck.TestEnvironment;
@@ -40,23 +40,18 @@ public final class MultiPartTckTest extends PublisherVerification<ByteBuffer> {
 
     @Override
     public Publisher<ByteBuffer> createPublisher(final long size) {
-        final SingleSubject<RqMultipart.Part> subj = SingleSubject.create();
-        final MultiPart part = new MultiPart(
-            Completion.FAKE, subj::onSuccess,
-            Executors.newCachedThreadPool()
-        );
-        Executors.newCachedThreadPool().submit(
-            () -> {
-                part.push(ByteBuffer.wrap("\r\n\r\n".getBytes()));
-                final byte[] data = new byte[MultiPartTckTest.TEST_BUF];
-                Arrays.fill(data, (byte) 'A');
-                for (long pos = size; pos > 0; --pos) {
-                    part.push(ByteBuffer.wrap(data));
-                }
-                part.flush();
-            }
-        );
-        return subj.flatMapPublisher(Functions.identity());
+        final byte[] data = new byte[MultiPartTckTest.TEST_BUF];
+        Arrays.fill(data, (byte) 'A');
+        return Flowable.fromPublisher(
+            new MultiParts(
+                "\r\n--bnd",
+                Flowable.concat(
+                    Flowable.just(MultiPartTckTest.ascii("--bnd\r\n\r\n")),
+                    Flowable.rangeLong(0, size).map(pos -> ByteBuffer.wrap(data)),
+                    Flowable.just(MultiPartTckTest.ascii("\r\n--bnd--"))
+                )
+            )
+        ).firstOrError().flatMapPublisher(Functions.identity());
     }
 
     @Override
@@ -73,4 +68,13 @@ public final class MultiPartTckTest extends PublisherVerification<ByteBuffer> {
     public long boundedDepthOfOnNextAndRequestRecursion() {
         return 1;
     }
+
+    /**
+     * Buffer of ASCII string.
+     * @param str String
+     * @return Buffer
+     */
+    private static ByteBuffer ascii(final String str) {
+        return ByteBuffer.wrap(str.getBytes(StandardCharsets.US_ASCII));
+    }
 }
@@ -5,21 +5,15 @@
 package com.artipie.http.rq.multipart;
 
 import com.artipie.asto.Content;
+import io.reactivex.Flowable;
 import io.reactivex.internal.functions.Functions;
-import io.reactivex.subjects.SingleSubject;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
-import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Test case for {@link MultiPart}.
@@ -29,61 +23,81 @@ import java.util.concurrent.TimeUnit;
 final class MultiPartTest {
 
     /**
-     * Multi part processor executor.
+     * Parts delimiter.
      */
-    private ExecutorService exec;
+    private static final String DELIM = "\r\n--bnd";
 
-    @BeforeEach
-    void setUp() {
-        this.exec = Executors.newCachedThreadPool();
+    @Test
+    void parsePart() {
+        MatcherAssert.assertThat(
+            new Content.From(
+                MultiPartTest.part(
+                    "--bnd\r\nContent-l", "ength", ": 24\r\n",
+                    "Con", "tent-typ", "e: ", "appl", "ication/jso", "n\r\n\r\n{\"foo",
+                    "\": \"b", "ar\", ", "\"val\": [4]}\r", "\n--bn", "d--"
+                )
+            ).asString(),
+            Matchers.equalTo("{\"foo\": \"bar\", \"val\": [4]}")
+        );
     }
 
-    @AfterEach
-    void tearDown() throws Exception {
-        this.exec.shutdown();
-        this.exec.awaitTermination(1, TimeUnit.SECONDS);
+    @Test
+    void readsHeadersSplitAcrossChunks() {
+        MatcherAssert.assertThat(
+            Flowable.fromPublisher(
+                new MultiParts(
+                    MultiPartTest.DELIM,
+                    MultiPartTest.chunks(
+                        "--bnd\r\nContent-Type: text/plain\r", "\n\r", "\nbody\r\n--bnd--"
+                    )
+                )
+            ).firstOrError().blockingGet().headers().values("content-type"),
+            Matchers.contains("text/plain")
+        );
     }
 
     @Test
-    void parsePart() throws Exception {
-        final SingleSubject<RqMultipart.Part> subj = SingleSubject.create();
-        final MultiPart part = new MultiPart(Completion.FAKE, subj::onSuccess, this.exec);
-        Executors.newCachedThreadPool().submit(
-            () -> {
-                for (final String chunk : Arrays.asList(
-                    "Content-l", "ength", ": 24\r\n",
-                    "Con", "tent-typ", "e: ", "appl", "ication/jso", "n\r\n\r\n{\"foo",
-                    "\": \"b", "ar\", ", "\"val\": [4]}"
-                )) {
-                    part.push(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.US_ASCII)));
-                }
-                part.flush();
-            }
-        );
+    void keepsBodyBytesSimilarToDelimiter() {
         MatcherAssert.assertThat(
-            new Content.From(subj.flatMapPublisher(Functions.identity())).asString(),
-            Matchers.equalTo("{\"foo\": \"bar\", \"val\": [4]}")
+            new Content.From(
+                MultiPartTest.part(
+                    "--bnd\r\n\r\n--b", "nd\r", "\n--b\r\n-", "-bn\r\n--", "bnd--"
+                )
+            ).asString(),
+            Matchers.equalTo("--bnd\r\n--b\r\n--bn")
         );
     }
 
     @Test
     @Timeout(1)
-    void parseEmptyBody() throws Exception {
-        final SingleSubject<RqMultipart.Part> subj = SingleSubject.create();
-        final MultiPart part = new MultiPart(Completion.FAKE, subj::onSuccess, this.exec);
-        Executors.newCachedThreadPool().submit(
-            () -> {
-                part.push(
-                    ByteBuffer.wrap(
-                        "Content-Length: 0\r\n\r\n".getBytes(StandardCharsets.US_ASCII)
-                    )
-                );
-                part.flush();
-            }
-        );
+    void parseEmptyBody() {
         MatcherAssert.assertThat(
-            new Content.From(subj.flatMapPublisher(Functions.identity())).asString(),
+            new Content.From(
+                MultiPartTest.part("--bnd\r\nContent-Length: 0\r\n\r\n\r\n--bnd--")
+            ).asString(),
             Matchers.equalTo("")
         );
     }
+
+    /**
+     * Body of the first part of multipart request.
+     * @param chunks Request body chunks
+     * @return Part body
+     */
+    private static Flowable<ByteBuffer> part(final String... chunks) {
+        return Flowable.fromPublisher(
+            new MultiParts(MultiPartTest.DELIM, MultiPartTest.chunks(chunks))
+        ).firstOrError().flatMapPublisher(Functions.identity());
+    }
+
+    /**
+     * Request body of chunks.
+     * @param chunks Body chunks
+     * @return Body publisher
+     */
+    private static Flowable<ByteBuffer> chunks(final String... chunks) {
+        return Flowable.fromArray(chunks).map(
+            chunk -> ByteBuffer.wrap(chunk.getBytes(StandardCharsets.US_ASCII))
+        );
+    }
 }
@@ -12,7 +12,7 @@ import org.reactivestreams.tck.PublisherVerification;
 import org.reactivestreams.tck.TestEnvironment;
 
 /**
- * Test case for {@link MultiPart}.
+ * Test case for {@link MultiParts}.
  *
  * @since 1.0
  */
@@ -41,8 +41,8 @@ public final class MultiPartsTckTest extends PublisherVerification<Integer> {
     @Override
     public Publisher<Integer> createPublisher(final long size) {
         final String boundary = "--bnd";
-        final MultiParts target = new MultiParts(boundary);
-        target.subscribeAsync(
+        final MultiParts target = new MultiParts(
+            String.format("\r\n%s", boundary),
             Flowable.rangeLong(0, size).map(id -> this.newChunk(id, id == size - 1, boundary))
         );
         return Flowable.fromPublisher(target).flatMapSingle(
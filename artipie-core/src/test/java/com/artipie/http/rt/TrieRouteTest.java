@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.ResponseBuilder;
+import com.artipie.http.RsStatus;
+import com.artipie.http.Slice;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.slice.SliceSimple;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link TrieRoute}.
+ */
+class TrieRouteTest {
+
+    @Test
+    void routesStaticPaths() {
+        final Slice route = new TrieRoute.Builder()
+            .route("/", TrieRouteTest.status(RsStatus.NO_CONTENT))
+            .route("/a/b", TrieRouteTest.status(RsStatus.OK))
+            .route("/a/c", TrieRouteTest.status(RsStatus.ACCEPTED))
+            .build();
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/"), new RsHasStatus(RsStatus.NO_CONTENT)
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/a//b/"), new RsHasStatus(RsStatus.OK)
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/a/c"), new RsHasStatus(RsStatus.ACCEPTED)
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/a"), new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/a/bb"), new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+    }
+
+    @Test
+    void routesByMethod() {
+        final Slice route = new TrieRoute.Builder()
+            .route(RqMethod.GET, "/item", TrieRouteTest.status(RsStatus.OK))
+            .route(RqMethod.PUT, "/item", TrieRouteTest.status(RsStatus.CREATED))
+            .fallback(TrieRouteTest.status(RsStatus.METHOD_NOT_ALLOWED))
+            .build();
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/item"), new RsHasStatus(RsStatus.OK)
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "PUT", "/item"), new RsHasStatus(RsStatus.CREATED)
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "DELETE", "/item"),
+            new RsHasStatus(RsStatus.METHOD_NOT_ALLOWED)
+        );
+    }
+
+    @Test
+    void capturesParameters() {
+        final Slice route = new TrieRoute.Builder()
+            .route(
+                RqMethod.GET, "/{repo}/packages/{name}",
+                (line, headers, body, params) -> ResponseBuilder.ok()
+                    .textBody(String.join(":", params.get("repo"), params.get("name")))
+                    .completedFuture()
+            )
+            .build();
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/my-repo/packages/lib").body().asString(),
+            Matchers.is("my-repo:lib")
+        );
+    }
+
+    @Test
+    void capturesRestOfPath() {
+        final Slice route = new TrieRoute.Builder()
+            .route(
+                RqMethod.GET, "/{repo}/**",
+                (line, headers, body, params) -> ResponseBuilder.ok()
+                    .textBody(String.join(":", params.get("repo"), params.get("**")))
+                    .completedFuture()
+            )
+            .build();
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/maven/com/artipie/1.0/a.jar").body().asString(),
+            Matchers.is("maven:com/artipie/1.0/a.jar")
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/maven").body().asString(),
+            Matchers.is("maven:")
+        );
+    }
+
+    @Test
+    void prefersStaticOverParameterAndBacktracks() {
+        final Slice route = new TrieRoute.Builder()
+            .route("/api/version", TrieRouteTest.status(RsStatus.OK))
+            .route("/{repo}/version", TrieRouteTest.status(RsStatus.ACCEPTED))
+            .route("/api/**", TrieRouteTest.status(RsStatus.CREATED))
+            .build();
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/api/version"), new RsHasStatus(RsStatus.OK)
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/other/version"),
+            new RsHasStatus(RsStatus.ACCEPTED)
+        );
+        MatcherAssert.assertThat(
+            TrieRouteTest.send(route, "GET", "/api/other"), new RsHasStatus(RsStatus.CREATED)
+        );
+    }
+
+    @Test
+    void routesManyStaticSegments() {
+        final TrieRoute.Builder builder = new TrieRoute.Builder();
+        for (int idx = 0; idx < 100; ++idx) {
+            final int num = idx;
+            builder.route(
+                RqMethod.GET, String.format("/repo-%d", idx),
+                (line, headers, body, params) -> ResponseBuilder.ok()
+                    .textBody(String.valueOf(num)).completedFuture()
+            );
+        }
+        final Slice route = builder.build();
+        for (int idx = 0; idx < 100; ++idx) {
+            MatcherAssert.assertThat(
+                TrieRouteTest.send(route, "GET", String.format("/repo-%d", idx))
+                    .body().asString(),
+                Matchers.is(String.valueOf(idx))
+            );
+        }
+    }
+
+    @Test
+    void failsOnDuplicateRoute() {
+        final TrieRoute.Builder builder = new TrieRoute.Builder()
+            .route(RqMethod.GET, "/a", TrieRouteTest.status(RsStatus.OK));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.route(RqMethod.GET, "/a/", TrieRouteTest.status(RsStatus.OK))
+        );
+    }
+
+    @Test
+    void failsOnRestInTheMiddle() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new TrieRoute.Builder().route("/**/a", TrieRouteTest.status(RsStatus.OK))
+        );
+    }
+
+    private static Slice status(final RsStatus status) {
+        return new SliceSimple(() -> ResponseBuilder.from(status).build());
+    }
+
+    private static Response send(final Slice slice, final String method, final String path) {
+        return slice.response(new RequestLine(method, path), Headers.EMPTY, Content.EMPTY)
+            .join();
+    }
+}
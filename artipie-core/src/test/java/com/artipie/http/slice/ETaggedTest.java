@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.ResponseBuilder;
+import com.artipie.http.RsStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ETagged}.
+ */
+class ETaggedTest {
+
+    @Test
+    void respondsWithTaggedBody() {
+        final byte[] body = "index".getBytes(StandardCharsets.UTF_8);
+        final ETagged tagged = ETagged.of(body);
+        final Response rsp = tagged.response(
+            Headers.EMPTY, () -> ResponseBuilder.ok().body(body)
+        ).build();
+        MatcherAssert.assertThat("Status is OK", rsp.status(), Matchers.is(RsStatus.OK));
+        MatcherAssert.assertThat(
+            "ETag is sent",
+            rsp.headers().values(ETagged.ETAG),
+            Matchers.contains(tagged.tag())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"abc\"", "W/\"abc\"", "\"xyz\", \"abc\"", "*"})
+    void respondsNotModifiedWithoutBuildingBody(final String header) {
+        final AtomicBoolean built = new AtomicBoolean();
+        final Response rsp = new ETagged("\"abc\"").response(
+            Headers.from("If-None-Match", header),
+            () -> {
+                built.set(true);
+                return ResponseBuilder.ok();
+            }
+        ).build();
+        MatcherAssert.assertThat(
+            "Status is Not Modified", rsp.status(), Matchers.is(RsStatus.NOT_MODIFIED)
+        );
+        MatcherAssert.assertThat("Body was built", built.get(), Matchers.is(false));
+    }
+
+    @Test
+    void doesNotMatchOtherTag() {
+        MatcherAssert.assertThat(
+            new ETagged("\"abc\"").matches(Headers.from("If-None-Match", "\"abcd\"")),
+            Matchers.is(false)
+        );
+    }
+}
@@ -6,6 +6,7 @@ package com.artipie.http.slice;
 
 import com.artipie.asto.Content;
 import com.artipie.http.Headers;
+import com.artipie.http.Response;
 import com.artipie.http.ResponseBuilder;
 import com.artipie.http.RsStatus;
 import com.artipie.http.headers.ContentLength;
@@ -13,10 +14,14 @@ import com.artipie.http.headers.Header;
 import com.artipie.http.hm.ResponseAssert;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
+import io.reactivex.Flowable;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.zip.GZIPOutputStream;
 
@@ -41,11 +46,41 @@ class GzipSliceTest {
             RsStatus.MOVED_TEMPORARILY,
             GzipSliceTest.gzip(data),
             new Header("Content-encoding", "gzip"),
-            new ContentLength(13),
             hdr
         );
     }
 
+    @Test
+    void gzipsChunkedContentWithoutOriginLength() throws IOException {
+        final byte[] first = "first chunk, ".getBytes(StandardCharsets.UTF_8);
+        final byte[] second = "second chunk".getBytes(StandardCharsets.UTF_8);
+        final Response rsp = new GzipSlice(
+            new SliceSimple(
+                ResponseBuilder.ok()
+                    .header(new ContentLength(first.length + second.length))
+                    .body(
+                        new Content.From(
+                            Flowable.just(ByteBuffer.wrap(first), ByteBuffer.wrap(second))
+                        )
+                    ).build()
+            )
+        ).response(
+            new RequestLine(RqMethod.GET, "/any"), Headers.EMPTY, Content.EMPTY
+        ).join();
+        MatcherAssert.assertThat(
+            rsp.headers().find(ContentLength.NAME),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            rsp.body().asBytes(),
+            Matchers.is(
+                GzipSliceTest.gzip(
+                    "first chunk, second chunk".getBytes(StandardCharsets.UTF_8)
+                )
+            )
+        );
+    }
+
     static byte[] gzip(final byte[] data) throws IOException {
         final ByteArrayOutputStream res = new ByteArrayOutputStream();
         try (GZIPOutputStream gzos = new GZIPOutputStream(res)) {
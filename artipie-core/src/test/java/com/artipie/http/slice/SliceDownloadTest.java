@@ -7,8 +7,10 @@ package com.artipie.http.slice;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.fs.FileStorage;
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.http.Headers;
+import com.artipie.http.Response;
 import com.artipie.http.headers.Header;
 import com.artipie.http.hm.ResponseMatcher;
 import com.artipie.http.hm.RsHasBody;
@@ -17,9 +19,15 @@ import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.RsStatus;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 /**
  * Test case for {@link SliceDownload}.
@@ -83,6 +91,127 @@ public final class SliceDownloadTest {
         );
     }
 
+    @Test
+    void downloadsRange() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        storage.save(new Key.From("range.txt"), new Content.From("0123456789".getBytes())).get();
+        final Response resp = new SliceDownload(storage).response(
+            rqLineFrom("/range.txt"), Headers.from("Range", "bytes=2-5"), Content.EMPTY
+        ).join();
+        MatcherAssert.assertThat(resp.status(), new IsEqual<>(RsStatus.PARTIAL_CONTENT));
+        MatcherAssert.assertThat(resp.body().asString(), new IsEqual<>("2345"));
+        MatcherAssert.assertThat(
+            resp,
+            new RsHasHeaders(
+                new Header("Content-Length", "4"),
+                new Header("Content-Range", "bytes 2-5/10"),
+                new Header("Accept-Ranges", "bytes")
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "bytes=7-,789,bytes 7-9/10",
+        "bytes=-3,789,bytes 7-9/10",
+        "bytes=5-100,56789,bytes 5-9/10"
+    })
+    void downloadsOpenRanges(final String range, final String body, final String header)
+        throws Exception {
+        final Storage storage = new InMemoryStorage();
+        storage.save(new Key.From("open.txt"), new Content.From("0123456789".getBytes())).get();
+        final Response resp = new SliceDownload(storage).response(
+            rqLineFrom("/open.txt"), Headers.from("Range", range), Content.EMPTY
+        ).join();
+        MatcherAssert.assertThat(resp.body().asString(), new IsEqual<>(body));
+        MatcherAssert.assertThat(resp, new RsHasHeaders(new Header("Content-Range", header)));
+    }
+
+    @Test
+    void returnsNotSatisfiableForRangeOutOfContent() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        storage.save(new Key.From("small.txt"), new Content.From("abc".getBytes())).get();
+        final Response resp = new SliceDownload(storage).response(
+            rqLineFrom("/small.txt"), Headers.from("Range", "bytes=3-"), Content.EMPTY
+        ).join();
+        MatcherAssert.assertThat(
+            resp.status(), new IsEqual<>(RsStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+        );
+        MatcherAssert.assertThat(resp, new RsHasHeaders(new Header("Content-Range", "bytes */3")));
+    }
+
+    @Test
+    void returnsFullContentForMultipleRanges() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        storage.save(new Key.From("multi.txt"), new Content.From("abcdef".getBytes())).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage).response(
+                rqLineFrom("/multi.txt"), Headers.from("Range", "bytes=0-1,3-4"), Content.EMPTY
+            ).join(),
+            new ResponseMatcher("abcdef".getBytes())
+        );
+    }
+
+    @Test
+    void returnsNotModifiedForMatchingEtag(@TempDir final Path tmp) throws Exception {
+        final Storage storage = new FileStorage(tmp);
+        storage.save(new Key.From("etag.txt"), new Content.From("data".getBytes())).get();
+        final String etag = new SliceDownload(storage).response(
+            rqLineFrom("/etag.txt"), Headers.EMPTY, Content.EMPTY
+        ).join().headers().single("ETag").getValue();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage).response(
+                rqLineFrom("/etag.txt"), Headers.from("If-None-Match", etag), Content.EMPTY
+            ).join(),
+            new AllOf<>(
+                new RsHasStatus(RsStatus.NOT_MODIFIED),
+                new RsHasHeaders(new Header("ETag", etag))
+            )
+        );
+    }
+
+    @Test
+    void returnsNotModifiedIfNotModifiedSince(@TempDir final Path tmp) throws Exception {
+        final Storage storage = new FileStorage(tmp);
+        storage.save(new Key.From("since.txt"), new Content.From("data".getBytes())).get();
+        final String modified = new SliceDownload(storage).response(
+            rqLineFrom("/since.txt"), Headers.EMPTY, Content.EMPTY
+        ).join().headers().single("Last-Modified").getValue();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage).response(
+                rqLineFrom("/since.txt"), Headers.from("If-Modified-Since", modified),
+                Content.EMPTY
+            ).join(),
+            new RsHasStatus(RsStatus.NOT_MODIFIED)
+        );
+    }
+
+    @Test
+    void returnsPreconditionFailedForNotMatchingEtag(@TempDir final Path tmp) throws Exception {
+        final Storage storage = new FileStorage(tmp);
+        storage.save(new Key.From("match.txt"), new Content.From("data".getBytes())).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage).response(
+                rqLineFrom("/match.txt"), Headers.from("If-Match", "\"other\""), Content.EMPTY
+            ).join(),
+            new RsHasStatus(RsStatus.PRECONDITION_FAILED)
+        );
+    }
+
+    @Test
+    void ignoresRangeIfContentChanged(@TempDir final Path tmp) throws Exception {
+        final Storage storage = new FileStorage(tmp);
+        storage.save(new Key.From("changed.txt"), new Content.From("data".getBytes())).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage).response(
+                rqLineFrom("/changed.txt"),
+                Headers.from("Range", "bytes=1-2").add("If-Range", "\"outdated\""),
+                Content.EMPTY
+            ).join(),
+            new ResponseMatcher("data".getBytes())
+        );
+    }
+
     private static RequestLine rqLineFrom(final String path) {
         return new RequestLine("GET", path, "HTTP/1.1");
     }
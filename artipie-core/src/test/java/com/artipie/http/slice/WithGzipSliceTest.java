@@ -30,17 +30,76 @@ class WithGzipSliceTest {
 
     @Test
     void returnsGzipedResponseIfAcceptEncodingIsPassed() throws IOException {
+        final String text = "some content to gzip ".repeat(100);
         MatcherAssert.assertThat(
-            new WithGzipSlice(new SliceSimple(ResponseBuilder.ok()
-                .textBody("some content to gzip").build())),
+            new WithGzipSlice(new SliceSimple(ResponseBuilder.ok().textBody(text).build())),
             new SliceHasResponse(
                 Matchers.allOf(
                     new RsHasStatus(RsStatus.OK),
-                    new RsHasBody(GzipSliceTest.gzip("some content to gzip".getBytes(StandardCharsets.UTF_8))),
-                    new RsHasHeaders(new ContentLength(20), new Header("Content-Encoding", "gzip"))
+                    new RsHasBody(GzipSliceTest.gzip(text.getBytes(StandardCharsets.UTF_8))),
+                    new RsHasHeaders(
+                        new Header("Content-Encoding", "gzip"),
+                        new Header("Vary", "Accept-Encoding")
+                    )
                 ),
                 new RequestLine(RqMethod.GET, "/"),
-                Headers.from(new Header("accept-encoding", "gzip")),
+                Headers.from(new Header("accept-encoding", "deflate, gzip;q=0.8")),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void returnsResponseAsIsIfGzipIsRejected() {
+        final String text = "some content not to gzip ".repeat(100);
+        MatcherAssert.assertThat(
+            new WithGzipSlice(new SliceSimple(ResponseBuilder.ok().textBody(text).build())),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasBody(text.getBytes(StandardCharsets.UTF_8)),
+                    new RsHasHeaders(
+                        new ContentLength(text.length()), new Header("Vary", "Accept-Encoding")
+                    )
+                ),
+                new RequestLine(RqMethod.GET, "/"),
+                Headers.from(new Header("Accept-Encoding", "*, gzip;q=0")),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void returnsSmallContentAsIs() {
+        final byte[] data = "small".getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            new WithGzipSlice(new SliceSimple(ResponseBuilder.ok().textBody("small").build())),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasBody(data),
+                    new RsHasHeaders(new ContentLength(data.length))
+                ),
+                new RequestLine(RqMethod.GET, "/"),
+                Headers.from(new Header("Accept-Encoding", "gzip")),
+                Content.EMPTY
+            )
+        );
+    }
+
+    @Test
+    void returnsBinaryContentAsIs() {
+        final byte[] data = new byte[(int) WithGzipSlice.MIN_SIZE * 2];
+        final Header type = new Header("Content-Type", "application/gzip");
+        MatcherAssert.assertThat(
+            new WithGzipSlice(
+                new SliceSimple(ResponseBuilder.ok().header(type).body(data).build())
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasBody(data),
+                    new RsHasHeaders(new ContentLength(data.length), type)
+                ),
+                new RequestLine(RqMethod.GET, "/"),
+                Headers.from(new Header("Accept-Encoding", "gzip")),
                 Content.EMPTY
             )
         );
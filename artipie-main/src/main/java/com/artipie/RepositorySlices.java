@@ -28,6 +28,7 @@ import com.artipie.files.FilesSlice;
 import com.artipie.gem.http.GemSlice;
 import com.artipie.helm.http.HelmSlice;
 import com.artipie.hex.http.HexSlice;
+import com.artipie.http.BulkheadSlice;
 import com.artipie.http.ContentLengthRestriction;
 import com.artipie.http.DockerRoutingSlice;
 import com.artipie.http.GoSlice;
@@ -36,12 +37,14 @@ import com.artipie.http.Slice;
 import com.artipie.http.auth.Authentication;
 import com.artipie.http.auth.BasicAuthScheme;
 import com.artipie.http.auth.Tokens;
-import com.artipie.http.client.jetty.JettyClientSlices;
+import com.artipie.http.client.jetty.JettyClientPool;
 import com.artipie.http.filter.FilterSlice;
 import com.artipie.http.filter.Filters;
 import com.artipie.http.slice.SliceSimple;
 import com.artipie.http.slice.TrimPathSlice;
 import com.artipie.maven.http.MavenSlice;
+import com.artipie.micrometer.HttpMeters;
+import com.artipie.micrometer.MicrometerSlice;
 import com.artipie.npm.http.NpmSlice;
 import com.artipie.npm.proxy.NpmProxy;
 import com.artipie.npm.proxy.http.NpmProxySlice;
@@ -59,6 +62,7 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.cache.RemovalListener;
 import io.vertx.core.Vertx;
+import io.vertx.micrometer.backends.BackendRegistries;
 
 import java.net.URI;
 import java.util.Optional;
@@ -90,6 +94,11 @@ public class RepositorySlices {
      */
     private final LoadingCache<SliceKey, SliceValue> slices;
 
+    /**
+     * HTTP clients of proxy repositories shared by equal client settings.
+     */
+    private final JettyClientPool clients;
+
     /**
      * @param settings Artipie settings
      * @param repos Repositories
@@ -103,12 +112,13 @@ public class RepositorySlices {
         this.settings = settings;
         this.repos = repos;
         this.tokens = tokens;
+        this.clients = new JettyClientPool();
         this.slices = CacheBuilder.newBuilder()
             .expireAfterAccess(30, TimeUnit.MINUTES)
             .removalListener(
                 (RemovalListener<SliceKey, SliceValue>) notification -> notification.getValue()
                     .client()
-                    .ifPresent(JettyClientSlices::stop)
+                    .ifPresent(JettyClientPool.Lease::close)
             )
             .build(
                 new CacheLoader<>() {
@@ -156,7 +166,7 @@ public class RepositorySlices {
 
     private SliceValue sliceFromConfig(final RepoConfig cfg) {
         final Slice slice;
-        JettyClientSlices clientSlices = null;
+        JettyClientPool.Lease clientSlices = null;
         switch (cfg.type()) {
             case "file":
                 slice = trimPathSlice(
@@ -337,10 +347,22 @@ public class RepositorySlices {
         Optional<Filters> opt = settings.caches()
             .filtersCache()
             .filters(cfg.name(), cfg.repoYaml());
-        Slice res = opt.isPresent() ? new FilterSlice(origin, opt.get()) : origin;
-        return cfg.contentLengthMax()
-            .<Slice>map(limit -> new ContentLengthRestriction(res, limit))
-            .orElse(res);
+        final Slice filtered = opt.isPresent() ? new FilterSlice(origin, opt.get()) : origin;
+        final Slice limited = cfg.bulkhead()
+            .<Slice>map(bulkhead -> new BulkheadSlice(filtered, bulkhead))
+            .orElse(filtered);
+        Slice res = cfg.contentLengthMax()
+            .<Slice>map(limit -> new ContentLengthRestriction(limited, limit))
+            .orElse(limited);
+        if (settings.metrics().http()) {
+            res = new MicrometerSlice(
+                res,
+                new HttpMeters(
+                    BackendRegistries.getDefaultNow(), cfg.name(), settings.metrics().slo()
+                )
+            );
+        }
+        return res;
     }
 
     private Authentication authentication() {
@@ -351,12 +373,10 @@ public class RepositorySlices {
         return this.settings.authz().policy();
     }
 
-    private JettyClientSlices jettyClientSlices(final RepoConfig cfg) {
-        JettyClientSlices res = new JettyClientSlices(
+    private JettyClientPool.Lease jettyClientSlices(final RepoConfig cfg) {
+        return this.clients.acquire(
             cfg.httpClientSettings().orElseGet(settings::httpClientSettings)
         );
-        res.start();
-        return res;
     }
 
     private static Slice trimPathSlice(final Slice original) {
@@ -372,6 +392,6 @@ public class RepositorySlices {
     /**
      * Slice's cache value.
      */
-    record SliceValue(Slice slice, Optional<JettyClientSlices> client) {
+    record SliceValue(Slice slice, Optional<JettyClientPool.Lease> client) {
     }
 }
@@ -7,10 +7,12 @@ package com.artipie;
 
 import com.artipie.api.RestApi;
 import com.artipie.asto.Key;
+import com.artipie.auth.JwtSettings;
 import com.artipie.auth.JwtTokens;
 import com.artipie.http.BaseSlice;
 import com.artipie.http.MainSlice;
 import com.artipie.http.Slice;
+import com.artipie.http.log.AccessLog;
 import com.artipie.http.slice.LoggingSlice;
 import com.artipie.jetty.http3.Http3Server;
 import com.artipie.jetty.http3.SslFactoryFromYaml;
@@ -33,9 +35,7 @@ import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
 import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.http.HttpServerOptions;
-import io.vertx.ext.auth.PubSecKeyOptions;
 import io.vertx.ext.auth.jwt.JWTAuth;
-import io.vertx.ext.auth.jwt.JWTAuthOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
 import io.vertx.micrometer.backends.BackendRegistries;
@@ -92,6 +92,11 @@ public final class VertxMain {
      */
     private final Map<Integer, Http3Server> http3;
 
+    /**
+     * Access log.
+     */
+    private AccessLog alog;
+
     /**
      * Ctor.
      *
@@ -117,17 +122,15 @@ public final class VertxMain {
         final Settings settings = new SettingsFromPath(this.config).find(quartz);
         final Vertx vertx = VertxMain.vertx(settings.metrics());
         final JWTAuth jwt = JWTAuth.create(
-            vertx.getDelegate(), new JWTAuthOptions().addPubSecKey(
-                new PubSecKeyOptions().setAlgorithm("HS256").setBuffer("some secret")
-            )
+            vertx.getDelegate(), new JwtSettings(settings.meta()).options()
         );
         final Repositories repos = new MapRepositories(settings);
         final RepositorySlices slices = new RepositorySlices(settings, repos, new JwtTokens(jwt));
+        this.alog = settings.accessLog();
         final int main = this.listenOn(
             new MainSlice(settings, slices),
             this.port,
-            vertx,
-            settings.metrics()
+            vertx
         );
         LOGGER.info("Artipie was started on port {}", main);
         this.startRepos(vertx, settings, repos, this.port, slices);
@@ -145,6 +148,9 @@ public final class VertxMain {
         if (quartz != null) {
             quartz.stop();
         }
+        if (this.alog != null) {
+            this.alog.close();
+        }
     }
 
     /**
@@ -214,7 +220,7 @@ public final class VertxMain {
                                 }
                             );
                         } else {
-                            this.listenOn(slice, prt, vertx, settings.metrics());
+                            this.listenOn(slice, prt, vertx);
                         }
                         LOGGER.info("Artipie repo '{}' was started on port {}", name, prt);
                     },
@@ -234,14 +240,11 @@ public final class VertxMain {
      * @param slice Slice.
      * @param serverPort Slice server port.
      * @param vertx Vertx instance
-     * @param mctx Metrics context
      * @return Port server started to listen on.
      */
-    private int listenOn(
-        final Slice slice, final int serverPort, final Vertx vertx, final MetricsContext mctx
-    ) {
+    private int listenOn(final Slice slice, final int serverPort, final Vertx vertx) {
         final VertxSliceServer server = new VertxSliceServer(
-            vertx, new BaseSlice(mctx, slice), serverPort
+            vertx, new BaseSlice(this.alog, slice), serverPort
         );
         this.servers.add(server);
         return server.start();
@@ -4,18 +4,30 @@
  */
 package com.artipie.auth;
 
-import com.amihaiemil.eoyaml.Yaml;
-import com.amihaiemil.eoyaml.YamlMapping;
+import com.artipie.asto.Content;
 import com.artipie.asto.Key;
-import com.artipie.asto.blocking.BlockingStorage;
+import com.artipie.asto.Storage;
+import com.artipie.asto.misc.Cleanable;
 import com.artipie.http.auth.AuthUser;
 import com.artipie.http.auth.Authentication;
+import com.artipie.misc.ArtipieProperties;
+import com.artipie.misc.Property;
 import com.jcabi.log.Logger;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.util.Objects;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.apache.commons.codec.digest.DigestUtils;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 /**
  * Authentication from abstract storage.
@@ -30,7 +42,7 @@ import org.apache.commons.codec.digest.DigestUtils;
  * where the name of the file is username (case-sensitive), both yml and yaml extensions are
  * supported. The yaml format file is the following:
  * <pre>{@code
- *   type: plain # plain and sha256 types are supported
+ *   type: plain # plain, sha256, bcrypt and argon2 types are supported
  *   pass: qwerty
  *   email: david@example.com # Optional
  *   enabled: true # optional default true
@@ -41,42 +53,148 @@ import org.apache.commons.codec.digest.DigestUtils;
  *       rpm-repo:
  *         - read
  * }</pre>
+ * Users are read from storage asynchronously into in-memory index once, the index is
+ * reloaded in background when it's older than {@link ArtipieProperties#AUTH_TIMEOUT}
+ * and on invalidation, so logins of unknown users do not touch the storage.
+ * Bcrypt and argon2 hashes are verified on a bounded executor, logins are rejected
+ * when the executor is overloaded.
  * @since 1.29
  */
-public final class AuthFromStorage implements Authentication {
+public final class AuthFromStorage implements Authentication, Cleanable<String> {
 
     /**
      * Auth type name.
      */
     private static final String ARTIPIE = "artipie";
 
+    /**
+     * Users directory key.
+     */
+    private static final Key USERS = new Key.From("users");
+
+    /**
+     * Max number of queued slow password checks.
+     */
+    private static final int QUEUE = 1024;
+
+    /**
+     * Shared executor for slow password hash checks.
+     */
+    private static final ExecutorService HASHING = AuthFromStorage.executor();
+
     /**
      * The storage to obtain users files from.
      */
-    private final BlockingStorage asto;
+    private final Storage asto;
+
+    /**
+     * Executor for slow password hash checks.
+     */
+    private final ExecutorService hashing;
+
+    /**
+     * Index reload interval in milliseconds.
+     */
+    private final long refresh;
+
+    /**
+     * Users index.
+     */
+    private final AtomicReference<Index> index;
+
+    /**
+     * Ctor.
+     * @param asto Abstract storage
+     */
+    public AuthFromStorage(final Storage asto) {
+        this(
+            asto, AuthFromStorage.HASHING,
+            new Property(ArtipieProperties.AUTH_TIMEOUT).asLongOrDefault(300_000L)
+        );
+    }
 
     /**
      * Ctor.
-     * @param asto Abstract blocking storage
+     * @param asto Abstract storage
+     * @param hashing Executor for slow password hash checks
+     * @param refresh Index reload interval in milliseconds
      */
-    public AuthFromStorage(final BlockingStorage asto) {
+    AuthFromStorage(final Storage asto, final ExecutorService hashing, final long refresh) {
         this.asto = asto;
+        this.hashing = hashing;
+        this.refresh = refresh;
+        this.index = new AtomicReference<>(Index.EMPTY);
     }
 
     @Override
     public Optional<AuthUser> user(final String name, final String pass) {
-        final Optional<byte[]> res;
-        final Key yaml = new Key.From(String.format("users/%s.yaml", name));
-        final Key yml = new Key.From(String.format("users/%s.yml", name));
-        if (this.asto.exists(yaml)) {
-            res = Optional.of(this.asto.value(yaml));
-        } else if (this.asto.exists(yml)) {
-            res = Optional.of(this.asto.value(yml));
-        } else {
-            res = Optional.empty();
+        return this.userAsync(name, pass).toCompletableFuture().join();
+    }
+
+    @Override
+    public CompletionStage<Optional<AuthUser>> userAsync(final String name, final String pass) {
+        return this.users().thenCompose(
+            users -> {
+                final UserCredentials creds = users.get(name);
+                final CompletableFuture<Boolean> res;
+                if (creds == null || !creds.enabled()) {
+                    res = CompletableFuture.completedFuture(false);
+                } else if (creds.slow()) {
+                    res = this.verify(creds, name, pass);
+                } else {
+                    res = CompletableFuture.completedFuture(creds.matches(pass));
+                }
+                return res;
+            }
+        ).thenApply(
+            valid -> {
+                final Optional<AuthUser> res;
+                if (valid) {
+                    res = Optional.of(new AuthUser(name, AuthFromStorage.ARTIPIE));
+                } else {
+                    res = Optional.empty();
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Rereads user file without waiting for it: index is replaced with the pending
+     * update, so logins following invalidation wait for the update asynchronously
+     * and see the new credentials.
+     * @param name Username
+     */
+    @Override
+    public void invalidate(final String name) {
+        final Index current = this.index.get();
+        final CompletableFuture<Map<String, UserCredentials>> users = current.users();
+        if (users != null && users.isDone() && !users.isCompletedExceptionally()) {
+            final CompletableFuture<Map<String, UserCredentials>> updated = users.thenCombine(
+                this.read(
+                    List.of(
+                        new Key.From(AuthFromStorage.USERS, String.format("%s.yml", name)),
+                        new Key.From(AuthFromStorage.USERS, String.format("%s.yaml", name))
+                    )
+                ),
+                (all, found) -> {
+                    if (found.containsKey(name)) {
+                        all.put(name, found.get(name));
+                    } else {
+                        all.remove(name);
+                    }
+                    return all;
+                }
+            );
+            if (!this.index.compareAndSet(current, new Index(updated, current.time()))) {
+                this.invalidate(name);
+            }
         }
-        return res.map(bytes -> AuthFromStorage.readAndCheckFromYaml(bytes, name, pass))
-            .flatMap(opt -> opt);
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.index.set(Index.EMPTY);
     }
 
     @Override
@@ -85,31 +203,174 @@ public final class AuthFromStorage implements Authentication {
     }
 
     /**
-     * Reads bytes as yaml and check the password.
-     * @param bytes Yaml bytes
+     * Verifies slow password hash on hashing executor.
+     * @param creds User credentials
      * @param name Username
-     * @param pass Password to check
-     * @return User if yaml parsed and password is correct
+     * @param pass Password
+     * @return True if password is valid
      */
-    private static Optional<AuthUser> readAndCheckFromYaml(final byte[] bytes, final String name,
+    private CompletableFuture<Boolean> verify(final UserCredentials creds, final String name,
         final String pass) {
-        Optional<AuthUser> res = Optional.empty();
+        CompletableFuture<Boolean> res;
         try {
-            final YamlMapping info = Yaml.createYamlInput(new ByteArrayInputStream(bytes))
-                .readYamlMapping();
-            if (info != null
-                && !Boolean.FALSE.toString().equalsIgnoreCase(info.string("enabled"))) {
-                final String type = info.string("type");
-                final String origin = info.string("pass");
-                if ("plain".equals(type) && Objects.equals(origin, pass)) {
-                    res = Optional.of(new AuthUser(name, AuthFromStorage.ARTIPIE));
-                } else if ("sha256".equals(type) && DigestUtils.sha256Hex(pass).equals(origin)) {
-                    res = Optional.of(new AuthUser(name, AuthFromStorage.ARTIPIE));
-                }
+            res = CompletableFuture.supplyAsync(() -> creds.matches(pass), this.hashing);
+        } catch (final RejectedExecutionException err) {
+            Logger.warn(
+                AuthFromStorage.class,
+                "Too many password checks in progress, rejecting login of '%s'", name
+            );
+            res = CompletableFuture.completedFuture(false);
+        }
+        return res;
+    }
+
+    /**
+     * Users index, it's loaded on first call and reloaded in background when stale,
+     * stale index is used while reloading and if reloading fails.
+     * @return Credentials by username
+     */
+    private CompletableFuture<Map<String, UserCredentials>> users() {
+        final Index current = this.index.get();
+        final long now = System.currentTimeMillis();
+        final CompletableFuture<Map<String, UserCredentials>> res;
+        if (current.users() == null || now - current.time() > this.refresh) {
+            final CompletableFuture<Map<String, UserCredentials>> pending;
+            if (current.users() == null || current.users().isCompletedExceptionally()) {
+                pending = new CompletableFuture<>();
+            } else {
+                pending = current.users();
+            }
+            final Index next = new Index(pending, now);
+            if (this.index.compareAndSet(current, next)) {
+                this.load().whenComplete(
+                    (users, err) -> {
+                        if (err == null) {
+                            this.index.compareAndSet(
+                                next, new Index(CompletableFuture.completedFuture(users), now)
+                            );
+                            pending.complete(users);
+                        } else {
+                            Logger.error(
+                                AuthFromStorage.class, "Failed to load users: %[exception]s", err
+                            );
+                            if (!pending.isDone()) {
+                                this.index.compareAndSet(next, Index.EMPTY);
+                                pending.completeExceptionally(err);
+                            }
+                        }
+                    }
+                );
+                res = pending;
+            } else {
+                res = this.users();
             }
-        } catch (final IOException err) {
-            Logger.error(AuthFromStorage.class, "Failed to parse yaml for user %s", name);
+        } else {
+            res = current.users();
         }
         return res;
     }
+
+    /**
+     * Loads all users from storage.
+     * @return Credentials by username
+     */
+    private CompletableFuture<Map<String, UserCredentials>> load() {
+        return this.asto.list(AuthFromStorage.USERS).thenCompose(
+            keys -> this.read(
+                keys.stream().filter(key -> key.parent().map(AuthFromStorage.USERS::equals)
+                    .orElse(false)).collect(Collectors.toList())
+            )
+        );
+    }
+
+    /**
+     * Reads users yaml files, `.yaml` file takes precedence over `.yml` one.
+     * @param keys Users yaml files keys
+     * @return Credentials by username
+     */
+    private CompletableFuture<Map<String, UserCredentials>> read(final Collection<Key> keys) {
+        final Map<String, UserCredentials> yml = new ConcurrentHashMap<>();
+        final Map<String, UserCredentials> yaml = new ConcurrentHashMap<>();
+        return CompletableFuture.allOf(
+            keys.stream().map(
+                key -> {
+                    final String file = key.string().substring(key.string().lastIndexOf('/') + 1);
+                    final CompletableFuture<Void> res;
+                    if (file.endsWith(".yaml")) {
+                        res = this.read(key, file.substring(0, file.length() - 5), yaml);
+                    } else if (file.endsWith(".yml")) {
+                        res = this.read(key, file.substring(0, file.length() - 4), yml);
+                    } else {
+                        res = CompletableFuture.allOf();
+                    }
+                    return res;
+                }
+            ).toArray(CompletableFuture[]::new)
+        ).thenApply(
+            nothing -> {
+                yml.putAll(yaml);
+                return yml;
+            }
+        );
+    }
+
+    /**
+     * Reads user yaml file if exists.
+     * @param key User yaml file key
+     * @param name Username
+     * @param users Credentials by username to add user to
+     * @return Completion action
+     */
+    private CompletableFuture<Void> read(final Key key, final String name,
+        final Map<String, UserCredentials> users) {
+        return this.asto.exists(key).thenCompose(
+            exists -> {
+                final CompletableFuture<Void> res;
+                if (exists) {
+                    res = this.asto.value(key).thenCompose(Content::asBytesFuture).thenAccept(
+                        bytes -> UserCredentials.read(bytes).ifPresent(
+                            creds -> users.put(name, creds)
+                        )
+                    );
+                } else {
+                    res = CompletableFuture.allOf();
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Creates bounded executor for slow password checks.
+     * @return Executor
+     */
+    private static ExecutorService executor() {
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        final AtomicInteger cnt = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            threads, threads, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(AuthFromStorage.QUEUE),
+            runnable -> {
+                final Thread thread = new Thread(
+                    runnable, String.format("artipie-password-%d", cnt.incrementAndGet())
+                );
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Users index with its load time.
+     * @param users Credentials by username, null if not loaded
+     * @param time Load time in milliseconds
+     */
+    private record Index(CompletableFuture<Map<String, UserCredentials>> users, long time) {
+
+        /**
+         * Not loaded index.
+         */
+        static final Index EMPTY = new Index(null, 0L);
+    }
 }
@@ -6,7 +6,6 @@ package com.artipie.auth;
 
 import com.amihaiemil.eoyaml.YamlMapping;
 import com.artipie.ArtipieException;
-import com.artipie.asto.blocking.BlockingStorage;
 import com.artipie.http.auth.ArtipieAuthFactory;
 import com.artipie.http.auth.AuthFactory;
 import com.artipie.http.auth.Authentication;
@@ -22,7 +21,7 @@ public final class AuthFromStorageFactory implements AuthFactory {
     @Override
     public Authentication getAuthentication(final YamlMapping yaml) {
         return new YamlSettings.PolicyStorage(yaml).parse().map(
-            asto -> new AuthFromStorage(new BlockingStorage(asto))
+            AuthFromStorage::new
         ).orElseThrow(
             () ->  new ArtipieException(
                 "Failed to create artipie auth, storage is not configured"
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.auth;
+
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.artipie.ArtipieException;
+import com.artipie.asto.ArtipieIOException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.JWTOptions;
+import io.vertx.ext.auth.PubSecKeyOptions;
+import io.vertx.ext.auth.jwt.JWTAuthOptions;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * JWT settings from `jwt` section of Artipie main config:
+ * <pre>{@code
+ * meta:
+ *   jwt:
+ *     secret: some secret # HS256 shared secret
+ *     jwks: /etc/artipie/jwks.json # or RS/ES keys from local JWKS file
+ * }</pre>
+ * Keys from JWKS file are used to verify tokens, tokens are issued with the algorithm
+ * of the first key, so the first key has to be a private key if Artipie issues tokens.
+ * HS256 with default secret is used if section is absent.
+ * @since 1.0
+ */
+public final class JwtSettings {
+
+    /**
+     * Default HS256 secret.
+     */
+    static final String DEFAULT_SECRET = "some secret";
+
+    /**
+     * Artipie main config meta section.
+     */
+    private final YamlMapping meta;
+
+    /**
+     * Ctor.
+     * @param meta Artipie main config meta section
+     */
+    public JwtSettings(final YamlMapping meta) {
+        this.meta = meta;
+    }
+
+    /**
+     * Jwt auth provider options.
+     * @return Options
+     */
+    public JWTAuthOptions options() {
+        final Optional<YamlMapping> jwt = Optional.ofNullable(this.meta)
+            .map(yaml -> yaml.yamlMapping("jwt"));
+        final Optional<String> jwks = jwt.map(yaml -> yaml.string("jwks"));
+        final JWTAuthOptions res = new JWTAuthOptions();
+        if (jwks.isPresent()) {
+            final JsonArray keys = JwtSettings.keys(Path.of(jwks.get()));
+            keys.stream().map(JsonObject.class::cast).forEach(res::addJwk);
+            Optional.ofNullable(keys.getJsonObject(0).getString("alg")).ifPresent(
+                alg -> res.setJWTOptions(new JWTOptions().setAlgorithm(alg))
+            );
+        } else {
+            res.addPubSecKey(
+                new PubSecKeyOptions().setAlgorithm("HS256").setBuffer(
+                    jwt.map(yaml -> yaml.string("secret")).orElse(JwtSettings.DEFAULT_SECRET)
+                )
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Reads keys from JWKS file.
+     * @param file JWKS file path
+     * @return Keys
+     */
+    private static JsonArray keys(final Path file) {
+        final JsonArray res;
+        try {
+            res = new JsonObject(Files.readString(file)).getJsonArray("keys");
+        } catch (final IOException err) {
+            throw new ArtipieIOException(err);
+        }
+        if (res == null || res.isEmpty()) {
+            throw new ArtipieException(String.format("JWKS file %s has no keys", file));
+        }
+        return res;
+    }
+}
@@ -7,31 +7,98 @@ package com.artipie.auth;
 import com.artipie.api.AuthTokenRest;
 import com.artipie.http.auth.AuthUser;
 import com.artipie.http.auth.TokenAuthentication;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.vertx.ext.auth.authentication.TokenCredentials;
 import io.vertx.ext.auth.jwt.JWTAuth;
+import org.apache.commons.codec.digest.DigestUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Token authentication with Vert.x {@link io.vertx.ext.auth.jwt.JWTAuth} under the hood.
+ * <p>
+ * Verified tokens are cached by token SHA-256 hash, so repeated requests with the same
+ * token are authenticated without signature verification. Cached token is valid until
+ * its {@code exp} claim, cache entries are also evicted after {@link #TTL_MINUTES}
+ * and the cache is bounded by {@link #MAX_TOKENS} entries. Invalid tokens are not cached.
+ * </p>
  */
 public final class JwtTokenAuth implements TokenAuthentication {
 
+    /**
+     * Max number of cached tokens.
+     */
+    static final long MAX_TOKENS = 10_000L;
+
+    /**
+     * Time to keep verified token in cache, minutes.
+     */
+    static final long TTL_MINUTES = 5L;
+
+    /**
+     * Expiration claim.
+     */
+    private static final String EXP = "exp";
+
     /**
      * Jwt auth provider.
      */
     private final JWTAuth provider;
 
+    /**
+     * Verified tokens by token hash.
+     */
+    private final Cache<String, Verified> verified;
+
     /**
      * @param provider Jwt auth provider
      */
     public JwtTokenAuth(JWTAuth provider) {
+        this(
+            provider,
+            CacheBuilder.newBuilder()
+                .maximumSize(JwtTokenAuth.MAX_TOKENS)
+                .expireAfterWrite(JwtTokenAuth.TTL_MINUTES, TimeUnit.MINUTES)
+                .build()
+        );
+    }
+
+    /**
+     * @param provider Jwt auth provider
+     * @param verified Verified tokens cache
+     */
+    JwtTokenAuth(final JWTAuth provider, final Cache<String, Verified> verified) {
         this.provider = provider;
+        this.verified = verified;
     }
 
     @Override
     public CompletionStage<Optional<AuthUser>> user(String token) {
+        final String hash = DigestUtils.sha256Hex(token);
+        final Verified cached = this.verified.getIfPresent(hash);
+        final CompletionStage<Optional<AuthUser>> res;
+        if (cached == null) {
+            res = this.verify(token, hash);
+        } else if (cached.expired()) {
+            this.verified.invalidate(hash);
+            res = CompletableFuture.completedFuture(Optional.empty());
+        } else {
+            res = CompletableFuture.completedFuture(Optional.of(cached.user()));
+        }
+        return res;
+    }
+
+    /**
+     * Verifies token signature and claims and caches the user on success.
+     * @param token Token
+     * @param hash Token hash
+     * @return User if token is valid
+     */
+    private CompletionStage<Optional<AuthUser>> verify(final String token, final String hash) {
         return this.provider
             .authenticate(new TokenCredentials(token))
             .map(
@@ -39,16 +106,40 @@ public final class JwtTokenAuth implements TokenAuthentication {
                     Optional<AuthUser> res = Optional.empty();
                     if (user.principal().containsKey(AuthTokenRest.SUB)
                         && user.containsKey(AuthTokenRest.CONTEXT)) {
-                        res = Optional.of(
-                            new AuthUser(
-                                user.principal().getString(AuthTokenRest.SUB),
-                                user.principal().getString(AuthTokenRest.CONTEXT)
-                            )
+                        final AuthUser found = new AuthUser(
+                            user.principal().getString(AuthTokenRest.SUB),
+                            user.principal().getString(AuthTokenRest.CONTEXT)
                         );
+                        final long exp;
+                        if (user.principal().containsKey(JwtTokenAuth.EXP)) {
+                            exp = TimeUnit.SECONDS.toMillis(
+                                user.principal().getLong(JwtTokenAuth.EXP)
+                            );
+                        } else {
+                            exp = Long.MAX_VALUE;
+                        }
+                        this.verified.put(hash, new Verified(found, exp));
+                        res = Optional.of(found);
                     }
                     return res;
                 }
             ).otherwise(Optional.empty())
             .toCompletionStage();
     }
+
+    /**
+     * Verified token.
+     * @param user Token user
+     * @param exp Token expiration time, epoch millis
+     */
+    record Verified(AuthUser user, long exp) {
+
+        /**
+         * Checks whether token is expired.
+         * @return True if expired
+         */
+        boolean expired() {
+            return System.currentTimeMillis() >= this.exp;
+        }
+    }
 }
@@ -22,17 +22,23 @@ public final class JwtTokens implements Tokens {
      */
     private final JWTAuth provider;
 
+    /**
+     * Token authentication, shared to keep verified tokens cache.
+     */
+    private final TokenAuthentication auth;
+
     /**
      * Ctor.
      * @param provider Jwt auth provider
      */
     public JwtTokens(final JWTAuth provider) {
         this.provider = provider;
+        this.auth = new JwtTokenAuth(provider);
     }
 
     @Override
     public TokenAuthentication auth() {
-        return new JwtTokenAuth(this.provider);
+        return this.auth;
     }
 
     @Override
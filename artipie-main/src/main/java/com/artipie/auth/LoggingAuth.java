@@ -9,6 +9,7 @@ import com.artipie.http.auth.AuthUser;
 import com.artipie.http.auth.Authentication;
 import com.jcabi.log.Logger;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.logging.Level;
 
 /**
@@ -48,6 +49,28 @@ public final class LoggingAuth implements Authentication {
     @Override
     public Optional<AuthUser> user(final String username, final String password) {
         final Optional<AuthUser> res = this.origin.user(username, password);
+        this.log(username, res);
+        return res;
+    }
+
+    @Override
+    public CompletionStage<Optional<AuthUser>> userAsync(
+        final String username, final String password
+    ) {
+        return this.origin.userAsync(username, password).thenApply(
+            res -> {
+                this.log(username, res);
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Logs authentication result.
+     * @param username Username
+     * @param res Authenticated user
+     */
+    private void log(final String username, final Optional<AuthUser> res) {
         if (res.isEmpty()) {
             Logger.log(
                 this.level, this.origin,
@@ -61,7 +84,6 @@ public final class LoggingAuth implements Authentication {
                 username, this.origin
             );
         }
-        return res;
     }
 }
 
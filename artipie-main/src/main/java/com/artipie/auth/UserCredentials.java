@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.auth;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+
+/**
+ * User credentials from storage user yaml file: password type, password or its hash and
+ * enabled flag. Supported password types:
+ * <ul>
+ *     <li>plain: password as is</li>
+ *     <li>sha256: hex encoded SHA-256 of the password</li>
+ *     <li>bcrypt: OpenBSD bcrypt hash string, e.g. {@code $2y$10$...}</li>
+ *     <li>argon2: PHC argon2 hash string, e.g. {@code $argon2id$v=19$m=65536,t=3,p=4$...}</li>
+ * </ul>
+ * @since 1.0
+ */
+final class UserCredentials {
+
+    /**
+     * Password type.
+     */
+    private final String type;
+
+    /**
+     * Password or password hash.
+     */
+    private final String pass;
+
+    /**
+     * Whether user is enabled.
+     */
+    private final boolean enabled;
+
+    /**
+     * Ctor.
+     * @param type Password type
+     * @param pass Password or password hash
+     * @param enabled Whether user is enabled
+     */
+    UserCredentials(final String type, final String pass, final boolean enabled) {
+        this.type = type;
+        this.pass = pass;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether user is enabled.
+     * @return True if enabled
+     */
+    boolean enabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Whether password check is CPU intensive and should not run on request threads.
+     * @return True for bcrypt and argon2 hashes
+     */
+    boolean slow() {
+        return "bcrypt".equals(this.type) || "argon2".equals(this.type);
+    }
+
+    /**
+     * Checks the password.
+     * @param password Password to check
+     * @return True if password matches
+     */
+    boolean matches(final String password) {
+        boolean res = false;
+        if (this.pass != null && password != null) {
+            try {
+                switch (this.type) {
+                    case "plain":
+                        res = UserCredentials.same(
+                            this.pass.getBytes(StandardCharsets.UTF_8),
+                            password.getBytes(StandardCharsets.UTF_8)
+                        );
+                        break;
+                    case "sha256":
+                        res = DigestUtils.sha256Hex(password).equals(this.pass);
+                        break;
+                    case "bcrypt":
+                        res = OpenBSDBCrypt.checkPassword(this.pass, password.toCharArray());
+                        break;
+                    case "argon2":
+                        res = UserCredentials.argon2(this.pass, password);
+                        break;
+                    default:
+                        res = false;
+                        break;
+                }
+            } catch (final IllegalArgumentException err) {
+                Logger.warn(UserCredentials.class, "Invalid %s password hash", this.type);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Reads credentials from user yaml.
+     * @param bytes Yaml bytes
+     * @return Credentials if yaml is valid
+     */
+    static Optional<UserCredentials> read(final byte[] bytes) {
+        Optional<UserCredentials> res = Optional.empty();
+        try {
+            final YamlMapping info = Yaml.createYamlInput(new ByteArrayInputStream(bytes))
+                .readYamlMapping();
+            if (info != null && info.string("type") != null) {
+                res = Optional.of(
+                    new UserCredentials(
+                        info.string("type"), info.string("pass"),
+                        !Boolean.FALSE.toString().equalsIgnoreCase(info.string("enabled"))
+                    )
+                );
+            }
+        } catch (final IOException | IllegalStateException err) {
+            Logger.error(UserCredentials.class, "Failed to parse user yaml: %[exception]s", err);
+        }
+        return res;
+    }
+
+    /**
+     * Checks password against PHC argon2 hash string
+     * {@code $argon2id$v=19$m=65536,t=3,p=4$salt$hash}.
+     * @param phc Hash string
+     * @param password Password
+     * @return True if password matches
+     */
+    private static boolean argon2(final String phc, final String password) {
+        final String[] parts = phc.split("\\$");
+        if (parts.length < 5 || parts.length > 6) {
+            throw new IllegalArgumentException("Invalid argon2 hash");
+        }
+        final Argon2Parameters.Builder params = new Argon2Parameters.Builder(
+            UserCredentials.variant(parts[1])
+        );
+        int idx = 2;
+        if (parts[idx].startsWith("v=")) {
+            params.withVersion(Integer.parseInt(parts[idx].substring(2)));
+            idx += 1;
+        } else {
+            params.withVersion(Argon2Parameters.ARGON2_VERSION_10);
+        }
+        for (final String param : parts[idx].split(",")) {
+            final int value = Integer.parseInt(param.substring(2));
+            if (param.startsWith("m=")) {
+                params.withMemoryAsKB(value);
+            } else if (param.startsWith("t=")) {
+                params.withIterations(value);
+            } else if (param.startsWith("p=")) {
+                params.withParallelism(value);
+            }
+        }
+        final Base64.Decoder base = Base64.getDecoder();
+        params.withSalt(base.decode(parts[idx + 1]));
+        final byte[] expected = base.decode(parts[idx + 2]);
+        final Argon2BytesGenerator gen = new Argon2BytesGenerator();
+        gen.init(params.build());
+        final byte[] actual = new byte[expected.length];
+        gen.generateBytes(password.getBytes(StandardCharsets.UTF_8), actual);
+        return UserCredentials.same(expected, actual);
+    }
+
+    /**
+     * Argon2 variant by name.
+     * @param name Variant name
+     * @return Variant
+     */
+    private static int variant(final String name) {
+        final int res;
+        switch (name) {
+            case "argon2d":
+                res = Argon2Parameters.ARGON2_d;
+                break;
+            case "argon2i":
+                res = Argon2Parameters.ARGON2_i;
+                break;
+            case "argon2id":
+                res = Argon2Parameters.ARGON2_id;
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown argon2 variant %s", name)
+                );
+        }
+        return res;
+    }
+
+    /**
+     * Compares bytes in constant time.
+     * @param first First
+     * @param second Second
+     * @return True if equal
+     */
+    private static boolean same(final byte[] first, final byte[] second) {
+        return MessageDigest.isEqual(first, second);
+    }
+}
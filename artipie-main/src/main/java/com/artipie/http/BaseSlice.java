@@ -4,17 +4,17 @@
  */
 package com.artipie.http;
 
-import com.artipie.http.slice.LoggingSlice;
+import com.artipie.http.log.AccessLog;
+import com.artipie.http.log.AccessLogSlice;
 import com.artipie.jfr.JfrSlice;
-import com.artipie.micrometer.MicrometerSlice;
-import com.artipie.settings.MetricsContext;
-import java.util.logging.Level;
 
 /**
  * Slice is base for any slice served by Artipie.
- * It is designed to gather request & response metrics, perform logging, handle errors at top level.
+ * It is designed to gather request & response events, perform logging, handle errors at top level.
+ * HTTP metrics are gathered per repository, see {@link com.artipie.RepositorySlices}.
  * With all that functionality provided request are forwarded to origin slice
- * and response is given back to caller.
+ * and response is given back to caller. Access log is shared by all the servers
+ * and is closed by its owner.
  *
  * @since 0.11
  */
@@ -23,33 +23,10 @@ public final class BaseSlice extends Slice.Wrap {
     /**
      * Ctor.
      *
-     * @param mctx Metrics context.
+     * @param log Access log.
      * @param origin Origin slice.
      */
-    public BaseSlice(final MetricsContext mctx, final Slice origin) {
-        super(
-            BaseSlice.wrapToBaseMetricsSlices(
-                mctx, new JfrSlice(
-                    new SafeSlice(
-                        new LoggingSlice(Level.INFO, origin)
-                    )
-                )
-            )
-        );
-    }
-
-    /**
-     * Wraps slice to metric related slices when {@code Metrics} is defined.
-     *
-     * @param mctx Metrics context.
-     * @param origin Original slice.
-     * @return Wrapped slice.
-     */
-    private static Slice wrapToBaseMetricsSlices(final MetricsContext mctx, final Slice origin) {
-        Slice res = origin;
-        if (mctx.http()) {
-            res = new MicrometerSlice(origin);
-        }
-        return res;
+    public BaseSlice(final AccessLog log, final Slice origin) {
+        super(new JfrSlice(new AccessLogSlice(log, new SafeSlice(origin))));
     }
 }
@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http;
+
+import com.artipie.asto.Content;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.settings.repo.BulkheadConfig;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Bulkhead of repository slice: limits number of concurrent requests to origin slice.
+ * <p>
+ * Requests over the limit wait in bounded queue. If the queue is full or request
+ * waits in the queue longer than timeout, it is rejected with
+ * {@code 503 Service Unavailable} and {@code Retry-After} header, so overloaded
+ * repository doesn't take resources from other repositories.
+ * Request holds its slot until origin response is ready.
+ * </p>
+ * @since 1.0
+ */
+public final class BulkheadSlice implements Slice {
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Concurrency limit.
+     */
+    private final ConcurrencyLimit limit;
+
+    /**
+     * Max number of waiting requests.
+     */
+    private final int capacity;
+
+    /**
+     * Max time to wait in queue.
+     */
+    private final Duration timeout;
+
+    /**
+     * Retry-After of rejected requests in seconds.
+     */
+    private final String retry;
+
+    /**
+     * Requests in progress.
+     */
+    private final AtomicInteger inflight;
+
+    /**
+     * Waiting requests.
+     */
+    private final Queue<CompletableFuture<Void>> waiting;
+
+    /**
+     * Number of waiting requests.
+     */
+    private final AtomicInteger queued;
+
+    /**
+     * Queue drain work in progress counter.
+     */
+    private final AtomicInteger wip;
+
+    /**
+     * Bulkhead from configuration.
+     * @param origin Origin slice
+     * @param cfg Bulkhead configuration
+     */
+    public BulkheadSlice(final Slice origin, final BulkheadConfig cfg) {
+        this(
+            origin, new ConcurrencyLimit(cfg.limit(), cfg.min(), cfg.max(), cfg.adaptive()),
+            cfg.queue(), cfg.timeout(), cfg.retry()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin slice
+     * @param limit Concurrency limit
+     * @param capacity Max number of waiting requests
+     * @param timeout Max time to wait in queue
+     * @param retry Retry-After of rejected requests
+     */
+    public BulkheadSlice(final Slice origin, final ConcurrencyLimit limit, final int capacity,
+        final Duration timeout, final Duration retry) {
+        this.origin = origin;
+        this.limit = limit;
+        this.capacity = capacity;
+        this.timeout = timeout;
+        this.retry = String.valueOf(Math.max(retry.toSeconds(), 1));
+        this.inflight = new AtomicInteger();
+        this.waiting = new ConcurrentLinkedQueue<>();
+        this.queued = new AtomicInteger();
+        this.wip = new AtomicInteger();
+    }
+
+    @Override
+    public CompletableFuture<Response> response(final RequestLine line, final Headers headers,
+        final Content body) {
+        final CompletableFuture<Response> res;
+        if (this.acquire()) {
+            res = this.forward(line, headers, body);
+        } else if (this.queued.incrementAndGet() > this.capacity) {
+            this.queued.decrementAndGet();
+            res = this.reject();
+        } else {
+            final CompletableFuture<Void> ticket = new CompletableFuture<>();
+            this.waiting.add(ticket);
+            this.drain();
+            res = ticket.orTimeout(this.timeout.toMillis(), TimeUnit.MILLISECONDS).handle(
+                (nothing, err) -> {
+                    final CompletableFuture<Response> rsp;
+                    if (err == null) {
+                        rsp = this.forward(line, headers, body);
+                    } else {
+                        if (this.waiting.remove(ticket)) {
+                            this.queued.decrementAndGet();
+                        }
+                        rsp = this.reject();
+                    }
+                    return rsp;
+                }
+            ).thenCompose(Function.identity());
+        }
+        return res;
+    }
+
+    /**
+     * Forward request to origin with acquired slot, release the slot on response.
+     * @param line Request line
+     * @param headers Request headers
+     * @param body Request body
+     * @return Response future
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private CompletableFuture<Response> forward(final RequestLine line, final Headers headers,
+        final Content body) {
+        final long start = System.nanoTime();
+        CompletableFuture<Response> res;
+        try {
+            res = this.origin.response(line, headers, body);
+        } catch (final RuntimeException err) {
+            res = CompletableFuture.failedFuture(err);
+        }
+        return res.whenComplete(
+            (rsp, err) -> {
+                this.limit.sample(System.nanoTime() - start, this.inflight.get());
+                this.inflight.decrementAndGet();
+                this.drain();
+            }
+        );
+    }
+
+    /**
+     * Try to acquire slot within the limit.
+     * @return True if acquired
+     */
+    private boolean acquire() {
+        boolean res = false;
+        int cur = this.inflight.get();
+        while (cur < this.limit.get()) {
+            if (this.inflight.compareAndSet(cur, cur + 1)) {
+                res = true;
+                break;
+            }
+            cur = this.inflight.get();
+        }
+        return res;
+    }
+
+    /**
+     * Pass free slots to waiting requests. Only one thread drains the queue at a time,
+     * concurrent and nested calls make it repeat the loop.
+     */
+    private void drain() {
+        if (this.wip.getAndIncrement() == 0) {
+            do {
+                while (!this.waiting.isEmpty() && this.acquire()) {
+                    final CompletableFuture<Void> ticket = this.waiting.poll();
+                    if (ticket == null) {
+                        this.inflight.decrementAndGet();
+                        break;
+                    }
+                    this.queued.decrementAndGet();
+                    if (!ticket.complete(null)) {
+                        this.inflight.decrementAndGet();
+                    }
+                }
+            } while (this.wip.decrementAndGet() != 0);
+        }
+    }
+
+    /**
+     * Rejection response.
+     * @return Response future
+     */
+    private CompletableFuture<Response> reject() {
+        return CompletableFuture.completedFuture(
+            ResponseBuilder.unavailable().header("Retry-After", this.retry).build()
+        );
+    }
+}
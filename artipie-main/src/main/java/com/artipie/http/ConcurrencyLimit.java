@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http;
+
+/**
+ * Limit of concurrent requests.
+ * <p>
+ * Fixed limit never changes. Adaptive limit is tuned by response latency with
+ * gradient algorithm: it compares latency of each response with long-term average
+ * latency, grows while latency stays close to the average and shrinks when
+ * latency grows, so degraded origin gets fewer concurrent requests.
+ * The limit is not changed while less than half of it is used.
+ * </p>
+ * @since 1.0
+ */
+public final class ConcurrencyLimit {
+
+    /**
+     * Long-term latency averaging window, samples.
+     */
+    private static final double WINDOW = 500;
+
+    /**
+     * Tolerated latency growth over long-term average.
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * Limit changes smoothing factor.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Min limit.
+     */
+    private final int min;
+
+    /**
+     * Max limit.
+     */
+    private final int max;
+
+    /**
+     * Tune limit by latency.
+     */
+    private final boolean adaptive;
+
+    /**
+     * Current limit.
+     */
+    private volatile int current;
+
+    /**
+     * Estimated limit, guarded by this.
+     */
+    private double estimate;
+
+    /**
+     * Long-term average latency in nanoseconds, guarded by this.
+     */
+    private double average;
+
+    /**
+     * Fixed limit.
+     * @param limit Limit
+     */
+    public ConcurrencyLimit(final int limit) {
+        this(limit, limit, limit, false);
+    }
+
+    /**
+     * Limit.
+     * @param initial Initial limit
+     * @param min Min limit
+     * @param max Max limit
+     * @param adaptive Tune limit by latency
+     */
+    public ConcurrencyLimit(final int initial, final int min, final int max,
+        final boolean adaptive) {
+        this.min = min;
+        this.max = max;
+        this.adaptive = adaptive;
+        this.current = initial;
+        this.estimate = initial;
+    }
+
+    /**
+     * Current limit.
+     * @return Max number of concurrent requests
+     */
+    public int get() {
+        return this.current;
+    }
+
+    /**
+     * Sample of completed request.
+     * @param latency Request latency in nanoseconds
+     * @param inflight Number of concurrent requests when request was completed
+     */
+    public void sample(final long latency, final int inflight) {
+        if (this.adaptive && latency > 0) {
+            synchronized (this) {
+                if (this.average == 0) {
+                    this.average = latency;
+                } else {
+                    this.average += (latency - this.average) / ConcurrencyLimit.WINDOW;
+                }
+                if (this.average > latency * 2) {
+                    // latency recovered, follow it faster than averaging window
+                    this.average *= 0.95;
+                }
+                if (inflight >= this.estimate / 2) {
+                    final double gradient = Math.max(
+                        0.5, Math.min(1.0, ConcurrencyLimit.TOLERANCE * this.average / latency)
+                    );
+                    final double next = this.estimate * gradient + Math.sqrt(this.estimate);
+                    this.estimate = Math.max(
+                        this.min,
+                        Math.min(
+                            this.max,
+                            this.estimate * (1 - ConcurrencyLimit.SMOOTHING)
+                                + next * ConcurrencyLimit.SMOOTHING
+                        )
+                    );
+                    this.current = (int) this.estimate;
+                }
+            }
+        }
+    }
+}
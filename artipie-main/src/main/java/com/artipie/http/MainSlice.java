@@ -6,18 +6,11 @@ package com.artipie.http;
 
 import com.artipie.RepositorySlices;
 import com.artipie.http.rq.RqMethod;
-import com.artipie.http.rt.MethodRule;
-import com.artipie.http.rt.RtPath;
-import com.artipie.http.rt.RtRule;
-import com.artipie.http.rt.RtRulePath;
-import com.artipie.http.rt.SliceRoute;
+import com.artipie.http.rt.TrieRoute;
+import com.artipie.http.slice.SliceSimple;
 import com.artipie.misc.ArtipieProperties;
 import com.artipie.settings.Settings;
 
-import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.regex.Pattern;
-
 /**
  * Slice Artipie serves on it's main port.
  * The slice handles `/.health`, `/.version` and repositories requests
@@ -25,20 +18,6 @@ import java.util.regex.Pattern;
  */
 public final class MainSlice extends Slice.Wrap {
 
-    /**
-     * Route path returns {@code NO_CONTENT} status if path is empty.
-     */
-    private static final RtPath EMPTY_PATH = (line, headers, body) -> {
-        final String path = line.uri().getPath();
-        if (path.equals("*") || path.equals("/")
-            || path.replaceAll("^/+", "").split("/").length == 0) {
-            return Optional.of(CompletableFuture.completedFuture(
-                ResponseBuilder.noContent().build()
-            ));
-        }
-        return Optional.empty();
-    };
-
     /**
      * Artipie entry point.
      *
@@ -49,26 +28,13 @@ public final class MainSlice extends Slice.Wrap {
         final RepositorySlices slices
     ) {
         super(
-            new SliceRoute(
-                MainSlice.EMPTY_PATH,
-                new RtRulePath(
-                    new RtRule.ByPath(Pattern.compile("/\\.health")),
-                    new HealthSlice(settings)
-                ),
-                new RtRulePath(
-                    new RtRule.All(
-                        MethodRule.GET,
-                        new RtRule.ByPath("/.version")
-                    ),
-                    new VersionSlice(new ArtipieProperties())
-                ),
-                new RtRulePath(
-                    RtRule.FALLBACK,
-                    new DockerRoutingSlice(
-                        settings, new SliceByPath(slices)
-                    )
-                )
-            )
+            new TrieRoute.Builder()
+                .route("*", new SliceSimple(() -> ResponseBuilder.noContent().build()))
+                .route("/", new SliceSimple(() -> ResponseBuilder.noContent().build()))
+                .route("/.health", new HealthSlice(settings))
+                .route(RqMethod.GET, "/.version", new VersionSlice(new ArtipieProperties()))
+                .fallback(new DockerRoutingSlice(settings, new SliceByPath(slices)))
+                .build()
         );
     }
 }
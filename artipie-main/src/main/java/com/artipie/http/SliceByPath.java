@@ -51,23 +51,53 @@ final class SliceByPath implements Slice {
      * @return Key if found
      */
     private static Optional<Key> keyFromPath(final String path) {
-        final String[] parts = SliceByPath.splitPath(path);
+        final String name;
         if (RqPath.CONDA.test(path)) {
-            return Optional.of(new Key.From(parts[2]));
+            name = SliceByPath.segment(path, 2);
+        } else {
+            name = SliceByPath.segment(path, 0);
         }
-        if (parts.length >= 1 && !parts[0].isBlank()) {
-            return Optional.of(new Key.From(parts[0]));
+        final Optional<Key> res;
+        if (name == null || name.isBlank()) {
+            res = Optional.empty();
+        } else {
+            res = Optional.of(new Key.From(name));
         }
-        return Optional.empty();
+        return res;
     }
 
     /**
-     * Split path into parts.
+     * Path segment by index, leading slashes are skipped. Path is scanned in place
+     * instead of splitting, as it's done for each request.
      *
      * @param path Path.
-     * @return Array of path parts.
+     * @param index Segment index.
+     * @return Segment or null if path has less segments.
      */
-    private static String[] splitPath(final String path) {
-        return path.replaceAll("^/+", "").split("/");
+    private static String segment(final String path, final int index) {
+        final int len = path.length();
+        int start = 0;
+        while (start < len && path.charAt(start) == '/') {
+            ++start;
+        }
+        for (int idx = 0; idx < index && start <= len; ++idx) {
+            final int next = path.indexOf('/', start);
+            if (next < 0) {
+                start = len + 1;
+            } else {
+                start = next + 1;
+            }
+        }
+        final String res;
+        if (start > len) {
+            res = null;
+        } else {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = len;
+            }
+            res = path.substring(start, end);
+        }
+        return res;
     }
 }
@@ -0,0 +1,291 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.micrometer;
+
+import com.artipie.http.RsStatus;
+import com.artipie.http.rq.RqMethod;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * HTTP meters of repository.
+ * <p>
+ * Meters are registered once on first use for each request method and
+ * response status class and kept in lock-free arrays, so recording a request
+ * doesn't look up the registry or allocate tags.
+ * Latency timer publishes histogram buckets for configured service level objectives.
+ * </p>
+ * @since 1.0
+ */
+public final class HttpMeters {
+
+    /**
+     * Default latency service level objectives.
+     */
+    public static final List<Duration> SLO_DEFAULT = List.of(
+        Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100),
+        Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+        Duration.ofSeconds(5), Duration.ofSeconds(10)
+    );
+
+    /**
+     * Tag repository.
+     */
+    private static final String REPO = "repo";
+
+    /**
+     * Tag method.
+     */
+    private static final String METHOD = "method";
+
+    /**
+     * Tag response status class.
+     */
+    private static final String STATUS = "status";
+
+    /**
+     * Summary unit.
+     */
+    private static final String BYTES = "bytes";
+
+    /**
+     * Number of status classes: 1xx to 5xx and unknown.
+     */
+    private static final int CLASSES = 6;
+
+    /**
+     * Request methods.
+     */
+    private static final RqMethod[] METHODS = RqMethod.values();
+
+    /**
+     * Micrometer registry.
+     */
+    private final MeterRegistry registry;
+
+    /**
+     * Repository name.
+     */
+    private final String repo;
+
+    /**
+     * Latency service level objectives.
+     */
+    private final Duration[] slo;
+
+    /**
+     * Request counters by method and status class.
+     */
+    private final AtomicReferenceArray<Counter> requests;
+
+    /**
+     * Latency timers by method and status class.
+     */
+    private final AtomicReferenceArray<Timer> latency;
+
+    /**
+     * Error timers by method.
+     */
+    private final AtomicReferenceArray<Timer> errors;
+
+    /**
+     * Request body size summaries by method.
+     */
+    private final AtomicReferenceArray<DistributionSummary> rqsize;
+
+    /**
+     * Response body size summaries by method.
+     */
+    private final AtomicReferenceArray<DistributionSummary> rssize;
+
+    /**
+     * HTTP meters with default latency objectives.
+     * @param registry Micrometer registry
+     * @param repo Repository name
+     */
+    public HttpMeters(final MeterRegistry registry, final String repo) {
+        this(registry, repo, HttpMeters.SLO_DEFAULT);
+    }
+
+    /**
+     * HTTP meters.
+     * @param registry Micrometer registry
+     * @param repo Repository name
+     * @param slo Latency service level objectives
+     */
+    public HttpMeters(final MeterRegistry registry, final String repo, final List<Duration> slo) {
+        this.registry = registry;
+        this.repo = repo;
+        this.slo = slo.toArray(new Duration[0]);
+        final int size = HttpMeters.METHODS.length;
+        this.requests = new AtomicReferenceArray<>(size * HttpMeters.CLASSES);
+        this.latency = new AtomicReferenceArray<>(size * HttpMeters.CLASSES);
+        this.errors = new AtomicReferenceArray<>(size);
+        this.rqsize = new AtomicReferenceArray<>(size);
+        this.rssize = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Requests counter.
+     * @param method Request method
+     * @param status Response status
+     * @return Counter
+     */
+    public Counter requests(final RqMethod method, final RsStatus status) {
+        return HttpMeters.meter(
+            this.requests, HttpMeters.index(method, status),
+            () -> Counter.builder("artipie.request.counter")
+                .description("HTTP requests counter")
+                .tags(this.tags(method))
+                .tag(HttpMeters.STATUS, HttpMeters.statusClass(status))
+                .register(this.registry)
+        );
+    }
+
+    /**
+     * Response latency timer.
+     * @param method Request method
+     * @param status Response status
+     * @return Timer
+     */
+    public Timer latency(final RqMethod method, final RsStatus status) {
+        return HttpMeters.meter(
+            this.latency, HttpMeters.index(method, status),
+            () -> Timer.builder("artipie.slice.response")
+                .description("HTTP response latency")
+                .tags(this.tags(method))
+                .tag(HttpMeters.STATUS, HttpMeters.statusClass(status))
+                .serviceLevelObjectives(this.slo)
+                .register(this.registry)
+        );
+    }
+
+    /**
+     * Failed response timer.
+     * @param method Request method
+     * @return Timer
+     */
+    public Timer errors(final RqMethod method) {
+        return HttpMeters.meter(
+            this.errors, method.ordinal(),
+            () -> Timer.builder("artipie.slice.response.error")
+                .description("HTTP failed response latency")
+                .tags(this.tags(method))
+                .register(this.registry)
+        );
+    }
+
+    /**
+     * Request body size summary.
+     * @param method Request method
+     * @return Summary
+     */
+    public DistributionSummary requestSize(final RqMethod method) {
+        return HttpMeters.meter(
+            this.rqsize, method.ordinal(),
+            () -> DistributionSummary.builder("artipie.request.body.size")
+                .description("Request body size")
+                .baseUnit(HttpMeters.BYTES)
+                .tags(this.tags(method))
+                .register(this.registry)
+        );
+    }
+
+    /**
+     * Response body size summary.
+     * @param method Request method
+     * @return Summary
+     */
+    public DistributionSummary responseSize(final RqMethod method) {
+        return HttpMeters.meter(
+            this.rssize, method.ordinal(),
+            () -> DistributionSummary.builder("artipie.response.body.size")
+                .description("Response body size")
+                .baseUnit(HttpMeters.BYTES)
+                .tags(this.tags(method))
+                .register(this.registry)
+        );
+    }
+
+    /**
+     * Micrometer registry.
+     * @return Registry
+     */
+    public MeterRegistry registry() {
+        return this.registry;
+    }
+
+    /**
+     * Repository and method tags.
+     * @param method Request method
+     * @return Tags as key-value pairs
+     */
+    private String[] tags(final RqMethod method) {
+        return new String[] {HttpMeters.REPO, this.repo, HttpMeters.METHOD, method.value()};
+    }
+
+    /**
+     * Get meter from array or register it.
+     * @param meters Meters array
+     * @param idx Meter index
+     * @param create Meter registration
+     * @param <T> Meter type
+     * @return Meter
+     */
+    private static <T extends Meter> T meter(
+        final AtomicReferenceArray<T> meters, final int idx, final Supplier<T> create
+    ) {
+        T res = meters.get(idx);
+        if (res == null) {
+            // registry returns the same meter for the same id, so the race is harmless
+            res = create.get();
+            meters.lazySet(idx, res);
+        }
+        return res;
+    }
+
+    /**
+     * Index of method and status class meter.
+     * @param method Request method
+     * @param status Response status
+     * @return Index
+     */
+    private static int index(final RqMethod method, final RsStatus status) {
+        return method.ordinal() * HttpMeters.CLASSES + HttpMeters.statusIndex(status);
+    }
+
+    /**
+     * Status class index from 1 to 5 or 0 for unknown class.
+     * @param status Response status
+     * @return Index
+     */
+    private static int statusIndex(final RsStatus status) {
+        final int res = status.code() / 100;
+        return res >= 1 && res < HttpMeters.CLASSES ? res : 0;
+    }
+
+    /**
+     * Status class tag value, e.g. {@code 2xx}.
+     * @param status Response status
+     * @return Status class
+     */
+    private static String statusClass(final RsStatus status) {
+        final int idx = HttpMeters.statusIndex(status);
+        final String res;
+        if (idx == 0) {
+            res = "unknown";
+        } else {
+            res = String.format("%dxx", idx);
+        }
+        return res;
+    }
+}
@@ -13,9 +13,9 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 /**
- * Publisher decorator which counts number of inner chunks and number of bytes.
- * To get these amounts micrometer {@link DistributionSummary}
- * is used, as it always publish a count of events in addition to main measure.
+ * Publisher decorator which measures body size. Size is recorded to micrometer
+ * {@link DistributionSummary} once when body is completed or failed, so summary count
+ * is a number of bodies.
  * <a href="https://micrometer.io/docs/concepts#_distribution_summaries">Docs</a>.
  * @since 0.28
  */
@@ -77,6 +77,11 @@ public final class MicrometerPublisher implements Content {
          */
         private final DistributionSummary summary;
 
+        /**
+         * Received bytes, signals are serial so it's not shared between threads.
+         */
+        private long bytes;
+
         /**
          * Wrap subscriber.
          * @param origin Origin subscriber
@@ -95,17 +100,19 @@ public final class MicrometerPublisher implements Content {
 
         @Override
         public void onNext(final ByteBuffer buffer) {
-            this.summary.record(buffer.remaining());
+            this.bytes += buffer.remaining();
             this.origin.onNext(buffer);
         }
 
         @Override
         public void onError(final Throwable err) {
+            this.summary.record(this.bytes);
             this.origin.onError(err);
         }
 
         @Override
         public void onComplete() {
+            this.summary.record(this.bytes);
             this.origin.onComplete();
         }
     }
@@ -6,6 +6,7 @@ package com.artipie.micrometer;
 
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
+import com.artipie.asto.ListResult;
 import com.artipie.asto.Meta;
 import com.artipie.asto.Storage;
 import io.micrometer.core.instrument.DistributionSummary;
@@ -15,10 +16,13 @@ import io.vertx.micrometer.backends.BackendRegistries;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 /**
  * Micrometer storage decorator measures various storage operations execution time.
+ * Meters are registered once per operation and reused.
  * @since 0.28
  */
 @SuppressWarnings("PMD.TooManyMethods")
@@ -39,6 +43,21 @@ public final class MicrometerStorage implements Storage {
      */
     private final MeterRegistry registry;
 
+    /**
+     * Operation timers by method.
+     */
+    private final ConcurrentMap<String, Timer> timers;
+
+    /**
+     * Failed operation timers by method.
+     */
+    private final ConcurrentMap<String, Timer> errors;
+
+    /**
+     * Content size summaries by method.
+     */
+    private final ConcurrentMap<String, DistributionSummary> summaries;
+
     /**
      * Ctor.
      * @param origin Origin source storage
@@ -47,6 +66,9 @@ public final class MicrometerStorage implements Storage {
     public MicrometerStorage(final Storage origin, final MeterRegistry registry) {
         this.origin = origin;
         this.registry = registry;
+        this.timers = new ConcurrentHashMap<>();
+        this.errors = new ConcurrentHashMap<>();
+        this.summaries = new ConcurrentHashMap<>();
     }
 
     /**
@@ -73,6 +95,14 @@ public final class MicrometerStorage implements Storage {
         ).thenCompose(Function.identity());
     }
 
+    @Override
+    public CompletableFuture<ListResult> list(final Key key, final String delimiter) {
+        final Timer.Sample timer = Timer.start(this.registry);
+        return this.origin.list(key, delimiter).handle(
+            (res, err) -> this.handleCompletion("list", timer, res, err)
+        ).thenCompose(Function.identity());
+    }
+
     @Override
     public CompletableFuture<Void> save(final Key key, final Content content) {
         final Timer.Sample timer = Timer.start(this.registry);
@@ -111,6 +141,16 @@ public final class MicrometerStorage implements Storage {
             .thenApply(content -> new MicrometerPublisher(content, this.summary(method)));
     }
 
+    @Override
+    public CompletableFuture<Content> value(final Key key, final long offset, final long length) {
+        final Timer.Sample timer = Timer.start(this.registry);
+        final String method = "value";
+        return this.origin.value(key, offset, length).handle(
+            (res, err) -> this.handleCompletion(method, timer, res, err)
+        ).thenCompose(Function.identity())
+            .thenApply(content -> new MicrometerPublisher(content, this.summary(method)));
+    }
+
     @Override
     public CompletableFuture<Void> delete(final Key key) {
         final Timer.Sample timer = Timer.start(this.registry);
@@ -157,14 +197,13 @@ public final class MicrometerStorage implements Storage {
         final String method, final Timer.Sample timer, final T res, final Throwable err
     ) {
         final CompletionStage<T> complete;
-        final String operation = String.join(".", MicrometerStorage.ARTIPIE_STORAGE, method);
         if (err == null) {
-            timer.stop(this.registry.timer(operation, "id", this.identifier()));
+            timer.stop(MicrometerStorage.meter(this.timers, method, this::timer));
             complete = CompletableFuture.completedFuture(res);
         } else {
             timer.stop(
-                this.registry.timer(
-                    String.join(".", operation, "error"), "id", this.identifier()
+                MicrometerStorage.meter(
+                    this.errors, method, name -> this.timer(String.join(".", name, "error"))
                 )
             );
             complete = CompletableFuture.failedFuture(err);
@@ -173,16 +212,50 @@ public final class MicrometerStorage implements Storage {
     }
 
     /**
-     * Create and register distribution summary.
+     * Get or register distribution summary.
      * @param method Method name
      * @return Summary
      */
     private DistributionSummary summary(final String method) {
-        return DistributionSummary
-            .builder(String.join(".", MicrometerStorage.ARTIPIE_STORAGE, method, "size"))
-            .description("Storage content body size and chunks")
-            .tag("id", this.identifier())
-            .baseUnit("bytes")
-            .register(this.registry);
+        return MicrometerStorage.meter(
+            this.summaries, method,
+            name -> DistributionSummary
+                .builder(String.join(".", MicrometerStorage.ARTIPIE_STORAGE, name, "size"))
+                .description("Storage content body size")
+                .tag("id", this.identifier())
+                .baseUnit("bytes")
+                .register(this.registry)
+        );
+    }
+
+    /**
+     * Register operation timer.
+     * @param operation Operation name
+     * @return Timer
+     */
+    private Timer timer(final String operation) {
+        return this.registry.timer(
+            String.join(".", MicrometerStorage.ARTIPIE_STORAGE, operation),
+            "id", this.identifier()
+        );
+    }
+
+    /**
+     * Get registered meter of method or register it.
+     * @param meters Registered meters by method
+     * @param method Method name
+     * @param create Meter registration
+     * @param <T> Meter type
+     * @return Meter
+     */
+    private static <T> T meter(
+        final ConcurrentMap<String, T> meters, final String method,
+        final Function<String, T> create
+    ) {
+        T res = meters.get(method);
+        if (res == null) {
+            res = meters.computeIfAbsent(method, create);
+        }
+        return res;
     }
 }
@@ -5,6 +5,9 @@
 package com.artipie.settings;
 
 import com.amihaiemil.eoyaml.YamlMapping;
+import com.artipie.micrometer.HttpMeters;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -58,6 +61,11 @@ public final class MetricsContext {
      */
     private final Set<String> types;
 
+    /**
+     * Latency service level objectives.
+     */
+    private final List<Duration> objectives;
+
     /**
      * Ctor.
      * @param meta Meta section from Artipie yaml settings
@@ -75,6 +83,14 @@ public final class MetricsContext {
                     MetricsContext.TYPE_HTTP, MetricsContext.TYPE_JVM, MetricsContext.TYPE_STORAGE
                 )
             );
+        this.objectives = Optional.ofNullable(meta.yamlMapping(MetricsContext.METRICS))
+            .flatMap(map -> Optional.ofNullable(map.yamlSequence("slo")))
+            .map(
+                seq -> seq.values().stream()
+                    .map(item -> Duration.ofMillis(Long.parseLong(item.asScalar().value())))
+                    .toList()
+            )
+            .orElse(HttpMeters.SLO_DEFAULT);
     }
 
     /**
@@ -117,6 +133,15 @@ public final class MetricsContext {
         return this.enabled() && this.types.contains(MetricsContext.TYPE_HTTP);
     }
 
+    /**
+     * Latency service level objectives of http metrics, configured in milliseconds
+     * as {@code slo} sequence of metrics section.
+     * @return Latency objectives
+     */
+    public List<Duration> slo() {
+        return this.objectives;
+    }
+
     /**
      * Get endpoint and port pair from yaml.
      * @param meta Yaml mapping
@@ -9,6 +9,7 @@ import com.amihaiemil.eoyaml.YamlSequence;
 import com.artipie.api.ssl.KeyStore;
 import com.artipie.asto.Storage;
 import com.artipie.http.client.HttpClientSettings;
+import com.artipie.http.log.AccessLog;
 import com.artipie.scheduling.MetadataEventQueues;
 import com.artipie.settings.cache.ArtipieCaches;
 import java.util.Optional;
@@ -79,4 +80,12 @@ public interface Settings {
     default HttpClientSettings httpClientSettings() {
         return new HttpClientSettings();
     }
+
+    /**
+     * Access log of HTTP requests.
+     * @return Access log
+     */
+    default AccessLog accessLog() {
+        return new AccessLog();
+    }
 }
@@ -22,6 +22,7 @@ import com.artipie.db.DbConsumer;
 import com.artipie.http.auth.AuthLoader;
 import com.artipie.http.auth.Authentication;
 import com.artipie.http.client.HttpClientSettings;
+import com.artipie.http.log.AccessLog;
 import com.artipie.scheduling.ArtifactEvent;
 import com.artipie.scheduling.MetadataEventQueues;
 import com.artipie.scheduling.QuartzService;
@@ -107,6 +108,11 @@ public final class YamlSettings implements Settings {
      */
     private final Optional<MetadataEventQueues> events;
 
+    /**
+     * Access log.
+     */
+    private final AccessLog alog;
+
     /**
      * Ctor.
      * @param content YAML file content.
@@ -129,6 +135,7 @@ public final class YamlSettings implements Settings {
         );
         this.mctx = new MetricsContext(this.meta());
         this.events = YamlSettings.initArtifactsEvents(this.meta(), quartz, path);
+        this.alog = YamlSettings.initAccessLog(this.meta().yamlMapping("access_log"));
     }
 
     @Override
@@ -188,6 +195,11 @@ public final class YamlSettings implements Settings {
         return this.httpClientSettings;
     }
 
+    @Override
+    public AccessLog accessLog() {
+        return this.alog;
+    }
+
     @Override
     public String toString() {
         return String.format("YamlSettings{\n%s\n}", this.meta.toString());
@@ -221,6 +233,26 @@ public final class YamlSettings implements Settings {
         return new CachedUsers(res);
     }
 
+    /**
+     * Initialize access log from `access_log` yaml section: `sample` is a sampling rate
+     * of successful requests from 0 to 1, `buffer` is a capacity of records buffer.
+     * @param yaml Access log yaml section
+     * @return Access log
+     */
+    private static AccessLog initAccessLog(final YamlMapping yaml) {
+        final AccessLog res;
+        if (yaml == null) {
+            res = new AccessLog();
+        } else {
+            final double sample = Optional.ofNullable(yaml.string("sample"))
+                .map(Double::parseDouble).orElse(1.0);
+            res = Optional.ofNullable(yaml.string("buffer"))
+                .map(buf -> new AccessLog(sample, Integer.parseInt(buf)))
+                .orElseGet(() -> new AccessLog(sample));
+        }
+        return res;
+    }
+
     /**
      * Initialize and scheduled mechanism to gather artifact events
      * (adding and removing artifacts) and create {@link MetadataEventQueues} instance.
@@ -12,9 +12,13 @@ import com.artipie.misc.ArtipieProperties;
 import com.artipie.misc.Property;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import java.security.SecureRandom;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
-import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
 
 /**
  * Cached authentication decorator.
@@ -26,11 +30,21 @@ import org.apache.commons.codec.digest.DigestUtils;
  */
 public final class CachedUsers implements Authentication, Cleanable<String> {
     /**
-     * Cache for users. The key is md5 calculated from username and password
-     * joined with space.
+     * Max number of cached credentials.
+     */
+    private static final long MAX_SIZE = 10_000L;
+
+    /**
+     * Cache for users. The key is username and HMAC-SHA256 of username and password
+     * with random per instance secret, joined with colon.
      */
     private final Cache<String, Optional<AuthUser>> users;
 
+    /**
+     * HMAC secret.
+     */
+    private final byte[] secret;
+
     /**
      * Origin authentication.
      */
@@ -49,7 +63,8 @@ public final class CachedUsers implements Authentication, Cleanable<String> {
                 .expireAfterAccess(
                     new Property(ArtipieProperties.AUTH_TIMEOUT).asLongOrDefault(300_000L),
                     TimeUnit.MILLISECONDS
-                ).softValues()
+                ).maximumSize(CachedUsers.MAX_SIZE)
+                .softValues()
                 .build()
         );
     }
@@ -65,6 +80,8 @@ public final class CachedUsers implements Authentication, Cleanable<String> {
     ) {
         this.users = cache;
         this.origin = origin;
+        this.secret = new byte[32];
+        new SecureRandom().nextBytes(this.secret);
     }
 
     @Override
@@ -72,12 +89,34 @@ public final class CachedUsers implements Authentication, Cleanable<String> {
         final String username,
         final String password
     ) {
-        final String key = DigestUtils.md5Hex(String.join(" ", username, password));
         return new UncheckedScalar<>(
-            () -> this.users.get(key, () -> this.origin.user(username, password))
+            () -> this.users.get(
+                this.key(username, password), () -> this.origin.user(username, password)
+            )
         ).value();
     }
 
+    @Override
+    public CompletionStage<Optional<AuthUser>> userAsync(
+        final String username,
+        final String password
+    ) {
+        final String key = this.key(username, password);
+        final Optional<AuthUser> cached = this.users.getIfPresent(key);
+        final CompletionStage<Optional<AuthUser>> res;
+        if (cached == null) {
+            res = this.origin.userAsync(username, password).thenApply(
+                user -> {
+                    this.users.put(key, user);
+                    return user;
+                }
+            );
+        } else {
+            res = CompletableFuture.completedFuture(cached);
+        }
+        return res;
+    }
+
     @Override
     public String toString() {
         return String.format(
@@ -88,12 +127,36 @@ public final class CachedUsers implements Authentication, Cleanable<String> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void invalidate(final String key) {
-        this.users.invalidate(key);
+        final String prefix = String.format("%s:", key);
+        this.users.asMap().keySet().removeIf(item -> item.startsWith(prefix));
+        if (this.origin instanceof Cleanable) {
+            ((Cleanable<String>) this.origin).invalidate(key);
+        }
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void invalidateAll() {
         this.users.invalidateAll();
+        if (this.origin instanceof Cleanable) {
+            ((Cleanable<String>) this.origin).invalidateAll();
+        }
+    }
+
+    /**
+     * Cache key: username and keyed hash of credentials, so passwords are not kept
+     * in memory and entries of the user can be invalidated by username.
+     * @param username Username
+     * @param password Password
+     * @return Cache key
+     */
+    private String key(final String username, final String password) {
+        return String.join(
+            ":", username,
+            new HmacUtils(HmacAlgorithms.HMAC_SHA_256, this.secret)
+                .hmacHex(String.join("\0", username, password))
+        );
     }
 }
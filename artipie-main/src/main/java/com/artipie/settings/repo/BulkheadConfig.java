@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.settings.repo;
+
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.google.common.base.Strings;
+import java.time.Duration;
+
+/**
+ * Repository bulkhead configuration: limits of concurrent and queued requests.
+ * <pre>
+ * bulkhead:
+ *   limit: 32           # concurrent requests, initial limit if adaptive
+ *   queue: 64           # requests waiting for the limit
+ *   queue-timeout: 5000 # milliseconds to wait in queue
+ *   retry-after: 1      # seconds, Retry-After header of rejected requests
+ *   adaptive: true      # tune limit by response latency
+ *   min-limit: 4
+ *   max-limit: 256
+ * </pre>
+ * @param limit Initial concurrent requests limit
+ * @param queue Max number of waiting requests
+ * @param timeout Max time to wait in queue
+ * @param retry Retry-After of rejected requests
+ * @param adaptive Tune limit by response latency
+ * @param min Min adaptive limit
+ * @param max Max adaptive limit
+ * @since 1.0
+ */
+public record BulkheadConfig(
+    int limit, int queue, Duration timeout, Duration retry, boolean adaptive, int min, int max
+) {
+
+    /**
+     * Bulkhead configuration from yaml.
+     * @param yaml Bulkhead yaml mapping
+     * @return Bulkhead configuration
+     */
+    public static BulkheadConfig from(final YamlMapping yaml) {
+        final int limit = BulkheadConfig.integer(yaml, "limit", 64);
+        final boolean adaptive = Boolean.parseBoolean(yaml.string("adaptive"));
+        final BulkheadConfig res = new BulkheadConfig(
+            limit,
+            BulkheadConfig.integer(yaml, "queue", limit),
+            Duration.ofMillis(BulkheadConfig.integer(yaml, "queue-timeout", 5000)),
+            Duration.ofSeconds(BulkheadConfig.integer(yaml, "retry-after", 1)),
+            adaptive,
+            BulkheadConfig.integer(yaml, "min-limit", adaptive ? 1 : limit),
+            BulkheadConfig.integer(yaml, "max-limit", adaptive ? limit * 4 : limit)
+        );
+        if (res.limit() < 1 || res.queue() < 0 || res.min() < 1
+            || res.min() > res.limit() || res.max() < res.limit()) {
+            throw new IllegalStateException(
+                String.format("Invalid bulkhead configuration: %s", res)
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Read integer value.
+     * @param yaml Yaml mapping
+     * @param key Key
+     * @param def Default value
+     * @return Value
+     */
+    private static int integer(final YamlMapping yaml, final String key, final int def) {
+        final String val = yaml.string(key);
+        final int res;
+        if (Strings.isNullOrEmpty(val)) {
+            res = def;
+        } else {
+            res = Integer.parseInt(val);
+        }
+        return res;
+    }
+}
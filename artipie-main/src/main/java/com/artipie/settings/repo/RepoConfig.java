@@ -159,6 +159,16 @@ public final class RepoConfig {
         return this.stringOpt("content-length-max").map(Long::valueOf);
     }
 
+    /**
+     * Read repository bulkhead configuration: limits of concurrent and queued requests.
+     *
+     * @return Bulkhead configuration, empty if none specified.
+     */
+    public Optional<BulkheadConfig> bulkhead() {
+        return Optional.ofNullable(this.repoYaml().yamlMapping("bulkhead"))
+            .map(BulkheadConfig::from);
+    }
+
     /**
      * A single remote configuration.
      * <p>Fails if there are more than one remote configs or no remotes specified.
@@ -5,11 +5,15 @@
 package com.artipie.auth;
 
 import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
 import com.artipie.asto.blocking.BlockingStorage;
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.http.auth.AuthUser;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.concurrent.Executors;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,11 +31,17 @@ class AuthFromStorageTest {
     /**
      * Test storage.
      */
+    private Storage storage;
+
+    /**
+     * Test blocking storage.
+     */
     private BlockingStorage asto;
 
     @BeforeEach
     void init() {
-        this.asto = new BlockingStorage(new InMemoryStorage());
+        this.storage = new InMemoryStorage();
+        this.asto = new BlockingStorage(this.storage);
     }
 
     @ParameterizedTest
@@ -39,7 +49,7 @@ class AuthFromStorageTest {
     void authorisesUserWithPlainPassword(final String key) {
         this.asto.save(new Key.From(key), this.aliceConfig());
         MatcherAssert.assertThat(
-            new AuthFromStorage(this.asto).user("alice", "qwerty").get(),
+            new AuthFromStorage(this.storage).user("alice", "qwerty").get(),
             new IsEqual<>(new AuthUser("alice", "test"))
         );
     }
@@ -49,7 +59,7 @@ class AuthFromStorageTest {
     void notAuthorisesUserWithPlainPasswordIfPasswordNotCorrect(final String key) {
         this.asto.save(new Key.From(key), this.aliceConfig());
         MatcherAssert.assertThat(
-            new AuthFromStorage(this.asto).user("alice", "not_correct").isEmpty(),
+            new AuthFromStorage(this.storage).user("alice", "not_correct").isEmpty(),
             new IsEqual<>(true)
         );
     }
@@ -59,7 +69,7 @@ class AuthFromStorageTest {
     void authorisesUserWithSha256Password(final String key) {
         this.asto.save(new Key.From(key), this.davidConfig());
         MatcherAssert.assertThat(
-            new AuthFromStorage(this.asto).user("david", "abc123").get(),
+            new AuthFromStorage(this.storage).user("david", "abc123").get(),
             new IsEqual<>(new AuthUser("david", "test"))
         );
     }
@@ -69,7 +79,7 @@ class AuthFromStorageTest {
     void notAuthorisesUserWithSha256PasswordIfPasswordNotCorrect(final String key) {
         this.asto.save(new Key.From(key), this.davidConfig());
         MatcherAssert.assertThat(
-            new AuthFromStorage(this.asto).user("david", "not_valid").isEmpty(),
+            new AuthFromStorage(this.storage).user("david", "not_valid").isEmpty(),
             new IsEqual<>(true)
         );
     }
@@ -78,7 +88,7 @@ class AuthFromStorageTest {
     void doesNotAuthoriseDisabledUser() {
         this.asto.save(new Key.From("users/jane.yml"), this.janeConfig());
         MatcherAssert.assertThat(
-            new AuthFromStorage(this.asto).user("jane", "qwerty").isEmpty(),
+            new AuthFromStorage(this.storage).user("jane", "qwerty").isEmpty(),
             new IsEqual<>(true)
         );
     }
@@ -86,7 +96,7 @@ class AuthFromStorageTest {
     @Test
     void doesNotAuthoriseIfUserNotExists() {
         MatcherAssert.assertThat(
-            new AuthFromStorage(this.asto).user("notPresent", "any").isEmpty(),
+            new AuthFromStorage(this.storage).user("notPresent", "any").isEmpty(),
             new IsEqual<>(true)
         );
     }
@@ -95,11 +105,71 @@ class AuthFromStorageTest {
     void doesNotAuthoriseIfUserYamlIsNotValid() {
         this.asto.save(new Key.From("users/olga.yml"), "any text".getBytes(StandardCharsets.UTF_8));
         MatcherAssert.assertThat(
-            new AuthFromStorage(this.asto).user("olga", "any").isEmpty(),
+            new AuthFromStorage(this.storage).user("olga", "any").isEmpty(),
             new IsEqual<>(true)
         );
     }
 
+    @Test
+    void authorisesUserWithBcryptPassword() {
+        final byte[] salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        this.asto.save(
+            new Key.From("users/mark.yaml"),
+            String.join(
+                "\n",
+                "type: bcrypt",
+                String.format(
+                    "pass: \"%s\"", OpenBSDBCrypt.generate("secret".toCharArray(), salt, 4)
+                )
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final AuthFromStorage auth = new AuthFromStorage(this.storage);
+        MatcherAssert.assertThat(
+            "Mark is authenticated with correct password",
+            auth.userAsync("mark", "secret").toCompletableFuture().join().isPresent()
+        );
+        MatcherAssert.assertThat(
+            "Mark is not authenticated with wrong password",
+            auth.userAsync("mark", "wrong").toCompletableFuture().join().isEmpty()
+        );
+    }
+
+    @Test
+    void reloadsUserOnInvalidate() {
+        final AuthFromStorage auth = new AuthFromStorage(this.storage);
+        MatcherAssert.assertThat(
+            "Alice is not present before adding",
+            auth.user("alice", "qwerty").isEmpty()
+        );
+        this.asto.save(new Key.From("users/alice.yml"), this.aliceConfig());
+        auth.invalidate("alice");
+        MatcherAssert.assertThat(
+            "Alice is present after invalidation",
+            auth.user("alice", "qwerty").isPresent()
+        );
+        this.asto.delete(new Key.From("users/alice.yml"));
+        auth.invalidate("alice");
+        MatcherAssert.assertThat(
+            "Alice is not present after removal",
+            auth.user("alice", "qwerty").isEmpty()
+        );
+    }
+
+    @Test
+    void reloadsUsersWhenIndexIsStale() {
+        final AuthFromStorage auth = new AuthFromStorage(
+            this.storage, Executors.newSingleThreadExecutor(), -1L
+        );
+        auth.user("alice", "qwerty");
+        this.asto.save(new Key.From("users/alice.yaml"), this.aliceConfig());
+        auth.user("alice", "qwerty");
+        MatcherAssert.assertThat(
+            "Alice is found after index reload",
+            auth.user("alice", "qwerty").isPresent()
+        );
+    }
+
     private byte[] aliceConfig() {
         return String.join(
             "\n",
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.auth;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.artipie.http.auth.AuthUser;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.jwt.JWTAuth;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.util.Arrays;
+import java.util.Base64;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link JwtSettings}.
+ * @since 1.0
+ */
+class JwtSettingsTest {
+
+    @Test
+    void issuesAndVerifiesTokensWithSecret() {
+        final JWTAuth provider = JWTAuth.create(
+            Vertx.vertx(),
+            new JwtSettings(
+                Yaml.createYamlMappingBuilder().add(
+                    "jwt", Yaml.createYamlMappingBuilder().add("secret", "my secret").build()
+                ).build()
+            ).options()
+        );
+        MatcherAssert.assertThat(
+            new JwtTokenAuth(provider).user(
+                provider.generateToken(new JsonObject().put("sub", "Ann").put("context", "test"))
+            ).toCompletableFuture().join().get(),
+            new IsEqual<>(new AuthUser("Ann", "test"))
+        );
+    }
+
+    @Test
+    void issuesAndVerifiesTokensWithJwks(@TempDir final Path tmp)
+        throws IOException, NoSuchAlgorithmException {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final RSAPrivateCrtKey key = (RSAPrivateCrtKey) gen.generateKeyPair().getPrivate();
+        final Path jwks = tmp.resolve("jwks.json");
+        Files.writeString(
+            jwks,
+            new JsonObject().put(
+                "keys",
+                new JsonArray().add(
+                    new JsonObject()
+                        .put("kty", "RSA").put("alg", "RS256").put("kid", "test")
+                        .put("n", JwtSettingsTest.base64(key.getModulus()))
+                        .put("e", JwtSettingsTest.base64(key.getPublicExponent()))
+                        .put("d", JwtSettingsTest.base64(key.getPrivateExponent()))
+                        .put("p", JwtSettingsTest.base64(key.getPrimeP()))
+                        .put("q", JwtSettingsTest.base64(key.getPrimeQ()))
+                        .put("dp", JwtSettingsTest.base64(key.getPrimeExponentP()))
+                        .put("dq", JwtSettingsTest.base64(key.getPrimeExponentQ()))
+                        .put("qi", JwtSettingsTest.base64(key.getCrtCoefficient()))
+                )
+            ).encode()
+        );
+        final JWTAuth provider = JWTAuth.create(
+            Vertx.vertx(),
+            new JwtSettings(
+                Yaml.createYamlMappingBuilder().add(
+                    "jwt",
+                    Yaml.createYamlMappingBuilder().add("jwks", jwks.toString()).build()
+                ).build()
+            ).options()
+        );
+        MatcherAssert.assertThat(
+            new JwtTokenAuth(provider).user(
+                provider.generateToken(new JsonObject().put("sub", "Ben").put("context", "test"))
+            ).toCompletableFuture().join().get(),
+            new IsEqual<>(new AuthUser("Ben", "test"))
+        );
+    }
+
+    private static String base64(final BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
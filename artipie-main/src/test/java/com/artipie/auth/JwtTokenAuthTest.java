@@ -5,11 +5,14 @@
 package com.artipie.auth;
 
 import com.artipie.http.auth.AuthUser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.PubSecKeyOptions;
 import io.vertx.ext.auth.jwt.JWTAuth;
 import io.vertx.ext.auth.jwt.JWTAuthOptions;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.BeforeEach;
@@ -69,6 +72,60 @@ class JwtTokenAuthTest {
         );
     }
 
+    @Test
+    void returnsCachedUserWithoutVerification() {
+        final Cache<String, JwtTokenAuth.Verified> cache = CacheBuilder.newBuilder().build();
+        final String token = this.provider.generateToken(
+            new JsonObject().put("sub", "Bob").put("context", "test")
+        );
+        new JwtTokenAuth(this.provider, cache).user(token).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new JwtTokenAuth(
+                JWTAuth.create(
+                    Vertx.vertx(),
+                    new JWTAuthOptions().addPubSecKey(
+                        new PubSecKeyOptions().setAlgorithm("HS256").setBuffer("other secret")
+                    )
+                ),
+                cache
+            ).user(token).toCompletableFuture().join().get(),
+            new IsEqual<>(new AuthUser("Bob", "test"))
+        );
+    }
+
+    @Test
+    void returnsEmptyWhenCachedTokenIsExpired() {
+        final Cache<String, JwtTokenAuth.Verified> cache = CacheBuilder.newBuilder().build();
+        final String token = this.provider.generateToken(
+            new JsonObject().put("sub", "John").put("context", "test")
+        );
+        cache.put(
+            DigestUtils.sha256Hex(token),
+            new JwtTokenAuth.Verified(
+                new AuthUser("John", "test"), System.currentTimeMillis() - 1000
+            )
+        );
+        MatcherAssert.assertThat(
+            new JwtTokenAuth(this.provider, cache).user(token)
+                .toCompletableFuture().join().isEmpty(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void keepsTokenExpirationInCache() {
+        final Cache<String, JwtTokenAuth.Verified> cache = CacheBuilder.newBuilder().build();
+        final long exp = System.currentTimeMillis() / 1000 + 3600;
+        final String token = this.provider.generateToken(
+            new JsonObject().put("sub", "Mark").put("context", "test").put("exp", exp)
+        );
+        new JwtTokenAuth(this.provider, cache).user(token).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            cache.getIfPresent(DigestUtils.sha256Hex(token)).exp(),
+            new IsEqual<>(exp * 1000)
+        );
+    }
+
     @Test
     void returnsEmptyWhenTokenIsNotValid() {
         MatcherAssert.assertThat(
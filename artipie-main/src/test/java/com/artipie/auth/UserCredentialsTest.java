@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for {@link UserCredentials}.
+ * @since 1.0
+ */
+class UserCredentialsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "plain,qwerty,qwerty,true",
+        "plain,qwerty,qwerty1,false",
+        "sha256,65e84be33532fb784c48129675f9eff3a682b27168c0ea744b2cf58ee02337c5,qwerty,true",
+        "sha256,65e84be33532fb784c48129675f9eff3a682b27168c0ea744b2cf58ee02337c5,abc,false",
+        "bcrypt,not-a-hash,qwerty,false",
+        "unknown,qwerty,qwerty,false"
+    })
+    void checksPassword(final String type, final String pass, final String check,
+        final boolean valid) {
+        MatcherAssert.assertThat(
+            new UserCredentials(type, pass, true).matches(check),
+            new IsEqual<>(valid)
+        );
+    }
+
+    @Test
+    void checksArgon2Password() {
+        final byte[] salt = "saltsaltsaltsalt".getBytes(StandardCharsets.UTF_8);
+        final Argon2BytesGenerator gen = new Argon2BytesGenerator();
+        gen.init(
+            new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withMemoryAsKB(1024).withIterations(2).withParallelism(1)
+                .withSalt(salt).build()
+        );
+        final byte[] hash = new byte[32];
+        gen.generateBytes("secret".getBytes(StandardCharsets.UTF_8), hash);
+        final Base64.Encoder enc = Base64.getEncoder().withoutPadding();
+        final UserCredentials creds = new UserCredentials(
+            "argon2",
+            String.format(
+                "$argon2id$v=19$m=1024,t=2,p=1$%s$%s",
+                enc.encodeToString(salt), enc.encodeToString(hash)
+            ),
+            true
+        );
+        MatcherAssert.assertThat(
+            "Correct password matches",
+            creds.matches("secret")
+        );
+        MatcherAssert.assertThat(
+            "Wrong password does not match",
+            !creds.matches("wrong")
+        );
+    }
+
+    @Test
+    void readsDisabledUser() {
+        MatcherAssert.assertThat(
+            UserCredentials.read(
+                "type: plain\npass: abc\nenabled: false".getBytes(StandardCharsets.UTF_8)
+            ).get().enabled(),
+            new IsEqual<>(false)
+        );
+    }
+}
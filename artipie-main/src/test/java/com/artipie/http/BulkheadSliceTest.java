@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http;
+
+import com.artipie.asto.Content;
+import com.artipie.http.hm.ResponseAssert;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link BulkheadSlice}.
+ */
+class BulkheadSliceTest {
+
+    @Test
+    void passesRequestsWithinLimit() {
+        final Slice slice = new BulkheadSlice(
+            (line, headers, body) -> ResponseBuilder.ok().completedFuture(),
+            new ConcurrencyLimit(1), 0, Duration.ofSeconds(1), Duration.ofSeconds(1)
+        );
+        ResponseAssert.checkOk(this.send(slice).join());
+        ResponseAssert.checkOk(this.send(slice).join());
+    }
+
+    @Test
+    void rejectsRequestsWhenQueueIsFull() {
+        final CompletableFuture<Response> pending = new CompletableFuture<>();
+        final Slice slice = new BulkheadSlice(
+            (line, headers, body) -> pending,
+            new ConcurrencyLimit(1), 0, Duration.ofSeconds(1), Duration.ofSeconds(3)
+        );
+        this.send(slice);
+        final Response rejected = this.send(slice).join();
+        MatcherAssert.assertThat(rejected, new RsHasStatus(RsStatus.SERVICE_UNAVAILABLE));
+        MatcherAssert.assertThat(
+            rejected.headers().values("Retry-After"),
+            Matchers.contains("3")
+        );
+    }
+
+    @Test
+    void passesQueuedRequestWhenSlotIsReleased() {
+        final CompletableFuture<Response> pending = new CompletableFuture<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final Slice slice = new BulkheadSlice(
+            (line, headers, body) -> {
+                final CompletableFuture<Response> res;
+                if (calls.getAndIncrement() == 0) {
+                    res = pending;
+                } else {
+                    res = ResponseBuilder.ok().completedFuture();
+                }
+                return res;
+            },
+            new ConcurrencyLimit(1), 1, Duration.ofSeconds(5), Duration.ofSeconds(1)
+        );
+        final CompletableFuture<Response> first = this.send(slice);
+        final CompletableFuture<Response> queued = this.send(slice);
+        MatcherAssert.assertThat(
+            "Queued request was forwarded before slot was released",
+            queued.isDone(), Matchers.is(false)
+        );
+        pending.complete(ResponseBuilder.accepted().build());
+        MatcherAssert.assertThat(first.join(), new RsHasStatus(RsStatus.ACCEPTED));
+        ResponseAssert.checkOk(queued.join());
+    }
+
+    @Test
+    void rejectsQueuedRequestOnTimeout() {
+        final Slice slice = new BulkheadSlice(
+            (line, headers, body) -> new CompletableFuture<>(),
+            new ConcurrencyLimit(1), 1, Duration.ofMillis(50), Duration.ofSeconds(1)
+        );
+        this.send(slice);
+        MatcherAssert.assertThat(
+            this.send(slice).join(), new RsHasStatus(RsStatus.SERVICE_UNAVAILABLE)
+        );
+    }
+
+    @Test
+    void releasesSlotOnFailure() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Slice slice = new BulkheadSlice(
+            (line, headers, body) -> {
+                if (calls.getAndIncrement() == 0) {
+                    throw new IllegalStateException("Failed");
+                }
+                return ResponseBuilder.ok().completedFuture();
+            },
+            new ConcurrencyLimit(1), 0, Duration.ofSeconds(1), Duration.ofSeconds(1)
+        );
+        MatcherAssert.assertThat(
+            this.send(slice).isCompletedExceptionally(), Matchers.is(true)
+        );
+        ResponseAssert.checkOk(this.send(slice).join());
+    }
+
+    private CompletableFuture<Response> send(final Slice slice) {
+        return slice.response(new RequestLine("GET", "/"), Headers.EMPTY, Content.EMPTY);
+    }
+}
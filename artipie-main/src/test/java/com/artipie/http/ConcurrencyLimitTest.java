@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ConcurrencyLimit}.
+ */
+class ConcurrencyLimitTest {
+
+    @Test
+    void keepsFixedLimit() {
+        final ConcurrencyLimit limit = new ConcurrencyLimit(10);
+        limit.sample(TimeUnit.SECONDS.toNanos(10), 10);
+        MatcherAssert.assertThat(limit.get(), Matchers.is(10));
+    }
+
+    @Test
+    void growsWhileLatencyIsStable() {
+        final ConcurrencyLimit limit = new ConcurrencyLimit(10, 1, 100, true);
+        for (int idx = 0; idx < 50; ++idx) {
+            limit.sample(TimeUnit.MILLISECONDS.toNanos(10), limit.get());
+        }
+        MatcherAssert.assertThat(limit.get(), Matchers.greaterThan(10));
+    }
+
+    @Test
+    void shrinksWhenLatencyGrows() {
+        final ConcurrencyLimit limit = new ConcurrencyLimit(50, 2, 100, true);
+        for (int idx = 0; idx < 10; ++idx) {
+            limit.sample(TimeUnit.MILLISECONDS.toNanos(10), 50);
+        }
+        for (int idx = 0; idx < 50; ++idx) {
+            limit.sample(TimeUnit.SECONDS.toNanos(1), limit.get());
+        }
+        MatcherAssert.assertThat(limit.get(), Matchers.lessThan(10));
+    }
+
+    @Test
+    void keepsLimitWithinBounds() {
+        final ConcurrencyLimit limit = new ConcurrencyLimit(10, 5, 12, true);
+        for (int idx = 0; idx < 100; ++idx) {
+            limit.sample(TimeUnit.MILLISECONDS.toNanos(10), limit.get());
+        }
+        MatcherAssert.assertThat(limit.get(), Matchers.is(12));
+    }
+
+    @Test
+    void doesNotChangeLimitWhenMostlyUnused() {
+        final ConcurrencyLimit limit = new ConcurrencyLimit(10, 1, 100, true);
+        for (int idx = 0; idx < 50; ++idx) {
+            limit.sample(TimeUnit.MILLISECONDS.toNanos(10), 1);
+        }
+        MatcherAssert.assertThat(limit.get(), Matchers.is(10));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.micrometer;
+
+import com.artipie.http.RsStatus;
+import com.artipie.http.rq.RqMethod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link HttpMeters}.
+ * @since 1.0
+ */
+class HttpMetersTest {
+
+    /**
+     * Test registry.
+     */
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void init() {
+        this.registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void reusesMetersOfSameStatusClass() {
+        final HttpMeters meters = new HttpMeters(this.registry, "my-repo");
+        MatcherAssert.assertThat(
+            meters.requests(RqMethod.GET, RsStatus.OK),
+            Matchers.sameInstance(meters.requests(RqMethod.GET, RsStatus.NO_CONTENT))
+        );
+    }
+
+    @Test
+    void separatesMetersByMethodAndStatusClass() {
+        final HttpMeters meters = new HttpMeters(this.registry, "my-repo");
+        meters.requests(RqMethod.GET, RsStatus.OK).increment();
+        meters.requests(RqMethod.GET, RsStatus.NOT_FOUND).increment();
+        meters.requests(RqMethod.PUT, RsStatus.CREATED).increment();
+        MatcherAssert.assertThat(
+            this.registry.find("artipie.request.counter").counters(),
+            Matchers.hasSize(3)
+        );
+    }
+
+    @Test
+    void tagsMetersWithRepositoryAndStatusClass() {
+        new HttpMeters(this.registry, "my-repo")
+            .latency(RqMethod.HEAD, RsStatus.INTERNAL_ERROR)
+            .record(Duration.ofMillis(5));
+        MatcherAssert.assertThat(
+            this.registry.getMetersAsString(),
+            Matchers.containsString(
+                "artipie.slice.response(TIMER)[method='HEAD', repo='my-repo', status='5xx']; count=1.0"
+            )
+        );
+    }
+
+    @Test
+    void publishesLatencyObjectives() {
+        new HttpMeters(this.registry, "my-repo", List.of(Duration.ofMillis(100)))
+            .latency(RqMethod.GET, RsStatus.OK)
+            .record(Duration.ofMillis(20));
+        MatcherAssert.assertThat(
+            this.registry.get("artipie.slice.response").tag("repo", "my-repo").timer()
+                .takeSnapshot().histogramCounts()[0].count(),
+            Matchers.equalTo(1.0)
+        );
+    }
+}
@@ -61,19 +61,19 @@ class MicrometerSliceTest {
         String actual = registry.getMetersAsString();
 
         List.of(
-            Matchers.containsString("artipie.request.body.size(DISTRIBUTION_SUMMARY)[method='POST']; count=0.0, total=0.0 bytes, max=0.0 bytes"),
-            Matchers.containsString("artipie.request.body.size(DISTRIBUTION_SUMMARY)[method='GET']; count=0.0, total=0.0 bytes, max=0.0 bytes"),
-            Matchers.containsString("artipie.request.counter(COUNTER)[method='POST', status='CONTINUE']; count=1.0"),
-            Matchers.containsString("artipie.request.counter(COUNTER)[method='GET', status='OK']; count=2.0"),
-            Matchers.containsString("artipie.response.body.size(DISTRIBUTION_SUMMARY)[method='POST']; count=0.0, total=0.0 bytes, max=0.0 bytes"),
-            Matchers.containsString("artipie.response.body.size(DISTRIBUTION_SUMMARY)[method='GET']; count=3.0, total=15.0 bytes, max=6.0 bytes"),
-            Matchers.containsString("artipie.slice.response(TIMER)[status='OK']; count=2.0, total_time"),
-            Matchers.containsString("artipie.slice.response(TIMER)[status='CONTINUE']; count=1.0, total_time")
+            Matchers.containsString("artipie.request.body.size(DISTRIBUTION_SUMMARY)[method='POST', repo='test']; count=0.0, total=0.0 bytes, max=0.0 bytes"),
+            Matchers.containsString("artipie.request.body.size(DISTRIBUTION_SUMMARY)[method='GET', repo='test']; count=0.0, total=0.0 bytes, max=0.0 bytes"),
+            Matchers.containsString("artipie.request.counter(COUNTER)[method='POST', repo='test', status='1xx']; count=1.0"),
+            Matchers.containsString("artipie.request.counter(COUNTER)[method='GET', repo='test', status='2xx']; count=2.0"),
+            Matchers.containsString("artipie.response.body.size(DISTRIBUTION_SUMMARY)[method='POST', repo='test']; count=1.0, total=0.0 bytes, max=0.0 bytes"),
+            Matchers.containsString("artipie.response.body.size(DISTRIBUTION_SUMMARY)[method='GET', repo='test']; count=2.0, total=15.0 bytes, max=12.0 bytes"),
+            Matchers.containsString("artipie.slice.response(TIMER)[method='GET', repo='test', status='2xx']; count=2.0, total_time"),
+            Matchers.containsString("artipie.slice.response(TIMER)[method='POST', repo='test', status='1xx']; count=1.0, total_time")
         ).forEach(m -> MatcherAssert.assertThat(actual, m));
     }
 
     private void assertResponse(Response res, RequestLine line, RsStatus expected) {
-        Slice slice = new MicrometerSlice(new SliceSimple(res), this.registry);
+        Slice slice = new MicrometerSlice(new SliceSimple(res), new HttpMeters(this.registry, "test"));
         Response actual = slice.response(line, Headers.EMPTY, Content.EMPTY).join();
         ResponseAssert.check(actual, expected);
         actual.body().asString();
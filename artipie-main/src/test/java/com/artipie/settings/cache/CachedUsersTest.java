@@ -107,6 +107,26 @@ final class CachedUsersTest {
         );
     }
 
+    @Test
+    void cachesAsyncResultAndInvalidatesByName() {
+        MatcherAssert.assertThat(
+            "Jane was authenticated asynchronously",
+            this.users.userAsync("jane", "any").toCompletableFuture().join().isPresent()
+        );
+        this.users.userAsync("jane", "any").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Authenticate method should be called only once",
+            this.auth.cnt.get(),
+            new IsEqual<>(1)
+        );
+        this.users.invalidate("jane");
+        MatcherAssert.assertThat(
+            "Cache should be empty after invalidation by username",
+            this.cache.size(),
+            new IsEqual<>(0L)
+        );
+    }
+
     /**
      * Fake authentication: returns "jane" when username is jane, empty otherwise.
      * @since 0.27
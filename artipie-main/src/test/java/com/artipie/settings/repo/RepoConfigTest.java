@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -50,6 +51,23 @@ public final class RepoConfigTest {
         Assertions.assertEquals(Optional.of(123L), readFull().contentLengthMax());
     }
 
+    @Test
+    void readsBulkhead() throws Exception {
+        Assertions.assertEquals(
+            Optional.of(
+                new BulkheadConfig(
+                    16, 32, Duration.ofSeconds(2), Duration.ofSeconds(5), true, 2, 64
+                )
+            ),
+            readFull().bulkhead()
+        );
+    }
+
+    @Test
+    void readsEmptyBulkhead() throws Exception {
+        Assertions.assertTrue(readMin().bulkhead().isEmpty());
+    }
+
     @Test
     void remotesPriority() throws Exception {
         List<RemoteConfig> remotes = readFull().remotes();
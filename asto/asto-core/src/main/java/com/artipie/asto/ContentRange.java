@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.asto;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Part of the content: skips {@code offset} bytes of the origin content
+ * and emits at most {@code length} bytes after that. The origin content is consumed
+ * from the beginning, so storages able to read from an offset should implement
+ * {@link Storage#value(Key, long, long)} natively.
+ * @since 1.16
+ */
+public final class ContentRange implements Content {
+
+    /**
+     * Origin content.
+     */
+    private final Content origin;
+
+    /**
+     * Number of bytes to skip.
+     */
+    private final long offset;
+
+    /**
+     * Max number of bytes to emit.
+     */
+    private final long length;
+
+    /**
+     * Ctor.
+     * @param origin Origin content
+     * @param offset Number of bytes to skip
+     * @param length Max number of bytes to emit
+     */
+    public ContentRange(final Content origin, final long offset, final long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException(
+                String.format("Invalid content range: offset=%d, length=%d", offset, length)
+            );
+        }
+        this.origin = origin;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public Optional<Long> size() {
+        return this.origin.size().map(
+            size -> Math.min(this.length, Math.max(0L, size - this.offset))
+        );
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+        Flowable.defer(
+            () -> {
+                final long[] pos = {0L};
+                final long end = this.offset + this.length;
+                return Flowable.fromPublisher(this.origin).takeWhile(
+                    buf -> pos[0] < end
+                ).concatMap(
+                    buf -> {
+                        final long start = pos[0];
+                        pos[0] += buf.remaining();
+                        final Flowable<ByteBuffer> res;
+                        if (pos[0] <= this.offset) {
+                            res = Flowable.empty();
+                        } else {
+                            final ByteBuffer part = buf.slice();
+                            part.position((int) Math.max(0L, this.offset - start));
+                            part.limit((int) (Math.min(pos[0], end) - start));
+                            res = Flowable.just(part.slice());
+                        }
+                        return res;
+                    }
+                );
+            }
+        ).subscribe(subscriber);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.asto;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Result of hierarchical listing: values directly under the prefix and
+ * sub-directories with deeper values, like S3 {@code Contents} and
+ * {@code CommonPrefixes}.
+ *
+ * @since 1.0
+ */
+public interface ListResult {
+
+    /**
+     * Values directly under the prefix.
+     *
+     * @return Values keys.
+     */
+    Collection<Key> files();
+
+    /**
+     * Sub-directories of the prefix, key of each one is a prefix of deeper values.
+     *
+     * @return Sub-directories keys.
+     */
+    Collection<Key> directories();
+
+    /**
+     * List result from collections of keys.
+     *
+     * @since 1.0
+     */
+    final class From implements ListResult {
+
+        /**
+         * Values keys.
+         */
+        private final Collection<Key> fls;
+
+        /**
+         * Sub-directories keys.
+         */
+        private final Collection<Key> dirs;
+
+        /**
+         * Ctor.
+         *
+         * @param files Values keys
+         * @param directories Sub-directories keys
+         */
+        public From(final Collection<Key> files, final Collection<Key> directories) {
+            this.fls = Collections.unmodifiableCollection(files);
+            this.dirs = Collections.unmodifiableCollection(directories);
+        }
+
+        @Override
+        public Collection<Key> files() {
+            return this.fls;
+        }
+
+        @Override
+        public Collection<Key> directories() {
+            return this.dirs;
+        }
+    }
+}
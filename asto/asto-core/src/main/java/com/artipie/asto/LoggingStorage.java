@@ -65,6 +65,22 @@ public class LoggingStorage implements Storage {
         return this.original.list(prefix);
     }
 
+    @Override
+    public CompletableFuture<ListResult> list(final Key prefix, final String delimiter) {
+        if (LOGGER.isInfoEnabled()) {
+            return this.original.list(prefix, delimiter).thenApply(
+                    result -> {
+                        LOGGER.info(
+                            "List '{}' by '{}': {} files, {} directories", prefix.string(),
+                            delimiter, result.files().size(), result.directories().size()
+                        );
+                        return result;
+                    }
+            );
+        }
+        return this.original.list(prefix, delimiter);
+    }
+
     @Override
     public CompletableFuture<Void> save(final Key key, final Content content) {
         if (LOGGER.isInfoEnabled()) {
@@ -118,6 +134,21 @@ public class LoggingStorage implements Storage {
         return this.original.value(key);
     }
 
+    @Override
+    public CompletableFuture<Content> value(final Key key, final long offset, final long length) {
+        if (LOGGER.isInfoEnabled()) {
+            return this.original.value(key, offset, length).thenApply(
+                    result -> {
+                        LOGGER.info(
+                            "Value '{}' from {}: {}", key.string(), offset, result.size()
+                        );
+                        return result;
+                    }
+            );
+        }
+        return this.original.value(key, offset, length);
+    }
+
     @Override
     public CompletableFuture<Void> delete(final Key key) {
         if (LOGGER.isInfoEnabled()) {
@@ -6,7 +6,9 @@ package com.artipie.asto;
 
 import com.artipie.ArtipieException;
 import com.artipie.asto.fs.FileStorage;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -38,6 +40,44 @@ public interface Storage {
      */
     CompletableFuture<Collection<Key>> list(Key prefix);
 
+    /**
+     * List values directly under the prefix and sub-directories of the prefix: keys of
+     * deeper values are cut after the delimiter following the prefix, like S3 listing
+     * with delimiter. Unlike {@link #list(Key)}, the prefix is a directory, so values
+     * with names just starting with the prefix are not listed. Default implementation
+     * filters the full listing, storages able to list one level should override it.
+     *
+     * @param prefix Prefix directory.
+     * @param delimiter Delimiter, usually {@link Key#DELIMITER}.
+     * @return Values and sub-directories keys.
+     */
+    default CompletableFuture<ListResult> list(final Key prefix, final String delimiter) {
+        final String root;
+        if (Key.ROOT.equals(prefix)) {
+            root = "";
+        } else {
+            root = prefix.string().concat(Key.DELIMITER);
+        }
+        return this.list(prefix).thenApply(
+            keys -> {
+                final Collection<Key> files = new ArrayList<>(keys.size());
+                final Collection<Key> dirs = new TreeSet<>(Key.CMP_STRING);
+                for (final Key key : keys) {
+                    final String str = key.string();
+                    if (str.startsWith(root)) {
+                        final int end = str.indexOf(delimiter, root.length());
+                        if (end < 0) {
+                            files.add(key);
+                        } else {
+                            dirs.add(new Key.From(str.substring(0, end)));
+                        }
+                    }
+                }
+                return new ListResult.From(files, dirs);
+            }
+        );
+    }
+
     /**
      * Saves the bytes to the specified key.
      *
@@ -89,6 +129,21 @@ public interface Storage {
      */
     CompletableFuture<Content> value(Key key);
 
+    /**
+     * Obtain part of the value bytes by key. The range is expected to be within the value
+     * bounds, use {@link #metadata(Key)} to check the value size. Default implementation
+     * reads the value from the beginning and skips {@code offset} bytes, storages able to
+     * read from an offset should override it.
+     *
+     * @param key The key
+     * @param offset Position of the first byte to read
+     * @param length Number of bytes to read
+     * @return Bytes of the range.
+     */
+    default CompletableFuture<Content> value(final Key key, final long offset, final long length) {
+        return this.value(key).thenApply(content -> new ContentRange(content, offset, length));
+    }
+
     /**
      * Removes value from storage. Fails if value does not exist.
      *
@@ -168,6 +223,11 @@ public interface Storage {
             return this.delegate.list(prefix);
         }
 
+        @Override
+        public CompletableFuture<ListResult> list(final Key prefix, final String delimiter) {
+            return this.delegate.list(prefix, delimiter);
+        }
+
         @Override
         public CompletableFuture<Void> save(final Key key, final Content content) {
             return this.delegate.save(key, content);
@@ -188,6 +248,12 @@ public interface Storage {
             return this.delegate.value(key);
         }
 
+        @Override
+        public CompletableFuture<Content> value(final Key key, final long offset,
+            final long length) {
+            return this.delegate.value(key, offset, length);
+        }
+
         @Override
         public CompletableFuture<Void> delete(final Key key) {
             return this.delegate.delete(key);
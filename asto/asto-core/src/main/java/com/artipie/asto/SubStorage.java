@@ -65,6 +65,21 @@ public final class SubStorage implements Storage {
         );
     }
 
+    @Override
+    public CompletableFuture<ListResult> list(final Key filter, final String delimiter) {
+        final Pattern ptn = Pattern.compile(String.format("^%s/", this.prefix.string()));
+        return this.origin.list(new PrefixedKed(this.prefix, filter), delimiter).thenApply(
+            res -> new ListResult.From(
+                res.files().stream()
+                    .map(key -> new Key.From(ptn.matcher(key.string()).replaceFirst("")))
+                    .collect(Collectors.toList()),
+                res.directories().stream()
+                    .map(key -> new Key.From(ptn.matcher(key.string()).replaceFirst("")))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
     @Override
     public CompletableFuture<Void> save(final Key key, final Content content) {
         final CompletableFuture<Void> res;
@@ -102,6 +117,11 @@ public final class SubStorage implements Storage {
         return this.origin.value(new PrefixedKed(this.prefix, key));
     }
 
+    @Override
+    public CompletableFuture<Content> value(final Key key, final long offset, final long length) {
+        return this.origin.value(new PrefixedKed(this.prefix, key), offset, length);
+    }
+
     @Override
     public CompletableFuture<Void> delete(final Key key) {
         return this.origin.delete(new PrefixedKed(this.prefix, key));
@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.asto.ext;
+
+import com.artipie.asto.Content;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.apache.commons.codec.binary.Hex;
+import org.reactivestreams.Publisher;
+
+/**
+ * Digests of specified {@link Content} by several algorithms.
+ * <p>
+ * Content is read once, each chunk is passed to all digests,
+ * so it's cheaper than {@link ContentDigest} for each algorithm.
+ * </p>
+ * @since 1.0
+ */
+public final class ContentDigests {
+
+    /**
+     * Content.
+     */
+    private final Content content;
+
+    /**
+     * Digest algorithms.
+     */
+    private final List<Digests> algs;
+
+    /**
+     * Digests of content.
+     * @param content Content
+     * @param algs Digest algorithms
+     */
+    public ContentDigests(final Publisher<ByteBuffer> content, final Digests... algs) {
+        this(new Content.From(content), Arrays.asList(algs));
+    }
+
+    /**
+     * Digests of content.
+     * @param content Content
+     * @param algs Digest algorithms
+     */
+    public ContentDigests(final Content content, final Digests... algs) {
+        this(content, Arrays.asList(algs));
+    }
+
+    /**
+     * Digests of content.
+     * @param content Content
+     * @param algs Digest algorithms
+     */
+    public ContentDigests(final Content content, final Collection<Digests> algs) {
+        this.content = content;
+        this.algs = List.copyOf(algs);
+    }
+
+    /**
+     * Bytes digests by algorithm.
+     * @return Bytes digests
+     */
+    public CompletionStage<Map<Digests, byte[]>> bytes() {
+        return Flowable.fromPublisher(this.content).reduceWith(
+            () -> {
+                final Map<Digests, MessageDigest> dgsts = new EnumMap<>(Digests.class);
+                this.algs.forEach(alg -> dgsts.put(alg, alg.get()));
+                return dgsts;
+            },
+            (dgsts, buf) -> {
+                final int pos = buf.position();
+                for (final MessageDigest dgst : dgsts.values()) {
+                    buf.position(pos);
+                    dgst.update(buf);
+                }
+                return dgsts;
+            }
+        ).map(
+            dgsts -> {
+                final Map<Digests, byte[]> res = new EnumMap<>(Digests.class);
+                dgsts.forEach((alg, dgst) -> res.put(alg, dgst.digest()));
+                return res;
+            }
+        ).to(SingleInterop.get());
+    }
+
+    /**
+     * Hex of the digests by algorithm.
+     * @return Hex strings
+     */
+    public CompletionStage<Map<Digests, String>> hex() {
+        return this.bytes().thenApply(
+            bytes -> {
+                final Map<Digests, String> res = new EnumMap<>(Digests.class);
+                bytes.forEach((alg, dgst) -> res.put(alg, Hex.encodeHexString(dgst)));
+                return res;
+            }
+        );
+    }
+}
@@ -8,6 +8,7 @@ import com.artipie.ArtipieException;
 import com.artipie.asto.ArtipieIOException;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
+import com.artipie.asto.ListResult;
 import com.artipie.asto.Meta;
 import com.artipie.asto.OneTimePublisher;
 import com.artipie.asto.Storage;
@@ -17,6 +18,8 @@ import com.artipie.asto.ext.CompletableFutureSupport;
 import com.artipie.asto.lock.storage.StorageLock;
 import com.jcabi.log.Logger;
 import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
@@ -25,9 +28,11 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -95,8 +100,8 @@ public final class FileStorage implements Storage {
                     } else {
                         dirnamelen = path.toString().length() - prefix.string().length();
                     }
-                    try {
-                        keys = Files.walk(path)
+                    try (Stream<Path> files = Files.walk(path)) {
+                        keys = files
                             .filter(Files::isRegularFile)
                             .map(Path::toString)
                             .map(p -> p.substring(dirnamelen))
@@ -114,16 +119,62 @@ public final class FileStorage implements Storage {
                 } else {
                     keys = Collections.emptyList();
                 }
-                Logger.info(
-                    this,
-                    "Found %d objects by the prefix \"%s\" in %s by %s: %s",
-                    keys.size(), prefix.string(), this.dir, path, keys
+                Logger.debug(
+                    this, "Found %d objects by the prefix \"%s\" in %s",
+                    keys.size(), prefix.string(), this.dir
                 );
                 return keys;
             }
         );
     }
 
+    /**
+     * List one level of directory by {@link Key#DELIMITER}: directory entries are
+     * read lazily with {@link DirectoryStream}, the subtree is not walked.
+     * Other delimiters are not related to directories and are listed by
+     * {@link Storage#list(Key, String)} default implementation.
+     * @param prefix Prefix directory.
+     * @param delimiter Delimiter.
+     * @return Values and sub-directories keys.
+     */
+    @Override
+    public CompletableFuture<ListResult> list(final Key prefix, final String delimiter) {
+        final CompletableFuture<ListResult> res;
+        if (Key.DELIMITER.equals(delimiter)) {
+            res = this.keyPath(prefix).thenApplyAsync(
+                path -> {
+                    final List<Key> files = new ArrayList<>();
+                    final List<Key> dirs = new ArrayList<>();
+                    if (Files.isDirectory(path)) {
+                        try (DirectoryStream<Path> entries = Files.newDirectoryStream(path)) {
+                            for (final Path entry : entries) {
+                                final BasicFileAttributes attrs = Files.readAttributes(
+                                    entry, BasicFileAttributes.class
+                                );
+                                final Key key = new Key.From(
+                                    prefix, entry.getFileName().toString()
+                                );
+                                if (attrs.isDirectory()) {
+                                    dirs.add(key);
+                                } else if (attrs.isRegularFile()) {
+                                    files.add(key);
+                                }
+                            }
+                        } catch (final IOException iex) {
+                            throw new ArtipieIOException(iex);
+                        }
+                        files.sort(Key.CMP_STRING);
+                        dirs.sort(Key.CMP_STRING);
+                    }
+                    return new ListResult.From(files, dirs);
+                }
+            );
+        } else {
+            res = Storage.super.list(prefix, delimiter);
+        }
+        return res;
+    }
+
     @Override
     public CompletableFuture<Void> save(final Key key, final Content content) {
         return this.keyPath(key).thenApplyAsync(
@@ -228,6 +279,34 @@ public final class FileStorage implements Storage {
         return res;
     }
 
+    @Override
+    public CompletableFuture<Content> value(final Key key, final long offset, final long length) {
+        final CompletableFuture<Content> res;
+        if (Key.ROOT.string().equals(key.string())) {
+            res = new CompletableFutureSupport.Failed<Content>(
+                new ArtipieIOException("Unable to load from root")
+            ).get();
+        } else {
+            res = this.metadata(key).thenApply(
+                meta -> meta.read(Meta.OP_SIZE).orElseThrow(
+                    () -> new ArtipieException(
+                        String.format("Size is not available for '%s' key", key.string())
+                    )
+                )
+            ).thenCompose(
+                size -> this.keyPath(key).thenApply(
+                    path -> new Content.OneTime(
+                        new Content.From(
+                            Math.min(length, Math.max(0L, size - offset)),
+                            new RxFile(path).flow(offset, length)
+                        )
+                    )
+                )
+            );
+        }
+        return res;
+    }
+
     @Override
     public <T> CompletionStage<T> exclusively(
         final Key key,
@@ -242,33 +321,28 @@ public final class FileStorage implements Storage {
     }
 
     /**
-     * Removes empty key parts (directories).
+     * Removes empty key parts (directories) up to storage directory.
      * @param target Directory path
      */
     private void deleteEmptyParts(final Path target) {
         final Path dirabs = this.dir.normalize().toAbsolutePath();
-        final Path path = target.normalize().toAbsolutePath();
-        if (!path.toString().startsWith(dirabs.toString()) || dirabs.equals(path)) {
-            return;
-        }
-        if (Files.isDirectory(path)) {
-            boolean again = false;
+        Path path = target.normalize().toAbsolutePath();
+        while (path.startsWith(dirabs) && !dirabs.equals(path)) {
             try {
-                try (Stream<Path> files = Files.list(path)) {
-                    if (!files.findFirst().isPresent()) {
-                        Files.deleteIfExists(path);
-                        again = true;
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(path)) {
+                    if (files.iterator().hasNext()) {
+                        break;
                     }
                 }
-                if (again) {
-                    this.deleteEmptyParts(path.getParent());
-                }
+                Files.deleteIfExists(path);
             } catch (final NoSuchFileException ex) {
-                this.deleteEmptyParts(path.getParent());
-            }
-            catch (final IOException err) {
+                Logger.debug(this, "Directory %s is already deleted", path);
+            } catch (final DirectoryNotEmptyException ex) {
+                break;
+            } catch (final IOException err) {
                 throw new ArtipieIOException(err);
             }
+            path = path.getParent();
         }
     }
 
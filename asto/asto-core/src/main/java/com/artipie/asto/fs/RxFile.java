@@ -9,10 +9,12 @@ import hu.akarnokd.rxjava2.interop.CompletableInterop;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import io.reactivex.subjects.CompletableSubject;
 import io.reactivex.subjects.SingleSubject;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -32,6 +34,11 @@ import org.cqfn.rio.file.File;
  */
 public class RxFile {
 
+    /**
+     * Max size of a chunk read from the file.
+     */
+    private static final int CHUNK = 64 * 1024;
+
     /**
      * The file location of file system.
      */
@@ -59,6 +66,32 @@ public class RxFile {
         return Flowable.fromPublisher(new File(this.file).content());
     }
 
+    /**
+     * Read part of the file content as a flow of bytes. The file is read with
+     * positioned channel reads, bytes before the offset are not read at all.
+     * @param offset Position of the first byte to read
+     * @param length Max number of bytes to read
+     * @return A flow of bytes
+     */
+    public Flowable<ByteBuffer> flow(final long offset, final long length) {
+        return Flowable.<ByteBuffer, FileChannel>generate(
+            () -> FileChannel.open(this.file, StandardOpenOption.READ).position(offset),
+            (chan, emitter) -> {
+                final long remaining = offset + length - chan.position();
+                final ByteBuffer buf = ByteBuffer.allocate(
+                    (int) Math.max(0L, Math.min(RxFile.CHUNK, remaining))
+                );
+                if (remaining <= 0 || chan.read(buf) < 0) {
+                    emitter.onComplete();
+                } else {
+                    buf.flip();
+                    emitter.onNext(buf);
+                }
+            },
+            FileChannel::close
+        ).subscribeOn(Schedulers.io());
+    }
+
     /**
      * Save a flow of bytes to a file.
      *
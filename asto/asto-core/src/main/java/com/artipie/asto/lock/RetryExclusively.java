@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.asto.lock;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Exclusive operation on storage key with retries.
+ * <p>
+ * Storage locks don't wait: {@link Storage#exclusively(Key, Function)} fails at once
+ * if the key is locked by other operation. This operation retries with randomized
+ * exponential backoff while the lock is not acquired. Operation is not retried if it
+ * was started and failed, so it is never performed twice.
+ * </p>
+ *
+ * @since 1.0
+ */
+public final class RetryExclusively {
+
+    /**
+     * Max number of attempts by default.
+     */
+    private static final int MAX_ATTEMPTS = 10;
+
+    /**
+     * First backoff delay in milliseconds by default.
+     */
+    private static final long DELAY = 20;
+
+    /**
+     * Max backoff delay in milliseconds.
+     */
+    private static final long MAX_DELAY = 1000;
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Max number of attempts.
+     */
+    private final int attempts;
+
+    /**
+     * First backoff delay in milliseconds.
+     */
+    private final long delay;
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     */
+    public RetryExclusively(final Storage storage) {
+        this(storage, RetryExclusively.MAX_ATTEMPTS, RetryExclusively.DELAY);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param attempts Max number of attempts.
+     * @param delay First backoff delay in milliseconds.
+     */
+    public RetryExclusively(final Storage storage, final int attempts, final long delay) {
+        this.storage = storage;
+        this.attempts = attempts;
+        this.delay = delay;
+    }
+
+    /**
+     * Perform operation exclusively for the key.
+     *
+     * @param key Key which is scope of operation.
+     * @param operation Operation to be performed exclusively.
+     * @param <T> Operation result type.
+     * @return Result of operation.
+     */
+    public <T> CompletionStage<T> perform(
+        final Key key, final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.attempt(key, operation, 1);
+    }
+
+    /**
+     * Attempt to perform operation.
+     *
+     * @param key Key which is scope of operation.
+     * @param operation Operation to be performed exclusively.
+     * @param num Attempt number.
+     * @param <T> Operation result type.
+     * @return Result of operation.
+     */
+    private <T> CompletableFuture<T> attempt(
+        final Key key, final Function<Storage, CompletionStage<T>> operation, final int num
+    ) {
+        final AtomicBoolean started = new AtomicBoolean();
+        return this.storage.exclusively(
+            key,
+            asto -> {
+                started.set(true);
+                return operation.apply(asto);
+            }
+        ).toCompletableFuture().handle(
+            (res, err) -> {
+                final CompletableFuture<T> next;
+                if (err == null) {
+                    next = CompletableFuture.completedFuture(res);
+                } else if (started.get() || num >= this.attempts) {
+                    next = CompletableFuture.failedFuture(err);
+                } else {
+                    next = CompletableFuture.runAsync(
+                        () -> { },
+                        CompletableFuture.delayedExecutor(
+                            this.backoff(num), TimeUnit.MILLISECONDS
+                        )
+                    ).thenCompose(nothing -> this.attempt(key, operation, num + 1));
+                }
+                return next;
+            }
+        ).thenCompose(Function.identity());
+    }
+
+    /**
+     * Randomized exponential backoff delay, randomization spreads attempts of
+     * contending operations.
+     *
+     * @param num Attempt number.
+     * @return Delay in milliseconds.
+     */
+    private long backoff(final int num) {
+        final long max = Math.min(
+            RetryExclusively.MAX_DELAY, this.delay << Math.min(num - 1, 16)
+        );
+        return max / 2 + ThreadLocalRandom.current().nextLong(max / 2 + 1);
+    }
+}
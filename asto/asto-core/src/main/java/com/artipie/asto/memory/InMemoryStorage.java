@@ -12,24 +12,31 @@ import com.artipie.asto.Meta;
 import com.artipie.asto.OneTimePublisher;
 import com.artipie.asto.Remaining;
 import com.artipie.asto.Storage;
-import com.artipie.asto.UnderLockOperation;
 import com.artipie.asto.ValueNotFoundException;
 import com.artipie.asto.ext.CompletableFutureSupport;
-import com.artipie.asto.lock.storage.StorageLock;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.NavigableMap;
-import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 
 /**
  * Simple implementation of Storage that holds all data in memory.
+ * <p>
+ * Values are kept in concurrent skip list map, so operations on different keys
+ * don't block each other and keys are listed in order. Operations don't block
+ * and are completed in the caller thread, only saving waits for the content.
+ * </p>
  *
  * @since 0.14
  */
@@ -38,54 +45,48 @@ public final class InMemoryStorage implements Storage {
 
     /**
      * Values stored by key strings.
-     * It is package private for avoid using sync methods for operations of storage for benchmarks.
+     * It is package private for avoid using storage operations for benchmarks.
      */
-    final NavigableMap<String, byte[]> data;
+    final ConcurrentNavigableMap<String, byte[]> data;
+
+    /**
+     * Keys locked by {@link #exclusively(Key, Function)} operations.
+     */
+    private final ConcurrentMap<String, Object> locks;
 
     /**
      * Ctor.
      */
     public InMemoryStorage() {
-        this(new TreeMap<>());
+        this(Collections.emptyNavigableMap());
     }
 
     /**
      * Ctor.
-     * @param data Content of storage
+     * @param data Content of storage, it is copied to concurrent map
      */
     InMemoryStorage(final NavigableMap<String, byte[]> data) {
-        this.data = data;
+        this.data = new ConcurrentSkipListMap<>(data);
+        this.locks = new ConcurrentHashMap<>();
     }
 
     @Override
     public CompletableFuture<Boolean> exists(final Key key) {
-        return CompletableFuture.supplyAsync(
-            () -> {
-                synchronized (this.data) {
-                    return this.data.containsKey(key.string());
-                }
-            }
-        );
+        return CompletableFuture.completedFuture(this.data.containsKey(key.string()));
     }
 
     @Override
     public CompletableFuture<Collection<Key>> list(final Key root) {
-        return CompletableFuture.supplyAsync(
-            () -> {
-                synchronized (this.data) {
-                    final String prefix = root.string();
-                    final Collection<Key> keys = new LinkedList<>();
-                    for (final String string : this.data.navigableKeySet().tailSet(prefix)) {
-                        if (string.startsWith(prefix)) {
-                            keys.add(new Key.From(string));
-                        } else {
-                            break;
-                        }
-                    }
-                    return keys;
-                }
+        final String prefix = root.string();
+        final Collection<Key> keys = new ArrayList<>();
+        for (final String string : this.data.tailMap(prefix).keySet()) {
+            if (string.startsWith(prefix)) {
+                keys.add(new Key.From(string));
+            } else {
+                break;
             }
-        );
+        }
+        return CompletableFuture.completedFuture(keys);
     }
 
     @Override
@@ -100,48 +101,59 @@ public final class InMemoryStorage implements Storage {
                 .to(SingleInterop.get())
                 .thenApply(Remaining::new)
                 .thenApply(Remaining::bytes)
-                .thenAccept(
-                    bytes -> {
-                        synchronized (this.data) {
-                            this.data.put(key.string(), bytes);
-                        }
-                    }
-                ).toCompletableFuture();
+                .thenAccept(bytes -> this.data.put(key.string(), bytes))
+                .toCompletableFuture();
         }
         return res;
     }
 
+    /**
+     * Move value. Value is put to destination first and then source is removed only
+     * if it still has the same value, so there is no moment when neither key exists.
+     * Only one of concurrent moves of the same source succeeds, destination of the move
+     * which lost the source is restored.
+     * @param source Source key.
+     * @param destination Destination key.
+     * @return Completion of move operation.
+     */
     @Override
     public CompletableFuture<Void> move(final Key source, final Key destination) {
-        return CompletableFuture.runAsync(
-            () -> {
-                synchronized (this.data) {
-                    final String key = source.string();
-                    if (!this.data.containsKey(key)) {
-                        throw new ArtipieIOException(
-                            String.format("No value for source key: %s", source.string())
-                        );
-                    }
-                    this.data.put(destination.string(), this.data.get(key));
-                    this.data.remove(source.string());
+        final String src = source.string();
+        final String dest = destination.string();
+        final byte[] value = this.data.get(src);
+        boolean moved = value != null;
+        if (moved && !src.equals(dest)) {
+            final byte[] previous = this.data.put(dest, value);
+            moved = this.data.remove(src, value);
+            if (!moved) {
+                if (previous == null) {
+                    this.data.remove(dest, value);
+                } else {
+                    this.data.replace(dest, value, previous);
                 }
             }
-        );
+        }
+        final CompletableFuture<Void> res;
+        if (moved) {
+            res = CompletableFuture.allOf();
+        } else {
+            res = CompletableFuture.failedFuture(
+                new ArtipieIOException(String.format("No value for source key: %s", src))
+            );
+        }
+        return res;
     }
 
     @Override
     public CompletableFuture<? extends Meta> metadata(final Key key) {
-        return CompletableFuture.supplyAsync(
-            () -> {
-                synchronized (this.data) {
-                    if (!this.data.containsKey(key.string())) {
-                        throw new ValueNotFoundException(key);
-                    }
-                    final byte[] content = this.data.get(key.string());
-                    return new MemoryMeta(content.length);
-                }
-            }
-        );
+        final byte[] content = this.data.get(key.string());
+        final CompletableFuture<? extends Meta> res;
+        if (content == null) {
+            res = CompletableFuture.failedFuture(new ValueNotFoundException(key));
+        } else {
+            res = CompletableFuture.completedFuture(new MemoryMeta(content.length));
+        }
+        return res;
     }
 
     @Override
@@ -152,44 +164,90 @@ public final class InMemoryStorage implements Storage {
                 new ArtipieIOException("Unable to load from root")
             ).get();
         } else {
-            res = CompletableFuture.supplyAsync(
-                () -> {
-                    synchronized (this.data) {
-                        final byte[] content = this.data.get(key.string());
-                        if (content == null) {
-                            throw new ValueNotFoundException(key);
-                        }
-                        return new Content.OneTime(new Content.From(content));
-                    }
-                }
-            );
+            final byte[] content = this.data.get(key.string());
+            if (content == null) {
+                res = CompletableFuture.failedFuture(new ValueNotFoundException(key));
+            } else {
+                res = CompletableFuture.completedFuture(
+                    new Content.OneTime(new Content.From(content))
+                );
+            }
         }
         return res;
     }
 
     @Override
-    public CompletableFuture<Void> delete(final Key key) {
-        return CompletableFuture.runAsync(
-            () -> {
-                synchronized (this.data) {
-                    final String str = key.string();
-                    if (!this.data.containsKey(str)) {
-                        throw new ArtipieIOException(
-                            String.format("Key does not exist: %s", str)
-                        );
-                    }
-                    this.data.remove(str);
-                }
+    public CompletableFuture<Content> value(final Key key, final long offset, final long length) {
+        final CompletableFuture<Content> res;
+        if (Key.ROOT.equals(key)) {
+            res = new CompletableFutureSupport.Failed<Content>(
+                new ArtipieIOException("Unable to load from root")
+            ).get();
+        } else {
+            final byte[] content = this.data.get(key.string());
+            if (content == null) {
+                res = CompletableFuture.failedFuture(new ValueNotFoundException(key));
+            } else {
+                final int from = (int) Math.min(offset, content.length);
+                res = CompletableFuture.completedFuture(
+                    new Content.OneTime(
+                        new Content.From(
+                            Arrays.copyOfRange(
+                                content, from, (int) Math.min(from + length, content.length)
+                            )
+                        )
+                    )
+                );
             }
-        );
+        }
+        return res;
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        final String str = key.string();
+        final CompletableFuture<Void> res;
+        if (this.data.remove(str) == null) {
+            res = CompletableFuture.failedFuture(
+                new ArtipieIOException(String.format("Key does not exist: %s", str))
+            );
+        } else {
+            res = CompletableFuture.allOf();
+        }
+        return res;
     }
 
+    /**
+     * Run operation under in-memory lock of the key. Operation fails if the key
+     * is already locked by other operation, as with storage lock.
+     * @param key Key.
+     * @param operation Operation to be performed exclusively.
+     * @param <T> Operation result type.
+     * @return Operation result.
+     */
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public <T> CompletionStage<T> exclusively(
         final Key key,
         final Function<Storage, CompletionStage<T>> operation
     ) {
-        return new UnderLockOperation<>(new StorageLock(this, key), operation).perform(this);
+        final String name = key.string();
+        final Object owner = new Object();
+        final CompletableFuture<T> res;
+        if (this.locks.putIfAbsent(name, owner) == null) {
+            CompletableFuture<T> result;
+            try {
+                result = operation.apply(this).toCompletableFuture();
+            } catch (final Throwable throwable) {
+                result = CompletableFuture.failedFuture(throwable);
+            }
+            res = result.whenComplete((value, err) -> this.locks.remove(name, owner));
+        } else {
+            res = CompletableFuture.failedFuture(
+                new ArtipieIOException(String.format("Failed to acquire lock: %s", name))
+            );
+        }
+        return res;
     }
 
     /**
@@ -7,6 +7,7 @@ package com.artipie.asto.test;
 import com.artipie.asto.ArtipieIOException;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
+import com.artipie.asto.ListResult;
 import com.artipie.asto.Storage;
 import com.artipie.asto.SubStorage;
 import com.artipie.asto.ValueNotFoundException;
@@ -272,6 +273,57 @@ public abstract class StorageWhiteboxVerification {
         );
     }
 
+    @Test
+    @Timeout(1)
+    public void saveAndLoad_shouldLoadRange() throws Exception {
+        this.execute(
+            pair -> {
+                final Storage storage = pair.getValue();
+                final Key key = new Key.From("shouldLoadRange");
+                storage.save(key, new Content.From("0123456789".getBytes())).get();
+                final Content range = storage.value(key, 2, 5).get();
+                MatcherAssert.assertThat(
+                    pair.getKey(),
+                    range.size(),
+                    new IsEqual<>(Optional.of(5L))
+                );
+                MatcherAssert.assertThat(
+                    pair.getKey(),
+                    new String(range.asBytes()),
+                    new IsEqual<>("23456")
+                );
+            }
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    public void saveAndLoad_shouldLoadRangeFromMultipleBuffers() throws Exception {
+        this.execute(
+            pair -> {
+                final Storage storage = pair.getValue();
+                final Key key = new Key.From("shouldLoadRangeFromMultipleBuffers");
+                storage.save(
+                    key,
+                    new Content.OneTime(
+                        new Content.From(
+                            Flowable.fromArray(
+                                ByteBuffer.wrap("abc".getBytes()),
+                                ByteBuffer.wrap("def".getBytes()),
+                                ByteBuffer.wrap("ghi".getBytes())
+                            )
+                        )
+                    )
+                ).get();
+                MatcherAssert.assertThat(
+                    pair.getKey(),
+                    new String(storage.value(key, 4, 5).get().asBytes()),
+                    new IsEqual<>("efghi")
+                );
+            }
+        );
+    }
+
     @Test
     public void saveAndLoad_saveDoesNotSupportRootKey() throws Exception {
         this.execute(
@@ -620,6 +672,58 @@ public abstract class StorageWhiteboxVerification {
         );
     }
 
+    @Test
+    public void list_shouldListOneLevelByDelimiter() throws Exception {
+        this.execute(
+            pair -> {
+                final BlockingStorage blocking = new BlockingStorage(pair.getValue());
+                final byte[] data = "some data!".getBytes();
+                blocking.save(new Key.From("a", "1"), data);
+                blocking.save(new Key.From("a", "b", "2"), data);
+                blocking.save(new Key.From("a", "b", "c", "3"), data);
+                blocking.save(new Key.From("a", "z", "4"), data);
+                blocking.save(new Key.From("ab", "5"), data);
+                blocking.save(new Key.From("a2"), data);
+                final ListResult res = pair.getValue()
+                    .list(new Key.From("a"), Key.DELIMITER).get();
+                MatcherAssert.assertThat(
+                    pair.getKey(),
+                    res.files().stream().map(Key::string).collect(Collectors.toList()),
+                    Matchers.equalTo(Arrays.asList("a/1"))
+                );
+                MatcherAssert.assertThat(
+                    pair.getKey(),
+                    res.directories().stream().map(Key::string).collect(Collectors.toList()),
+                    Matchers.equalTo(Arrays.asList("a/b", "a/z"))
+                );
+            }
+        );
+    }
+
+    @Test
+    public void list_shouldListOneLevelOfRootByDelimiter() throws Exception {
+        this.execute(
+            pair -> {
+                final BlockingStorage blocking = new BlockingStorage(pair.getValue());
+                final byte[] data = "some data!".getBytes();
+                blocking.save(new Key.From("one", "file.txt"), data);
+                blocking.save(new Key.From("one", "two", "file.txt"), data);
+                blocking.save(new Key.From("another"), data);
+                final ListResult res = pair.getValue().list(Key.ROOT, Key.DELIMITER).get();
+                MatcherAssert.assertThat(
+                    pair.getKey(),
+                    res.files().stream().map(Key::string).collect(Collectors.toList()),
+                    Matchers.contains("another")
+                );
+                MatcherAssert.assertThat(
+                    pair.getKey(),
+                    res.directories().stream().map(Key::string).collect(Collectors.toList()),
+                    Matchers.contains("one")
+                );
+            }
+        );
+    }
+
     @Test
     @Timeout(2)
     public void move_shouldMove() throws Exception {
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.asto;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link ContentRange}.
+ *
+ * @since 1.16
+ */
+final class ContentRangeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "0,9,012345678",
+        "2,3,234",
+        "3,6,345678",
+        "8,10,89",
+        "4,0,''",
+        "12,3,''"
+    })
+    void readsRange(final long offset, final long length, final String expected) {
+        MatcherAssert.assertThat(
+            new String(
+                new ContentRange(
+                    new Content.From(
+                        Flowable.fromArray(
+                            ByteBuffer.wrap("012".getBytes(StandardCharsets.US_ASCII)),
+                            ByteBuffer.wrap("345".getBytes(StandardCharsets.US_ASCII)),
+                            ByteBuffer.wrap("6789".getBytes(StandardCharsets.US_ASCII))
+                        )
+                    ),
+                    offset, length
+                ).asBytes(),
+                StandardCharsets.US_ASCII
+            ),
+            new IsEqual<>(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0,5,5",
+        "3,10,7",
+        "10,2,0"
+    })
+    void computesSize(final long offset, final long length, final long expected) {
+        MatcherAssert.assertThat(
+            new ContentRange(new Content.From(new byte[10]), offset, length).size(),
+            new IsEqual<>(Optional.of(expected))
+        );
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.asto.ext;
+
+import com.artipie.asto.Content;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ContentDigests}.
+ *
+ * @since 1.0
+ */
+final class ContentDigestsTest {
+
+    @Test
+    void calculatesAllDigestsInOnePass() throws Exception {
+        MatcherAssert.assertThat(
+            new ContentDigests(
+                new Content.OneTime(
+                    new Content.From(
+                        Flowable.fromArray(
+                            ByteBuffer.wrap("a".getBytes(StandardCharsets.US_ASCII)),
+                            ByteBuffer.wrap("bc".getBytes(StandardCharsets.US_ASCII))
+                        )
+                    )
+                ),
+                Digests.SHA256, Digests.SHA1, Digests.MD5
+            ).hex().toCompletableFuture().get(),
+            Matchers.equalTo(
+                Map.of(
+                    Digests.SHA256,
+                    "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                    Digests.SHA1, "a9993e364706816aba3e25717850c26c9cd0d89d",
+                    Digests.MD5, "900150983cd24fb0d6963f7d28e17f72"
+                )
+            )
+        );
+    }
+
+    @Test
+    void calculatesDigestsOfEmptyContent() throws Exception {
+        MatcherAssert.assertThat(
+            new ContentDigests(Content.EMPTY, Digests.MD5).hex().toCompletableFuture().get(),
+            Matchers.hasEntry(Digests.MD5, "d41d8cd98f00b204e9800998ecf8427e")
+        );
+    }
+}
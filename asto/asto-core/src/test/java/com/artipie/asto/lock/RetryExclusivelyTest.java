@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.asto.lock;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Key;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Test cases for {@link RetryExclusively}.
+ *
+ * @since 1.0
+ */
+@Timeout(5)
+final class RetryExclusivelyTest {
+
+    @Test
+    void waitsForLockedKey() throws Exception {
+        final InMemoryStorage storage = new InMemoryStorage();
+        final Key key = new Key.From("locked");
+        final CompletableFuture<Void> first = new CompletableFuture<>();
+        final CompletableFuture<Void> holder = storage.exclusively(key, asto -> first)
+            .toCompletableFuture();
+        final CompletableFuture<Boolean> second = new RetryExclusively(storage)
+            .perform(key, asto -> CompletableFuture.completedFuture(true))
+            .toCompletableFuture();
+        TimeUnit.MILLISECONDS.sleep(50);
+        MatcherAssert.assertThat(
+            "Operation was performed while key is locked",
+            second.isDone(), Matchers.is(false)
+        );
+        first.complete(null);
+        holder.join();
+        MatcherAssert.assertThat(second.get(3, TimeUnit.SECONDS), Matchers.is(true));
+    }
+
+    @Test
+    void doesNotRetryFailedOperation() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletionException err = Assertions.assertThrows(
+            CompletionException.class,
+            () -> new RetryExclusively(new InMemoryStorage()).perform(
+                new Key.From("failing"),
+                asto -> {
+                    calls.incrementAndGet();
+                    return CompletableFuture.failedFuture(new IllegalStateException());
+                }
+            ).toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(err.getCause(), Matchers.isA(IllegalStateException.class));
+        MatcherAssert.assertThat(calls.get(), Matchers.is(1));
+    }
+
+    @Test
+    void failsWhenLockIsNotReleased() {
+        final InMemoryStorage storage = new InMemoryStorage();
+        final Key key = new Key.From("busy");
+        storage.exclusively(key, asto -> new CompletableFuture<>());
+        final CompletionException err = Assertions.assertThrows(
+            CompletionException.class,
+            () -> new RetryExclusively(storage, 3, 1)
+                .perform(key, asto -> CompletableFuture.allOf())
+                .toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(err.getCause(), Matchers.isA(ArtipieIOException.class));
+    }
+}
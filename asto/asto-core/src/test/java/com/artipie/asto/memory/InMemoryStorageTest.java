@@ -4,11 +4,22 @@
  */
 package com.artipie.asto.memory;
 
+import com.artipie.asto.ArtipieIOException;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -47,4 +58,96 @@ class InMemoryStorageTest {
             new IsEqual<>(false)
         );
     }
+
+    @Test
+    void savesConcurrentlyAndListsInOrder() throws Exception {
+        final ExecutorService exec = Executors.newFixedThreadPool(8);
+        try {
+            final List<CompletableFuture<Void>> saves = new ArrayList<>(100);
+            for (int idx = 0; idx < 100; ++idx) {
+                final Key key = new Key.From("items", String.format("%03d", idx));
+                saves.add(
+                    CompletableFuture.supplyAsync(
+                        () -> this.storage.save(key, new Content.From(new byte[]{1})), exec
+                    ).thenCompose(future -> future)
+                );
+            }
+            CompletableFuture.allOf(saves.toArray(new CompletableFuture[0]))
+                .get(5, TimeUnit.SECONDS);
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            this.storage.list(new Key.From("items")).join().stream()
+                .map(Key::string).collect(Collectors.toList()),
+            Matchers.equalTo(
+                IntStream.range(0, 100).mapToObj(idx -> String.format("items/%03d", idx))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void movesSourceOnlyOnce() {
+        final Key source = new Key.From("source");
+        this.storage.save(source, new Content.From(new byte[]{1})).join();
+        this.storage.move(source, new Key.From("first")).join();
+        Assertions.assertThrows(
+            CompletionException.class,
+            () -> this.storage.move(source, new Key.From("second")).join()
+        );
+        MatcherAssert.assertThat(
+            this.storage.list(Key.ROOT).join().stream()
+                .map(Key::string).collect(Collectors.toList()),
+            Matchers.contains("first")
+        );
+    }
+
+    @Test
+    void movesSourceToOneOfConcurrentDestinations() {
+        final Key source = new Key.From("source");
+        this.storage.save(source, new Content.From(new byte[]{1})).join();
+        final long moved = IntStream.range(0, 8).parallel().mapToObj(
+            num -> this.storage.move(source, new Key.From(String.format("dest-%d", num)))
+                .handle((nothing, err) -> err == null)
+                .join()
+        ).filter(Boolean::booleanValue).count();
+        MatcherAssert.assertThat("Source was moved more than once", moved, new IsEqual<>(1L));
+        MatcherAssert.assertThat(
+            "Only one destination should exist",
+            this.storage.list(Key.ROOT).join().size(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void keepsValueMovedToItself() {
+        final Key key = new Key.From("self");
+        this.storage.save(key, new Content.From(new byte[]{1})).join();
+        this.storage.move(key, key).join();
+        MatcherAssert.assertThat(this.storage.exists(key).join(), new IsEqual<>(true));
+    }
+
+    @Test
+    void releasesExclusiveKeyWhenOperationIsDone() {
+        final Key key = new Key.From("locked");
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        final CompletableFuture<Void> first = this.storage.exclusively(key, sto -> done)
+            .toCompletableFuture();
+        final CompletionException err = Assertions.assertThrows(
+            CompletionException.class,
+            () -> this.storage.exclusively(key, sto -> CompletableFuture.allOf())
+                .toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(
+            err.getCause(), Matchers.instanceOf(ArtipieIOException.class)
+        );
+        done.complete(null);
+        first.join();
+        MatcherAssert.assertThat(
+            this.storage.exclusively(key, sto -> CompletableFuture.completedFuture(true))
+                .toCompletableFuture().join(),
+            Matchers.is(true)
+        );
+    }
 }
@@ -11,6 +11,8 @@ import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
@@ -56,6 +58,22 @@ final class Bucket {
         return this.client.uploadPart(request.copy(original -> original.bucket(this.name)), body);
     }
 
+    /**
+     * Handles {@link UploadPartCopyRequest}, object is copied within the bucket.
+     * See {@link S3AsyncClient#uploadPartCopy(UploadPartCopyRequest)}
+     *
+     * @param request Request to bucket.
+     * @return Response to request.
+     */
+    public CompletableFuture<UploadPartCopyResponse> uploadPartCopy(
+        final UploadPartCopyRequest request) {
+        return this.client.uploadPartCopy(
+            request.copy(
+                original -> original.sourceBucket(this.name).destinationBucket(this.name)
+            )
+        );
+    }
+
     /**
      * Handles {@link CompleteMultipartUploadRequest}.
      * See {@link S3AsyncClient#completeMultipartUpload(CompleteMultipartUploadRequest)}
@@ -14,6 +14,7 @@ import io.reactivex.Observable;
 import java.nio.ByteBuffer;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -24,6 +25,7 @@ import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
@@ -41,6 +43,11 @@ final class MultipartUpload {
      */
     private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
 
+    /**
+     * Size of a part copied from another object, it has to be less than 5 GB.
+     */
+    private static final long COPY_PART_SIZE = 1024L * 1024 * 1024;
+
     /**
      * Bucket.
      */
@@ -105,6 +112,42 @@ final class MultipartUpload {
         }).serialize().count().to(SingleInterop.get()).thenApply(count -> (Void)null);
     }
 
+    /**
+     * Copies all content of another object of the bucket by parts on server side.
+     * Parts are copied one by one, same as uploaded parts.
+     *
+     * @param source Source object key.
+     * @param size Source object size.
+     * @return Completion stage which is completed when all parts are copied.
+     */
+    public CompletionStage<Void> copy(final Key source, final long size) {
+        CompletionStage<Void> res = CompletableFuture.allOf();
+        int pnum = 0;
+        for (long start = 0; start < size; start += MultipartUpload.COPY_PART_SIZE) {
+            pnum += 1;
+            final int part = pnum;
+            final String range = String.format(
+                "bytes=%d-%d", start, Math.min(start + MultipartUpload.COPY_PART_SIZE, size) - 1
+            );
+            res = res.thenCompose(
+                nothing -> this.bucket.uploadPartCopy(
+                    UploadPartCopyRequest.builder()
+                        .sourceKey(source.string())
+                        .destinationKey(this.key.string())
+                        .uploadId(this.id)
+                        .partNumber(part)
+                        .copySourceRange(range)
+                        .build()
+                ).thenAccept(
+                    response -> this.parts.add(
+                        new UploadedPart(part, response.copyPartResult().eTag())
+                    )
+                )
+            );
+        }
+        return res;
+    }
+
     /**
      * Completes the upload.
      *
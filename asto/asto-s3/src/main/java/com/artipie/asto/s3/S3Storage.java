@@ -55,6 +55,11 @@ public final class S3Storage implements Storage {
      */
     private static final long MIN_MULTIPART = 10 * 1024 * 1024;
 
+    /**
+     * Max object size to copy with single copy request.
+     */
+    private static final long MAX_COPY = 5L * 1024 * 1024 * 1024;
+
     /**
      * S3 client.
      */
@@ -169,13 +174,25 @@ public final class S3Storage implements Storage {
 
     @Override
     public CompletableFuture<Void> move(final Key source, final Key destination) {
-        return this.client.copyObject(
-            CopyObjectRequest.builder()
-                .sourceBucket(this.bucket)
-                .sourceKey(source.string())
-                .destinationBucket(this.bucket)
-                .destinationKey(destination.string())
-                .build()
+        return this.metadata(source).thenApply(
+            meta -> meta.read(Meta.OP_SIZE).map(Long.class::cast).orElse(0L)
+        ).thenCompose(
+            size -> {
+                final CompletableFuture<Void> res;
+                if (size > S3Storage.MAX_COPY) {
+                    res = this.copyMultipart(source, destination, size);
+                } else {
+                    res = this.client.copyObject(
+                        CopyObjectRequest.builder()
+                            .sourceBucket(this.bucket)
+                            .sourceKey(source.string())
+                            .destinationBucket(this.bucket)
+                            .destinationKey(destination.string())
+                            .build()
+                    ).thenApply(ignored -> null);
+                }
+                return res;
+            }
         ).thenCompose(
             copied -> this.client.deleteObject(
                 DeleteObjectRequest.builder()
@@ -224,6 +241,34 @@ public final class S3Storage implements Storage {
             .thenApply(Content.OneTime::new);
     }
 
+    @Override
+    public CompletableFuture<Content> value(final Key key, final long offset, final long length) {
+        final CompletableFuture<Content> res;
+        if (length <= 0) {
+            res = CompletableFuture.completedFuture(Content.EMPTY);
+        } else {
+            final CompletableFuture<Content> promise = new CompletableFuture<>();
+            this.client.getObject(
+                GetObjectRequest.builder()
+                    .bucket(this.bucket)
+                    .key(key.string())
+                    .range(String.format("bytes=%d-%d", offset, offset + length - 1))
+                    .build(),
+                new ResponseAdapter(promise)
+            );
+            res = promise
+                .handle(
+                    new InternalExceptionHandle<>(
+                        NoSuchKeyException.class,
+                        cause -> new ValueNotFoundException(key, cause)
+                    )
+                )
+                .thenCompose(Function.identity())
+                .thenApply(Content.OneTime::new);
+        }
+        return res;
+    }
+
     @Override
     public CompletableFuture<Void> delete(final Key key) {
         return this.exists(key).thenCompose(
@@ -286,6 +331,33 @@ public final class S3Storage implements Storage {
      * @return The future.
      */
     private CompletableFuture<Void> putMultipart(final Key key, final Content updated) {
+        return this.multipart(key, upload -> upload.upload(updated));
+    }
+
+    /**
+     * Copies object with multipart upload, objects larger than
+     * {@link #MAX_COPY} can't be copied with single copy request.
+     *
+     * @param source Source key.
+     * @param destination Destination key.
+     * @param size Source object size.
+     * @return The future.
+     */
+    private CompletableFuture<Void> copyMultipart(final Key source, final Key destination,
+        final long size) {
+        return this.multipart(destination, upload -> upload.copy(source, size));
+    }
+
+    /**
+     * Creates multipart upload, uploads parts and completes the upload,
+     * the upload is aborted if parts uploading fails.
+     *
+     * @param key The key of value to be saved.
+     * @param parts Parts uploading.
+     * @return The future.
+     */
+    private CompletableFuture<Void> multipart(final Key key,
+        final Function<MultipartUpload, CompletionStage<Void>> parts) {
         return this.client.createMultipartUpload(
             CreateMultipartUploadRequest.builder()
                 .bucket(this.bucket)
@@ -298,7 +370,7 @@ public final class S3Storage implements Storage {
                 created.uploadId()
             )
         ).thenCompose(
-            upload -> upload.upload(updated).handle(
+            upload -> parts.apply(upload).handle(
                 (ignored, throwable) -> {
                     final CompletionStage<Void> finished;
                     if (throwable == null) {
@@ -7,6 +7,7 @@ package com.artipie.composer;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.lock.RetryExclusively;
 import com.artipie.composer.http.Archive;
 
 import javax.json.Json;
@@ -15,9 +16,9 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
@@ -30,6 +31,11 @@ public final class AstoRepository implements Repository {
      */
     public static final Key ALL_PACKAGES = new AllPackages();
 
+    /**
+     * Root packages.json `metadata-url` field name.
+     */
+    private static final String METADATA_URL = "metadata-url";
+
     /**
      * The storage.
      */
@@ -40,6 +46,11 @@ public final class AstoRepository implements Repository {
      */
     private final Optional<String> prefix;
 
+    /**
+     * Root packages.json was checked to contain `metadata-url`.
+     */
+    private final AtomicBoolean rooted;
+
     /**
      * Ctor.
      * @param storage Storage to store all repository data.
@@ -56,6 +67,7 @@ public final class AstoRepository implements Repository {
     public AstoRepository(final Storage storage, final Optional<String> prefix) {
         this.asto = storage;
         this.prefix = prefix;
+        this.rooted = new AtomicBoolean(false);
     }
 
     @Override
@@ -65,79 +77,29 @@ public final class AstoRepository implements Repository {
 
     @Override
     public CompletionStage<Optional<Packages>> packages(final Name name) {
-        return this.packages(name.key());
+        return this.packages(name.key(), name.legacyKey());
     }
 
     @Override
     public CompletableFuture<Void> addJson(final Content content, final Optional<String> vers) {
-        final Key key = new Key.From(UUID.randomUUID().toString());
-        return this.asto.save(key, content).thenCompose(
-            nothing -> this.asto.value(key)
-                .thenCompose(Content::asBytesFuture)
-                .thenCompose(bytes -> {
-                    final Package pack = new JsonPackage(bytes);
-                    return CompletableFuture.allOf(
-                        this.packages().thenCompose(
-                            packages -> packages.orElse(new JsonPackages())
-                                .add(pack, vers)
-                                .thenCompose(
-                                    pkgs -> pkgs.save(
-                                        this.asto, AstoRepository.ALL_PACKAGES
-                                    )
-                                )
-                        ).toCompletableFuture(),
-                        pack.name().thenCompose(
-                            name -> this.packages(name).thenCompose(
-                                packages -> packages.orElse(new JsonPackages())
-                                    .add(pack, vers)
-                                    .thenCompose(
-                                        pkgs -> pkgs.save(this.asto, name.key())
-                                    )
-                            )
-                        ).toCompletableFuture()
-                    ).thenCompose(
-                        ignored -> this.asto.delete(key)
-                    );
-                })
+        return content.asBytesFuture().thenCompose(
+            bytes -> this.add(new JsonPackage(bytes), vers)
         );
     }
 
     @Override
     public CompletableFuture<Void> addArchive(final Archive archive, final Content content) {
         final Key key = archive.name().artifact();
-        final Key rand = new Key.From(UUID.randomUUID().toString());
-        final Key tmp = new Key.From(rand, archive.name().full());
         return this.asto.save(key, content)
+            .thenCompose(nothing -> this.asto.value(key))
+            .thenCompose(archive::composerFrom)
             .thenCompose(
-                nothing -> this.asto.value(key)
-                    .thenCompose(
-                        cont -> archive.composerFrom(cont)
-                            .thenApply(
-                                compos -> AstoRepository.addVersion(compos, archive.name())
-                            ).thenCombine(
-                                this.asto.value(key),
-                                (compos, cnt) -> archive.replaceComposerWith(
-                                    cnt,
-                                    compos.toString()
-                                        .getBytes(StandardCharsets.UTF_8)
-                                ).thenCompose(arch -> this.asto.save(tmp, arch))
-                                .thenCompose(noth -> this.asto.delete(key))
-                                .thenCompose(noth -> this.asto.move(tmp, key))
-                                .thenCombine(
-                                    this.packages(),
-                                    (noth, packages) -> packages.orElse(new JsonPackages())
-                                        .add(
-                                            new JsonPackage(this.addDist(compos, key)),
-                                            Optional.empty()
-                                        )
-                                        .thenCompose(
-                                            pkgs -> pkgs.save(
-                                                this.asto, AstoRepository.ALL_PACKAGES
-                                            )
-                                        )
-                                ).thenCompose(Function.identity())
-                            ).thenCompose(Function.identity())
-                    )
+                compos -> this.add(
+                    new JsonPackage(
+                        this.addDist(AstoRepository.addVersion(compos, archive.name()), key)
+                    ),
+                    Optional.empty()
+                )
             );
     }
 
@@ -218,6 +180,117 @@ public final class AstoRepository implements Repository {
         }
     }
 
+    /**
+     * Adds package version to `p2/{vendor}/{package}.json` metadata, or to
+     * `p2/{vendor}/{package}~dev.json` for dev versions. Metadata file is updated
+     * under the lock of this file only, root `packages.json` is created once
+     * with `metadata-url` pointing to per-package files. Metadata of the package
+     * stored by previous versions in `{vendor}/{package}.json` is kept in new file.
+     * @param pack Package
+     * @param vers Version in case of absence version in package
+     * @return Completion of adding package
+     */
+    private CompletableFuture<Void> add(final Package pack, final Optional<String> vers) {
+        return pack.name().thenCombine(
+            pack.version(vers),
+            (name, version) -> {
+                final Key key;
+                if (version.map(AstoRepository::dev).orElse(false)) {
+                    key = name.devKey();
+                } else {
+                    key = name.key();
+                }
+                return new RetryExclusively(this.asto).perform(
+                    key,
+                    asto -> this.packages(key, name.legacyKey()).thenCompose(
+                        packages -> packages.orElse(new JsonPackages()).add(pack, vers)
+                    ).thenCompose(pkgs -> pkgs.save(asto, key))
+                );
+            }
+        ).thenCompose(Function.identity())
+            .thenCompose(nothing -> this.root())
+            .toCompletableFuture();
+    }
+
+    /**
+     * Makes sure root `packages.json` contains `metadata-url`. Packages listed in
+     * existing root file by previous versions are kept there.
+     * @return Completion action
+     */
+    private CompletionStage<Void> root() {
+        final CompletionStage<Void> res;
+        if (this.rooted.get()) {
+            res = CompletableFuture.allOf();
+        } else {
+            res = new RetryExclusively(this.asto).perform(
+                AstoRepository.ALL_PACKAGES,
+                asto -> this.packages(AstoRepository.ALL_PACKAGES).thenCompose(
+                    packages -> packages.map(Packages::content)
+                        .orElseGet(() -> new JsonPackages().content())
+                ).thenCompose(Content::asJsonObjectFuture).thenCompose(
+                    json -> {
+                        final CompletionStage<Void> save;
+                        if (json.containsKey(AstoRepository.METADATA_URL)) {
+                            save = CompletableFuture.allOf();
+                        } else {
+                            save = asto.save(
+                                AstoRepository.ALL_PACKAGES,
+                                new Content.From(
+                                    Json.createObjectBuilder(json)
+                                        .add(AstoRepository.METADATA_URL, this.metadataUrl())
+                                        .build().toString().getBytes(StandardCharsets.UTF_8)
+                                )
+                            );
+                        }
+                        return save;
+                    }
+                )
+            ).thenAccept(nothing -> this.rooted.set(true));
+        }
+        return res;
+    }
+
+    /**
+     * Metadata url template with repository path.
+     * @return Url template
+     */
+    private String metadataUrl() {
+        return String.format(
+            "%s/p2/%%package%%.json",
+            this.prefix.map(url -> URI.create(url).getPath()).orElse("").replaceAll("/$", "")
+        );
+    }
+
+    /**
+     * Is it dev version?
+     * @param version Version
+     * @return True for `dev-*` and `*-dev` versions
+     */
+    private static boolean dev(final String version) {
+        return version.startsWith("dev-") || version.endsWith("-dev");
+    }
+
+    /**
+     * Reads packages description from storage, falls back to legacy location.
+     *
+     * @param key Content location in storage.
+     * @param legacy Content location in storage used by previous versions.
+     * @return Packages found by name, might be empty.
+     */
+    private CompletionStage<Optional<Packages>> packages(final Key key, final Key legacy) {
+        return this.packages(key).thenCompose(
+            packages -> {
+                final CompletionStage<Optional<Packages>> res;
+                if (packages.isPresent() || key.equals(legacy)) {
+                    res = CompletableFuture.completedFuture(packages);
+                } else {
+                    res = this.packages(legacy);
+                }
+                return res;
+            }
+        );
+    }
+
     /**
      * Reads packages description from storage.
      *
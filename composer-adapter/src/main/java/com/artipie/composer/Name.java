@@ -13,6 +13,12 @@ import com.artipie.asto.Key;
  */
 public final class Name {
 
+    /**
+     * Key prefix of packages metadata, see
+     * <a href="https://getcomposer.org/doc/05-repositories.md#metadata-url">metadata-url</a>.
+     */
+    private static final String P2 = "p2";
+
     /**
      * Name string.
      */
@@ -33,6 +39,28 @@ public final class Name {
      * @return Key for package in store.
      */
     public Key key() {
+        return new Key.From(
+            Name.P2, this.vendorPart(), String.format("%s.json", this.packagePart())
+        );
+    }
+
+    /**
+     * Generates key for package dev versions in store.
+     *
+     * @return Key for package dev versions in store.
+     */
+    public Key devKey() {
+        return new Key.From(
+            Name.P2, this.vendorPart(), String.format("%s~dev.json", this.packagePart())
+        );
+    }
+
+    /**
+     * Key of package in store used before metadata was moved to {@link #key()}.
+     *
+     * @return Legacy key for package in store.
+     */
+    public Key legacyKey() {
         return new Key.From(this.vendorPart(), String.format("%s.json", this.packagePart()));
     }
 
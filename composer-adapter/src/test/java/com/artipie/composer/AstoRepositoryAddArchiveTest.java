@@ -51,10 +51,10 @@ final class AstoRepositoryAddArchiveTest {
     }
 
     @Test
-    void shouldAddPackageToAll() {
+    void shouldAddPackage() {
         this.saveZipArchive();
         MatcherAssert.assertThat(
-            this.packages(new AllPackages())
+            this.packages(new Name("psr/log").key())
                 .getJsonObject("psr/log")
                 .keySet(),
             new IsEqual<>(new SetOf<>(this.name.version()))
@@ -62,20 +62,40 @@ final class AstoRepositoryAddArchiveTest {
     }
 
     @Test
-    void shouldAddPackageToAllWhenOtherVersionExists() {
+    void shouldAddPackageWhenOtherVersionExists() {
         new BlockingStorage(this.storage).save(
-            new AllPackages(),
+            new Name("psr/log").key(),
             "{\"packages\":{\"psr/log\":{\"1.1.2\":{}}}}".getBytes()
         );
         this.saveZipArchive();
         MatcherAssert.assertThat(
-            this.packages(new AllPackages())
+            this.packages(new Name("psr/log").key())
                 .getJsonObject("psr/log")
                 .keySet(),
             new IsEqual<>(new SetOf<>("1.1.2", this.name.version()))
         );
     }
 
+    @Test
+    void shouldAddMetadataUrlWithRepositoryPath() {
+        new AstoRepository(this.storage, Optional.of("http://artipie:8080/php-repo/"))
+            .addArchive(new Archive.Zip(this.name), this.archive).join();
+        MatcherAssert.assertThat(
+            this.storage.value(new AllPackages()).join().asJsonObject()
+                .getString("metadata-url"),
+            new IsEqual<>("/php-repo/p2/%package%.json")
+        );
+    }
+
+    @Test
+    void shouldNotModifyUploadedArchive() {
+        this.saveZipArchive();
+        MatcherAssert.assertThat(
+            this.storage.value(new Key.From("artifacts", this.name.full())).join().asBytes(),
+            new IsEqual<>(new TestResource("log-1.1.3.zip").asBytes())
+        );
+    }
+
     @Test
     void shouldAddArchive() {
         this.saveZipArchive();
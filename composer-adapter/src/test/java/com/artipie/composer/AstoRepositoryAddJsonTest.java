@@ -12,8 +12,10 @@ import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.asto.test.TestResource;
 import java.io.ByteArrayInputStream;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
@@ -59,20 +61,23 @@ class AstoRepositoryAddJsonTest {
     }
 
     @Test
-    void shouldAddPackageToAll() throws Exception {
+    void shouldAddMetadataUrlToAll() throws Exception {
         this.addJsonToAsto(this.packageJson(), Optional.empty());
-        final Name name = this.pack.name()
-            .toCompletableFuture().join();
+        final JsonObject all = this.json(new AllPackages());
         MatcherAssert.assertThat(
-            this.packages(new AllPackages())
-                .getJsonObject(name.string())
-                .keySet(),
-            new IsEqual<>(new SetOf<>(this.version))
+            "Root packages should point to per-package metadata",
+            all.getString("metadata-url"),
+            new IsEqual<>("/p2/%package%.json")
+        );
+        MatcherAssert.assertThat(
+            "Root packages should not list added package",
+            all.getJsonObject("packages").keySet(),
+            Matchers.empty()
         );
     }
 
     @Test
-    void shouldAddPackageToAllWhenOtherVersionExists() throws Exception {
+    void shouldKeepExistingPackagesInAll() throws Exception {
         new BlockingStorage(this.storage).save(
             new AllPackages(),
             "{\"packages\":{\"vendor/package\":{\"2.0\":{}}}}".getBytes()
@@ -82,7 +87,26 @@ class AstoRepositoryAddJsonTest {
             this.packages(new AllPackages())
                 .getJsonObject("vendor/package")
                 .keySet(),
-            new IsEqual<>(new SetOf<>("2.0", this.version))
+            new IsEqual<>(new SetOf<>("2.0"))
+        );
+    }
+
+    @Test
+    void shouldAddDevVersionToDevPackage() {
+        final Name name = new Name("vendor/package");
+        this.addJsonToAsto(
+            new Content.From(new TestResource("package-without-version.json").asBytes()),
+            Optional.of("dev-master")
+        );
+        MatcherAssert.assertThat(
+            "Dev version should be added to dev metadata",
+            this.packages(name.devKey()).getJsonObject(name.string()).keySet(),
+            new IsEqual<>(new SetOf<>("dev-master"))
+        );
+        MatcherAssert.assertThat(
+            "Stable metadata should not be created for dev version",
+            this.storage.exists(name.key()).join(),
+            new IsEqual<>(false)
         );
     }
 
@@ -114,6 +138,42 @@ class AstoRepositoryAddJsonTest {
         );
     }
 
+    @Test
+    void shouldKeepVersionsStoredInLegacyLocation() throws Exception {
+        final Name name = this.pack.name()
+            .toCompletableFuture().join();
+        new BlockingStorage(this.storage).save(
+            name.legacyKey(),
+            "{\"packages\":{\"vendor/package\":{\"1.1.0\":{}}}}".getBytes()
+        );
+        this.addJsonToAsto(this.packageJson(), Optional.empty());
+        MatcherAssert.assertThat(
+            this.packages(name.key()).getJsonObject(name.string()).keySet(),
+            new IsEqual<>(new SetOf<>("1.1.0", this.version))
+        );
+    }
+
+    @Test
+    void shouldAddPackagesConcurrently() {
+        final AstoRepository repo = new AstoRepository(this.storage);
+        final int count = 10;
+        CompletableFuture.allOf(
+            IntStream.range(0, count).mapToObj(
+                idx -> repo.addJson(
+                    new Content.From(
+                        new TestResource("package-without-version.json").asBytes()
+                    ),
+                    Optional.of(String.format("1.0.%d", idx))
+                )
+            ).toArray(CompletableFuture[]::new)
+        ).join();
+        MatcherAssert.assertThat(
+            this.packages(new Name("vendor/package").key())
+                .getJsonObject("vendor/package").keySet(),
+            Matchers.hasSize(count)
+        );
+    }
+
     @Test
     void shouldDeleteSourceAfterAdding() throws Exception {
         this.addJsonToAsto(this.packageJson(), Optional.empty());
@@ -121,7 +181,7 @@ class AstoRepositoryAddJsonTest {
             this.storage.list(Key.ROOT).join().stream()
                 .map(Key::string)
                 .collect(Collectors.toList()),
-            Matchers.contains("packages.json", "vendor/package.json")
+            Matchers.contains("p2/vendor/package.json", "packages.json")
         );
     }
 
@@ -163,12 +223,16 @@ class AstoRepositoryAddJsonTest {
     }
 
     private JsonObject packages(final Key key) {
+        return this.json(key).getJsonObject("packages");
+    }
+
+    private JsonObject json(final Key key) {
         final JsonObject saved;
         final byte[] bytes = new BlockingStorage(this.storage).value(key);
         try (JsonReader reader = Json.createReader(new ByteArrayInputStream(bytes))) {
             saved = reader.readObject();
         }
-        return saved.getJsonObject("packages");
+        return saved;
     }
 
     private void addJsonToAsto(final Content json, final Optional<String> vers) {
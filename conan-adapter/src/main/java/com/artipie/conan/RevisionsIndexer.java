@@ -76,6 +76,8 @@ public class RevisionsIndexer {
                 final Key revkey = new Key.From(key.string(), RevisionsIndexer.INDEX_FILE);
                 return this.storage.save(
                     new Key.From(revkey), new RevContent(builder.build()).toContent()
+                ).thenCompose(
+                    nothing -> new SearchIndex(this.storage).indexed(key, revs)
                 ).thenApply(nothing -> revs);
             });
     }
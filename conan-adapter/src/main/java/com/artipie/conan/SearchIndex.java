@@ -0,0 +1,601 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package  com.artipie.conan;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.lock.RetryExclusively;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import org.ini4j.Wini;
+
+/**
+ * Conan search index: list of package recipes and binary packages info of every recipe.
+ * Recipes list is stored in `.search/recipes.txt`, binary packages of the recipe are stored
+ * in `.search/{recipe}/packages.json` as `conaninfo.txt` contents in json format by package
+ * hash. Index is updated on files upload and revisions indexing, it's built from repository
+ * storage once if index file does not exist.
+ * Recipe is identified by storage path `name/version/user/channel`.
+ * @since 0.1
+ */
+public final class SearchIndex {
+
+    /**
+     * Search index root key.
+     */
+    public static final Key ROOT = new Key.From(".search");
+
+    /**
+     * Recipes list key.
+     */
+    private static final Key RECIPES = new Key.From(SearchIndex.ROOT, "recipes.txt");
+
+    /**
+     * Binary packages index file name.
+     */
+    private static final String PACKAGES = "packages.json";
+
+    /**
+     * File with binary package information on corresponding build configuration.
+     */
+    private static final String CONAN_INFO = "conaninfo.txt";
+
+    /**
+     * Package recipe (sources) subdir name.
+     */
+    private static final String SRC_SUBDIR = "export";
+
+    /**
+     * Package binaries subdir name.
+     */
+    private static final String BIN_SUBDIR = "package";
+
+    /**
+     * Number of recipe path parts.
+     */
+    private static final int RECIPE_PARTS = 4;
+
+    /**
+     * Empty user and channel suffix of recipe path.
+     */
+    private static final String NO_USER = "/_/_";
+
+    /**
+     * Current Artipie storage instance.
+     */
+    private final Storage storage;
+
+    /**
+     * Initializes new instance.
+     * @param storage Current Artipie storage instance.
+     */
+    public SearchIndex(final Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Updates index on file upload: recipe is added on recipe files upload,
+     * binary package is added on `conaninfo.txt` upload.
+     * @param key Uploaded file key.
+     * @return CompletionStage for this operation.
+     */
+    public CompletionStage<Void> uploaded(final Key key) {
+        final String[] parts = key.string().split("/");
+        final String recipe = SearchIndex.recipe(parts);
+        final CompletionStage<Void> res;
+        if (parts.length > SearchIndex.RECIPE_PARTS + 2
+            && SearchIndex.SRC_SUBDIR.equals(parts[SearchIndex.RECIPE_PARTS + 1])) {
+            res = this.addRecipe(recipe);
+        } else if (parts.length > SearchIndex.RECIPE_PARTS + 4
+            && SearchIndex.BIN_SUBDIR.equals(parts[SearchIndex.RECIPE_PARTS + 1])
+            && SearchIndex.CONAN_INFO.equals(parts[parts.length - 1])) {
+            res = this.storage.value(key).thenCompose(Content::asStringFuture).thenCompose(
+                info -> this.addPackage(recipe, parts[SearchIndex.RECIPE_PARTS + 2], info)
+            );
+        } else {
+            res = CompletableFuture.allOf();
+        }
+        return res;
+    }
+
+    /**
+     * Updates index on revisions indexing of the recipe or the binary package.
+     * @param key Recipe key or binary package key `{recipe}/{rev}/package/{hash}`.
+     * @param revisions Valid revisions.
+     * @return CompletionStage for this operation.
+     */
+    public CompletionStage<Void> indexed(final Key key, final List<Integer> revisions) {
+        final String[] parts = key.string().split("/");
+        final String recipe = SearchIndex.recipe(parts);
+        final CompletionStage<Void> res;
+        if (parts.length == SearchIndex.RECIPE_PARTS) {
+            if (revisions.isEmpty()) {
+                res = this.removeRecipe(recipe);
+            } else {
+                res = this.addRecipe(recipe);
+            }
+        } else if (parts.length == SearchIndex.RECIPE_PARTS + 3
+            && SearchIndex.BIN_SUBDIR.equals(parts[SearchIndex.RECIPE_PARTS + 1])) {
+            final String hash = parts[SearchIndex.RECIPE_PARTS + 2];
+            if (revisions.isEmpty()) {
+                res = this.updatePackages(recipe, pkgs -> pkgs.remove(hash) != null);
+            } else {
+                res = this.storage.value(
+                    new Key.From(
+                        key, revisions.stream().max(Integer::compare).get().toString(),
+                        SearchIndex.CONAN_INFO
+                    )
+                ).thenCompose(Content::asStringFuture).thenCompose(
+                    info -> this.addPackage(recipe, hash, info)
+                );
+            }
+        } else {
+            res = CompletableFuture.allOf();
+        }
+        return res;
+    }
+
+    /**
+     * Adds recipe to the index.
+     * @param recipe Recipe path.
+     * @return CompletionStage for this operation.
+     */
+    public CompletionStage<Void> addRecipe(final String recipe) {
+        return this.updateRecipes(recipes -> recipes.add(recipe));
+    }
+
+    /**
+     * Removes recipe from the index.
+     * @param recipe Recipe path.
+     * @return CompletionStage for this operation.
+     */
+    public CompletionStage<Void> removeRecipe(final String recipe) {
+        return this.updateRecipes(recipes -> recipes.remove(recipe));
+    }
+
+    /**
+     * Adds binary package to the index.
+     * @param recipe Recipe path.
+     * @param hash Binary package hash.
+     * @param conaninfo Binary package `conaninfo.txt` contents.
+     * @return CompletionStage for this operation.
+     */
+    public CompletionStage<Void> addPackage(final String recipe, final String hash,
+        final String conaninfo) {
+        final JsonObject info = SearchIndex.info(conaninfo);
+        return this.updatePackages(recipe, pkgs -> !info.equals(pkgs.put(hash, info)));
+    }
+
+    /**
+     * Searches recipes. Pattern with `*` and `?` wildcards has to match whole recipe
+     * reference, pattern without wildcards has to be contained in recipe reference.
+     * @param pattern Search pattern.
+     * @param ignorecase Whether to ignore case.
+     * @return Recipe references, `name/version` for recipes without user and channel.
+     */
+    public CompletionStage<List<String>> recipes(final String pattern, final boolean ignorecase) {
+        final Predicate<String> matches = SearchIndex.matcher(pattern, ignorecase);
+        return this.recipes().thenApply(
+            recipes -> recipes.stream()
+                .map(SearchIndex::reference)
+                .filter(matches)
+                .distinct()
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Binary packages of the recipe.
+     * @param recipe Recipe path.
+     * @return Packages info by package hash.
+     */
+    public CompletionStage<JsonObject> packages(final String recipe) {
+        final Key key = SearchIndex.packagesKey(recipe);
+        return this.storage.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Map<String, JsonObject>> res;
+                if (exists) {
+                    res = SearchIndex.readPackages(this.storage, key);
+                } else {
+                    res = new RetryExclusively(this.storage).perform(
+                        key, asto -> SearchIndex.loadPackages(asto, recipe).thenCompose(
+                            pkgs -> SearchIndex.savePackages(asto, key, pkgs)
+                                .thenApply(nothing -> pkgs)
+                        )
+                    );
+                }
+                return res;
+            }
+        ).thenApply(SearchIndex::json);
+    }
+
+    /**
+     * Index recipes, recipes list is built from storage if it does not exist.
+     * @return Recipe paths.
+     */
+    private CompletionStage<Collection<String>> recipes() {
+        return this.storage.exists(SearchIndex.RECIPES).thenCompose(
+            exists -> {
+                final CompletionStage<Collection<String>> res;
+                if (exists) {
+                    res = SearchIndex.readRecipes(this.storage);
+                } else {
+                    res = new RetryExclusively(this.storage).perform(
+                        SearchIndex.RECIPES, asto -> SearchIndex.loadRecipes(asto).thenCompose(
+                            recipes -> SearchIndex.saveRecipes(asto, recipes)
+                                .thenApply(nothing -> recipes)
+                        )
+                    );
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Updates recipes list. List is read without lock first and it's not locked
+     * if update does not change it, e.g. if added recipe is already indexed, so
+     * uploads of existing recipes don't contend for the lock.
+     * @param update Update operation, returns true if list was changed.
+     * @return CompletionStage for this operation.
+     */
+    private CompletionStage<Void> updateRecipes(final Predicate<Collection<String>> update) {
+        return this.storage.exists(SearchIndex.RECIPES).thenCompose(
+            exists -> {
+                final CompletionStage<Boolean> changes;
+                if (exists) {
+                    changes = SearchIndex.readRecipes(this.storage).thenApply(update::test);
+                } else {
+                    changes = CompletableFuture.completedFuture(true);
+                }
+                return changes;
+            }
+        ).thenCompose(
+            changes -> {
+                final CompletionStage<Void> res;
+                if (changes) {
+                    res = this.lockedRecipes(update);
+                } else {
+                    res = CompletableFuture.allOf();
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Updates recipes list exclusively.
+     * @param update Update operation, returns true if list was changed.
+     * @return CompletionStage for this operation.
+     */
+    private CompletionStage<Void> lockedRecipes(final Predicate<Collection<String>> update) {
+        return new RetryExclusively(this.storage).perform(
+            SearchIndex.RECIPES,
+            asto -> SearchIndex.loadRecipes(asto).thenCompose(
+                recipes -> {
+                    final CompletionStage<Void> res;
+                    if (update.test(recipes)) {
+                        res = SearchIndex.saveRecipes(asto, recipes);
+                    } else {
+                        res = CompletableFuture.allOf();
+                    }
+                    return res;
+                }
+            )
+        );
+    }
+
+    /**
+     * Updates binary packages of the recipe.
+     * @param recipe Recipe path.
+     * @param update Update operation, returns true if packages were changed.
+     * @return CompletionStage for this operation.
+     */
+    private CompletionStage<Void> updatePackages(final String recipe,
+        final Predicate<Map<String, JsonObject>> update) {
+        final Key key = SearchIndex.packagesKey(recipe);
+        return new RetryExclusively(this.storage).perform(
+            key,
+            asto -> SearchIndex.loadPackages(asto, recipe).thenCompose(
+                pkgs -> {
+                    final CompletionStage<Void> res;
+                    if (update.test(pkgs)) {
+                        res = SearchIndex.savePackages(asto, key, pkgs);
+                    } else {
+                        res = CompletableFuture.allOf();
+                    }
+                    return res;
+                }
+            )
+        );
+    }
+
+    /**
+     * Loads recipes list, it's built from storage keys if it does not exist.
+     * @param asto Storage.
+     * @return Recipe paths.
+     */
+    private static CompletionStage<Collection<String>> loadRecipes(final Storage asto) {
+        return asto.exists(SearchIndex.RECIPES).thenCompose(
+            exists -> {
+                final CompletionStage<Collection<String>> res;
+                if (exists) {
+                    res = SearchIndex.readRecipes(asto);
+                } else {
+                    res = asto.list(Key.ROOT).thenApply(
+                        keys -> keys.stream()
+                            .map(key -> key.string().split("/"))
+                            .filter(
+                                parts -> parts.length > SearchIndex.RECIPE_PARTS + 2
+                                    && !parts[0].startsWith(".")
+                                    && SearchIndex.SRC_SUBDIR.equals(
+                                        parts[SearchIndex.RECIPE_PARTS + 1]
+                                    )
+                            ).map(SearchIndex::recipe)
+                            .collect(Collectors.toCollection(TreeSet::new))
+                    );
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Reads recipes list.
+     * @param asto Storage.
+     * @return Recipe paths.
+     */
+    private static CompletionStage<Collection<String>> readRecipes(final Storage asto) {
+        return asto.value(SearchIndex.RECIPES).thenCompose(Content::asStringFuture).thenApply(
+            text -> Arrays.stream(text.split("\n"))
+                .filter(line -> !line.isBlank())
+                .collect(Collectors.toCollection(TreeSet::new))
+        );
+    }
+
+    /**
+     * Saves recipes list.
+     * @param asto Storage.
+     * @param recipes Recipe paths.
+     * @return CompletionStage for this operation.
+     */
+    private static CompletionStage<Void> saveRecipes(final Storage asto,
+        final Collection<String> recipes) {
+        return asto.save(
+            SearchIndex.RECIPES,
+            new Content.From(
+                recipes.stream().map(recipe -> String.format("%s\n", recipe))
+                    .collect(Collectors.joining())
+                    .getBytes(StandardCharsets.UTF_8)
+            )
+        );
+    }
+
+    /**
+     * Loads binary packages of the recipe, they are read from `conaninfo.txt` files
+     * if index file does not exist.
+     * @param asto Storage.
+     * @param recipe Recipe path.
+     * @return Packages info by package hash.
+     */
+    private static CompletionStage<Map<String, JsonObject>> loadPackages(final Storage asto,
+        final String recipe) {
+        final Key key = SearchIndex.packagesKey(recipe);
+        return asto.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Map<String, JsonObject>> res;
+                if (exists) {
+                    res = SearchIndex.readPackages(asto, key);
+                } else {
+                    res = asto.list(new Key.From(recipe)).thenCompose(
+                        keys -> {
+                            final Map<String, JsonObject> pkgs = new TreeMap<>();
+                            final List<CompletableFuture<Void>> reads = new ArrayList<>(0);
+                            for (final Key item : keys) {
+                                final String[] parts = item.string().split("/");
+                                if (parts.length > SearchIndex.RECIPE_PARTS + 4
+                                    && SearchIndex.BIN_SUBDIR.equals(
+                                        parts[SearchIndex.RECIPE_PARTS + 1]
+                                    )
+                                    && SearchIndex.CONAN_INFO.equals(parts[parts.length - 1])) {
+                                    reads.add(
+                                        asto.value(item).thenCompose(Content::asStringFuture)
+                                            .thenAccept(
+                                                info -> {
+                                                    synchronized (pkgs) {
+                                                        pkgs.put(
+                                                            parts[SearchIndex.RECIPE_PARTS + 2],
+                                                            SearchIndex.info(info)
+                                                        );
+                                                    }
+                                                }
+                                            )
+                                    );
+                                }
+                            }
+                            return CompletableFuture.allOf(
+                                reads.toArray(new CompletableFuture[0])
+                            ).thenApply(nothing -> pkgs);
+                        }
+                    );
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Reads binary packages index.
+     * @param asto Storage.
+     * @param key Index key.
+     * @return Packages info by package hash.
+     */
+    private static CompletionStage<Map<String, JsonObject>> readPackages(final Storage asto,
+        final Key key) {
+        return asto.value(key).thenCompose(Content::asJsonObjectFuture).thenApply(
+            json -> json.entrySet().stream().collect(
+                Collectors.toMap(
+                    Map.Entry::getKey, entry -> entry.getValue().asJsonObject(),
+                    (first, second) -> second, TreeMap::new
+                )
+            )
+        );
+    }
+
+    /**
+     * Saves binary packages index.
+     * @param asto Storage.
+     * @param key Index key.
+     * @param pkgs Packages info by package hash.
+     * @return CompletionStage for this operation.
+     */
+    private static CompletionStage<Void> savePackages(final Storage asto, final Key key,
+        final Map<String, JsonObject> pkgs) {
+        return asto.save(
+            key,
+            new Content.From(
+                SearchIndex.json(pkgs).toString().getBytes(StandardCharsets.UTF_8)
+            )
+        );
+    }
+
+    /**
+     * Packages info as json object.
+     * @param pkgs Packages info by package hash.
+     * @return Json object.
+     */
+    private static JsonObject json(final Map<String, JsonObject> pkgs) {
+        final JsonObjectBuilder builder = Json.createObjectBuilder();
+        pkgs.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Converts Conan package binary info to json.
+     * @param conaninfo Conan conaninfo.txt contents.
+     * @return Package info json.
+     */
+    private static JsonObject info(final String conaninfo) {
+        final Wini ini;
+        try {
+            ini = new Wini(new StringReader(conaninfo));
+        } catch (final IOException exception) {
+            throw new ArtipieIOException(exception);
+        }
+        final JsonObjectBuilder pkgbuilder = Json.createObjectBuilder();
+        ini.forEach(
+            (secname, section) -> {
+                final JsonObjectBuilder jsection = Json.createObjectBuilder();
+                section.entrySet().stream()
+                    .filter(e -> e.getValue() != null)
+                    .forEach(e -> jsection.add(e.getKey(), e.getValue()));
+                pkgbuilder.add(secname, jsection);
+            }
+        );
+        final String hashfield = "recipe_hash";
+        Optional.ofNullable(ini.get(hashfield))
+            .flatMap(section -> section.keySet().stream().findFirst())
+            .ifPresentOrElse(
+                hash -> pkgbuilder.add(hashfield, hash),
+                () -> pkgbuilder.add(hashfield, JsonValue.NULL)
+            );
+        return pkgbuilder.build();
+    }
+
+    /**
+     * Recipe search predicate.
+     * @param pattern Search pattern.
+     * @param ignorecase Whether to ignore case.
+     * @return Predicate for recipe references.
+     */
+    private static Predicate<String> matcher(final String pattern, final boolean ignorecase) {
+        final Function<String, String> norm;
+        if (ignorecase) {
+            norm = str -> str.toLowerCase(Locale.ROOT);
+        } else {
+            norm = Function.identity();
+        }
+        final Predicate<String> res;
+        if (pattern.contains("*") || pattern.contains("?")) {
+            final Pattern regex = Pattern.compile(
+                Arrays.stream(norm.apply(pattern).split("((?<=[*?])|(?=[*?]))"))
+                    .map(
+                        part -> {
+                            final String rgx;
+                            if ("*".equals(part)) {
+                                rgx = ".*";
+                            } else if ("?".equals(part)) {
+                                rgx = ".";
+                            } else {
+                                rgx = Pattern.quote(part);
+                            }
+                            return rgx;
+                        }
+                    ).collect(Collectors.joining())
+            );
+            res = ref -> regex.matcher(norm.apply(ref)).matches();
+        } else {
+            final String part = norm.apply(pattern);
+            res = ref -> norm.apply(ref).contains(part);
+        }
+        return res;
+    }
+
+    /**
+     * Recipe reference by recipe path.
+     * @param recipe Recipe path.
+     * @return Reference, `name/version` for recipes without user and channel.
+     */
+    private static String reference(final String recipe) {
+        final String res;
+        if (recipe.endsWith(SearchIndex.NO_USER)) {
+            res = recipe.substring(0, recipe.length() - SearchIndex.NO_USER.length());
+        } else {
+            res = recipe;
+        }
+        return res;
+    }
+
+    /**
+     * Recipe path from key parts.
+     * @param parts Key parts.
+     * @return Recipe path.
+     */
+    private static String recipe(final String... parts) {
+        return Arrays.stream(parts).limit(SearchIndex.RECIPE_PARTS)
+            .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * Binary packages index key of the recipe.
+     * @param recipe Recipe path.
+     * @return Index key.
+     */
+    private static Key packagesKey(final String recipe) {
+        return new Key.From(SearchIndex.ROOT, recipe, SearchIndex.PACKAGES);
+    }
+}
@@ -9,6 +9,7 @@ import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.conan.ItemTokenizer;
+import com.artipie.conan.SearchIndex;
 import com.artipie.http.Headers;
 import com.artipie.http.ResponseBuilder;
 import com.artipie.http.Response;
@@ -16,6 +17,7 @@ import com.artipie.http.Slice;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.rq.RqParams;
+import com.artipie.http.slice.KeyFromPath;
 import com.artipie.http.slice.SliceUpload;
 import org.reactivestreams.Publisher;
 
@@ -231,7 +233,21 @@ public final class ConanUpload {
                             if (item.isPresent() && item.get().getHostname().equals(hostname)
                                 && item.get().getPath().equals(path)) {
                                 return new SliceUpload(this.storage)
-                                    .response(line, headers, body);
+                                    .response(line, headers, body)
+                                    .thenCompose(
+                                        resp -> {
+                                            final CompletableFuture<Response> res;
+                                            if (resp.status().success()) {
+                                                res = new SearchIndex(this.storage)
+                                                    .uploaded(new KeyFromPath(path))
+                                                    .thenApply(nothing -> resp)
+                                                    .toCompletableFuture();
+                                            } else {
+                                                res = CompletableFuture.completedFuture(resp);
+                                            }
+                                            return res;
+                                        }
+                                    );
                             }
                             return CompletableFuture.completedFuture(
                                 ResponseBuilder.unauthorized().build()
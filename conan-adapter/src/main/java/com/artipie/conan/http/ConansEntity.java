@@ -7,26 +7,20 @@ package  com.artipie.conan.http;
 import com.artipie.asto.ArtipieIOException;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.conan.SearchIndex;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqParams;
 import com.google.common.base.Strings;
 import io.vavr.Tuple2;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.net.URIBuilder;
-import org.ini4j.Wini;
 
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
-import javax.json.JsonObjectBuilder;
-import java.io.IOException;
-import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
@@ -210,96 +204,20 @@ public final class ConansEntity {
         public CompletableFuture<RequestResult> getResult(final RequestLine request,
             final String hostname, final Matcher matcher) {
             final String uripath = matcher.group(ConansEntity.URI_PATH);
-            final String pkgpath = String.join("", uripath, ConansEntity.PKG_BIN_DIR);
-            return this.getStorage().list(new Key.From(pkgpath)).thenCompose(
-                keys -> this.findPackageInfo(keys, pkgpath)
-            ).thenApply(RequestResult::new);
-        }
-
-        /**
-         * Converts Conan package binary info to json.
-         * @param content Conan conaninfo.txt contents.
-         * @param jsonbuilder Target to fill with json data.
-         * @param pkghash Conan package hash value.
-         * @return CompletableFuture, providing json String with package info.
-         * @throws IOException In case of conaninfo.txt contents access problems.
-         */
-        private static CompletableFuture<String> pkgInfoToJson(
-            final com.artipie.asto.Content content,
-            final JsonObjectBuilder jsonbuilder,
-            final String pkghash
-        ) throws IOException {
-            return content.asStringFuture().thenApply(
-                data -> {
-                    final Wini conaninfo;
-                    try {
-                        conaninfo = new Wini(new StringReader(data));
-                    } catch (final IOException exception) {
-                        throw new ArtipieIOException(exception);
+            return new SearchIndex(this.getStorage()).packages(uripath).thenApply(
+                pkgs -> {
+                    final String res;
+                    if (pkgs.isEmpty()) {
+                        res = String.format(
+                            "Package binaries not found: %1$s",
+                            String.join("", uripath, ConansEntity.PKG_BIN_DIR)
+                        );
+                    } else {
+                        res = pkgs.toString();
                     }
-                    final JsonObjectBuilder pkgbuilder = Json.createObjectBuilder();
-                    conaninfo.forEach(
-                        (secname, section) -> {
-                            final JsonObjectBuilder jsection = section.entrySet().stream()
-                                .filter(e -> e.getValue() != null).collect(
-                                    Json::createObjectBuilder, (js, e) ->
-                                        js.add(e.getKey(), e.getValue()),
-                                    (js1, js2) -> {
-                                    }
-                                );
-                            pkgbuilder.add(secname, jsection);
-                        });
-                    final String hashfield = "recipe_hash";
-                    final String hashvalue = conaninfo.get(hashfield).keySet()
-                        .iterator().next();
-                    pkgbuilder.add(hashfield, hashvalue);
-                    jsonbuilder.add(pkghash, pkgbuilder);
-                    return jsonbuilder.build().toString();
-                });
-        }
-
-        /**
-         * Searches Conan package files and generates json package info.
-         * @param keys Storage keys for Conan package binary.
-         * @param pkgpath Conan package path in Artipie storage.
-         * @return Package info as String in CompletableFuture.
-         */
-        private CompletableFuture<String> findPackageInfo(final Collection<Key> keys,
-            final String pkgpath) {
-            final Optional<CompletableFuture<String>> result = keys.stream()
-                .filter(key -> key.string().endsWith(ConansEntity.CONAN_INFO)).map(
-                    key -> this.getStorage().value(key).thenCompose(
-                        content -> {
-                            try {
-                                final String pkghash = GetSearchBinPkg.extractHash(key, pkgpath);
-                                return GetSearchBinPkg.pkgInfoToJson(
-                                    content, Json.createObjectBuilder(), pkghash
-                                );
-                            } catch (final IOException exception) {
-                                throw new ArtipieIOException(exception);
-                            }
-                        }
-                    )
-                ).findFirst();
-            return result.orElseGet(
-                () -> CompletableFuture.completedFuture(
-                    String.format("Package binaries not found: %1$s", pkgpath)
-                )
-            );
-        }
-
-        /**
-         * Extract package binary hash from storage key.
-         * @param key Artipie storage key instance.
-         * @param pkgpath Conan package path.
-         * @return Package hash string value.
-         */
-        private static String extractHash(final Key key, final String pkgpath) {
-            final String keystr = key.string();
-            final int pathstart = keystr.indexOf(pkgpath);
-            final int pathend = pathstart + pkgpath.length();
-            final int hashend = keystr.indexOf("/", pathend + 1);
-            return keystr.substring(pathend, hashend);
+                    return new RequestResult(res);
+                }
+            ).toCompletableFuture();
         }
     }
 
@@ -353,32 +271,19 @@ public final class ConansEntity {
         @Override
         public CompletableFuture<RequestResult> getResult(final RequestLine request,
             final String hostname, final Matcher matcher) {
-            final String question = new RqParams(request.uri()).value("q").orElse("");
-            return this.getStorage().list(Key.ROOT).thenApply(
-                keys -> {
-                    final Set<String> recipes = new HashSet<>();
-                    for (final Key key : keys) {
-                        final String str = key.string();
-                        final int start = str.indexOf(ConansEntity.PKG_SRC_DIR);
-                        if (start > 0) {
-                            String recipe = str.substring(0, start);
-                            final int extra = recipe.indexOf("/_/_");
-                            if (extra >= 0) {
-                                recipe = str.substring(0, extra);
-                            }
-                            if (recipe.contains(question)) {
-                                recipes.add(recipe);
-                            }
-                        }
-                    }
+            final RqParams params = new RqParams(request.uri());
+            return new SearchIndex(this.getStorage()).recipes(
+                params.value("q").orElse(""),
+                params.value("ignorecase").map(Boolean::parseBoolean).orElse(true)
+            ).thenApply(
+                recipes -> {
                     final JsonArrayBuilder builder = Json.createArrayBuilder();
-                    for (final String str : recipes) {
-                        builder.add(str);
-                    }
+                    recipes.forEach(builder::add);
                     return new RequestResult(
                         Json.createObjectBuilder().add("results", builder).build().toString()
                     );
-                });
+                }
+            ).toCompletableFuture();
         }
     }
 
@@ -0,0 +1,195 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package  com.artipie.conan;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.asto.test.TestResource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SearchIndex}.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class SearchIndexTest {
+
+    /**
+     * Path prefix for conan repository test data.
+     */
+    private static final String DIR_PREFIX = "conan-test/server_data/data/";
+
+    /**
+     * Path to zlib package recipe.
+     */
+    private static final String ZLIB = "zlib/1.2.11/_/_";
+
+    /**
+     * Zlib package binary hash.
+     */
+    private static final String HASH = "dfbe50feef7f3c6223a476cd5aeadb687084a646";
+
+    /**
+     * Zlib package binary info file.
+     */
+    private static final String ZLIB_INFO = String.join(
+        "/", SearchIndexTest.ZLIB, "0/package", SearchIndexTest.HASH, "0/conaninfo.txt"
+    );
+
+    /**
+     * Test storage.
+     */
+    private Storage storage;
+
+    /**
+     * Test instance.
+     */
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.storage = new InMemoryStorage();
+        this.index = new SearchIndex(this.storage);
+    }
+
+    @Test
+    void buildsRecipesFromStorage() {
+        this.saveRecipe(SearchIndexTest.ZLIB);
+        this.saveRecipe("zlib/1.2.13/demo/stable");
+        this.saveRecipe("openssl/3.0.0/_/_");
+        MatcherAssert.assertThat(
+            this.index.recipes("zlib", true).toCompletableFuture().join(),
+            Matchers.containsInAnyOrder("zlib/1.2.11", "zlib/1.2.13/demo/stable")
+        );
+    }
+
+    @Test
+    void addsAndRemovesRecipes() {
+        this.index.addRecipe(SearchIndexTest.ZLIB).toCompletableFuture().join();
+        this.index.addRecipe("zlib/1.3/_/_").toCompletableFuture().join();
+        this.index.removeRecipe(SearchIndexTest.ZLIB).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.index.recipes("", true).toCompletableFuture().join(),
+            Matchers.contains("zlib/1.3")
+        );
+    }
+
+    @Test
+    void doesNotLockRecipesWhenRecipeIsIndexed() {
+        this.index.addRecipe(SearchIndexTest.ZLIB).toCompletableFuture().join();
+        this.storage.exclusively(
+            new Key.From(".search", "recipes.txt"), asto -> new CompletableFuture<>()
+        );
+        MatcherAssert.assertThat(
+            this.index.addRecipe(SearchIndexTest.ZLIB).toCompletableFuture()
+                .isCompletedExceptionally(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void addsRecipesConcurrently() {
+        final List<String> recipes = IntStream.range(0, 10)
+            .mapToObj(num -> String.format("lib%d/1.0/_/_", num))
+            .collect(Collectors.toList());
+        CompletableFuture.allOf(
+            recipes.parallelStream()
+                .map(recipe -> this.index.addRecipe(recipe).toCompletableFuture())
+                .toArray(CompletableFuture[]::new)
+        ).join();
+        MatcherAssert.assertThat(
+            this.index.recipes("", true).toCompletableFuture().join().size(),
+            new IsEqual<>(recipes.size())
+        );
+    }
+
+    @Test
+    void searchesByPattern() {
+        final List<String> recipes = Arrays.asList(
+            SearchIndexTest.ZLIB, "ZLib/2.0/_/_", "bzip2/1.0/_/_"
+        );
+        for (final String recipe : recipes) {
+            this.index.addRecipe(recipe).toCompletableFuture().join();
+        }
+        final List<String> found = this.index.recipes("zlib/1.*", false)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(found, Matchers.contains("zlib/1.2.11"));
+        MatcherAssert.assertThat(
+            this.index.recipes("*lib/?.*", true).toCompletableFuture().join(),
+            Matchers.containsInAnyOrder("zlib/1.2.11", "ZLib/2.0")
+        );
+    }
+
+    @Test
+    void indexesUploadedFiles() {
+        new TestResource(String.join("", SearchIndexTest.DIR_PREFIX, SearchIndexTest.ZLIB_INFO))
+            .saveTo(this.storage, new Key.From(SearchIndexTest.ZLIB_INFO));
+        this.index.recipes("", true).toCompletableFuture().join();
+        this.index.uploaded(new Key.From(SearchIndexTest.ZLIB, "0/export/conanfile.py"))
+            .toCompletableFuture().join();
+        this.index.uploaded(new Key.From(SearchIndexTest.ZLIB_INFO))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.index.recipes("", true).toCompletableFuture().join(),
+            Matchers.contains("zlib/1.2.11")
+        );
+        MatcherAssert.assertThat(
+            this.index.packages(SearchIndexTest.ZLIB).toCompletableFuture().join()
+                .keySet(),
+            Matchers.contains(SearchIndexTest.HASH)
+        );
+    }
+
+    @Test
+    void buildsPackagesFromStorage() {
+        new TestResource(String.join("", SearchIndexTest.DIR_PREFIX, SearchIndexTest.ZLIB_INFO))
+            .saveTo(this.storage, new Key.From(SearchIndexTest.ZLIB_INFO));
+        final JsonObject info = this.index.packages(SearchIndexTest.ZLIB)
+            .toCompletableFuture().join().getJsonObject(SearchIndexTest.HASH);
+        MatcherAssert.assertThat(
+            info.getString("recipe_hash"),
+            new IsEqual<>("6579cd83d7728bdb0df70b512d9b1a11")
+        );
+        MatcherAssert.assertThat(
+            info.getJsonObject("settings").getString("os"),
+            new IsEqual<>("Linux")
+        );
+    }
+
+    @Test
+    void removesPackageWithoutRevisions() {
+        this.index.addPackage(SearchIndexTest.ZLIB, SearchIndexTest.HASH, "[settings]\nos=Linux")
+            .toCompletableFuture().join();
+        this.index.indexed(
+            new Key.From(SearchIndexTest.ZLIB, "0/package", SearchIndexTest.HASH), List.of()
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.index.packages(SearchIndexTest.ZLIB).toCompletableFuture().join().isEmpty(),
+            new IsEqual<>(true)
+        );
+    }
+
+    /**
+     * Saves recipe file to storage.
+     * @param recipe Recipe path
+     */
+    private void saveRecipe(final String recipe) {
+        this.storage.save(
+            new Key.From(recipe, "0/export/conanfile.py"), new Content.From(new byte[0])
+        ).join();
+    }
+}
@@ -7,6 +7,7 @@ package com.artipie.conda.asto;
 import com.artipie.asto.ArtipieIOException;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.lock.RetryExclusively;
 import com.artipie.asto.misc.UncheckedIOFunc;
 import com.artipie.asto.streams.StorageValuePipeline;
 import com.artipie.conda.meta.MergedJson;
@@ -46,29 +47,35 @@ public final class AstoMergedJson {
     }
 
     /**
-     * Merges or adds provided new packages items into repodata.json.
+     * Merges or adds provided new packages items into repodata.json, then regenerates
+     * compressed repodata variants and appends the patch to jlap log,
+     * see {@link AstoRepodataVariants}. Repodata and its variants are updated under
+     * the lock of repodata.json, so jlap log stays consistent with repodata.json.
      * @param items Items to merge
      * @return Completable operation
      */
     public CompletionStage<Void> merge(final Map<String, JsonObject> items) {
-        return new StorageValuePipeline<>(this.asto, this.key).process(
-            (opt, out) -> {
-                try {
-                    final JsonFactory factory = new JsonFactory();
-                    final Optional<JsonParser> parser = opt.map(
-                        new UncheckedIOFunc<>(factory::createParser)
-                    );
-                    new MergedJson.Jackson(
-                        factory.createGenerator(out),
-                        parser
-                    ).merge(items);
-                    if (parser.isPresent()) {
-                        parser.get().close();
+        return new RetryExclusively(this.asto).perform(
+            this.key,
+            target -> new StorageValuePipeline<>(target, this.key).process(
+                (opt, out) -> {
+                    try {
+                        final JsonFactory factory = new JsonFactory();
+                        final Optional<JsonParser> parser = opt.map(
+                            new UncheckedIOFunc<>(factory::createParser)
+                        );
+                        new MergedJson.Jackson(
+                            factory.createGenerator(out),
+                            parser
+                        ).merge(items);
+                        if (parser.isPresent()) {
+                            parser.get().close();
+                        }
+                    } catch (final IOException err) {
+                        throw new ArtipieIOException(err);
                     }
-                } catch (final IOException err) {
-                    throw new ArtipieIOException(err);
                 }
-            }
+            ).thenCompose(nothing -> new AstoRepodataVariants(target, this.key).update(items))
         );
     }
 }
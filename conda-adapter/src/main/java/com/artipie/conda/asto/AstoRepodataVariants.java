@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.conda.asto;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.conda.meta.Jlap;
+import com.github.luben.zstd.Zstd;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.json.JsonObject;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+
+/**
+ * Compressed and incremental variants of repodata.json: `repodata.json.zst`,
+ * `repodata.json.bz2` and `repodata.jlap` patches log, all of them are stored
+ * next to repodata.json.
+ * @since 1.0
+ */
+public final class AstoRepodataVariants {
+
+    /**
+     * Zstandard compression level.
+     */
+    private static final int ZST_LEVEL = 16;
+
+    /**
+     * Abstract storage.
+     */
+    private final Storage asto;
+
+    /**
+     * Repodata file key.
+     */
+    private final Key key;
+
+    /**
+     * Ctor.
+     * @param asto Abstract storage
+     * @param key Repodata file key
+     */
+    public AstoRepodataVariants(final Storage asto, final Key key) {
+        this.asto = asto;
+        this.key = key;
+    }
+
+    /**
+     * Regenerates compressed repodata variants and appends patch with provided items
+     * to jlap log.
+     * @param items Packages items added to repodata
+     * @return Completable operation
+     */
+    public CompletionStage<Void> update(final Map<String, JsonObject> items) {
+        final Key jlap = this.jlap();
+        return this.asto.value(this.key).thenCompose(Content::asBytesFuture).thenCompose(
+            repodata -> CompletableFuture.allOf(
+                this.asto.save(
+                    AstoRepodataVariants.sibling(this.key, ".zst"),
+                    new Content.From(Zstd.compress(repodata, AstoRepodataVariants.ZST_LEVEL))
+                ),
+                this.asto.save(
+                    AstoRepodataVariants.sibling(this.key, ".bz2"),
+                    new Content.From(AstoRepodataVariants.bzip(repodata))
+                ),
+                this.asto.exists(jlap).thenCompose(
+                    exists -> {
+                        final CompletionStage<Optional<byte[]>> existing;
+                        if (exists) {
+                            existing = this.asto.value(jlap)
+                                .thenCompose(Content::asBytesFuture)
+                                .thenApply(Optional::of);
+                        } else {
+                            existing = CompletableFuture.completedFuture(Optional.empty());
+                        }
+                        return existing;
+                    }
+                ).thenCompose(
+                    existing -> this.asto.save(
+                        jlap, new Content.From(new Jlap(existing).append(repodata, items))
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * Jlap log key: `repodata.jlap` in the same directory with repodata.json.
+     * @return Key
+     */
+    private Key jlap() {
+        return new Key.From(this.key.parent().orElse(Key.ROOT), "repodata.jlap");
+    }
+
+    /**
+     * Sibling key with the provided extension appended.
+     * @param key Original key
+     * @param ext Extension
+     * @return Key
+     */
+    private static Key sibling(final Key key, final String ext) {
+        return new Key.From(String.format("%s%s", key.string(), ext));
+    }
+
+    /**
+     * Compresses bytes with bzip2.
+     * @param data Bytes to compress
+     * @return Compressed bytes
+     */
+    private static byte[] bzip(final byte[] data) {
+        final ByteArrayOutputStream res = new ByteArrayOutputStream();
+        try (BZip2CompressorOutputStream out = new BZip2CompressorOutputStream(res)) {
+            out.write(data);
+        } catch (final IOException err) {
+            throw new ArtipieIOException(err);
+        }
+        return res.toByteArray();
+    }
+}
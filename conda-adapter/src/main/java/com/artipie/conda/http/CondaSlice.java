@@ -54,6 +54,13 @@ public final class CondaSlice extends Slice.Wrap {
      */
     private static final Pattern PTRN = Pattern.compile(".*/(.*/.*(\\.tar\\.bz2|\\.conda))$");
 
+    /**
+     * Repodata path pattern: repodata.json with its compressed variants and jlap log,
+     * or current_repodata.json, which has no variants.
+     */
+    private static final String REPODATA =
+        ".*/(current_repodata\\.json|repodata\\.(json(\\.zst|\\.bz2)?|jlap))$";
+
     /**
      * Ctor.
      * @param storage Storage
@@ -71,7 +78,7 @@ public final class CondaSlice extends Slice.Wrap {
             new SliceRoute(
                 new RtRulePath(
                     new RtRule.All(
-                        new RtRule.ByPath("/t/.*repodata\\.json$"),
+                        new RtRule.ByPath(String.format("/t/%s", CondaSlice.REPODATA)),
                         MethodRule.GET
                     ),
                     new TokenAuthSlice(
@@ -84,7 +91,7 @@ public final class CondaSlice extends Slice.Wrap {
                 ),
                 new RtRulePath(
                     new RtRule.All(
-                        new RtRule.ByPath(".*repodata\\.json$"),
+                        new RtRule.ByPath(CondaSlice.REPODATA),
                         MethodRule.GET
                     ),
                     new BasicAuthzSlice(
@@ -22,15 +22,20 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Slice to download repodata.json. If the repodata item does not exists in storage, empty
- * json is returned.
+ * Slice to download repodata.json, its compressed variants `repodata.json.zst` and
+ * `repodata.json.bz2` and `repodata.jlap` patches log, and current_repodata.json, which
+ * has no variants. If the repodata.json item does not exists in storage, empty json is
+ * returned, absent variants are answered with 404 to let client fall back to plain
+ * repodata.json.
  */
 public final class DownloadRepodataSlice implements Slice {
 
     /**
      * Request path pattern.
      */
-    private static final Pattern RQ_PATH = Pattern.compile(".*/((.+)/(current_)?repodata\\.json)");
+    private static final Pattern RQ_PATH = Pattern.compile(
+        ".*/((.+)/(current_repodata\\.json|repodata\\.(json|json\\.zst|json\\.bz2|jlap)))"
+    );
 
     private final Storage asto;
 
@@ -51,26 +56,44 @@ public final class DownloadRepodataSlice implements Slice {
             final Key key = new Key.From(matcher.group(1));
             return this.asto.exists(key).thenCompose(
                 exist -> {
+                    final CompletableFuture<Response> res;
                     if (exist) {
-                        return this.asto.value(key);
+                        res = this.asto.value(key).thenApply(
+                            content -> DownloadRepodataSlice.ok(key, content)
+                        );
+                    } else if (key.string().endsWith(".json")) {
+                        res = CompletableFuture.completedFuture(
+                            DownloadRepodataSlice.ok(
+                                key,
+                                new Content.From(
+                                    Json.createObjectBuilder().add(
+                                            "info", Json.createObjectBuilder()
+                                                .add("subdir", matcher.group(2))
+                                        ).build().toString()
+                                        .getBytes(StandardCharsets.US_ASCII)
+                                )
+                            )
+                        );
+                    } else {
+                        res = ResponseBuilder.notFound().completedFuture();
                     }
-                    return CompletableFuture.completedFuture(
-                        new Content.From(
-                            Json.createObjectBuilder().add(
-                                    "info", Json.createObjectBuilder()
-                                        .add("subdir", matcher.group(2))
-                                ).build().toString()
-                                .getBytes(StandardCharsets.US_ASCII)
-                        )
-                    );
+                    return res;
                 }
-            ).thenApply(
-                content -> ResponseBuilder.ok()
-                    .header(new ContentFileName(new KeyLastPart(key).get()))
-                    .body(content)
-                    .build()
             );
         }
         return ResponseBuilder.badRequest().completedFuture();
     }
+
+    /**
+     * Successful response with repodata item.
+     * @param key Repodata item key
+     * @param content Repodata item content
+     * @return Response
+     */
+    private static Response ok(final Key key, final Content content) {
+        return ResponseBuilder.ok()
+            .header(new ContentFileName(new KeyLastPart(key).get()))
+            .body(content)
+            .build();
+    }
 }
@@ -0,0 +1,224 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.conda.meta;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import org.apache.commons.codec.binary.Hex;
+import org.bouncycastle.crypto.digests.Blake2bDigest;
+
+/**
+ * Conda JLAP (JSON Lines As Patches) incremental repodata log. The log consists of
+ * the initialization vector line, JSON patch lines, metadata line with the hash of the
+ * latest repodata.json and the trailing checksum line. Each line is verified by the
+ * keyed blake2b-256 hash of the line with the checksum of the previous line used as a key.
+ * @since 1.0
+ */
+public final class Jlap {
+
+    /**
+     * Default max amount of patches to keep in the log.
+     */
+    public static final int MAX_PATCHES = 1000;
+
+    /**
+     * Digest length in bytes.
+     */
+    private static final int DIGEST_LENGTH = 32;
+
+    /**
+     * Json field name `latest`.
+     */
+    private static final String LATEST = "latest";
+
+    /**
+     * Existing jlap lines, empty if jlap does not exist.
+     */
+    private final List<String> lines;
+
+    /**
+     * Max amount of patches to keep.
+     */
+    private final int limit;
+
+    /**
+     * Ctor.
+     * @param existing Existing jlap content
+     */
+    public Jlap(final Optional<byte[]> existing) {
+        this(existing, Jlap.MAX_PATCHES);
+    }
+
+    /**
+     * Ctor.
+     * @param existing Existing jlap content
+     * @param limit Max amount of patches to keep
+     */
+    public Jlap(final Optional<byte[]> existing, final int limit) {
+        this.lines = existing.map(
+            bytes -> Arrays.asList(new String(bytes, StandardCharsets.UTF_8).split("\n"))
+        ).filter(list -> list.size() >= 3).orElse(List.of());
+        this.limit = limit;
+    }
+
+    /**
+     * Hash of the latest repodata.json the log was written for.
+     * @return Hex hash if log exists
+     */
+    public Optional<String> latest() {
+        final Optional<String> res;
+        if (this.lines.isEmpty()) {
+            res = Optional.empty();
+        } else {
+            res = Optional.of(
+                Json.createReader(new StringReader(this.lines.get(this.lines.size() - 2)))
+                    .readObject().getString(Jlap.LATEST, "")
+            ).filter(hash -> !hash.isEmpty());
+        }
+        return res;
+    }
+
+    /**
+     * Appends patch to the log. Patch adds or replaces provided packages items and is
+     * written only if the log already knows the previous repodata hash, otherwise
+     * new log without patches is started.
+     * @param repodata New repodata.json content
+     * @param items Added packages items, filename <-> metadata json
+     * @return Jlap content
+     */
+    public byte[] append(final byte[] repodata, final Map<String, JsonObject> items) {
+        final String hash = Jlap.hash(repodata);
+        final List<String> patches = new ArrayList<>(this.patches());
+        final Optional<String> from = this.latest();
+        if (from.isPresent() && !from.get().equals(hash)) {
+            final JsonArrayBuilder ops = Json.createArrayBuilder();
+            items.forEach(
+                (name, json) -> ops.add(
+                    Json.createObjectBuilder()
+                        .add("op", "add")
+                        .add("path", Jlap.pointer(name))
+                        .add("value", json)
+                )
+            );
+            patches.add(
+                Json.createObjectBuilder()
+                    .add("from", from.get())
+                    .add("patch", ops)
+                    .add("to", hash)
+                    .build().toString()
+            );
+        }
+        byte[] ivector = this.ivector();
+        final int skip = Math.max(0, patches.size() - this.limit);
+        for (int idx = 0; idx < skip; idx = idx + 1) {
+            ivector = Jlap.checksum(ivector, patches.get(idx));
+        }
+        final StringBuilder res = new StringBuilder(Hex.encodeHexString(ivector)).append('\n');
+        byte[] sum = ivector;
+        for (final String line : patches.subList(skip, patches.size())) {
+            res.append(line).append('\n');
+            sum = Jlap.checksum(sum, line);
+        }
+        final String meta = Json.createObjectBuilder()
+            .add(Jlap.LATEST, hash)
+            .add("url", "repodata.json")
+            .build().toString();
+        sum = Jlap.checksum(sum, meta);
+        res.append(meta).append('\n').append(Hex.encodeHexString(sum)).append('\n');
+        return res.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Unkeyed blake2b-256 hash of the repodata.json content.
+     * @param content Repodata content
+     * @return Hex hash
+     */
+    public static String hash(final byte[] content) {
+        return Hex.encodeHexString(Jlap.blake(new byte[0], content));
+    }
+
+    /**
+     * Existing patch lines.
+     * @return Patches
+     */
+    private List<String> patches() {
+        final List<String> res;
+        if (this.lines.isEmpty()) {
+            res = List.of();
+        } else {
+            res = this.lines.subList(1, this.lines.size() - 2);
+        }
+        return res;
+    }
+
+    /**
+     * Initialization vector of the existing log or zeros.
+     * @return Initialization vector bytes
+     */
+    private byte[] ivector() {
+        final byte[] res = new byte[Jlap.DIGEST_LENGTH];
+        if (!this.lines.isEmpty()) {
+            final String hex = this.lines.get(0);
+            for (int idx = 0; idx < res.length; idx = idx + 1) {
+                res[idx] = (byte) Integer.parseInt(hex.substring(idx * 2, idx * 2 + 2), 16);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Json pointer to the package item in repodata.
+     * @param name Package filename
+     * @return Json pointer
+     */
+    private static String pointer(final String name) {
+        final String section;
+        if (name.endsWith(".conda")) {
+            section = "packages.conda";
+        } else {
+            section = "packages";
+        }
+        return String.format(
+            "/%s/%s", section, name.replace("~", "~0").replace("/", "~1")
+        );
+    }
+
+    /**
+     * Line checksum keyed with previous line checksum.
+     * @param previous Previous checksum
+     * @param line Line
+     * @return Checksum
+     */
+    private static byte[] checksum(final byte[] previous, final String line) {
+        return Jlap.blake(previous, line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Blake2b-256 digest.
+     * @param key Digest key, empty for unkeyed digest
+     * @param data Data to digest
+     * @return Digest bytes
+     */
+    private static byte[] blake(final byte[] key, final byte[] data) {
+        final Blake2bDigest digest;
+        if (key.length == 0) {
+            digest = new Blake2bDigest(Jlap.DIGEST_LENGTH * 8);
+        } else {
+            digest = new Blake2bDigest(key, Jlap.DIGEST_LENGTH, null, null);
+        }
+        digest.update(data, 0, data.length);
+        final byte[] res = new byte[Jlap.DIGEST_LENGTH];
+        digest.doFinal(res, 0);
+        return res;
+    }
+}
@@ -8,8 +8,13 @@ import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.asto.test.TestResource;
+import com.artipie.conda.meta.Jlap;
+import com.github.luben.zstd.Zstd;
 import org.cactoos.map.MapEntry;
 import org.cactoos.map.MapOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -76,6 +81,34 @@ class AstoMergedJsonTest {
         );
     }
 
+    @Test
+    void writesCompressedVariantsAndJlap() {
+        new AstoMergedJson(this.asto, AstoMergedJsonTest.KEY).merge(
+            new MapOf<>(
+                this.packageItem("notebook-6.1.1-py38_0.conda", "notebook-conda.json")
+            )
+        ).toCompletableFuture().join();
+        final byte[] repodata = this.asto.value(AstoMergedJsonTest.KEY).join().asBytes();
+        MatcherAssert.assertThat(
+            "Zst variant should be decompressed to repodata",
+            Zstd.decompress(
+                this.asto.value(new Key.From("repodata.json.zst")).join().asBytes(),
+                repodata.length
+            ),
+            new IsEqual<>(repodata)
+        );
+        MatcherAssert.assertThat(
+            "Bz2 variant should exist",
+            this.asto.exists(new Key.From("repodata.json.bz2")).join(),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Jlap should point to the latest repodata",
+            this.asto.value(new Key.From("repodata.jlap")).join().asString(),
+            new StringContains(Jlap.hash(repodata))
+        );
+    }
+
     private String getRepodata() {
         return this.asto.value(AstoMergedJsonTest.KEY).join().asString();
     }
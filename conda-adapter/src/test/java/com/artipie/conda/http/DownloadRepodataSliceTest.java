@@ -8,10 +8,12 @@ import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.RsStatus;
 import com.artipie.http.headers.ContentDisposition;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
@@ -79,4 +81,56 @@ class DownloadRepodataSliceTest {
             )
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"repodata.json.zst", "repodata.json.bz2", "repodata.jlap"})
+    void returnsVariantFromStorageIfExists(final String filename) {
+        final byte[] bytes = "compressed".getBytes();
+        this.asto.save(
+            new Key.From("noarch", filename), new Content.From(bytes)
+        ).join();
+        MatcherAssert.assertThat(
+            new DownloadRepodataSlice(this.asto),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasBody(bytes),
+                    new RsHasHeaders(
+                        new ContentDisposition(
+                            String.format("attachment; filename=\"%s\"", filename)
+                        ),
+                        new ContentLength(bytes.length)
+                    )
+                ),
+                new RequestLine(RqMethod.GET, String.format("/noarch/%s", filename))
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"repodata.json.zst", "repodata.json.bz2", "repodata.jlap"})
+    void returnsNotFoundIfVariantDoesNotExist(final String filename) {
+        MatcherAssert.assertThat(
+            new DownloadRepodataSlice(this.asto),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, String.format("/linux-64/%s", filename))
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "current_repodata.json.zst", "current_repodata.json.bz2", "current_repodata.jlap",
+        }
+    )
+    void doesNotServeCurrentRepodataVariants(final String filename) {
+        MatcherAssert.assertThat(
+            new DownloadRepodataSlice(this.asto),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.BAD_REQUEST),
+                new RequestLine(RqMethod.GET, String.format("/linux-64/%s", filename))
+            )
+        );
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.conda.meta;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Jlap}.
+ * @since 1.0
+ */
+class JlapTest {
+
+    @Test
+    void startsNewLogWithoutPatches() {
+        final byte[] repodata = "{\"packages\":{}}".getBytes(StandardCharsets.UTF_8);
+        final String[] lines = new String(
+            new Jlap(Optional.empty()).append(repodata, Map.of()), StandardCharsets.UTF_8
+        ).split("\n");
+        MatcherAssert.assertThat(
+            "Log should contain iv, metadata and checksum lines",
+            lines.length,
+            new IsEqual<>(3)
+        );
+        MatcherAssert.assertThat(
+            "Iv should be zeros",
+            lines[0],
+            new IsEqual<>("0".repeat(64))
+        );
+        MatcherAssert.assertThat(
+            "Metadata line should contain latest repodata hash",
+            Json.createReader(new StringReader(lines[1])).readObject().getString("latest"),
+            new IsEqual<>(Jlap.hash(repodata))
+        );
+    }
+
+    @Test
+    void appendsPatchWithAddedPackages() {
+        final byte[] first = "{\"packages\":{}}".getBytes(StandardCharsets.UTF_8);
+        final byte[] second = "{\"packages\":{\"a.tar.bz2\":{}}}".getBytes(StandardCharsets.UTF_8);
+        final JsonObject item = Json.createObjectBuilder().add("name", "a").build();
+        final String[] lines = new String(
+            new Jlap(Optional.of(new Jlap(Optional.empty()).append(first, Map.of())))
+                .append(second, Map.of("a.tar.bz2", item)),
+            StandardCharsets.UTF_8
+        ).split("\n");
+        final JsonObject patch = Json.createReader(new StringReader(lines[1])).readObject();
+        MatcherAssert.assertThat(
+            "Patch should refer to previous and new repodata",
+            patch.getString("from") + patch.getString("to"),
+            new IsEqual<>(Jlap.hash(first) + Jlap.hash(second))
+        );
+        MatcherAssert.assertThat(
+            "Patch should add package item",
+            patch.getJsonArray("patch").getJsonObject(0).getString("path"),
+            new IsEqual<>("/packages/a.tar.bz2")
+        );
+    }
+
+    @Test
+    void trimsOldPatches() {
+        byte[] jlap = new Jlap(Optional.empty(), 2).append(new byte[]{0}, Map.of());
+        for (int idx = 1; idx < 5; idx = idx + 1) {
+            jlap = new Jlap(Optional.of(jlap), 2).append(
+                new byte[]{(byte) idx},
+                Map.of(
+                    String.format("pkg-%d.conda", idx),
+                    Json.createObjectBuilder().build()
+                )
+            );
+        }
+        final String[] lines = new String(jlap, StandardCharsets.UTF_8).split("\n");
+        MatcherAssert.assertThat(
+            "Log should keep only two patches",
+            lines.length,
+            new IsEqual<>(5)
+        );
+        MatcherAssert.assertThat(
+            "Iv should be moved forward",
+            lines[0],
+            Matchers.not(new IsEqual<>("0".repeat(64)))
+        );
+    }
+}
@@ -5,11 +5,11 @@
 
 package com.artipie.docker.asto;
 
-import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.docker.Catalog;
 import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
+import com.artipie.docker.misc.CatalogPage;
 import com.artipie.docker.misc.Pagination;
 
 import java.util.concurrent.CompletableFuture;
@@ -40,7 +40,8 @@ public final class AstoDocker implements Docker {
 
     @Override
     public CompletableFuture<Catalog> catalog(Pagination pagination) {
-        final Key root = Layout.repositories();
-        return this.storage.list(root).thenApply(keys -> new AstoCatalog(root, keys, pagination));
+        return NamesIndex.catalog(this.storage).page(pagination)
+            .<Catalog>thenApply(names -> new CatalogPage(names, pagination))
+            .toCompletableFuture();
     }
 }
@@ -15,6 +15,7 @@ import com.artipie.docker.error.InvalidManifestException;
 import com.artipie.docker.manifest.Manifest;
 import com.artipie.docker.manifest.ManifestLayer;
 import com.artipie.docker.misc.Pagination;
+import com.artipie.docker.misc.TagsPage;
 import com.google.common.base.Strings;
 
 import javax.json.JsonException;
@@ -64,6 +65,7 @@ public final class AstoManifests implements Manifests {
                     .thenCompose(
                         manifest -> this.validate(manifest)
                             .thenCompose(nothing -> this.addManifestLinks(ref, manifest.digest()))
+                            .thenCompose(nothing -> this.index(ref))
                             .thenApply(nothing -> manifest)
                     )
             );
@@ -91,10 +93,25 @@ public final class AstoManifests implements Manifests {
 
     @Override
     public CompletableFuture<Tags> tags(Pagination pagination) {
-        final Key root = Layout.tags(this.name);
-        return this.storage.list(root).thenApply(
-            keys -> new AstoTags(this.name, root, keys, pagination)
-        );
+        return NamesIndex.tags(this.storage, this.name).page(pagination)
+            .<Tags>thenApply(tags -> new TagsPage(this.name, tags, pagination))
+            .toCompletableFuture();
+    }
+
+    /**
+     * Adds repository to catalog index and tag to repository tags index.
+     *
+     * @param ref Manifest reference.
+     * @return Signal that indexes are updated.
+     */
+    private CompletionStage<Void> index(final ManifestReference ref) {
+        CompletionStage<Void> res = NamesIndex.catalog(this.storage).add(this.name);
+        if ("tags".equals(ref.link().parts().get(0))) {
+            res = res.thenCompose(
+                nothing -> NamesIndex.tags(this.storage, this.name).add(ref.digest())
+            );
+        }
+        return res;
     }
 
     /**
@@ -0,0 +1,482 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.ArtipieException;
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.error.InvalidManifestException;
+import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.manifest.ManifestLayer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Online mark-and-sweep garbage collector of registry storage.
+ * <p>
+ * Mark phase walks manifests referenced by tags of all repositories, including manifests
+ * referenced by manifest lists and OCI image indexes, and marks manifest, config and
+ * layer blobs. Manifest revisions without tags which are younger than grace period
+ * are marked too, as they may belong to a push in progress. Sweep phase removes
+ * revision links of untagged manifests and blobs which are not marked and are older
+ * than grace period.
+ * </p>
+ * <p>
+ * Pushes are not blocked: blobs uploaded during collection are younger than grace period
+ * and are kept. Manifest pushed during collection may reference old blob which was not
+ * marked, so right before blobs are removed the manifests of tag and revision links
+ * created or updated after collection start are marked too. Only a manifest which
+ * is linked after this second marking and references an old unmarked blob may lose
+ * the blob. Age of items is taken from storage metadata, items of unknown age are kept
+ * unless grace period is zero, links of unknown age are always marked again.
+ * </p>
+ */
+public final class GarbageCollector {
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Grace period.
+     */
+    private final Duration grace;
+
+    /**
+     * @param storage Registry storage.
+     * @param grace Grace period, younger items are not removed.
+     */
+    public GarbageCollector(Storage storage, Duration grace) {
+        this.storage = storage;
+        this.grace = grace;
+    }
+
+    /**
+     * Collect garbage.
+     *
+     * @param dry Dry run: find garbage without removing it.
+     * @return Collection result.
+     */
+    public CompletionStage<Result> collect(boolean dry) {
+        final Instant started = Instant.now();
+        final Instant threshold = started.minus(this.grace);
+        final Set<String> marked = ConcurrentHashMap.newKeySet();
+        return this.storage.list(Layout.repositories()).thenCompose(
+            keys -> {
+                final List<Key> tags = GarbageCollector.links(keys, true);
+                final List<Key> revisions = GarbageCollector.links(keys, false);
+                return this.roots(tags, revisions, threshold).thenCompose(
+                    roots -> this.mark(roots, marked)
+                ).thenCompose(
+                    nothing -> this.untagged(revisions, marked, threshold, dry)
+                );
+            }
+        ).thenCompose(
+            garbage -> this.remark(started, marked, dry ? garbage : List.of())
+                .thenApply(nothing -> garbage)
+        ).thenCompose(
+            garbage -> this.sweep(marked, threshold, dry).thenApply(
+                blobs -> new Result(
+                    garbage.size(),
+                    blobs.size(),
+                    blobs.stream().mapToLong(Long::longValue).sum(),
+                    dry
+                )
+            )
+        );
+    }
+
+    /**
+     * Digests of manifests to start marking from: manifests referenced by tags and
+     * manifest revisions younger than grace period.
+     *
+     * @param tags Tag link keys.
+     * @param revisions Revision link keys.
+     * @param threshold Items modified after threshold are young.
+     * @return Manifest digests.
+     */
+    private CompletionStage<Collection<Digest>> roots(
+        List<Key> tags, List<Key> revisions, Instant threshold
+    ) {
+        final List<CompletableFuture<Optional<Digest>>> all = Stream.concat(
+            tags.stream().map(key -> this.link(key).thenApply(Optional::of)),
+            revisions.stream().map(
+                key -> this.young(key, threshold).thenApply(
+                    young -> Optional.of(GarbageCollector.revision(key)).filter(digest -> young)
+                )
+            )
+        ).map(CompletionStage::toCompletableFuture).toList();
+        return CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).thenApply(
+            nothing -> all.stream().map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Marks manifests linked after collection start: tag and revision links
+     * which were created or updated after the start or which age is unknown.
+     *
+     * @param started Collection start.
+     * @param marked Marked blobs digests.
+     * @param garbage Revision links of untagged manifests which were not removed
+     *  only because of dry run, they are not marked.
+     * @return Completion action.
+     */
+    private CompletionStage<Void> remark(
+        Instant started, Set<String> marked, Collection<Key> garbage
+    ) {
+        return this.storage.list(Layout.repositories()).thenCompose(
+            keys -> {
+                final List<CompletableFuture<Optional<Digest>>> all = Stream.concat(
+                    GarbageCollector.links(keys, true).stream().map(
+                        key -> this.changed(key, started).thenCompose(
+                            changed -> {
+                                final CompletionStage<Optional<Digest>> res;
+                                if (changed) {
+                                    res = this.link(key).thenApply(Optional::of);
+                                } else {
+                                    res = CompletableFuture.completedFuture(Optional.empty());
+                                }
+                                return res;
+                            }
+                        )
+                    ),
+                    GarbageCollector.links(keys, false).stream()
+                        .filter(key -> !garbage.contains(key)).map(
+                        key -> this.changed(key, started).thenApply(
+                            changed -> Optional.of(GarbageCollector.revision(key))
+                                .filter(digest -> changed)
+                        )
+                    )
+                ).map(CompletionStage::toCompletableFuture).toList();
+                return CompletableFuture.allOf(all.toArray(CompletableFuture[]::new))
+                    .thenCompose(
+                        nothing -> this.mark(
+                            all.stream().map(CompletableFuture::join)
+                                .flatMap(Optional::stream)
+                                .collect(Collectors.toList()),
+                            marked
+                        )
+                    );
+            }
+        );
+    }
+
+    /**
+     * Marks manifests blobs and blobs referenced by them.
+     *
+     * @param digests Manifests digests.
+     * @param marked Marked blobs digests.
+     * @return Completion action.
+     */
+    private CompletableFuture<Void> mark(Collection<Digest> digests, Set<String> marked) {
+        return CompletableFuture.allOf(
+            digests.stream().map(digest -> this.mark(digest, marked))
+                .toArray(CompletableFuture[]::new)
+        );
+    }
+
+    /**
+     * Marks manifest blob and blobs referenced by it.
+     *
+     * @param digest Manifest digest.
+     * @param marked Marked blobs digests.
+     * @return Completion action.
+     */
+    private CompletableFuture<Void> mark(Digest digest, Set<String> marked) {
+        final CompletableFuture<Void> res;
+        if (marked.add(digest.string())) {
+            final Key key = Layout.blob(digest);
+            res = this.storage.exists(key).thenCompose(
+                exists -> {
+                    final CompletableFuture<Void> refs;
+                    if (exists) {
+                        refs = this.storage.value(key)
+                            .thenCompose(Content::asBytesFuture)
+                            .thenCompose(bytes -> this.references(digest, bytes, marked));
+                    } else {
+                        refs = CompletableFuture.allOf();
+                    }
+                    return refs;
+                }
+            );
+        } else {
+            res = CompletableFuture.allOf();
+        }
+        return res;
+    }
+
+    /**
+     * Marks blobs referenced by manifest.
+     *
+     * @param digest Manifest digest.
+     * @param bytes Manifest content.
+     * @param marked Marked blobs digests.
+     * @return Completion action.
+     */
+    private CompletableFuture<Void> references(Digest digest, byte[] bytes, Set<String> marked) {
+        final CompletableFuture<Void> res;
+        try {
+            final Manifest manifest = new Manifest(digest, bytes);
+            if (manifest.isManifestList()) {
+                res = CompletableFuture.allOf(
+                    manifest.manifests().stream()
+                        .map(child -> this.mark(child, marked))
+                        .toArray(CompletableFuture[]::new)
+                );
+            } else {
+                marked.add(manifest.config().string());
+                manifest.layers().stream()
+                    .map(ManifestLayer::digest)
+                    .forEach(layer -> marked.add(layer.string()));
+                res = CompletableFuture.allOf();
+            }
+        } catch (final InvalidManifestException ex) {
+            throw new ArtipieException(
+                String.format(
+                    "Garbage collection stopped: failed to read manifest %s", digest.string()
+                ),
+                ex
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Removes revision links of manifests which are not marked and are older than
+     * grace period.
+     *
+     * @param revisions Revision link keys.
+     * @param marked Marked blobs digests.
+     * @param threshold Items modified after threshold are young.
+     * @param dry Dry run.
+     * @return Revision links of removed manifests.
+     */
+    private CompletionStage<List<Key>> untagged(
+        List<Key> revisions, Set<String> marked, Instant threshold, boolean dry
+    ) {
+        final List<CompletableFuture<Optional<Key>>> all = revisions.stream()
+            .filter(key -> !marked.contains(GarbageCollector.revision(key).string()))
+            .map(
+                key -> this.young(key, threshold)
+                    .thenCompose(young -> this.remove(key, !young, dry))
+                    .thenApply(removed -> Optional.of(key).filter(item -> removed))
+                    .toCompletableFuture()
+            ).toList();
+        return CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).thenApply(
+            nothing -> all.stream().map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Removes blobs which are not marked and are older than grace period.
+     *
+     * @param marked Marked blobs digests.
+     * @param threshold Items modified after threshold are young.
+     * @param dry Dry run.
+     * @return Sizes of removed blobs.
+     */
+    private CompletionStage<List<Long>> sweep(Set<String> marked, Instant threshold, boolean dry) {
+        final Key root = new Key.From("blobs");
+        return this.storage.list(root).thenCompose(
+            keys -> {
+                final List<CompletableFuture<Optional<Long>>> all = keys.stream()
+                    .filter(key -> key.parts().size() == 5 && "data".equals(key.parts().get(4)))
+                    .filter(
+                        key -> !marked.contains(
+                            String.format("%s:%s", key.parts().get(1), key.parts().get(3))
+                        )
+                    )
+                    .map(
+                        key -> this.meta(key).thenCompose(
+                            meta -> this.remove(
+                                key, GarbageCollector.old(meta, threshold, this.grace), dry
+                            ).thenApply(
+                                removed -> Optional.of(
+                                    meta.read(Meta.OP_SIZE).map(Long.class::cast).orElse(0L)
+                                ).filter(size -> removed)
+                            )
+                        ).toCompletableFuture()
+                    ).toList();
+                return CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).thenApply(
+                    nothing -> all.stream().map(CompletableFuture::join)
+                        .flatMap(Optional::stream)
+                        .collect(Collectors.toList())
+                );
+            }
+        );
+    }
+
+    /**
+     * Removes item if it's garbage.
+     *
+     * @param key Item key.
+     * @param garbage Whether item is garbage.
+     * @param dry Dry run: item is not removed.
+     * @return True if item is garbage.
+     */
+    private CompletionStage<Boolean> remove(Key key, boolean garbage, boolean dry) {
+        final CompletionStage<Boolean> res;
+        if (garbage && !dry) {
+            res = this.storage.delete(key).thenApply(nothing -> true);
+        } else {
+            res = CompletableFuture.completedFuture(garbage);
+        }
+        return res;
+    }
+
+    /**
+     * Checks if item is younger than grace period.
+     *
+     * @param key Item key.
+     * @param threshold Items modified after threshold are young.
+     * @return True if item is young.
+     */
+    private CompletionStage<Boolean> young(Key key, Instant threshold) {
+        return this.meta(key).thenApply(
+            meta -> !GarbageCollector.old(meta, threshold, this.grace)
+        );
+    }
+
+    /**
+     * Checks if item was created or updated after the time, items of unknown age
+     * are considered changed.
+     *
+     * @param key Item key.
+     * @param time Time.
+     * @return True if item was changed after the time.
+     */
+    private CompletionStage<Boolean> changed(Key key, Instant time) {
+        return this.meta(key).thenApply(
+            meta -> meta.read(Meta.OP_UPDATED_AT).map(Instant.class::cast)
+                .or(() -> meta.read(Meta.OP_CREATED_AT).map(Instant.class::cast))
+                .map(updated -> !updated.isBefore(time))
+                .orElse(true)
+        );
+    }
+
+    /**
+     * Reads manifest digest from link.
+     *
+     * @param key Link key.
+     * @return Manifest digest.
+     */
+    private CompletionStage<Digest> link(Key key) {
+        return this.storage.value(key)
+            .thenCompose(Content::asStringFuture)
+            .thenApply(val -> new Digest.FromString(val.trim()));
+    }
+
+    /**
+     * Item metadata, empty metadata is used if storage is not able to provide it.
+     *
+     * @param key Item key.
+     * @return Metadata.
+     */
+    private CompletionStage<Meta> meta(Key key) {
+        CompletionStage<Meta> res;
+        try {
+            res = this.storage.metadata(key).<Meta>thenApply(meta -> meta)
+                .exceptionally(err -> Meta.EMPTY);
+        } catch (final UnsupportedOperationException err) {
+            res = CompletableFuture.completedFuture(Meta.EMPTY);
+        }
+        return res;
+    }
+
+    /**
+     * Checks if item is older than grace period.
+     *
+     * @param meta Item metadata.
+     * @param threshold Items modified after threshold are young.
+     * @param grace Grace period.
+     * @return True if item is old, items of unknown age are old only for zero grace period.
+     */
+    private static boolean old(Meta meta, Instant threshold, Duration grace) {
+        return meta.read(Meta.OP_UPDATED_AT).map(Instant.class::cast)
+            .or(() -> meta.read(Meta.OP_CREATED_AT).map(Instant.class::cast))
+            .map(time -> !time.isAfter(threshold))
+            .orElse(grace.isZero());
+    }
+
+    /**
+     * Manifest links from keys under repositories root.
+     *
+     * @param keys Keys.
+     * @param tags Tag links if true, revision links otherwise.
+     * @return Link keys.
+     */
+    private static List<Key> links(Collection<Key> keys, boolean tags) {
+        final List<Key> res = new ArrayList<>();
+        for (final Key key : keys) {
+            final List<String> rest = GarbageCollector.manifestLink(key);
+            if (rest.size() == 4 && "link".equals(rest.get(3))) {
+                if (tags && "tags".equals(rest.get(0)) && "current".equals(rest.get(2))
+                    || !tags && "revisions".equals(rest.get(0))) {
+                    res.add(key);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Manifest digest from revision link key.
+     *
+     * @param key Revision link key.
+     * @return Manifest digest.
+     */
+    private static Digest revision(Key key) {
+        final List<String> rest = GarbageCollector.manifestLink(key);
+        return new Digest.FromString(String.format("%s:%s", rest.get(1), rest.get(2)));
+    }
+
+    /**
+     * Parts of manifest link key following {@code _manifests} part.
+     *
+     * @param key Key under repositories root.
+     * @return Parts, empty if key is not a manifest link.
+     */
+    private static List<String> manifestLink(Key key) {
+        final List<String> parts = key.parts();
+        final int pos = parts.indexOf("_manifests");
+        final List<String> res;
+        if (pos < 0) {
+            res = List.of();
+        } else {
+            res = parts.subList(pos + 1, parts.size());
+        }
+        return res;
+    }
+
+    /**
+     * Garbage collection result.
+     *
+     * @param manifests Number of removed untagged manifest revisions.
+     * @param blobs Number of removed blobs.
+     * @param bytes Size of removed blobs.
+     * @param dry Whether it was a dry run, nothing was removed.
+     */
+    public record Result(long manifests, long blobs, long bytes, boolean dry) {
+    }
+}
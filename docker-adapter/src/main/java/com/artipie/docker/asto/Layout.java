@@ -31,6 +31,25 @@ public final class Layout {
         return new Key.From(manifests(repo), "tags");
     }
 
+    /**
+     * Index of repositories names.
+     *
+     * @return Catalog index key.
+     */
+    public static Key catalog() {
+        return new Key.From(repositories(), "_catalog");
+    }
+
+    /**
+     * Index of repository tags.
+     *
+     * @param repo Repository name.
+     * @return Tags index key.
+     */
+    public static Key tagsIndex(String repo) {
+        return new Key.From(manifests(repo), "_tags");
+    }
+
     public static Key upload(String name, final String uuid) {
         return new Key.From(repositories(), name, "_uploads", uuid);
     }
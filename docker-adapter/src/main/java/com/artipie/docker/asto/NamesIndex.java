@@ -0,0 +1,311 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.lock.RetryExclusively;
+import com.artipie.docker.misc.Pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sorted index of names stored as a single item, one name per line.
+ * Index is updated when manifests are added, so catalog and tags
+ * pages are read from one item instead of listing the storage.
+ * If index item does not exist, it is built once from storage listing.
+ */
+final class NamesIndex {
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Index item key.
+     */
+    private final Key key;
+
+    /**
+     * Root key to list when index does not exist.
+     */
+    private final Key root;
+
+    /**
+     * Names from keys listed under the root.
+     */
+    private final Function<Collection<Key>, Collection<String>> names;
+
+    /**
+     * @param storage Storage.
+     * @param key Index item key.
+     * @param root Root key to list when index does not exist.
+     * @param names Names from keys listed under the root.
+     */
+    NamesIndex(
+        Storage storage, Key key, Key root,
+        Function<Collection<Key>, Collection<String>> names
+    ) {
+        this.storage = storage;
+        this.key = key;
+        this.root = root;
+        this.names = names;
+    }
+
+    /**
+     * Index of repositories names.
+     *
+     * @param storage Storage.
+     * @return Catalog index.
+     */
+    static NamesIndex catalog(Storage storage) {
+        final Key root = Layout.repositories();
+        return new NamesIndex(
+            storage, Layout.catalog(), root,
+            keys -> keys.stream()
+                .map(key -> NamesIndex.repository(root, key))
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Index of repository tags.
+     *
+     * @param storage Storage.
+     * @param repo Repository name.
+     * @return Tags index.
+     */
+    static NamesIndex tags(Storage storage, String repo) {
+        final Key root = Layout.tags(repo);
+        return new NamesIndex(
+            storage, Layout.tagsIndex(repo), root,
+            keys -> new Children(root, keys).names()
+        );
+    }
+
+    /**
+     * Adds name to the index. Index is read without lock first and is not updated
+     * if it already has the name, so pushes of existing repositories and tags
+     * don't contend for the index lock.
+     *
+     * @param name Name.
+     * @return Completion action.
+     */
+    CompletionStage<Void> add(String name) {
+        return this.load(this.storage).thenCompose(
+            loaded -> {
+                final CompletionStage<Void> res;
+                if (loaded.isPresent() && Collections.binarySearch(loaded.get(), name) >= 0) {
+                    res = CompletableFuture.allOf();
+                } else {
+                    res = this.update(all -> all.add(name));
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Page of sorted names: names following {@link Pagination#last()}
+     * not more than {@link Pagination#limit()}.
+     *
+     * @param pagination Pagination parameters.
+     * @return Names page.
+     */
+    CompletionStage<List<String>> page(Pagination pagination) {
+        return this.load(this.storage).thenCompose(
+            loaded -> loaded.<CompletionStage<List<String>>>map(
+                CompletableFuture::completedFuture
+            ).orElseGet(this::rebuild)
+        ).thenApply(all -> NamesIndex.page(all, pagination));
+    }
+
+    /**
+     * Page of sorted names list.
+     *
+     * @param all Sorted names.
+     * @param pagination Pagination parameters.
+     * @return Names page.
+     */
+    static List<String> page(List<String> all, Pagination pagination) {
+        int from = 0;
+        if (pagination.last() != null) {
+            final int pos = Collections.binarySearch(all, pagination.last());
+            if (pos < 0) {
+                from = -pos - 1;
+            } else {
+                from = pos + 1;
+            }
+        }
+        return all.subList(
+            from, from + Math.max(0, Math.min(all.size() - from, pagination.limit()))
+        );
+    }
+
+    /**
+     * Updates index exclusively, index is built from storage listing if it does not exist.
+     * Index item is not saved if names were not changed. Update is retried while
+     * the index is locked by concurrent update.
+     *
+     * @param change Names change returning true if names were changed.
+     * @return Completion action.
+     */
+    private CompletionStage<Void> update(Function<Collection<String>, Boolean> change) {
+        return new RetryExclusively(this.storage).perform(
+            this.key,
+            asto -> this.load(asto).thenCompose(
+                loaded -> {
+                    final CompletionStage<Collection<String>> source;
+                    if (loaded.isPresent()) {
+                        source = CompletableFuture.completedFuture(loaded.get());
+                    } else {
+                        source = this.list(asto);
+                    }
+                    return source.thenCompose(
+                        items -> {
+                            final Collection<String> all = new TreeSet<>(items);
+                            final CompletionStage<Void> res;
+                            if (change.apply(all) || loaded.isEmpty()) {
+                                res = this.save(asto, all);
+                            } else {
+                                res = CompletableFuture.allOf();
+                            }
+                            return res;
+                        }
+                    );
+                }
+            )
+        );
+    }
+
+    /**
+     * Builds index from storage listing, index is saved if there are any names
+     * and it was not created concurrently.
+     *
+     * @return Sorted names.
+     */
+    private CompletionStage<List<String>> rebuild() {
+        return this.list(this.storage).thenCompose(
+            names -> {
+                final Collection<String> all = new TreeSet<>(names);
+                final CompletionStage<Void> save;
+                if (all.isEmpty()) {
+                    save = CompletableFuture.allOf();
+                } else {
+                    save = new RetryExclusively(this.storage).perform(
+                        this.key,
+                        asto -> asto.exists(this.key).thenCompose(
+                            exists -> {
+                                final CompletionStage<Void> res;
+                                if (exists) {
+                                    res = CompletableFuture.allOf();
+                                } else {
+                                    res = this.save(asto, all);
+                                }
+                                return res;
+                            }
+                        )
+                    );
+                }
+                return save.thenApply(nothing -> List.copyOf(all));
+            }
+        );
+    }
+
+    /**
+     * Names from storage listing.
+     *
+     * @param asto Storage.
+     * @return Names.
+     */
+    private CompletionStage<Collection<String>> list(Storage asto) {
+        return asto.list(this.root).thenApply(
+            keys -> this.names.apply(
+                keys.stream().filter(item -> !item.equals(this.key)).collect(Collectors.toList())
+            )
+        );
+    }
+
+    /**
+     * Loads index.
+     *
+     * @param asto Storage.
+     * @return Sorted names if index exists.
+     */
+    private CompletionStage<Optional<List<String>>> load(Storage asto) {
+        return asto.exists(this.key).thenCompose(
+            exists -> {
+                final CompletionStage<Optional<List<String>>> res;
+                if (exists) {
+                    res = asto.value(this.key)
+                        .thenCompose(Content::asStringFuture)
+                        .thenApply(
+                            text -> Optional.of(
+                                Arrays.stream(text.split("\n"))
+                                    .filter(line -> !line.isBlank())
+                                    .toList()
+                            )
+                        );
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Saves index.
+     *
+     * @param asto Storage.
+     * @param all Sorted names.
+     * @return Completion action.
+     */
+    private CompletionStage<Void> save(Storage asto, Collection<String> all) {
+        return asto.save(
+            this.key,
+            new Content.From(
+                all.stream()
+                    .map(name -> String.format("%s\n", name))
+                    .collect(Collectors.joining())
+                    .getBytes(StandardCharsets.UTF_8)
+            )
+        );
+    }
+
+    /**
+     * Repository name from key under repositories root: key parts before
+     * the first part starting with underscore, e.g. {@code _manifests}, or the first
+     * part if there is no such part.
+     *
+     * @param root Repositories root.
+     * @param key Key.
+     * @return Repository name, empty if key is a service item of the root.
+     */
+    private static String repository(Key root, Key key) {
+        final List<String> parts = key.parts().subList(root.parts().size(), key.parts().size());
+        int end = 0;
+        while (end < parts.size() && !parts.get(end).startsWith("_")) {
+            end = end + 1;
+        }
+        if (end == parts.size()) {
+            end = 1;
+        }
+        return String.join("/", parts.subList(0, end));
+    }
+}
@@ -16,14 +16,20 @@ import com.artipie.docker.misc.DigestedFlowable;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.Collection;
-import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
  * Blob upload.
  * See <a href="https://docs.docker.com/registry/spec/api/#blob-upload">Blob Upload</a>
+ * <p>
+ * Only monolithic uploads are written once: their body is streamed directly
+ * to the blob location. Chunked upload data is written under the upload root, as
+ * the digest and so the blob location are not known until the upload is committed,
+ * and it is committed with {@link Storage#move(Key, Key)}. The move is a rename
+ * for file storage, but for object storages like S3 it's a server-side copy
+ * followed by delete, so chunked uploads are stored twice there.
+ * </p>
  */
 public final class Upload {
 
@@ -95,28 +101,28 @@ public final class Upload {
 
     /**
      * Appends a chunk of data to upload.
+     * The chunk is written once to upload data key, its digest is saved
+     * next to it to verify the digest on commit without reading the data.
      *
      * @param chunk Chunk of data.
      * @return Offset after appending chunk.
      */
     public CompletableFuture<Long> append(final Content chunk) {
-        return this.chunks().thenCompose(
-            chunks -> {
-                if (!chunks.isEmpty()) {
+        return this.storage.exists(this.data()).thenCompose(
+            exists -> {
+                if (exists) {
                     throw new UnsupportedOperationException("Multiple chunks are not supported");
                 }
-                final Key tmp = new Key.From(this.root(), UUID.randomUUID().toString());
                 final DigestedFlowable data = new DigestedFlowable(chunk);
-                return this.storage.save(tmp, new Content.From(chunk.size(), data)).thenCompose(
-                    nothing -> {
-                        final Key key = this.chunk(data.digest());
-                        return this.storage.move(tmp, key).thenApply(ignored -> key);
-                    }
-                ).thenCompose(
-                    key -> this.storage.metadata(key)
-                        .thenApply(meta -> new MetaCommon(meta).size())
-                        .thenApply(updated -> updated - 1)
-                );
+                return this.storage.save(this.data(), new Content.From(chunk.size(), data))
+                    .thenCompose(
+                        nothing -> this.storage.save(
+                            this.digest(),
+                            new Content.From(
+                                data.digest().string().getBytes(StandardCharsets.US_ASCII)
+                            )
+                        )
+                    ).thenCompose(nothing -> this.offset());
             }
         );
     }
@@ -127,16 +133,15 @@ public final class Upload {
      * @return Offset.
      */
     public CompletableFuture<Long> offset() {
-        return this.chunks().thenCompose(
-            chunks -> {
+        return this.storage.exists(this.data()).thenCompose(
+            exists -> {
                 final CompletionStage<Long> result;
-                if (chunks.isEmpty()) {
-                    result = CompletableFuture.completedFuture(0L);
-                } else {
-                    final Key key = chunks.iterator().next();
-                    result = this.storage.metadata(key)
+                if (exists) {
+                    result = this.storage.metadata(this.data())
                         .thenApply(meta -> new MetaCommon(meta).size())
                         .thenApply(size -> Math.max(size - 1, 0));
+                } else {
+                    result = CompletableFuture.completedFuture(0L);
                 }
                 return result;
             }
@@ -152,30 +157,44 @@ public final class Upload {
      * @return Created blob.
      */
     public CompletableFuture<Void> putTo(Layers layers, Digest digest) {
-        final Key source = this.chunk(digest);
-        return this.storage.exists(source)
+        return this.putTo(layers, digest, Content.EMPTY);
+    }
+
+    /**
+     * Puts uploaded data to {@link Layers} creating a {@link Blob} with specified {@link Digest}.
+     * If no chunks were appended, the body is the whole blob (monolithic upload), it's streamed
+     * directly to the blob location and verified on the fly. Otherwise, the uploaded chunk
+     * is verified by its saved digest and moved to the blob location, which is a copy
+     * for object storages.
+     * If upload data mismatch provided digest then error occurs and operation does not complete.
+     *
+     * @param layers Target layers.
+     * @param digest Expected blob digest.
+     * @param body Request body.
+     * @return Created blob.
+     */
+    public CompletableFuture<Void> putTo(Layers layers, Digest digest, Content body) {
+        return this.storage.exists(this.digest())
             .thenCompose(
                 exists -> {
+                    final CompletableFuture<Digest> res;
                     if (exists) {
-                        return layers.put(
-                            new BlobSource() {
-                                @Override
-                                public Digest digest() {
-                                    return digest;
+                        res = this.storage.value(this.digest())
+                            .thenCompose(Content::asStringFuture)
+                            .thenCompose(
+                                uploaded -> {
+                                    if (!uploaded.equals(digest.string())) {
+                                        throw new InvalidDigestException(digest.toString());
+                                    }
+                                    return layers.put(this.source(digest));
                                 }
-
-                                @Override
-                                public CompletableFuture<Void> saveTo(Storage asto, Key key) {
-                                    return asto.move(source, key);
-                                }
-                            }
-                        ).thenCompose(
-                            blob -> this.delete()
-                        );
+                            );
+                    } else {
+                        res = layers.put(new CheckedBlobSource(body, digest));
                     }
-                    return CompletableFuture.failedFuture(new InvalidDigestException(digest.toString()));
+                    return res;
                 }
-            );
+            ).thenCompose(blob -> this.delete());
     }
 
     /**
@@ -187,6 +206,29 @@ public final class Upload {
         return Layout.upload(this.name, this.uuid);
     }
 
+    /**
+     * Blob source which moves uploaded chunk to the blob location.
+     *
+     * @param digest Blob digest.
+     * @return Blob source.
+     */
+    private BlobSource source(final Digest digest) {
+        return new BlobSource() {
+            @Override
+            public Digest digest() {
+                return digest;
+            }
+
+            @Override
+            public CompletableFuture<Void> saveTo(Storage asto, Key key) {
+                return asto.exists(key).thenCompose(
+                    exists -> exists ? CompletableFuture.completedFuture(null)
+                        : asto.move(Upload.this.data(), key)
+                );
+            }
+        };
+    }
+
     /**
      * Upload started marker key.
      *
@@ -197,27 +239,21 @@ public final class Upload {
     }
 
     /**
-     * Build upload chunk key for given digest.
+     * Uploaded chunk data key.
      *
-     * @param digest Digest.
-     * @return Chunk key.
+     * @return Key.
      */
-    private Key chunk(final Digest digest) {
-        return new Key.From(this.root(), digest.alg() + '_' + digest.hex());
+    private Key data() {
+        return new Key.From(this.root(), "data");
     }
 
     /**
-     * List all chunk keys.
+     * Uploaded chunk digest key.
      *
-     * @return Chunk keys.
+     * @return Key.
      */
-    private CompletableFuture<Collection<Key>> chunks() {
-        return this.storage.list(this.root())
-            .thenApply(
-                keys -> keys.stream()
-                    .filter(key -> !key.string().equals(this.started().string()))
-                    .toList()
-            );
+    private Key digest() {
+        return new Key.From(this.root(), "digest");
     }
 
     /**
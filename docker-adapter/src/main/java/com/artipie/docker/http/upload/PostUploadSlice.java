@@ -7,11 +7,13 @@ package com.artipie.docker.http.upload;
 import com.artipie.asto.Content;
 import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
+import com.artipie.docker.asto.CheckedBlobSource;
 import com.artipie.docker.perms.DockerActions;
 import com.artipie.docker.perms.DockerRepositoryPermission;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.slice.ContentWithSize;
 
 import java.security.Permission;
 import java.util.concurrent.CompletableFuture;
@@ -35,9 +37,28 @@ public class PostUploadSlice extends UploadSlice {
         if (request.mount().isPresent() && request.from().isPresent()) {
             return mount(request.mount().get(), request.from().get(), request.name());
         }
+        if (request.params().value("digest").isPresent()) {
+            return monolithic(request.name(), request.digest(), new ContentWithSize(body, headers));
+        }
         return startUpload(request.name());
     }
 
+    /**
+     * Uploads blob in single POST request, blob is streamed directly to its location
+     * and digest is verified on the fly.
+     *
+     * @param name Repository name.
+     * @param digest Blob digest.
+     * @param body Blob content.
+     * @return HTTP response.
+     */
+    private CompletableFuture<Response> monolithic(String name, Digest digest, Content body) {
+        return this.docker.repo(name)
+            .layers()
+            .put(new CheckedBlobSource(body, digest))
+            .thenCompose(added -> createdResponse(name, digest));
+    }
+
     /**
      * Mounts specified blob from source repository to target repository.
      *
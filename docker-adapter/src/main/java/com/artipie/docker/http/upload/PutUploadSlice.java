@@ -14,6 +14,7 @@ import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.ResponseBuilder;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.slice.ContentWithSize;
 
 import java.security.Permission;
 import java.util.concurrent.CompletableFuture;
@@ -39,7 +40,7 @@ public class PutUploadSlice extends UploadSlice {
             .get(request.uuid())
             .thenCompose(
                 found -> found.map(upload -> upload
-                    .putTo(repo.layers(), request.digest())
+                    .putTo(repo.layers(), request.digest(), new ContentWithSize(body, headers))
                     .thenCompose(any -> createdResponse(request.name(), request.digest()))
                 ).orElseGet(
                     () -> ResponseBuilder.notFound()
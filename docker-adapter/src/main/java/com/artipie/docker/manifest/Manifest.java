@@ -18,6 +18,7 @@ import javax.json.JsonValue;
 import java.io.ByteArrayInputStream;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.stream.Collectors;
 
 /**
@@ -107,6 +108,35 @@ public final class Manifest {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Whether the manifest is a manifest list or OCI image index,
+     * which references other manifests instead of config and layers.
+     *
+     * @return True if manifest references other manifests.
+     */
+    public boolean isManifestList() {
+        return this.json.containsKey("manifests");
+    }
+
+    /**
+     * Read digests of manifests referenced by manifest list or OCI image index.
+     *
+     * @return Manifest digests, empty for image manifest.
+     */
+    public Collection<Digest> manifests() {
+        final JsonArray array = this.json.getJsonArray("manifests");
+        final Collection<Digest> res;
+        if (array == null) {
+            res = Collections.emptyList();
+        } else {
+            res = array.getValuesAs(JsonValue::asJsonObject)
+                .stream()
+                .map(obj -> new Digest.FromString(obj.getString("digest")))
+                .collect(Collectors.toList());
+        }
+        return res;
+    }
+
     /**
      * Manifest digest.
      *
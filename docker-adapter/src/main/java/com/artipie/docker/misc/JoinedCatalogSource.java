@@ -16,6 +16,8 @@ import java.util.stream.Collectors;
 
 /**
  * Source of catalog built by loading and merging multiple catalogs.
+ * Every catalog is loaded with the same pagination, so the page is merged
+ * from sorted pages of sources.
  *
  * @since 0.10
  */
@@ -58,7 +60,11 @@ public final class JoinedCatalogSource {
                 .exceptionally(err -> Collections.emptyList())
         ).collect(Collectors.toList());
         return CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0]))
-            .thenApply(nothing -> all.stream().flatMap(stage -> stage.toCompletableFuture().join().stream()).toList())
-            .thenApply(names -> new CatalogPage(names, pagination));
+            .thenApply(
+                nothing -> this.pagination.merge(
+                    all.stream().map(stage -> stage.toCompletableFuture().join()).toList()
+                )
+            )
+            .thenApply(names -> new CatalogPage(names, this.pagination));
     }
 }
@@ -7,7 +7,6 @@ package com.artipie.docker.misc;
 import com.artipie.docker.Manifests;
 import com.artipie.docker.Tags;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -15,6 +14,8 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * Source of tags built by loading and merging multiple tag lists.
+ * Every tags list is loaded with the same pagination, so the page is merged
+ * from sorted pages of sources.
  */
 public final class JoinedTagsSource {
 
@@ -65,8 +66,9 @@ public final class JoinedTagsSource {
         }
         return CompletableFuture.allOf(futs)
             .thenApply(v -> {
-                List<String> names = new ArrayList<>();
-                Arrays.stream(futs).forEach(fut -> names.addAll(fut.join()));
+                final List<String> names = this.pagination.merge(
+                    Arrays.stream(futs).map(CompletableFuture::join).toList()
+                );
                 return new TagsPage(repo, names, pagination);
             });
     }
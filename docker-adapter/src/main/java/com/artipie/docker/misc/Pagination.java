@@ -6,12 +6,19 @@ package com.artipie.docker.misc;
 
 import com.artipie.ArtipieException;
 import com.artipie.http.rq.RqParams;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import org.apache.hc.core5.net.URIBuilder;
 
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 /**
@@ -50,6 +57,41 @@ public record Pagination(String last, int limit) {
         return res;
     }
 
+    /**
+     * Merges pages loaded from several sources into one page: names from all pages
+     * are merged in sorted order without duplicates until the limit is reached.
+     * Each source page is expected to be short as it's limited by the same pagination,
+     * so the result is built without sorting all the names together.
+     *
+     * @param pages Pages of names.
+     * @return Merged page.
+     */
+    public List<String> merge(Collection<? extends Collection<String>> pages) {
+        final PriorityQueue<PeekingIterator<String>> heads = new PriorityQueue<>(
+            Math.max(1, pages.size()), Comparator.comparing(PeekingIterator::peek)
+        );
+        for (final Collection<String> page : pages) {
+            final PeekingIterator<String> it = Iterators.peekingIterator(
+                page.stream().filter(this::lessThan).sorted().iterator()
+            );
+            if (it.hasNext()) {
+                heads.add(it);
+            }
+        }
+        final List<String> res = new ArrayList<>();
+        while (!heads.isEmpty() && res.size() < this.limit) {
+            final PeekingIterator<String> it = heads.poll();
+            final String name = it.next();
+            if (res.isEmpty() || !res.get(res.size() - 1).equals(name)) {
+                res.add(name);
+            }
+            if (it.hasNext()) {
+                heads.add(it);
+            }
+        }
+        return res;
+    }
+
     /**
      * Creates a URI string with pagination parameters.
      *
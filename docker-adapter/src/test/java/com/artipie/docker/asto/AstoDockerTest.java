@@ -47,4 +47,19 @@ final class AstoDockerTest {
             new IsEqual<>("{\"repositories\":[\"my-alpine\",\"test\"]}")
         );
     }
+
+    @Test
+    void shouldReadCatalogPageFromIndex() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(
+            Layout.catalog(),
+            new Content.From("alpine\nlibrary/busybox\nlibrary/ubuntu\nnginx\n".getBytes())
+        ).join();
+        MatcherAssert.assertThat(
+            new AstoDocker("test_registry", storage)
+                .catalog(new Pagination("alpine", 2))
+                .join().json().asString(),
+            new IsEqual<>("{\"repositories\":[\"library/busybox\",\"library/ubuntu\"]}")
+        );
+    }
 }
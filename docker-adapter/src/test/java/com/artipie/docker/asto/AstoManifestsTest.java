@@ -134,6 +134,21 @@ final class AstoManifestsTest {
         );
     }
 
+    @Test
+    @Timeout(5)
+    void shouldIndexAddedTag() {
+        final Digest config = this.blobs.put(new TrustedBlobSource("config".getBytes())).join();
+        final Digest layer = this.blobs.put(new TrustedBlobSource("layer".getBytes())).join();
+        this.manifests.put(
+            ManifestReference.fromTag("2.0"),
+            new Content.From(this.getJsonBytes(config, layer, "my-type"))
+        ).join();
+        MatcherAssert.assertThat(
+            this.manifests.tags(new Pagination("1", 2)).join().json().asString(),
+            Matchers.is("{\"name\":\"my-alpine\",\"tags\":[\"2.0\",\"latest\"]}")
+        );
+    }
+
     private byte[] manifest(final ManifestReference ref) {
         return this.manifests.get(ref)
             .thenApply(res -> res.orElseThrow().content())
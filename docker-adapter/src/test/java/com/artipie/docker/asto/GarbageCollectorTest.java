@@ -0,0 +1,217 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.ManifestReference;
+import com.artipie.docker.manifest.Manifest;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.json.Json;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link GarbageCollector}.
+ */
+final class GarbageCollectorTest {
+
+    /**
+     * Repository name used in tests.
+     */
+    private static final String REPO = "my-alpine";
+
+    /**
+     * Storage.
+     */
+    private Storage storage;
+
+    /**
+     * Blobs.
+     */
+    private Blobs blobs;
+
+    /**
+     * Manifests.
+     */
+    private AstoManifests manifests;
+
+    @BeforeEach
+    void setUp() {
+        this.storage = new InMemoryStorage();
+        this.blobs = new Blobs(this.storage);
+        this.manifests = new AstoManifests(this.storage, this.blobs, GarbageCollectorTest.REPO);
+    }
+
+    @Test
+    void removesBlobsOfOverwrittenManifest() {
+        final Digest config = this.blob("config");
+        final Digest old = this.blob("old layer");
+        final Digest layer = this.blob("new layer");
+        final Manifest first = this.manifests.put(
+            ManifestReference.fromTag("1"), this.manifest(config, old)
+        ).join();
+        this.manifests.put(ManifestReference.fromTag("1"), this.manifest(config, layer)).join();
+        MatcherAssert.assertThat(
+            "Garbage is reported",
+            new GarbageCollector(this.storage, Duration.ZERO).collect(false)
+                .toCompletableFuture().join(),
+            new IsEqual<>(
+                new GarbageCollector.Result(1, 2, first.size() + "old layer".length(), false)
+            )
+        );
+        MatcherAssert.assertThat(
+            "Unreferenced blobs are removed",
+            this.exists(old) || this.exists(first.digest()),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Tagged manifest is available",
+            this.manifests.get(ManifestReference.fromTag("1")).join().isPresent()
+                && this.exists(config) && this.exists(layer),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void removesNothingOnDryRun() {
+        final Digest config = this.blob("config");
+        this.manifests.put(ManifestReference.fromTag("1"), this.manifest(config, config)).join();
+        final Digest unused = this.blob("unused");
+        MatcherAssert.assertThat(
+            "Garbage is reported",
+            new GarbageCollector(this.storage, Duration.ZERO).collect(true)
+                .toCompletableFuture().join(),
+            new IsEqual<>(new GarbageCollector.Result(0, 1, "unused".length(), true))
+        );
+        MatcherAssert.assertThat(
+            "Garbage is not removed",
+            this.exists(unused),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void keepsItemsOfUnknownAgeWithinGracePeriod() {
+        final Digest unused = this.blob("unused");
+        MatcherAssert.assertThat(
+            new GarbageCollector(this.storage, Duration.ofHours(1)).collect(false)
+                .toCompletableFuture().join(),
+            new IsEqual<>(new GarbageCollector.Result(0, 0, 0, false))
+        );
+        MatcherAssert.assertThat(
+            "Blob is kept",
+            this.exists(unused),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void keepsManifestsReferencedByManifestList() {
+        final Digest config = this.blob("config");
+        final Digest layer = this.blob("layer");
+        final Manifest child = this.manifests.put(
+            ManifestReference.from(
+                new Digest.Sha256(
+                    this.manifest(config, layer).asBytes()
+                )
+            ),
+            this.manifest(config, layer)
+        ).join();
+        final Digest list = this.blob(
+            Json.createObjectBuilder()
+                .add("mediaType", "application/vnd.oci.image.index.v1+json")
+                .add(
+                    "manifests",
+                    Json.createArrayBuilder().add(
+                        Json.createObjectBuilder().add("digest", child.digest().string())
+                    )
+                ).build().toString()
+        );
+        this.storage.save(
+            Layout.manifest(GarbageCollectorTest.REPO, ManifestReference.fromTag("multi")),
+            new Content.From(list.string().getBytes(StandardCharsets.US_ASCII))
+        ).join();
+        this.storage.save(
+            Layout.manifest(GarbageCollectorTest.REPO, ManifestReference.from(list)),
+            new Content.From(list.string().getBytes(StandardCharsets.US_ASCII))
+        ).join();
+        MatcherAssert.assertThat(
+            "Nothing is removed",
+            new GarbageCollector(this.storage, Duration.ZERO).collect(false)
+                .toCompletableFuture().join(),
+            new IsEqual<>(new GarbageCollector.Result(0, 0, 0, false))
+        );
+        MatcherAssert.assertThat(
+            "Blobs are kept",
+            this.exists(child.digest()) && this.exists(config) && this.exists(layer),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void keepsOldBlobOfManifestPushedDuringCollection() {
+        final Digest config = this.blob("config");
+        final Digest old = this.blob("old layer");
+        final AtomicInteger listings = new AtomicInteger();
+        final Storage pushing = new Storage.Wrap(this.storage) {
+            @Override
+            public CompletableFuture<Collection<Key>> list(final Key prefix) {
+                if (prefix.equals(Layout.repositories()) && listings.incrementAndGet() == 2) {
+                    GarbageCollectorTest.this.manifests.put(
+                        ManifestReference.fromTag("1"),
+                        GarbageCollectorTest.this.manifest(config, old)
+                    ).join();
+                }
+                return super.list(prefix);
+            }
+        };
+        MatcherAssert.assertThat(
+            "Blobs are not reported",
+            new GarbageCollector(pushing, Duration.ZERO).collect(false)
+                .toCompletableFuture().join(),
+            new IsEqual<>(new GarbageCollector.Result(0, 0, 0, false))
+        );
+        MatcherAssert.assertThat(
+            "Blobs of pushed manifest are kept",
+            this.exists(config) && this.exists(old),
+            new IsEqual<>(true)
+        );
+    }
+
+    private Digest blob(final String data) {
+        return this.blobs.put(
+            new TrustedBlobSource(data.getBytes(StandardCharsets.UTF_8))
+        ).join();
+    }
+
+    private boolean exists(final Digest digest) {
+        return this.storage.exists(Layout.blob(digest)).join();
+    }
+
+    private Content manifest(final Digest config, final Digest layer) {
+        return new Content.From(
+            Json.createObjectBuilder()
+                .add("mediaType", Manifest.MANIFEST_SCHEMA2)
+                .add("config", Json.createObjectBuilder().add("digest", config.string()))
+                .add(
+                    "layers",
+                    Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add("digest", layer.string()))
+                )
+                .build().toString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
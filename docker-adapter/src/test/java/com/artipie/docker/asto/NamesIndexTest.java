@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.misc.Pagination;
+import com.google.common.base.Splitter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tests for {@link NamesIndex}.
+ */
+final class NamesIndexTest {
+
+    /**
+     * Storage used in tests.
+     */
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() {
+        this.storage = new InMemoryStorage();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        ",,0.1;0.1-rc;1.0;latest",
+        "0.1-rc,,1.0;latest",
+        "0.2,,1.0;latest",
+        "xyz,,''",
+        ",2,0.1;0.1-rc",
+        "0.1,2,0.1-rc;1.0"
+    })
+    void shouldSupportPaging(final String from, final Integer limit, final String result) {
+        MatcherAssert.assertThat(
+            NamesIndex.page(List.of("0.1", "0.1-rc", "1.0", "latest"), Pagination.from(from, limit)),
+            new IsEqual<>(Splitter.on(";").omitEmptyStrings().splitToList(result))
+        );
+    }
+
+    @Test
+    void shouldBuildTagsFromListing() {
+        Stream.of("1.0", "latest", "0.1").forEach(
+            tag -> this.storage.save(
+                new Key.From(Layout.tags("my-alpine"), tag, "current", "link"),
+                Content.EMPTY
+            ).join()
+        );
+        final NamesIndex index = NamesIndex.tags(this.storage, "my-alpine");
+        MatcherAssert.assertThat(
+            "Tags are read from listing",
+            index.page(Pagination.empty()).toCompletableFuture().join(),
+            new IsEqual<>(List.of("0.1", "1.0", "latest"))
+        );
+        MatcherAssert.assertThat(
+            "Index is saved",
+            this.storage.value(Layout.tagsIndex("my-alpine"))
+                .thenCompose(Content::asStringFuture).join(),
+            new IsEqual<>("0.1\n1.0\nlatest\n")
+        );
+    }
+
+    @Test
+    void shouldBuildCatalogFromListing() {
+        Stream.of(
+            "repositories/library/ubuntu/_manifests/tags/latest/current/link",
+            "repositories/alpine/_uploads/123/data",
+            "repositories/test/foo/bar"
+        ).forEach(key -> this.storage.save(new Key.From(key), Content.EMPTY).join());
+        MatcherAssert.assertThat(
+            NamesIndex.catalog(this.storage).page(Pagination.empty())
+                .toCompletableFuture().join(),
+            new IsEqual<>(List.of("alpine", "library/ubuntu", "test"))
+        );
+    }
+
+    @Test
+    void shouldAddNames() {
+        final NamesIndex index = NamesIndex.catalog(this.storage);
+        index.add("one").toCompletableFuture().join();
+        index.add("three").toCompletableFuture().join();
+        index.add("two").toCompletableFuture().join();
+        index.add("one").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            index.page(Pagination.empty()).toCompletableFuture().join(),
+            new IsEqual<>(List.of("one", "three", "two"))
+        );
+    }
+
+    @Test
+    void shouldNotLockIndexWhenNameExists() {
+        NamesIndex.catalog(this.storage).add("existing").toCompletableFuture().join();
+        this.storage.exclusively(Layout.catalog(), asto -> new CompletableFuture<>());
+        MatcherAssert.assertThat(
+            NamesIndex.catalog(this.storage).add("existing")
+                .toCompletableFuture().isCompletedExceptionally(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void shouldAddNamesConcurrently() {
+        final List<String> names = IntStream.range(0, 20)
+            .mapToObj(num -> String.format("repo-%02d", num))
+            .toList();
+        CompletableFuture.allOf(
+            names.parallelStream()
+                .map(name -> NamesIndex.catalog(this.storage).add(name).toCompletableFuture())
+                .toArray(CompletableFuture[]::new)
+        ).join();
+        MatcherAssert.assertThat(
+            NamesIndex.catalog(this.storage).page(Pagination.empty())
+                .toCompletableFuture().join(),
+            new IsEqual<>(names)
+        );
+    }
+
+    @Test
+    void shouldAddToExistingNamesWhenIndexIsAbsent() {
+        this.storage.save(
+            new Key.From("repositories/old/_manifests/tags/1/current/link"), Content.EMPTY
+        ).join();
+        NamesIndex.catalog(this.storage).add("new").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            NamesIndex.catalog(this.storage).page(Pagination.empty())
+                .toCompletableFuture().join(),
+            Matchers.contains("new", "old")
+        );
+    }
+
+    @Test
+    void shouldNotSaveEmptyIndex() {
+        NamesIndex.catalog(this.storage).page(Pagination.empty()).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.storage.exists(Layout.catalog()).join(),
+            new IsEqual<>(false)
+        );
+    }
+}
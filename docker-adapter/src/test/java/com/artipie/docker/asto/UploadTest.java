@@ -12,6 +12,8 @@ import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.Layers;
+import com.artipie.docker.error.InvalidDigestException;
+import com.google.common.base.Throwables;
 import io.reactivex.Flowable;
 import org.hamcrest.Description;
 import org.hamcrest.MatcherAssert;
@@ -143,6 +145,36 @@ class UploadTest {
         );
     }
 
+    @Test
+    void shouldPutMonolithicBody() {
+        this.upload.start().join();
+        final byte[] body = "monolithic".getBytes();
+        final CapturePutLayers fake = new CapturePutLayers();
+        this.upload.putTo(fake, new Digest.Sha256(body), new Content.From(body)).join();
+        MatcherAssert.assertThat(fake.content(), new IsEqual<>(body));
+        MatcherAssert.assertThat(
+            this.storage.list(this.upload.root()).join(),
+            new IsEmptyCollection<>()
+        );
+    }
+
+    @Test
+    void shouldFailToPutMonolithicBodyWithWrongDigest() {
+        this.upload.start().join();
+        MatcherAssert.assertThat(
+            Throwables.getRootCause(
+                Assertions.assertThrows(
+                    CompletionException.class,
+                    () -> this.upload.putTo(
+                        new CapturePutLayers(), new Digest.Sha256("other".getBytes()),
+                        new Content.From("body".getBytes())
+                    ).join()
+                )
+            ),
+            new IsInstanceOf(InvalidDigestException.class)
+        );
+    }
+
     /**
      * Matcher for {@link Upload} content.
      */
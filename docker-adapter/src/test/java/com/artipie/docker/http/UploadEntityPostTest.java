@@ -6,6 +6,7 @@ package com.artipie.docker.http;
 
 import com.artipie.asto.Content;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
 import com.artipie.docker.asto.AstoDocker;
 import com.artipie.docker.asto.TrustedBlobSource;
@@ -19,6 +20,7 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.google.common.base.Strings;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -97,6 +99,31 @@ class UploadEntityPostTest {
         );
     }
 
+    @Test
+    void shouldUploadMonolithicBlob() {
+        final byte[] content = "monolithic".getBytes();
+        final String digest = new Digest.Sha256(content).string();
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(
+                    RqMethod.POST, String.format("/v2/test/blobs/uploads/?digest=%s", digest)
+                ),
+                Headers.EMPTY,
+                new Content.From(content)
+            ).join(),
+            new ResponseMatcher(
+                RsStatus.CREATED,
+                new Header("Location", String.format("/v2/test/blobs/%s", digest)),
+                new Header("Docker-Content-Digest", digest)
+            )
+        );
+        MatcherAssert.assertThat(
+            this.docker.repo("test").layers().get(new Digest.FromString(digest))
+                .join().isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
     private static void uploadStartedAssert(Response actual) {
         Assertions.assertEquals("0-0", actual.headers().single("Range").getValue());
         Assertions.assertEquals("0", actual.headers().single("Content-Length").getValue());
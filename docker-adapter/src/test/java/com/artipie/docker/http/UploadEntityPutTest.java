@@ -80,6 +80,36 @@ class UploadEntityPutTest {
         );
     }
 
+    @Test
+    void shouldFinishMonolithicUpload() {
+        final String name = "test";
+        final Upload upload = this.docker.repo(name).uploads()
+            .start()
+            .toCompletableFuture().join();
+        final byte[] content = "data".getBytes();
+        final String digest = new Digest.Sha256(content).string();
+        MatcherAssert.assertThat(
+            "Returns 201 status",
+            this.slice.response(
+                UploadEntityPutTest.requestLine(name, upload.uuid(), digest),
+                Headers.EMPTY,
+                new Content.From(content)
+            ).join(),
+            new ResponseMatcher(
+                RsStatus.CREATED,
+                new Header("Docker-Content-Digest", digest)
+            )
+        );
+        MatcherAssert.assertThat(
+            "Puts blob into storage",
+            this.docker.repo(name).layers().get(new Digest.FromString(digest))
+                .thenCompose(blob -> blob.get().content())
+                .thenCompose(Content::asBytesFuture)
+                .toCompletableFuture().join(),
+            new IsEqual<>(content)
+        );
+    }
+
     @Test
     void returnsBadRequestWhenDigestsDoNotMatch() {
         final String name = "repo";
@@ -5,62 +5,52 @@
 package com.artipie.gem;
 
 import com.artipie.asto.ArtipieIOException;
-import com.artipie.asto.Copy;
+import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
-import com.artipie.asto.fs.FileStorage;
-import com.artipie.asto.misc.UncheckedSupplier;
+import com.artipie.asto.ext.ContentDigest;
+import com.artipie.asto.ext.Digests;
+import com.artipie.asto.streams.ContentAsStream;
 import com.artipie.gem.GemMeta.MetaInfo;
-import com.artipie.gem.ruby.RubyGemDependencies;
-import com.artipie.gem.ruby.RubyGemIndex;
-import com.artipie.gem.ruby.RubyGemMeta;
-import com.artipie.gem.ruby.SharedRuntime;
-import java.io.File;
-import java.io.IOException;
+import com.artipie.gem.index.CompactIndex;
+import com.artipie.gem.index.InfoLine;
+import com.artipie.gem.index.QuickSpec;
+import com.artipie.gem.spec.GemSpec;
+import com.artipie.gem.spec.GemVersion;
+import com.artipie.gem.spec.Marshal;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.function.BiFunction;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * An SDK, which servers gem packages.
  * <p>
- * Performes gem index update using specified indexer implementation.
+ * Gem metadata is read from the package without Ruby runtime, repository indexes
+ * are maintained incrementally by {@link CompactIndex}.
  * </p>
  * @since 1.0
  */
 public final class Gem {
 
-    /**
-     * Read only set of metadata item names.
-     */
-    private static final Set<Key> META_NAMES = Collections.unmodifiableSet(
-        Stream.of(
-            "latest_specs.4.8", "latest_specs.4.8.gz", "prerelease_specs.4.8",
-            "prerelease_specs.4.8.gz", "specs.4.8", "specs.4.8.gz"
-        ).map(Key.From::new).collect(Collectors.toSet())
-    );
-
     /**
      * Gem repository storage.
      */
     private final Storage storage;
 
     /**
-     * Shared ruby runtime.
+     * Compact index.
      */
-    private final SharedRuntime shared;
+    private final CompactIndex index;
 
     /**
      * New Gem SDK with default indexer.
@@ -68,43 +58,33 @@ public final class Gem {
      */
     public Gem(final Storage storage) {
         this.storage = storage;
-        this.shared = new SharedRuntime();
+        this.index = new CompactIndex(storage);
     }
 
     /**
-     * Batch update Ruby gems for repository.
+     * Add gem to repository: quick specification is created, repository indexes
+     * are updated and then gem is moved to `gems/{full-name}.gem`, so published
+     * gem is always indexed.
      *
      * @param gem Ruby gem for indexing
-     * @return Completable action
+     * @return Completable action with gem name and version
      */
     public CompletionStage<Pair<String, String>> update(final Key gem) {
-        return newTempDir().thenCompose(
-            tmp -> new Copy(
-                this.storage, key -> META_NAMES.contains(key) || key.equals(gem)
-            ).copy(new FileStorage(tmp)).thenCompose(
-                ignore -> this.shared.apply(RubyGemMeta::new)
-                    .thenApply(meta -> meta.info(tmp.resolve(gem.string())))
-                    .thenCompose(
-                        info -> {
-                            final RevisionFormat fmt = new RevisionFormat();
-                            final String name = info.toString(fmt);
-                            return CompletableFuture.supplyAsync(
-                                new UncheckedSupplier<>(
-                                    () -> Files.move(
-                                        tmp.resolve(gem.string()),
-                                        gem.parent().map(key -> tmp.resolve(key.string()))
-                                            .orElse(tmp).resolve(name)
-                                    )
-                                )
-                            ).thenCompose(
-                                path -> this.shared.apply(RubyGemIndex::new)
-                                    .thenAccept(index -> index.update(path))
-                                ).thenCompose(
-                                    ignored -> new Copy(new FileStorage(tmp)).copy(this.storage)
-                                ).thenApply(ignored -> new ImmutablePair<>(fmt.name, fmt.version));
-                        }
-                    )
-            ).handle(removeTempDir(tmp))
+        return this.spec(gem).thenCompose(
+            spec -> this.storage.value(gem)
+                .thenCompose(content -> new ContentDigest(content, Digests.SHA256).hex())
+                .thenCompose(
+                    sha -> {
+                        final QuickSpec quick = new QuickSpec(spec);
+                        final Key target = new Key.From(
+                            CompactIndex.GEMS, String.format("%s.gem", spec.fullName())
+                        );
+                        return this.storage.save(
+                            quick.key(), new Content.From(quick.bytes())
+                        ).thenCompose(nothing -> this.index.add(spec, sha))
+                            .thenCompose(nothing -> this.storage.move(gem, target));
+                    }
+                ).thenApply(nothing -> new ImmutablePair<>(spec.name(), spec.version()))
         );
     }
 
@@ -114,21 +94,20 @@ public final class Gem {
      * @return Future
      */
     public CompletionStage<MetaInfo> info(final String gem) {
-        return newTempDir().thenCompose(
-            tmp -> new Copy(this.storage, new GemKeyPredicate(gem))
-                .copy(new FileStorage(tmp))
-                .thenApply(ignore -> tmp)
-        ).thenCompose(
-            tmp -> this.shared.apply(RubyGemMeta::new)
-                .thenCompose(
-                    info -> new FileStorage(tmp).list(Key.ROOT).thenApply(
-                        items -> items.stream().findFirst()
-                            .map(first -> Paths.get(tmp.toString(), first.string()))
-                            .map(path -> info.info(path))
-                            .orElseThrow(() -> new ArtipieIOException("gem not found"))
+        return this.index.ensure().thenCompose(nothing -> this.index.info(gem)).thenCompose(
+            info -> info.flatMap(Gem::latest).map(
+                line -> this.spec(
+                    new Key.From(
+                        CompactIndex.GEMS, String.format("%s-%s.gem", gem, line.fullVersion())
                     )
-                ).handle(removeTempDir(tmp))
-        );
+                )
+            ).orElseGet(
+                () -> this.packages(gem).thenCompose(
+                    keys -> keys.stream().findFirst().map(this::spec)
+                        .orElseThrow(() -> new ArtipieIOException("gem not found"))
+                )
+            )
+        ).<MetaInfo>thenApply(spec -> spec);
     }
 
     /**
@@ -137,97 +116,115 @@ public final class Gem {
      * @return Dependencies binary data
      */
     public CompletionStage<ByteBuffer> dependencies(final Set<? extends String> gems) {
-        return newTempDir().thenCompose(
-            tmp -> new Copy(
-                this.storage, new GemKeyPredicate(gems)
-            ).copy(new FileStorage(tmp)).thenCompose(
-                ignore -> this.shared.apply(RubyGemDependencies::new).thenCompose(
-                    deps -> new FileStorage(tmp).list(Key.ROOT).thenApply(
-                        keys -> keys.stream()
-                            .map(key -> tmp.resolve(key.string()))
-                            .collect(Collectors.toSet())
-                    ).thenApply(paths -> new ImmutablePair<>(deps, paths))
-                ).thenApply(
-                    tuple -> tuple.getLeft().dependencies(tuple.getRight())
-                )
-            ).handle(removeTempDir(tmp))
+        final Map<String, List<InfoLine>> found = new TreeMap<>();
+        return this.index.ensure().thenCompose(
+            nothing -> CompletableFuture.allOf(
+                gems.stream().map(
+                    name -> this.versions(name).thenAccept(
+                        lines -> {
+                            synchronized (found) {
+                                found.put(name, lines);
+                            }
+                        }
+                    ).toCompletableFuture()
+                ).toArray(CompletableFuture[]::new)
+            )
+        ).thenApply(
+            nothing -> {
+                final Marshal mrsh = new Marshal().array(
+                    found.values().stream().mapToInt(List::size).sum()
+                );
+                found.forEach(
+                    (name, lines) -> lines.forEach(
+                        line -> {
+                            mrsh.hash(4)
+                                .symbol("name").string(name)
+                                .symbol("number").string(line.version())
+                                .symbol("platform").string(line.platform())
+                                .symbol("dependencies").array(line.dependencies().size());
+                            line.dependencies().forEach(
+                                (dep, reqs) -> mrsh.array(2)
+                                    .string(dep).string(String.join(", ", reqs))
+                            );
+                        }
+                    )
+                );
+                return ByteBuffer.wrap(mrsh.bytes());
+            }
         );
     }
 
     /**
-     * Create new temp dir asynchronously.
-     * @return Future
+     * Gem versions from compact index or from stored packages if gem is not indexed.
+     * @param name Gem name
+     * @return Info lines
      */
-    private static CompletionStage<Path> newTempDir() {
-        return CompletableFuture.supplyAsync(
-            new UncheckedSupplier<>(
-                () -> Files.createTempDirectory(Gem.class.getSimpleName())
-            )
+    private CompletionStage<List<InfoLine>> versions(final String name) {
+        return this.index.info(name).thenCompose(
+            info -> info.<CompletionStage<List<InfoLine>>>map(CompletableFuture::completedFuture)
+                .orElseGet(
+                    () -> this.packages(name).thenCompose(
+                        keys -> {
+                            final List<InfoLine> res = new ArrayList<>(keys.size());
+                            return CompletableFuture.allOf(
+                                keys.stream().map(
+                                    key -> this.spec(key).thenAccept(
+                                        spec -> {
+                                            synchronized (res) {
+                                                res.add(InfoLine.of(spec, ""));
+                                            }
+                                        }
+                                    ).toCompletableFuture()
+                                ).toArray(CompletableFuture[]::new)
+                            ).thenApply(nothing -> res);
+                        }
+                    )
+                )
         );
     }
 
     /**
-     * Handle async result.
-     * @param tmpdir Path directory to remove
-     * @param <T> Result type
-     * @return Function handler
+     * Stored packages of the gem, storage is listed only if there is no compact
+     * index: every published gem is indexed, so gem without index entry is unknown.
+     * @param name Gem name
+     * @return Gem packages keys
      */
-    private static <T> BiFunction<T, Throwable, T> removeTempDir(
-        final Path tmpdir) {
-        return (res, err) -> {
-            try {
-                if (tmpdir != null) {
-                    FileUtils.deleteDirectory(new File(tmpdir.toString()));
+    private CompletionStage<List<Key>> packages(final String name) {
+        return this.storage.exists(CompactIndex.VERSIONS).thenCompose(
+            indexed -> {
+                final CompletionStage<List<Key>> res;
+                if (indexed) {
+                    res = CompletableFuture.completedFuture(List.of());
+                } else {
+                    res = this.storage.list(Key.ROOT).thenApply(
+                        keys -> keys.stream()
+                            .filter(key -> key.string().endsWith(".gem"))
+                            .filter(new GemKeyPredicate(name))
+                            .collect(Collectors.toList())
+                    );
                 }
-            } catch (final IOException iox) {
-                throw new ArtipieIOException(iox);
+                return res;
             }
-            if (err != null) {
-                throw new CompletionException(err);
-            }
-            return res;
-        };
+        );
     }
 
     /**
-     * Revision Gem meta format.
-     * @since 1.0
+     * Reads specification of the gem package.
+     * @param gem Gem package key
+     * @return Gem specification
      */
-    private static final class RevisionFormat implements GemMeta.MetaFormat {
-
-        /**
-         * Gem name.
-         */
-        private String name;
-
-        /**
-         * Gem value.
-         */
-        private String version;
-
-        @Override
-        public void print(final String nme, final String value) {
-            if ("name".equals(nme)) {
-                this.name = value;
-            }
-            if ("version".equals(nme)) {
-                this.version = value;
-            }
-        }
-
-        @Override
-        public void print(final String nme, final MetaInfo value) {
-            // do nothing
-        }
-
-        @Override
-        public void print(final String nme, final String[] values) {
-            // do nothing
-        }
+    private CompletionStage<GemSpec> spec(final Key gem) {
+        return this.storage.value(gem).thenCompose(
+            content -> new ContentAsStream<GemSpec>(content).process(GemSpec::read)
+        );
+    }
 
-        @Override
-        public String toString() {
-            return String.format("%s-%s.gem", this.name, this.version);
-        }
+    /**
+     * Latest gem version.
+     * @param lines Gem versions
+     * @return Latest version line if any
+     */
+    private static Optional<InfoLine> latest(final List<InfoLine> lines) {
+        return lines.stream().max(Comparator.comparing(line -> new GemVersion(line.version())));
     }
 }
@@ -18,13 +18,11 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.slice.ContentWithSize;
 import com.artipie.scheduling.ArtifactEvent;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Optional;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionStage;
 
 /**
  * A slice, which servers gem packages.
@@ -81,16 +79,15 @@ final class SubmitGemSlice implements Slice {
                 key, new ContentWithSize(body, headers)
             ).thenCompose(
                 none -> {
-                    final CompletionStage<Pair<String, String>> update = this.gem.update(key);
                     if (this.events.isPresent()) {
-                        return update.thenCompose(
-                            pair -> new RqHeaders(headers, "content-length").stream().findFirst()
-                                .map(Long::parseLong).map(CompletableFuture::completedFuture)
-                                .orElseGet(
-                                    () -> this.storage.metadata(key)
-                                        .thenApply(mets -> mets.read(Meta.OP_SIZE).get())
-                                ).thenAccept(
-                                    size -> this.events.get().add(
+                        return new RqHeaders(headers, "content-length").stream().findFirst()
+                            .map(Long::parseLong).map(CompletableFuture::completedFuture)
+                            .orElseGet(
+                                () -> this.storage.metadata(key)
+                                    .thenApply(mets -> mets.read(Meta.OP_SIZE).get())
+                            ).thenCompose(
+                                size -> this.gem.update(key).thenAccept(
+                                    pair -> this.events.get().add(
                                         new ArtifactEvent(
                                             SubmitGemSlice.REPO_TYPE, this.name,
                                             new Login(headers).getValue(),
@@ -98,13 +95,12 @@ final class SubmitGemSlice implements Slice {
                                         )
                                     )
                                 )
-                        );
+                            );
                     } else {
-                        return update.thenAccept(pair -> { });
+                        return this.gem.update(key).thenAccept(pair -> { });
                     }
                 }
             )
-            .thenCompose(none -> this.storage.delete(key))
             .thenApply(none -> ResponseBuilder.created().build());
     }
 }
@@ -0,0 +1,405 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.index;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.ContentDigest;
+import com.artipie.asto.ext.Digests;
+import com.artipie.asto.lock.RetryExclusively;
+import com.artipie.asto.streams.ContentAsStream;
+import com.artipie.gem.spec.GemSpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Compact index of gem repository, see
+ * <a href="https://guides.rubygems.org/rubygems-org-compact-index-api/">API</a>:
+ * <ul>
+ *     <li>`versions` is append-only list of `name version[,version] info-md5` lines</li>
+ *     <li>`names` is sorted list of gem names</li>
+ *     <li>`info/{gem}` lists dependencies and checksums of every gem version</li>
+ * </ul>
+ * On publish only the lines of published gem are appended, legacy Marshal specs are
+ * generated from the versions list. Index is built from the gems in `gems/` directory
+ * once if `versions` file does not exist.
+ * @since 1.0
+ */
+public final class CompactIndex {
+
+    /**
+     * Versions file key.
+     */
+    public static final Key VERSIONS = new Key.From("versions");
+
+    /**
+     * Names file key.
+     */
+    public static final Key NAMES = new Key.From("names");
+
+    /**
+     * Info files root key.
+     */
+    public static final Key INFO = new Key.From("info");
+
+    /**
+     * Gem packages root key.
+     */
+    public static final Key GEMS = new Key.From("gems");
+
+    /**
+     * Files header separator.
+     */
+    private static final String SEPARATOR = "---";
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     */
+    public CompactIndex(final Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Adds gem to the index. Gem package is not expected to be stored in `gems/`
+     * directory yet: it should be published after it's indexed, so the gem is never
+     * served without index entry. Index is built from already stored gems first if
+     * it does not exist. Concurrent updates of the index are serialized.
+     * @param spec Gem specification
+     * @param sha Gem package SHA-256 checksum hex
+     * @return Completion action
+     */
+    public CompletionStage<Void> add(final GemSpec spec, final String sha) {
+        return new RetryExclusively(this.storage).perform(
+            CompactIndex.VERSIONS,
+            asto -> asto.exists(CompactIndex.VERSIONS).thenCompose(
+                exists -> {
+                    final CompletionStage<Void> res;
+                    if (exists) {
+                        res = CompletableFuture.allOf();
+                    } else {
+                        res = CompactIndex.rebuild(asto);
+                    }
+                    return res;
+                }
+            ).thenCompose(nothing -> CompactIndex.append(asto, spec, sha))
+        );
+    }
+
+    /**
+     * Builds the index from stored gem packages if it does not exist yet.
+     * @return Completion action
+     */
+    public CompletionStage<Void> ensure() {
+        return this.storage.exists(CompactIndex.VERSIONS).thenCompose(
+            exists -> {
+                final CompletionStage<Void> res;
+                if (exists) {
+                    res = CompletableFuture.allOf();
+                } else {
+                    res = new RetryExclusively(this.storage).perform(
+                        CompactIndex.VERSIONS,
+                        asto -> asto.exists(CompactIndex.VERSIONS).thenCompose(
+                            created -> {
+                                final CompletionStage<Void> build;
+                                if (created) {
+                                    build = CompletableFuture.allOf();
+                                } else {
+                                    build = CompactIndex.rebuild(asto);
+                                }
+                                return build;
+                            }
+                        )
+                    );
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Gem versions from `info/{gem}` file.
+     * @param name Gem name
+     * @return Info lines if gem is indexed
+     */
+    public CompletionStage<Optional<List<InfoLine>>> info(final String name) {
+        final Key key = new Key.From(CompactIndex.INFO, name);
+        return this.storage.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Optional<List<InfoLine>>> res;
+                if (exists) {
+                    res = this.storage.value(key).thenCompose(Content::asStringFuture).thenApply(
+                        text -> Optional.of(
+                            CompactIndex.lines(text).stream()
+                                .map(InfoLine::parse)
+                                .collect(Collectors.toList())
+                        )
+                    );
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Appends gem to the index, versions file is created if there is no index.
+     * Info line of re-published version is replaced, but the version is not appended
+     * to versions file again.
+     * @param asto Storage
+     * @param spec Gem specification
+     * @param sha Gem package checksum
+     * @return Completion action
+     */
+    private static CompletionStage<Void> append(final Storage asto, final GemSpec spec,
+        final String sha) {
+        final InfoLine line = InfoLine.of(spec, sha);
+        final Key key = new Key.From(CompactIndex.INFO, spec.name());
+        return CompactIndex.text(asto, key, "").thenCompose(
+            text -> {
+                final List<String> lines = CompactIndex.lines(text).stream().filter(
+                    item -> !InfoLine.parse(item).fullVersion().equals(line.fullVersion())
+                ).collect(Collectors.toList());
+                lines.add(line.toString());
+                final String info = CompactIndex.file(lines);
+                return asto.save(key, CompactIndex.content(info))
+                    .thenApply(nothing -> DigestUtils.md5Hex(info));
+            }
+        ).thenCompose(
+            md5 -> CompactIndex.text(
+                asto, CompactIndex.VERSIONS, CompactIndex.header()
+            ).thenCompose(
+                text -> {
+                    final Map<String, Collection<String>> versions = CompactIndex.versions(text);
+                    final boolean known = versions.containsKey(spec.name());
+                    final Collection<String> gem = versions.computeIfAbsent(
+                        spec.name(), name -> new LinkedHashSet<>()
+                    );
+                    final CompletionStage<Void> res;
+                    if (gem.contains(line.fullVersion())) {
+                        res = CompletableFuture.allOf();
+                    } else {
+                        gem.add(line.fullVersion());
+                        CompletionStage<Void> save = asto.save(
+                            CompactIndex.VERSIONS,
+                            CompactIndex.content(
+                                String.format(
+                                    "%s%s %s %s\n", text, spec.name(), line.fullVersion(), md5
+                                )
+                            )
+                        );
+                        if (!known) {
+                            save = save.thenCompose(
+                                nothing -> asto.save(
+                                    CompactIndex.NAMES,
+                                    CompactIndex.content(
+                                        CompactIndex.file(new ArrayList<>(versions.keySet()))
+                                    )
+                                )
+                            );
+                        }
+                        res = save.thenCompose(nothing -> new LegacySpecs(versions).save(asto));
+                    }
+                    return res;
+                }
+            )
+        );
+    }
+
+    /**
+     * Builds the index from all the gems in `gems/` directory, nothing
+     * is saved if there are no gems.
+     * @param asto Storage
+     * @return Completion action
+     */
+    private static CompletionStage<Void> rebuild(final Storage asto) {
+        final Map<String, Map<String, InfoLine>> gems = new TreeMap<>();
+        return asto.list(CompactIndex.GEMS).thenCompose(
+            keys -> CompletableFuture.allOf(
+                keys.stream().filter(key -> key.string().endsWith(".gem")).map(
+                    key -> asto.value(key).thenCompose(
+                        content -> new ContentAsStream<GemSpec>(content).process(GemSpec::read)
+                    ).thenCompose(
+                        spec -> asto.value(key).thenCompose(
+                            content -> new ContentDigest(content, Digests.SHA256).hex()
+                        ).thenAccept(
+                            sha -> {
+                                synchronized (gems) {
+                                    final InfoLine line = InfoLine.of(spec, sha);
+                                    gems.computeIfAbsent(spec.name(), name -> new TreeMap<>())
+                                        .put(line.fullVersion(), line);
+                                }
+                            }
+                        )
+                    ).toCompletableFuture()
+                ).toArray(CompletableFuture[]::new)
+            )
+        ).thenCompose(
+            nothing -> {
+                final CompletionStage<Void> res;
+                if (gems.isEmpty()) {
+                    res = CompletableFuture.allOf();
+                } else {
+                    final StringBuilder versions = new StringBuilder(CompactIndex.header());
+                    final List<CompletableFuture<Void>> infos = new ArrayList<>(gems.size());
+                    gems.forEach(
+                        (name, lines) -> {
+                            final String info = CompactIndex.file(
+                                lines.values().stream().map(InfoLine::toString)
+                                    .collect(Collectors.toList())
+                            );
+                            versions.append(name).append(' ')
+                                .append(String.join(",", lines.keySet())).append(' ')
+                                .append(DigestUtils.md5Hex(info)).append('\n');
+                            infos.add(
+                                asto.save(
+                                    new Key.From(CompactIndex.INFO, name),
+                                    CompactIndex.content(info)
+                                )
+                            );
+                        }
+                    );
+                    res = CompletableFuture.allOf(infos.toArray(new CompletableFuture[0]))
+                        .thenCompose(
+                            ignored -> asto.save(
+                                CompactIndex.NAMES,
+                                CompactIndex.content(
+                                    CompactIndex.file(new ArrayList<>(gems.keySet()))
+                                )
+                            )
+                        ).thenCompose(
+                            ignored -> new LegacySpecs(
+                                gems.entrySet().stream().collect(
+                                    Collectors.toMap(
+                                        Map.Entry::getKey, entry -> entry.getValue().keySet()
+                                    )
+                                )
+                            ).save(asto)
+                        ).thenCompose(
+                            ignored -> asto.save(
+                                CompactIndex.VERSIONS,
+                                CompactIndex.content(versions.toString())
+                            )
+                        );
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Header of new versions file.
+     * @return Header text
+     */
+    private static String header() {
+        return String.format(
+            "created_at: %s\n%s\n",
+            Instant.now().truncatedTo(ChronoUnit.SECONDS),
+            CompactIndex.SEPARATOR
+        );
+    }
+
+    /**
+     * Parses versions file: gem names with versions, versions prefixed with `-`
+     * are yanked and removed from the list.
+     * @param text Versions file text
+     * @return Versions by sorted names
+     */
+    private static Map<String, Collection<String>> versions(final String text) {
+        final Map<String, Collection<String>> res = new TreeMap<>();
+        for (final String line : CompactIndex.lines(text)) {
+            final String[] parts = line.split(" ");
+            final Collection<String> vers = res.computeIfAbsent(
+                parts[0], name -> new LinkedHashSet<>()
+            );
+            Arrays.stream(parts[1].split(",")).forEach(
+                ver -> {
+                    if (ver.startsWith("-")) {
+                        vers.remove(ver.substring(1));
+                    } else {
+                        vers.add(ver);
+                    }
+                }
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Lines of index file after header separator.
+     * @param text File text
+     * @return Lines
+     */
+    private static List<String> lines(final String text) {
+        final List<String> all = Arrays.asList(text.split("\n"));
+        return new ArrayList<>(
+            all.subList(all.indexOf(CompactIndex.SEPARATOR) + 1, all.size()).stream()
+                .filter(line -> !line.isBlank())
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Index file with header separator.
+     * @param lines Lines
+     * @return File text
+     */
+    private static String file(final List<String> lines) {
+        final StringBuilder res = new StringBuilder(CompactIndex.SEPARATOR).append('\n');
+        lines.forEach(line -> res.append(line).append('\n'));
+        return res.toString();
+    }
+
+    /**
+     * Reads storage item as text.
+     * @param asto Storage
+     * @param key Item key
+     * @param def Default text if item does not exist
+     * @return Text
+     */
+    private static CompletionStage<String> text(final Storage asto, final Key key,
+        final String def) {
+        return asto.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<String> res;
+                if (exists) {
+                    res = asto.value(key).thenCompose(Content::asStringFuture);
+                } else {
+                    res = CompletableFuture.completedFuture(def);
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Text content.
+     * @param text Text
+     * @return Content
+     */
+    private static Content content(final String text) {
+        return new Content.From(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
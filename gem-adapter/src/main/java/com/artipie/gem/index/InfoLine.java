@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.index;
+
+import com.artipie.gem.spec.GemSpec;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Line of compact index `info/{gem}` file, describes one gem version:
+ * <pre>
+ * 1.0.0[-platform] dep:&gt;= 1.0&amp;&lt; 2,other:&gt;= 0|checksum:sha256,ruby:&gt;= 2.0
+ * </pre>
+ * Line of the gem version without dependencies starts with `version |`.
+ * @since 1.0
+ */
+public final class InfoLine {
+
+    /**
+     * Version with optional platform.
+     */
+    private final String version;
+
+    /**
+     * Runtime dependencies: name to requirements.
+     */
+    private final Map<String, List<String>> deps;
+
+    /**
+     * Requirements part of the line: checksum, ruby and rubygems requirements.
+     */
+    private final String reqs;
+
+    /**
+     * Ctor.
+     * @param version Version with optional platform
+     * @param deps Runtime dependencies
+     * @param reqs Requirements part
+     */
+    public InfoLine(final String version, final Map<String, List<String>> deps,
+        final String reqs) {
+        this.version = version;
+        this.deps = deps;
+        this.reqs = reqs;
+    }
+
+    /**
+     * Info line of the gem.
+     * @param spec Gem specification
+     * @param sha Gem package SHA-256 checksum hex
+     * @return Info line
+     */
+    public static InfoLine of(final GemSpec spec, final String sha) {
+        final Map<String, List<String>> deps = new LinkedHashMap<>();
+        spec.dependencies(true).forEach(
+            dep -> deps.put(dep.name(), Arrays.asList(dep.compactRequirement().split("&")))
+        );
+        final StringBuilder reqs = new StringBuilder("checksum:").append(sha);
+        final String ruby = spec.compactRequirement("required_ruby_version");
+        if (!">= 0".equals(ruby)) {
+            reqs.append(",ruby:").append(ruby);
+        }
+        final String rubygems = spec.compactRequirement("required_rubygems_version");
+        if (!">= 0".equals(rubygems)) {
+            reqs.append(",rubygems:").append(rubygems);
+        }
+        final String version;
+        if ("ruby".equals(spec.platform())) {
+            version = spec.version();
+        } else {
+            version = String.join("-", spec.version(), spec.platform());
+        }
+        return new InfoLine(version, deps, reqs.toString());
+    }
+
+    /**
+     * Parses info line.
+     * @param line Line
+     * @return Info line
+     */
+    public static InfoLine parse(final String line) {
+        final int space = line.indexOf(' ');
+        final int bar = line.indexOf('|', space);
+        final Map<String, List<String>> deps = new LinkedHashMap<>();
+        final String list = line.substring(space + 1, bar);
+        if (!list.isEmpty()) {
+            for (final String dep : list.split(",")) {
+                final int colon = dep.indexOf(':');
+                deps.put(
+                    dep.substring(0, colon), Arrays.asList(dep.substring(colon + 1).split("&"))
+                );
+            }
+        }
+        return new InfoLine(line.substring(0, space), deps, line.substring(bar + 1));
+    }
+
+    /**
+     * Gem version without platform.
+     * @return Version
+     */
+    public String version() {
+        final int dash = this.version.indexOf('-');
+        final String res;
+        if (dash < 0) {
+            res = this.version;
+        } else {
+            res = this.version.substring(0, dash);
+        }
+        return res;
+    }
+
+    /**
+     * Gem platform.
+     * @return Platform, `ruby` if not specified
+     */
+    public String platform() {
+        final int dash = this.version.indexOf('-');
+        final String res;
+        if (dash < 0) {
+            res = "ruby";
+        } else {
+            res = this.version.substring(dash + 1);
+        }
+        return res;
+    }
+
+    /**
+     * Version with platform as written into compact index.
+     * @return Version and platform
+     */
+    public String fullVersion() {
+        return this.version;
+    }
+
+    /**
+     * Runtime dependencies.
+     * @return Dependency name to requirements
+     */
+    public Map<String, List<String>> dependencies() {
+        return this.deps;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s %s|%s",
+            this.version,
+            this.deps.entrySet().stream()
+                .map(dep -> String.join(":", dep.getKey(), String.join("&", dep.getValue())))
+                .collect(Collectors.joining(",")),
+            this.reqs
+        );
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.index;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.gem.spec.GemVersion;
+import com.artipie.gem.spec.Marshal;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Legacy Marshal indexes `specs.4.8`, `latest_specs.4.8`, `prerelease_specs.4.8`
+ * and their gzipped variants, generated from compact index versions. Each index is
+ * a Marshal array of `[name, Gem::Version, platform]` tuples.
+ * @since 1.0
+ */
+public final class LegacySpecs {
+
+    /**
+     * Gem versions with platforms by names.
+     */
+    private final Map<String, ? extends Collection<String>> versions;
+
+    /**
+     * Ctor.
+     * @param versions Gem versions by names, versions may contain platform after `-`
+     */
+    public LegacySpecs(final Map<String, ? extends Collection<String>> versions) {
+        this.versions = versions;
+    }
+
+    /**
+     * Saves indexes to storage.
+     * @param asto Storage
+     * @return Completion action
+     */
+    public CompletionStage<Void> save(final Storage asto) {
+        final List<Tuple> all = this.tuples();
+        final List<Tuple> release = all.stream()
+            .filter(tuple -> !tuple.version.prerelease())
+            .collect(Collectors.toList());
+        final Map<String, Tuple> latest = new LinkedHashMap<>();
+        release.forEach(tuple -> latest.put(String.join("-", tuple.name, tuple.platform), tuple));
+        return CompletableFuture.allOf(
+            LegacySpecs.save(asto, "specs.4.8", release),
+            LegacySpecs.save(asto, "latest_specs.4.8", new ArrayList<>(latest.values())),
+            LegacySpecs.save(
+                asto, "prerelease_specs.4.8",
+                all.stream().filter(tuple -> tuple.version.prerelease())
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    /**
+     * All the gem tuples sorted by name, version and platform.
+     * @return Tuples
+     */
+    private List<Tuple> tuples() {
+        final List<Tuple> res = new ArrayList<>(this.versions.size());
+        this.versions.forEach(
+            (name, vers) -> vers.forEach(
+                ver -> {
+                    final InfoLine line = new InfoLine(ver, Map.of(), "");
+                    res.add(new Tuple(name, new GemVersion(line.version()), line.platform()));
+                }
+            )
+        );
+        res.sort(
+            Comparator.<Tuple, String>comparing(tuple -> tuple.name)
+                .thenComparing(tuple -> tuple.version)
+                .thenComparing(tuple -> tuple.platform)
+        );
+        return res;
+    }
+
+    /**
+     * Saves index and gzipped index.
+     * @param asto Storage
+     * @param name Index name
+     * @param tuples Tuples
+     * @return Completion action
+     */
+    private static CompletableFuture<Void> save(final Storage asto, final String name,
+        final List<Tuple> tuples) {
+        final Marshal mrsh = new Marshal().array(tuples.size());
+        tuples.forEach(
+            tuple -> mrsh.array(3)
+                .string(tuple.name)
+                .version(tuple.version.toString())
+                .string(tuple.platform)
+        );
+        final byte[] bytes = mrsh.bytes();
+        return asto.save(new Key.From(name), new Content.From(bytes)).thenCompose(
+            nothing -> asto.save(
+                new Key.From(String.format("%s.gz", name)),
+                new Content.From(LegacySpecs.gzip(bytes))
+            )
+        );
+    }
+
+    /**
+     * Gzip bytes.
+     * @param bytes Bytes
+     * @return Compressed bytes
+     */
+    private static byte[] gzip(final byte[] bytes) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (final IOException err) {
+            throw new ArtipieIOException(err);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Specs index tuple.
+     * @since 1.0
+     */
+    private static final class Tuple {
+
+        /**
+         * Gem name.
+         */
+        private final String name;
+
+        /**
+         * Gem version.
+         */
+        private final GemVersion version;
+
+        /**
+         * Gem platform.
+         */
+        private final String platform;
+
+        /**
+         * Ctor.
+         * @param name Gem name
+         * @param version Gem version
+         * @param platform Gem platform
+         */
+        Tuple(final String name, final GemVersion version, final String platform) {
+            this.name = name;
+            this.version = version;
+            this.platform = platform;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.index;
+
+import com.artipie.asto.Key;
+import com.artipie.gem.spec.GemSpec;
+import com.artipie.gem.spec.Marshal;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Quick gem specification: deflated Marshal dump of `Gem::Specification`
+ * stored as `quick/Marshal.4.8/{full-name}.gemspec.rz`.
+ * @since 1.0
+ */
+public final class QuickSpec {
+
+    /**
+     * Quick specifications root key.
+     */
+    public static final Key ROOT = new Key.From("quick", "Marshal.4.8");
+
+    /**
+     * Gem specification.
+     */
+    private final GemSpec spec;
+
+    /**
+     * Ctor.
+     * @param spec Gem specification
+     */
+    public QuickSpec(final GemSpec spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * Quick specification key.
+     * @return Key
+     */
+    public Key key() {
+        return new Key.From(QuickSpec.ROOT, String.format("%s.gemspec.rz", this.spec.fullName()));
+    }
+
+    /**
+     * Deflated Marshal dump of the specification.
+     * @return Bytes
+     */
+    public byte[] bytes() {
+        final byte[] dump = new Marshal()
+            .userDefined("Gem::Specification", this.dump())
+            .bytes();
+        final Deflater deflater = new Deflater();
+        deflater.setInput(dump);
+        deflater.finish();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(dump.length);
+        final byte[] buf = new byte[4096];
+        while (!deflater.finished()) {
+            out.write(buf, 0, deflater.deflate(buf));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    /**
+     * Specification dump in the same layout as `Gem::Specification#_dump` produces.
+     * @return Marshal bytes
+     */
+    private byte[] dump() {
+        final Marshal mrsh = new Marshal().array(19)
+            .string(this.spec.text("rubygems_version"))
+            .integer(this.spec.specificationVersion())
+            .string(this.spec.name())
+            .version(this.spec.version())
+            .userDefined("Time", QuickSpec.time(this.spec.date()))
+            .string(this.spec.text("summary"));
+        QuickSpec.requirement(mrsh, this.spec.requirement("required_ruby_version"));
+        QuickSpec.requirement(mrsh, this.spec.requirement("required_rubygems_version"));
+        mrsh.string(this.spec.platform());
+        final List<GemSpec.Dependency> deps = this.spec.dependencies(false);
+        mrsh.array(deps.size());
+        for (final GemSpec.Dependency dep : deps) {
+            mrsh.object("Gem::Dependency", 4)
+                .symbol("@name").string(dep.name())
+                .symbol("@requirement");
+            QuickSpec.requirement(mrsh, dep.requirement());
+            mrsh.symbol("@type");
+            if (dep.runtime()) {
+                mrsh.symbol("runtime");
+            } else {
+                mrsh.symbol("development");
+            }
+            mrsh.symbol("@prerelease").bool(false);
+        }
+        mrsh.string("").string(this.spec.text("email"));
+        QuickSpec.strings(mrsh, this.spec.texts("authors"));
+        mrsh.string(this.spec.text("description"))
+            .string(this.spec.text("homepage"))
+            .bool(true)
+            .string(this.spec.platform());
+        QuickSpec.strings(mrsh, this.spec.texts("licenses"));
+        final Map<String, String> meta = this.spec.metadata();
+        mrsh.hash(meta.size());
+        meta.forEach((key, val) -> mrsh.string(key).string(val));
+        return mrsh.bytes();
+    }
+
+    /**
+     * Writes `Gem::Requirement`.
+     * @param mrsh Marshal
+     * @param req Requirement pairs
+     */
+    private static void requirement(final Marshal mrsh, final List<List<String>> req) {
+        mrsh.userMarshal("Gem::Requirement").array(1).array(req.size());
+        for (final List<String> pair : req) {
+            mrsh.array(2).string(pair.get(0)).version(pair.get(1));
+        }
+    }
+
+    /**
+     * Writes array of strings.
+     * @param mrsh Marshal
+     * @param items Strings
+     */
+    private static void strings(final Marshal mrsh, final List<String> items) {
+        mrsh.array(items.size());
+        items.forEach(mrsh::string);
+    }
+
+    /**
+     * UTC midnight time of the date in `Time#_dump` format.
+     * @param date Date
+     * @return Eight bytes of dumped time
+     * @checkstyle MagicNumberCheck (20 lines)
+     */
+    private static byte[] time(final LocalDate date) {
+        final long high = 1L << 31 | 1L << 30 | (long) (date.getYear() - 1900) << 14
+            | (long) (date.getMonthValue() - 1) << 10 | (long) date.getDayOfMonth() << 5;
+        final byte[] res = new byte[8];
+        for (int idx = 0; idx < 4; idx = idx + 1) {
+            res[idx] = (byte) (high >> 8 * idx);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.spec;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.gem.GemMeta;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.AbstractConstruct;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+/**
+ * Gem specification read from `metadata.gz` entry of the gem package without Ruby runtime.
+ * Ruby objects from the specification yaml (`Gem::Version`, `Gem::Requirement`,
+ * `Gem::Dependency`) are read as plain mappings.
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class GemSpec implements GemMeta.MetaInfo {
+
+    /**
+     * Version field.
+     */
+    private static final String VERSION = "version";
+
+    /**
+     * Name field.
+     */
+    private static final String NAME = "name";
+
+    /**
+     * Specification yaml.
+     */
+    private final Map<String, Object> yaml;
+
+    /**
+     * Ctor.
+     * @param yaml Specification yaml
+     */
+    public GemSpec(final Map<String, Object> yaml) {
+        this.yaml = yaml;
+    }
+
+    /**
+     * Reads specification from gem package.
+     * @param gem Gem package input stream
+     * @return Gem specification
+     */
+    @SuppressWarnings("unchecked")
+    public static GemSpec read(final InputStream gem) {
+        try {
+            final TarArchiveInputStream tar = new TarArchiveInputStream(gem);
+            TarArchiveEntry entry = tar.getNextEntry();
+            while (entry != null && !"metadata.gz".equals(entry.getName())) {
+                entry = tar.getNextEntry();
+            }
+            if (entry == null) {
+                throw new ArtipieIOException("metadata.gz was not found in gem package");
+            }
+            final LoaderOptions options = new LoaderOptions();
+            options.setTagInspector(tag -> true);
+            return new GemSpec(
+                (Map<String, Object>) new Yaml(new RubyConstructor(options))
+                    .load(new GZIPInputStream(tar))
+            );
+        } catch (final IOException err) {
+            throw new ArtipieIOException(err);
+        }
+    }
+
+    /**
+     * Gem name.
+     * @return Name
+     */
+    public String name() {
+        return this.text(GemSpec.NAME);
+    }
+
+    /**
+     * Gem version.
+     * @return Version string
+     */
+    public String version() {
+        return GemSpec.version(this.yaml.get(GemSpec.VERSION));
+    }
+
+    /**
+     * Gem platform.
+     * @return Platform, `ruby` by default
+     */
+    public String platform() {
+        return Objects.requireNonNullElse(this.text("platform"), "ruby");
+    }
+
+    /**
+     * Gem full name: name, version and platform if it's not `ruby`.
+     * @return Full name
+     */
+    public String fullName() {
+        final String res;
+        if ("ruby".equals(this.platform())) {
+            res = String.join("-", this.name(), this.version());
+        } else {
+            res = String.join("-", this.name(), this.version(), this.platform());
+        }
+        return res;
+    }
+
+    /**
+     * Text field value.
+     * @param field Field name
+     * @return Value or null if absent
+     */
+    public String text(final String field) {
+        final Object val = this.yaml.get(field);
+        final String res;
+        if (val == null) {
+            res = null;
+        } else {
+            res = val.toString();
+        }
+        return res;
+    }
+
+    /**
+     * List of strings field value.
+     * @param field Field name
+     * @return Values, single string is returned as a list
+     */
+    public List<String> texts(final String field) {
+        final Object val = this.yaml.get(field);
+        final List<String> res;
+        if (val instanceof List) {
+            res = ((List<?>) val).stream().map(String::valueOf).collect(Collectors.toList());
+        } else if (val == null) {
+            res = Collections.emptyList();
+        } else {
+            res = Collections.singletonList(val.toString());
+        }
+        return res;
+    }
+
+    /**
+     * Specification date.
+     * @return Date
+     */
+    public LocalDate date() {
+        final Object val = this.yaml.get("date");
+        final LocalDate res;
+        if (val instanceof Date) {
+            res = ((Date) val).toInstant().atZone(ZoneOffset.UTC).toLocalDate();
+        } else if (val == null) {
+            res = LocalDate.now(ZoneOffset.UTC);
+        } else {
+            res = LocalDate.parse(val.toString().substring(0, 10));
+        }
+        return res;
+    }
+
+    /**
+     * Integer specification version.
+     * @return Specification version
+     */
+    public int specificationVersion() {
+        final Object val = this.yaml.get("specification_version");
+        final int res;
+        if (val instanceof Number) {
+            res = ((Number) val).intValue();
+        } else {
+            res = 4;
+        }
+        return res;
+    }
+
+    /**
+     * Requirement field as list of `[operator, version]` pairs.
+     * @param field Field name
+     * @return Requirement
+     */
+    public List<List<String>> requirement(final String field) {
+        return GemSpec.requirement(this.yaml.get(field));
+    }
+
+    /**
+     * Requirement field in compact form: `op version` items joined with `&`.
+     * @param field Field name
+     * @return Requirement string
+     */
+    public String compactRequirement(final String field) {
+        return GemSpec.compact(this.requirement(field));
+    }
+
+    /**
+     * Gem dependencies.
+     * @param runtime Return only runtime dependencies
+     * @return Dependencies list
+     */
+    public List<Dependency> dependencies(final boolean runtime) {
+        final Object val = this.yaml.get("dependencies");
+        final List<Dependency> res;
+        if (val instanceof List) {
+            res = ((List<?>) val).stream()
+                .map(item -> new Dependency((Map<?, ?>) item))
+                .filter(dep -> !runtime || dep.runtime())
+                .collect(Collectors.toList());
+        } else {
+            res = Collections.emptyList();
+        }
+        return res;
+    }
+
+    /**
+     * Metadata hash.
+     * @return String to string metadata
+     */
+    public Map<String, String> metadata() {
+        final Object val = this.yaml.get("metadata");
+        final Map<String, String> res;
+        if (val instanceof Map) {
+            res = ((Map<?, ?>) val).entrySet().stream().collect(
+                Collectors.toMap(
+                    entry -> String.valueOf(entry.getKey()),
+                    entry -> String.valueOf(entry.getValue())
+                )
+            );
+        } else {
+            res = Collections.emptyMap();
+        }
+        return res;
+    }
+
+    @Override
+    public void print(final GemMeta.MetaFormat fmt) {
+        fmt.print(GemSpec.NAME, this.name());
+        fmt.print(GemSpec.VERSION, this.version());
+        fmt.print("platform", this.platform());
+        fmt.print("authors", this.texts("authors").toArray(new String[0]));
+        fmt.print("info", Objects.requireNonNullElse(this.text("description"), ""));
+        fmt.print("licenses", this.texts("licenses").toArray(new String[0]));
+        fmt.print("homepage_uri", Objects.requireNonNullElse(this.text("homepage"), ""));
+    }
+
+    /**
+     * Version value from `Gem::Version` mapping.
+     * @param val Yaml value
+     * @return Version string
+     */
+    private static String version(final Object val) {
+        final String res;
+        if (val instanceof Map) {
+            res = String.valueOf(((Map<?, ?>) val).get(GemSpec.VERSION));
+        } else {
+            res = String.valueOf(val);
+        }
+        return res;
+    }
+
+    /**
+     * Requirement from `Gem::Requirement` mapping.
+     * @param val Yaml value
+     * @return Requirement as list of `[operator, version]` pairs
+     */
+    private static List<List<String>> requirement(final Object val) {
+        List<List<String>> res = Collections.emptyList();
+        if (val instanceof Map) {
+            final Object reqs = ((Map<?, ?>) val).get("requirements");
+            if (reqs instanceof List) {
+                res = ((List<?>) reqs).stream().map(
+                    req -> List.of(
+                        String.valueOf(((List<?>) req).get(0)),
+                        GemSpec.version(((List<?>) req).get(1))
+                    )
+                ).collect(Collectors.toList());
+            }
+        }
+        if (res.isEmpty()) {
+            res = List.of(List.of(">=", "0"));
+        }
+        return res;
+    }
+
+    /**
+     * Requirement in compact form.
+     * @param req Requirement pairs
+     * @return Requirement string
+     */
+    private static String compact(final List<List<String>> req) {
+        return req.stream().map(pair -> String.join(" ", pair)).collect(Collectors.joining("&"));
+    }
+
+    /**
+     * Gem dependency.
+     * @since 1.0
+     */
+    public static final class Dependency {
+
+        /**
+         * Dependency yaml mapping.
+         */
+        private final Map<?, ?> yaml;
+
+        /**
+         * Ctor.
+         * @param yaml Dependency yaml mapping
+         */
+        Dependency(final Map<?, ?> yaml) {
+            this.yaml = yaml;
+        }
+
+        /**
+         * Dependency name.
+         * @return Name
+         */
+        public String name() {
+            return String.valueOf(this.yaml.get(GemSpec.NAME));
+        }
+
+        /**
+         * Dependency requirement.
+         * @return Requirement as list of `[operator, version]` pairs
+         */
+        public List<List<String>> requirement() {
+            return GemSpec.requirement(this.yaml.get("requirement"));
+        }
+
+        /**
+         * Dependency requirement in compact form.
+         * @return Requirement string, items are joined with `&`
+         */
+        public String compactRequirement() {
+            return GemSpec.compact(this.requirement());
+        }
+
+        /**
+         * Is it runtime dependency?
+         * @return True if runtime
+         */
+        public boolean runtime() {
+            return !":development".equals(String.valueOf(this.yaml.get("type")));
+        }
+    }
+
+    /**
+     * Yaml constructor which reads Ruby objects as plain mappings, sequences or scalars.
+     * @since 1.0
+     */
+    private static final class RubyConstructor extends SafeConstructor {
+
+        /**
+         * Ctor.
+         * @param options Loader options
+         */
+        RubyConstructor(final LoaderOptions options) {
+            super(options);
+            this.yamlConstructors.put(null, new ConstructRuby());
+        }
+
+        /**
+         * Construct for Ruby tagged nodes.
+         * @since 1.0
+         */
+        private final class ConstructRuby extends AbstractConstruct {
+            @Override
+            public Object construct(final Node node) {
+                final Object res;
+                if (node instanceof MappingNode) {
+                    res = RubyConstructor.this.constructMapping((MappingNode) node);
+                } else if (node instanceof SequenceNode) {
+                    res = RubyConstructor.this.constructSequence((SequenceNode) node);
+                } else {
+                    res = RubyConstructor.this.constructScalar((ScalarNode) node);
+                }
+                return res;
+            }
+        }
+    }
+}
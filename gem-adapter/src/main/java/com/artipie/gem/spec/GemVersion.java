@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.spec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gem version, compared the same way as Ruby `Gem::Version` does: version is split into
+ * numeric and alphabetic segments, numeric segments are compared by value, alphabetic
+ * segments mark prerelease and are lower than any numeric segment.
+ * @since 1.0
+ */
+public final class GemVersion implements Comparable<GemVersion> {
+
+    /**
+     * Version segment pattern.
+     */
+    private static final Pattern SEGMENT = Pattern.compile("[0-9]+|[a-zA-Z]+");
+
+    /**
+     * Version string.
+     */
+    private final String value;
+
+    /**
+     * Ctor.
+     * @param value Version string
+     */
+    public GemVersion(final String value) {
+        this.value = value;
+    }
+
+    /**
+     * Is it prerelease version?
+     * @return True if version contains letters
+     */
+    public boolean prerelease() {
+        return this.value.chars().anyMatch(Character::isLetter);
+    }
+
+    @Override
+    public int compareTo(final GemVersion other) {
+        final List<Object> left = this.segments();
+        final List<Object> right = other.segments();
+        int res = 0;
+        for (int idx = 0; res == 0 && idx < Math.max(left.size(), right.size()); idx = idx + 1) {
+            res = GemVersion.compare(GemVersion.at(left, idx), GemVersion.at(right, idx));
+        }
+        return res;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof GemVersion && this.compareTo((GemVersion) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        final List<Object> segments = this.segments();
+        while (!segments.isEmpty() && Long.valueOf(0L).equals(segments.get(segments.size() - 1))) {
+            segments.remove(segments.size() - 1);
+        }
+        return segments.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+
+    /**
+     * Version segments: numbers as {@link Long} and letters as {@link String}.
+     * @return Segments list
+     */
+    private List<Object> segments() {
+        final List<Object> res = new ArrayList<>(4);
+        final Matcher matcher = GemVersion.SEGMENT.matcher(this.value);
+        while (matcher.find()) {
+            final String seg = matcher.group();
+            if (Character.isDigit(seg.charAt(0))) {
+                res.add(Long.parseLong(seg));
+            } else {
+                res.add(seg);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Segment at index, missing segments are zeros.
+     * @param segments Segments
+     * @param idx Index
+     * @return Segment
+     */
+    private static Object at(final List<Object> segments, final int idx) {
+        final Object res;
+        if (idx < segments.size()) {
+            res = segments.get(idx);
+        } else {
+            res = 0L;
+        }
+        return res;
+    }
+
+    /**
+     * Compares segments.
+     * @param left Left segment
+     * @param right Right segment
+     * @return Comparison result
+     */
+    private static int compare(final Object left, final Object right) {
+        final int res;
+        if (left instanceof Long && right instanceof Long) {
+            res = Long.compare((Long) left, (Long) right);
+        } else if (left instanceof String && right instanceof String) {
+            res = ((String) left).compareTo((String) right);
+        } else if (left instanceof Long) {
+            res = 1;
+        } else {
+            res = -1;
+        }
+        return res;
+    }
+}
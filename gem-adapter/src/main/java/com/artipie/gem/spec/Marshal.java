@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.spec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ruby Marshal 4.8 format writer, supports the subset of types required to write
+ * gem indexes: nil, booleans, integers, strings, symbols, arrays, hashes, objects and
+ * user-marshaled or user-defined instances. Containers are written as a header with
+ * the amount of items, items should be written next.
+ * See <a href="https://docs.ruby-lang.org/en/master/marshal_rdoc.html">format description</a>.
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Marshal {
+
+    /**
+     * Output.
+     */
+    private final ByteArrayOutputStream out;
+
+    /**
+     * Symbols table.
+     */
+    private final Map<String, Integer> symbols;
+
+    /**
+     * Ctor.
+     */
+    public Marshal() {
+        this.out = new ByteArrayOutputStream();
+        this.symbols = new HashMap<>();
+        this.out.write(4);
+        this.out.write(8);
+    }
+
+    /**
+     * Writes nil.
+     * @return Self
+     */
+    public Marshal nil() {
+        this.out.write('0');
+        return this;
+    }
+
+    /**
+     * Writes boolean.
+     * @param value Value
+     * @return Self
+     */
+    public Marshal bool(final boolean value) {
+        if (value) {
+            this.out.write('T');
+        } else {
+            this.out.write('F');
+        }
+        return this;
+    }
+
+    /**
+     * Writes fixnum.
+     * @param value Value
+     * @return Self
+     */
+    public Marshal integer(final int value) {
+        this.out.write('i');
+        this.number(value);
+        return this;
+    }
+
+    /**
+     * Writes UTF-8 string or nil if value is null.
+     * @param value Value
+     * @return Self
+     */
+    public Marshal string(final String value) {
+        if (value == null) {
+            this.nil();
+        } else {
+            this.out.write('I');
+            this.out.write('"');
+            this.bytes(value.getBytes(StandardCharsets.UTF_8));
+            this.number(1);
+            this.symbol("E");
+            this.bool(true);
+        }
+        return this;
+    }
+
+    /**
+     * Writes symbol, symbols which were already written are written as links.
+     * @param value Symbol name
+     * @return Self
+     */
+    public Marshal symbol(final String value) {
+        final Integer link = this.symbols.get(value);
+        if (link == null) {
+            this.symbols.put(value, this.symbols.size());
+            this.out.write(':');
+            this.bytes(value.getBytes(StandardCharsets.UTF_8));
+        } else {
+            this.out.write(';');
+            this.number(link);
+        }
+        return this;
+    }
+
+    /**
+     * Writes array header, array items should be written next.
+     * @param size Array size
+     * @return Self
+     */
+    public Marshal array(final int size) {
+        this.out.write('[');
+        this.number(size);
+        return this;
+    }
+
+    /**
+     * Writes hash header, keys and values should be written next one by one.
+     * @param size Amount of hash entries
+     * @return Self
+     */
+    public Marshal hash(final int size) {
+        this.out.write('{');
+        this.number(size);
+        return this;
+    }
+
+    /**
+     * Writes object header, instance variables names (as symbols) and values
+     * should be written next one by one.
+     * @param cls Class name
+     * @param ivars Amount of instance variables
+     * @return Self
+     */
+    public Marshal object(final String cls, final int ivars) {
+        this.out.write('o');
+        this.symbol(cls);
+        this.number(ivars);
+        return this;
+    }
+
+    /**
+     * Writes header of the object of the class with `marshal_dump` method,
+     * dumped data should be written next.
+     * @param cls Class name
+     * @return Self
+     */
+    public Marshal userMarshal(final String cls) {
+        this.out.write('U');
+        this.symbol(cls);
+        return this;
+    }
+
+    /**
+     * Writes object of the class with `_dump` method.
+     * @param cls Class name
+     * @param data Dumped data
+     * @return Self
+     */
+    public Marshal userDefined(final String cls, final byte[] data) {
+        this.out.write('u');
+        this.symbol(cls);
+        this.bytes(data);
+        return this;
+    }
+
+    /**
+     * Writes `Gem::Version` instance.
+     * @param version Version
+     * @return Self
+     */
+    public Marshal version(final String version) {
+        return this.userMarshal("Gem::Version").array(1).string(version);
+    }
+
+    /**
+     * Marshaled data.
+     * @return Bytes
+     */
+    public byte[] bytes() {
+        return this.out.toByteArray();
+    }
+
+    /**
+     * Writes bytes sequence with length.
+     * @param data Bytes
+     */
+    private void bytes(final byte[] data) {
+        this.number(data.length);
+        this.out.write(data, 0, data.length);
+    }
+
+    /**
+     * Writes packed integer number.
+     * @param value Number
+     */
+    @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
+    private void number(final int value) {
+        if (value == 0) {
+            this.out.write(0);
+        } else if (value > 0 && value < 123) {
+            this.out.write(value + 5);
+        } else if (value < 0 && value > -124) {
+            this.out.write((value - 5) & 0xff);
+        } else {
+            final byte[] buf = new byte[4];
+            int num = value;
+            int len = 0;
+            while (len < 4) {
+                buf[len] = (byte) (num & 0xff);
+                num = num >> 8;
+                len = len + 1;
+                if (value >= 0 && num == 0 || value < 0 && num == -1) {
+                    break;
+                }
+            }
+            if (value >= 0) {
+                this.out.write(len);
+            } else {
+                this.out.write(-len & 0xff);
+            }
+            this.out.write(buf, 0, len);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+
+/**
+ * Pure Java gem specification reader and Ruby Marshal writer.
+ * @since 1.0
+ */
+package com.artipie.gem.spec;
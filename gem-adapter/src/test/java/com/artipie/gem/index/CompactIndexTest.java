@@ -0,0 +1,170 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.index;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.blocking.BlockingStorage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.asto.test.TestResource;
+import com.artipie.gem.spec.GemSpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CompactIndex}.
+ * @since 1.0
+ */
+final class CompactIndexTest {
+
+    /**
+     * Test storage.
+     */
+    private Storage asto;
+
+    @BeforeEach
+    void init() {
+        this.asto = new InMemoryStorage();
+    }
+
+    @Test
+    void buildsIndexFromStoredGems() {
+        new TestResource("builder-3.2.4.gem")
+            .saveTo(this.asto, new Key.From("gems", "builder-3.2.4.gem"));
+        new CompactIndex(this.asto).ensure().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Failed to create compact and legacy indexes",
+            new BlockingStorage(this.asto).list(Key.ROOT).stream().map(Key::string)
+                .collect(Collectors.toSet()),
+            Matchers.hasItems(
+                "versions", "names", "info/builder", "specs.4.8", "specs.4.8.gz",
+                "latest_specs.4.8", "latest_specs.4.8.gz", "prerelease_specs.4.8",
+                "prerelease_specs.4.8.gz"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Names file is not valid",
+            this.text("names"),
+            new IsEqual<>("---\nbuilder\n")
+        );
+        MatcherAssert.assertThat(
+            "Versions file is not valid",
+            this.text("versions"),
+            Matchers.matchesPattern("created_at: .+\n---\nbuilder 3\\.2\\.4 [0-9a-f]{32}\n")
+        );
+    }
+
+    @Test
+    void appendsGemToIndex() {
+        new TestResource("builder-3.2.4.gem")
+            .saveTo(this.asto, new Key.From("gems", "builder-3.2.4.gem"));
+        final CompactIndex index = new CompactIndex(this.asto);
+        index.ensure().toCompletableFuture().join();
+        final Key gem = new Key.From("gems", "file-tail-1.2.0.gem");
+        new TestResource("file-tail-1.2.0.gem").saveTo(this.asto, gem);
+        index.add(
+            GemSpec.read(new TestResource("file-tail-1.2.0.gem").asInputStream()), "abc"
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Info file is not valid",
+            this.text("info/file-tail"),
+            new IsEqual<>("---\n1.2.0 tins:~> 1.0|checksum:abc\n")
+        );
+        MatcherAssert.assertThat(
+            "Versions line was not appended",
+            this.text("versions"),
+            Matchers.matchesPattern(
+                String.join(
+                    "",
+                    "created_at: .+\n---\n",
+                    "builder 3\\.2\\.4 [0-9a-f]{32}\n",
+                    "file-tail 1\\.2\\.0 [0-9a-f]{32}\n"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Names file is not valid",
+            this.text("names"),
+            new IsEqual<>("---\nbuilder\nfile-tail\n")
+        );
+        MatcherAssert.assertThat(
+            "Info was not parsed",
+            index.info("file-tail").toCompletableFuture().join().orElseThrow().get(0)
+                .dependencies().keySet(),
+            Matchers.contains("tins")
+        );
+    }
+
+    @Test
+    void createsIndexWithFirstGem() {
+        new CompactIndex(this.asto).add(
+            GemSpec.read(new TestResource("builder-3.2.4.gem").asInputStream()), "abc"
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Versions file is not valid",
+            this.text("versions"),
+            Matchers.matchesPattern("created_at: .+\n---\nbuilder 3\\.2\\.4 [0-9a-f]{32}\n")
+        );
+        MatcherAssert.assertThat(
+            "Names file is not valid",
+            this.text("names"),
+            new IsEqual<>("---\nbuilder\n")
+        );
+    }
+
+    @Test
+    void doesNotDuplicateRepublishedVersion() {
+        final CompactIndex index = new CompactIndex(this.asto);
+        for (final String sha : new String[] {"abc", "def"}) {
+            index.add(
+                GemSpec.read(new TestResource("builder-3.2.4.gem").asInputStream()), sha
+            ).toCompletableFuture().join();
+        }
+        MatcherAssert.assertThat(
+            "Version was appended twice",
+            this.text("versions"),
+            Matchers.matchesPattern("created_at: .+\n---\nbuilder 3\\.2\\.4 [0-9a-f]{32}\n")
+        );
+        MatcherAssert.assertThat(
+            "Info line was not replaced",
+            this.text("info/builder"),
+            Matchers.containsString("|checksum:def")
+        );
+    }
+
+    @Test
+    void addsGemsConcurrently() {
+        final CompactIndex index = new CompactIndex(this.asto);
+        CompletableFuture.allOf(
+            Stream.of("builder-3.2.4.gem", "file-tail-1.2.0.gem").parallel().map(
+                name -> index.add(
+                    GemSpec.read(new TestResource(name).asInputStream()), "abc"
+                ).toCompletableFuture()
+            ).toArray(CompletableFuture[]::new)
+        ).join();
+        MatcherAssert.assertThat(
+            this.text("names"),
+            new IsEqual<>("---\nbuilder\nfile-tail\n")
+        );
+    }
+
+    /**
+     * Reads storage item as text.
+     * @param key Item key
+     * @return Text
+     */
+    private String text(final String key) {
+        return new String(
+            new BlockingStorage(this.asto).value(new Key.From(key)), StandardCharsets.UTF_8
+        );
+    }
+}
@@ -2,35 +2,33 @@
  * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
  * https://github.com/artipie/artipie/blob/master/LICENSE.txt
  */
-package com.artipie.gem.ruby;
+package com.artipie.gem.spec;
 
 import com.artipie.asto.test.TestResource;
 import com.artipie.gem.JsonMetaFormat;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.json.Json;
 import javax.json.JsonObjectBuilder;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.io.TempDir;
 import wtf.g4s8.hamcrest.json.JsonContains;
 import wtf.g4s8.hamcrest.json.JsonHas;
 import wtf.g4s8.hamcrest.json.JsonValueIs;
 
 /**
- * Test case for {@link RubyGemMeta}.
- * @since 1.3
+ * Test for {@link GemSpec}.
+ * @since 1.0
  */
-final class RubyGemMetaTest {
+final class GemSpecTest {
+
     @Test
-    void generateValidMeta(final @TempDir Path tmp) throws Exception {
-        final Path gem = tmp.resolve("target.gem");
-        Files.write(gem, new TestResource("builder-3.2.4.gem").asBytes());
-        final RubyGemMeta meta = new SharedRuntime().apply(RubyGemMeta::new)
-            .toCompletableFuture().join();
+    void readsMetaInfo() {
         final JsonObjectBuilder json = Json.createObjectBuilder();
-        meta.info(gem).print(new JsonMetaFormat(json));
+        GemSpec.read(new TestResource("builder-3.2.4.gem").asInputStream())
+            .print(new JsonMetaFormat(json));
         MatcherAssert.assertThat(
             json.build(),
             Matchers.allOf(
@@ -49,4 +47,25 @@ final class RubyGemMetaTest {
             )
         );
     }
+
+    @Test
+    void readsRuntimeDependencies() {
+        final List<GemSpec.Dependency> deps =
+            GemSpec.read(new TestResource("file-tail-1.2.0.gem").asInputStream())
+                .dependencies(true);
+        MatcherAssert.assertThat(
+            deps.stream()
+                .map(dep -> String.join(" ", dep.name(), dep.compactRequirement()))
+                .collect(Collectors.toList()),
+            new IsEqual<>(List.of("tins ~> 1.0"))
+        );
+    }
+
+    @Test
+    void readsFullName() {
+        MatcherAssert.assertThat(
+            GemSpec.read(new TestResource("file-tail-1.2.0.gem").asInputStream()).fullName(),
+            new IsEqual<>("file-tail-1.2.0")
+        );
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.spec;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for {@link GemVersion}.
+ * @since 1.0
+ */
+final class GemVersionTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0,1.0.0,0",
+        "1.10,1.9,1",
+        "1.0.a,1.0,-1",
+        "1.0.b1,1.0.a2,1",
+        "2.0.0.rc1,1.9.9,1"
+    })
+    void comparesVersions(final String left, final String right, final int res) {
+        MatcherAssert.assertThat(
+            Integer.signum(new GemVersion(left).compareTo(new GemVersion(right))),
+            new IsEqual<>(res)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0,false",
+        "1.0.0.pre,true",
+        "6.0.0.rc1,true"
+    })
+    void detectsPrerelease(final String version, final boolean res) {
+        MatcherAssert.assertThat(
+            new GemVersion(version).prerelease(),
+            new IsEqual<>(res)
+        );
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.gem.spec;
+
+import org.apache.commons.codec.binary.Hex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Marshal}, expected values are produced by Ruby `Marshal.dump`.
+ * @since 1.0
+ */
+final class MarshalTest {
+
+    @Test
+    void writesIntegers() {
+        MatcherAssert.assertThat(
+            Hex.encodeHexString(
+                new Marshal().array(5).integer(0).integer(5).integer(-5).integer(300)
+                    .integer(-300).bytes()
+            ),
+            new IsEqual<>("04085b0a6900690a69f669022c0169fed4fe")
+        );
+    }
+
+    @Test
+    void writesStringsAndSymbolLinks() {
+        MatcherAssert.assertThat(
+            Hex.encodeHexString(new Marshal().array(2).string("a").string("b").bytes()),
+            new IsEqual<>("04085b0749220661063a06455449220662063b0054")
+        );
+    }
+
+    @Test
+    void writesGemVersion() {
+        MatcherAssert.assertThat(
+            Hex.encodeHexString(new Marshal().version("1.0").bytes()),
+            new IsEqual<>("0408553a1147656d3a3a56657273696f6e5b06492208312e30063a064554")
+        );
+    }
+}
@@ -6,7 +6,6 @@ package com.artipie.goproxy;
 
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
-import com.artipie.asto.Remaining;
 import com.artipie.asto.Storage;
 import com.artipie.asto.fs.RxFile;
 import com.artipie.asto.rx.RxStorageWrapper;
@@ -15,7 +14,6 @@ import io.reactivex.Flowable;
 import io.reactivex.Single;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -54,12 +52,18 @@ public final class Goproxy {
      */
     private final RxStorageWrapper storage;
 
+    /**
+     * Origin storage.
+     */
+    private final Storage asto;
+
     /**
      * Ctor.
      * @param stg The storage
      */
     public Goproxy(final Storage stg) {
         this.storage = new RxStorageWrapper(stg);
+        this.asto = stg;
     }
 
     /**
@@ -118,7 +122,6 @@ public final class Goproxy {
      */
     private Completable actualUpdate(final String repo, final String version) throws IOException {
         final String[] parts = repo.split("/", 2);
-        final String lkey = String.format("%s/@v/list", repo);
         return Completable.concatArray(
             this.loadGoModFile(parts)
                 .flatMapCompletable(
@@ -140,22 +143,10 @@ public final class Goproxy {
                         content
                     )
                 ),
-            this.storage.exists(
-                new Key.From(lkey)
-            ).flatMap(
-                exists -> {
-                    if (exists) {
-                        return this.storage.value(new Key.From(lkey));
-                    } else {
-                        return Single.just(new Content.From(new byte[0]));
-                    }
-                })
-            .flatMap(
-                content -> updateFileList(version, content)
-            ).flatMapCompletable(
-                content -> this.storage.save(
-                    new Key.From(lkey),
-                    content
+            Completable.defer(
+                () -> Completable.fromFuture(
+                    new ModuleIndex(this.asto, repo).add(String.format("v%s", version))
+                        .toCompletableFuture()
                 )
             )
         );
@@ -189,36 +180,6 @@ public final class Goproxy {
         );
     }
 
-    /**
-     * Update files list with the new version.
-     *
-     * @param version The version of the repo, e.g. "0.0.1"
-     * @param content Initial content of files list
-     * @return Updated content of files list.
-     */
-    private static Single<Content> updateFileList(final String version, final Content content) {
-        return readCompletely(content)
-            .map(
-                buf -> new Remaining(buf).bytes()
-            ).map(
-                buf -> appendLineToBuffer(buf, String.format("v%s", version))
-            ).map(Content.From::new);
-    }
-
-    /**
-     * Decode byte array as multi-line text and append the new line to the end.
-     * @param buffer Initial content as a byte array
-     * @param line Line to be appended
-     * @return Buffer with the new line appended
-     */
-    private static byte[] appendLineToBuffer(final byte[] buffer, final String line) {
-        return String.join(
-            "\n",
-            new String(buffer),
-            line
-        ).getBytes(StandardCharsets.UTF_8);
-    }
-
     /**
      * Make ZIP archive.
      * @param prefix The prefix
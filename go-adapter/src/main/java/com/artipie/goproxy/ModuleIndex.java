@@ -0,0 +1,228 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.goproxy;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.lock.RetryExclusively;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Index of module versions maintained on publish. All the versions are stored
+ * in semver order in `{module}/@v/index` item, `{module}/@v/list` is written from it
+ * without pseudo-versions as go proxy protocol requires. Index allows to answer
+ * `@v/list` and `@latest` requests without listing the storage, module versions
+ * directory is listed only once to build the index if it does not exist.
+ * @since 1.0
+ */
+public final class ModuleIndex {
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Module path, e.g. `example.com/foo/bar`.
+     */
+    private final String module;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param module Module path
+     */
+    public ModuleIndex(final Storage storage, final String module) {
+        this.storage = storage;
+        this.module = module;
+    }
+
+    /**
+     * Adds version to the index.
+     * @param version Version, e.g. `v1.0.2`
+     * @return Completion action
+     */
+    public CompletionStage<Void> add(final String version) {
+        return new RetryExclusively(this.storage).perform(
+            this.key(),
+            asto -> this.load().thenCompose(
+                versions -> versions.<CompletionStage<Collection<ModuleVersion>>>map(
+                    CompletableFuture::completedFuture
+                ).orElseGet(this::listed)
+            ).thenCompose(
+                versions -> {
+                    final Collection<ModuleVersion> all = new TreeSet<>(versions);
+                    all.add(new ModuleVersion(version));
+                    return this.save(asto, all);
+                }
+            )
+        );
+    }
+
+    /**
+     * Module versions in semver order. If index does not exist, it's built once
+     * from `.info` items of the module.
+     * @return Versions, empty if module does not exist
+     */
+    public CompletionStage<List<ModuleVersion>> versions() {
+        return this.load().thenCompose(
+            versions -> versions.<CompletionStage<List<ModuleVersion>>>map(
+                CompletableFuture::completedFuture
+            ).orElseGet(this::rebuild)
+        );
+    }
+
+    /**
+     * Latest module version by `@latest` query rules: highest release version if any,
+     * highest pre-release version otherwise and highest pseudo-version if there are no
+     * other versions.
+     * @return Latest version if module exists
+     */
+    public CompletionStage<Optional<ModuleVersion>> latest() {
+        return this.versions().thenApply(
+            versions -> ModuleIndex.last(versions, ver -> !ver.prerelease())
+                .or(() -> ModuleIndex.last(versions, ver -> !ver.pseudo()))
+                .or(() -> ModuleIndex.last(versions, ver -> true))
+        );
+    }
+
+    /**
+     * Index item key.
+     * @return Key
+     */
+    public Key key() {
+        return new Key.From(String.format("%s/@v/index", this.module));
+    }
+
+    /**
+     * Loads index.
+     * @return Versions if index exists
+     */
+    private CompletionStage<Optional<List<ModuleVersion>>> load() {
+        return this.storage.exists(this.key()).thenCompose(
+            exists -> {
+                final CompletionStage<Optional<List<ModuleVersion>>> res;
+                if (exists) {
+                    res = this.storage.value(this.key())
+                        .thenCompose(Content::asStringFuture)
+                        .thenApply(
+                            text -> Optional.of(
+                                Arrays.stream(text.split("\n"))
+                                    .filter(line -> !line.isBlank())
+                                    .map(ModuleVersion::new)
+                                    .collect(Collectors.toList())
+                            )
+                        );
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Versions of `.info` items of the module.
+     * @return Versions in semver order
+     */
+    private CompletionStage<Collection<ModuleVersion>> listed() {
+        final String prefix = String.format("%s/@v/", this.module);
+        return this.storage.list(new Key.From(prefix), Key.DELIMITER).thenApply(
+            listing -> listing.files().stream()
+                .map(Key::string)
+                .filter(key -> key.endsWith(".info") && key.startsWith(prefix))
+                .map(key -> key.substring(prefix.length(), key.length() - ".info".length()))
+                .filter(ver -> ver.indexOf('/') < 0)
+                .map(ModuleVersion::new)
+                .collect(Collectors.toCollection(TreeSet::new))
+        );
+    }
+
+    /**
+     * Builds index from `.info` items of the module, index is saved if module has
+     * any versions. Index is built under the lock and only if it was not created
+     * by concurrent operation, so versions added meanwhile are not overwritten.
+     * @return Versions
+     */
+    private CompletionStage<List<ModuleVersion>> rebuild() {
+        return new RetryExclusively(this.storage).perform(
+            this.key(),
+            asto -> this.load().thenCompose(
+                versions -> {
+                    final CompletionStage<List<ModuleVersion>> res;
+                    if (versions.isPresent()) {
+                        res = CompletableFuture.completedFuture(versions.get());
+                    } else {
+                        res = this.listed().thenCompose(
+                            listed -> {
+                                final CompletionStage<Void> save;
+                                if (listed.isEmpty()) {
+                                    save = CompletableFuture.allOf();
+                                } else {
+                                    save = this.save(asto, listed);
+                                }
+                                return save.thenApply(nothing -> List.copyOf(listed));
+                            }
+                        );
+                    }
+                    return res;
+                }
+            )
+        );
+    }
+
+    /**
+     * Saves index and versions list.
+     * @param asto Storage
+     * @param versions Versions in semver order
+     * @return Completion action
+     */
+    private CompletionStage<Void> save(final Storage asto,
+        final Collection<ModuleVersion> versions) {
+        return asto.save(this.key(), ModuleIndex.lines(versions, ver -> true)).thenCompose(
+            nothing -> asto.save(
+                new Key.From(String.format("%s/@v/list", this.module)),
+                ModuleIndex.lines(versions, ver -> !ver.pseudo())
+            )
+        );
+    }
+
+    /**
+     * Versions as lines.
+     * @param versions Versions
+     * @param filter Versions filter
+     * @return Content
+     */
+    private static Content lines(final Collection<ModuleVersion> versions,
+        final Predicate<ModuleVersion> filter) {
+        return new Content.From(
+            versions.stream().filter(filter)
+                .map(ver -> String.format("%s\n", ver))
+                .collect(Collectors.joining())
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Highest version matching the filter.
+     * @param versions Versions in semver order
+     * @param filter Filter
+     * @return Version if found
+     */
+    private static Optional<ModuleVersion> last(final List<ModuleVersion> versions,
+        final Predicate<ModuleVersion> filter) {
+        return versions.stream().filter(filter).reduce((first, second) -> second);
+    }
+}
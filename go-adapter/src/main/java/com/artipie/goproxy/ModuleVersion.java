@@ -0,0 +1,210 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.goproxy;
+
+import java.util.regex.Pattern;
+
+/**
+ * Go module version, compared by semantic versioning rules: numeric major, minor
+ * and patch, release is greater than any of its pre-releases, pre-release identifiers
+ * are compared one by one, build metadata is ignored. Pseudo-versions are pre-release
+ * versions and are ordered by their timestamps.
+ * @since 1.0
+ */
+public final class ModuleVersion implements Comparable<ModuleVersion> {
+
+    /**
+     * Pseudo-version pattern, see
+     * <a href="https://go.dev/ref/mod#pseudo-versions">pseudo-versions</a>.
+     */
+    private static final Pattern PSEUDO = Pattern.compile(
+        "^v[0-9]+\\.(0\\.0-|\\d+\\.\\d+-([^+]*\\.)?0\\.)\\d{14}-[A-Za-z0-9]+(\\+[0-9A-Za-z-.]+)?$"
+    );
+
+    /**
+     * Numeric identifier pattern.
+     */
+    private static final Pattern NUMERIC = Pattern.compile("[0-9]+");
+
+    /**
+     * Version string, e.g. `v1.2.3`.
+     */
+    private final String value;
+
+    /**
+     * Ctor.
+     * @param value Version string
+     */
+    public ModuleVersion(final String value) {
+        this.value = value;
+    }
+
+    /**
+     * Is it pseudo-version?
+     * @return True for pseudo-versions
+     */
+    public boolean pseudo() {
+        return ModuleVersion.PSEUDO.matcher(this.value).matches();
+    }
+
+    /**
+     * Is it pre-release version? Pseudo-versions are pre-release versions too.
+     * @return True if version has pre-release part
+     */
+    public boolean prerelease() {
+        return !this.pre().isEmpty();
+    }
+
+    @Override
+    public int compareTo(final ModuleVersion other) {
+        final String[] left = this.core();
+        final String[] right = other.core();
+        int res = 0;
+        for (int idx = 0; res == 0 && idx < 3; idx = idx + 1) {
+            res = Long.compare(ModuleVersion.number(left, idx), ModuleVersion.number(right, idx));
+        }
+        if (res == 0) {
+            res = ModuleVersion.comparePre(this.pre(), other.pre());
+        }
+        return res;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ModuleVersion && this.compareTo((ModuleVersion) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        final String[] core = this.core();
+        return String.format(
+            "%d.%d.%d-%s",
+            ModuleVersion.number(core, 0), ModuleVersion.number(core, 1),
+            ModuleVersion.number(core, 2), this.pre()
+        ).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+
+    /**
+     * Version without leading `v` and build metadata.
+     * @return Version string
+     */
+    private String plain() {
+        String res = this.value;
+        if (res.startsWith("v")) {
+            res = res.substring(1);
+        }
+        final int plus = res.indexOf('+');
+        if (plus >= 0) {
+            res = res.substring(0, plus);
+        }
+        return res;
+    }
+
+    /**
+     * Major, minor and patch parts.
+     * @return Core parts
+     */
+    private String[] core() {
+        final String plain = this.plain();
+        final int dash = plain.indexOf('-');
+        final String res;
+        if (dash < 0) {
+            res = plain;
+        } else {
+            res = plain.substring(0, dash);
+        }
+        return res.split("\\.");
+    }
+
+    /**
+     * Pre-release part.
+     * @return Pre-release or empty string
+     */
+    private String pre() {
+        final String plain = this.plain();
+        final int dash = plain.indexOf('-');
+        final String res;
+        if (dash < 0) {
+            res = "";
+        } else {
+            res = plain.substring(dash + 1);
+        }
+        return res;
+    }
+
+    /**
+     * Numeric core part, missing or invalid parts are zeros.
+     * @param core Core parts
+     * @param idx Part index
+     * @return Number
+     */
+    private static long number(final String[] core, final int idx) {
+        final long res;
+        if (idx < core.length && ModuleVersion.NUMERIC.matcher(core[idx]).matches()) {
+            res = Long.parseLong(core[idx]);
+        } else {
+            res = 0;
+        }
+        return res;
+    }
+
+    /**
+     * Compares pre-release parts.
+     * @param left Left pre-release
+     * @param right Right pre-release
+     * @return Comparison result
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static int comparePre(final String left, final String right) {
+        int res = 0;
+        if (left.isEmpty() && !right.isEmpty()) {
+            res = 1;
+        } else if (!left.isEmpty() && right.isEmpty()) {
+            res = -1;
+        } else if (!left.isEmpty()) {
+            final String[] lids = left.split("\\.");
+            final String[] rids = right.split("\\.");
+            for (int idx = 0; res == 0 && idx < Math.min(lids.length, rids.length); idx = idx + 1) {
+                res = ModuleVersion.compareId(lids[idx], rids[idx]);
+            }
+            if (res == 0) {
+                res = Integer.compare(lids.length, rids.length);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Compares pre-release identifiers: numeric identifiers are compared numerically
+     * and are lower than alphanumeric identifiers.
+     * @param left Left identifier
+     * @param right Right identifier
+     * @return Comparison result
+     */
+    private static int compareId(final String left, final String right) {
+        final boolean lnum = ModuleVersion.NUMERIC.matcher(left).matches();
+        final boolean rnum = ModuleVersion.NUMERIC.matcher(right).matches();
+        final int res;
+        if (lnum && rnum) {
+            if (left.length() == right.length()) {
+                res = left.compareTo(right);
+            } else {
+                res = Integer.compare(left.length(), right.length());
+            }
+        } else if (lnum) {
+            res = -1;
+        } else if (rnum) {
+            res = 1;
+        } else {
+            res = left.compareTo(right);
+        }
+        return res;
+    }
+}
@@ -56,7 +56,14 @@ public final class GoSlice implements Slice {
                 GoSlice.createSlice(storage, ContentType.mime("application/zip"), policy, users, name)
             ),
             GoSlice.pathGet(
-                ".+/@v/list", GoSlice.createSlice(storage, ContentType.text(), policy, users, name)
+                ".+/@v/list",
+                new BasicAuthzSlice(
+                    new ListSlice(storage),
+                    users,
+                    new OperationControl(
+                        policy, new AdapterBasicPermission(name, Action.Standard.READ)
+                    )
+                )
             ),
             GoSlice.pathGet(
                 ".+/@latest",
@@ -7,20 +7,18 @@ package com.artipie.http;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.goproxy.ModuleIndex;
 import com.artipie.http.headers.ContentType;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.slice.ETagged;
 import com.artipie.http.slice.KeyFromPath;
 
-import java.net.URI;
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Go mod slice: this slice returns json-formatted metadata about go module as
  * described in "JSON-formatted metadata(.info file body) about the latest known version"
- * section of readme.
+ * section of readme. Latest version is resolved by {@link ModuleIndex}.
  */
 public final class LatestSlice implements Slice {
 
@@ -35,43 +33,20 @@ public final class LatestSlice implements Slice {
 
     @Override
     public CompletableFuture<Response> response(RequestLine line, Headers headers, Content body) {
-        String path = LatestSlice.normalized(line);
-        return this.storage.list(new KeyFromPath(path))
-            .thenCompose(this::resp);
-    }
-
-    /**
-     * Replaces the word latest if it is the last part of the URI path, by v. Then returns the path.
-     * @param line Received request line
-     * @return A URI path with replaced latest.
-     */
-    private static String normalized(final RequestLine line) {
-        final URI received = line.uri();
-        String path = received.getPath();
-        final String latest = "latest";
-        if (path.endsWith(latest)) {
-            path = path.substring(0, path.lastIndexOf(latest)).concat("v");
-        }
-        return path;
-    }
-
-    /**
-     * Composes response. It filters .info files from module directory, chooses the greatest
-     * version and returns content from the .info file.
-     * @param module Module file names list from repository
-     * @return Response
-     */
-    private CompletableFuture<Response> resp(final Collection<Key> module) {
-        final Optional<String> info = module.stream().map(Key::string)
-            .filter(item -> item.endsWith("info"))
-            .max(Comparator.naturalOrder());
-        if (info.isPresent()) {
-            return this.storage.value(new KeyFromPath(info.get()))
-                .thenApply(c -> ResponseBuilder.ok()
-                    .header(ContentType.json())
-                    .body(c)
-                    .build());
-        }
-        return ResponseBuilder.notFound().completedFuture();
+        final String path = line.uri().getPath();
+        final String module = new KeyFromPath(
+            path.substring(0, path.lastIndexOf("/@latest"))
+        ).string();
+        return new ModuleIndex(this.storage, module).latest().thenCompose(
+            latest -> latest.map(
+                version -> this.storage.value(
+                    new Key.From(String.format("%s/@v/%s.info", module, version))
+                ).thenCompose(Content::asBytesFuture).thenApply(
+                    bytes -> ETagged.of(bytes).response(
+                        headers, () -> ResponseBuilder.ok().header(ContentType.json()).body(bytes)
+                    ).build()
+                )
+            ).orElseGet(() -> ResponseBuilder.notFound().completedFuture())
+        ).toCompletableFuture();
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.goproxy.ModuleIndex;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.slice.ETagged;
+import com.artipie.http.slice.KeyFromPath;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Module versions list slice: returns `{module}/@v/list` maintained by {@link ModuleIndex}
+ * with `ETag` header. If the list does not exist, module index is built first.
+ */
+public final class ListSlice implements Slice {
+
+    private final Storage storage;
+
+    /**
+     * @param storage Storage
+     */
+    public ListSlice(final Storage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public CompletableFuture<Response> response(RequestLine line, Headers headers, Content body) {
+        final Key key = new KeyFromPath(line.uri().getPath());
+        final String module = key.string().substring(0, key.string().lastIndexOf("/@v/list"));
+        return this.storage.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Boolean> res;
+                if (exists) {
+                    res = CompletableFuture.completedFuture(true);
+                } else {
+                    res = new ModuleIndex(this.storage, module).versions()
+                        .thenCompose(versions -> this.storage.exists(key));
+                }
+                return res;
+            }
+        ).thenCompose(
+            exists -> {
+                final CompletableFuture<Response> res;
+                if (exists) {
+                    res = this.storage.value(key).thenCompose(Content::asBytesFuture).thenApply(
+                        bytes -> ETagged.of(bytes).response(
+                            headers,
+                            () -> ResponseBuilder.ok().header(ContentType.text()).body(bytes)
+                        ).build()
+                    );
+                } else {
+                    res = ResponseBuilder.notFound().completedFuture();
+                }
+                return res;
+            }
+        );
+    }
+}
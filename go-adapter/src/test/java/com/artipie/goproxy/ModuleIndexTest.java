@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.goproxy;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ModuleIndex}.
+ * @since 1.0
+ */
+final class ModuleIndexTest {
+
+    /**
+     * Module path.
+     */
+    private static final String MODULE = "example.com/foo/bar";
+
+    /**
+     * Test storage.
+     */
+    private Storage asto;
+
+    @BeforeEach
+    void init() {
+        this.asto = new InMemoryStorage();
+    }
+
+    @Test
+    void keepsVersionsInSemverOrder() {
+        final ModuleIndex index = new ModuleIndex(this.asto, ModuleIndexTest.MODULE);
+        final String[] versions = {
+            "v1.9.0", "v1.10.0", "v0.0.0-20191109021931-daa7c04131f5", "v1.10.1-rc.1",
+        };
+        for (final String ver : versions) {
+            this.info(ver);
+            index.add(ver).toCompletableFuture().join();
+        }
+        MatcherAssert.assertThat(
+            "Versions list should not contain pseudo-versions",
+            this.asto.value(new Key.From("example.com/foo/bar/@v/list")).join().asString(),
+            new IsEqual<>("v1.9.0\nv1.10.0\nv1.10.1-rc.1\n")
+        );
+        MatcherAssert.assertThat(
+            "Latest version should be the highest release",
+            index.latest().toCompletableFuture().join().map(ModuleVersion::toString),
+            new IsEqual<>(Optional.of("v1.10.0"))
+        );
+    }
+
+    @Test
+    void resolvesLatestPseudoVersion() {
+        final ModuleIndex index = new ModuleIndex(this.asto, ModuleIndexTest.MODULE);
+        for (final String ver : List.of(
+            "v0.0.0-20191109021931-daa7c04131f5", "v0.0.0-20200101000000-aaaaaaaaaaaa"
+        )) {
+            this.info(ver);
+            index.add(ver).toCompletableFuture().join();
+        }
+        MatcherAssert.assertThat(
+            index.latest().toCompletableFuture().join().map(ModuleVersion::toString),
+            new IsEqual<>(Optional.of("v0.0.0-20200101000000-aaaaaaaaaaaa"))
+        );
+    }
+
+    @Test
+    void buildsIndexFromInfoFiles() {
+        this.asto.save(
+            new Key.From("example.com/foo/bar/@v/v0.2.0.info"), Content.EMPTY
+        ).join();
+        this.asto.save(
+            new Key.From("example.com/foo/bar/@v/v0.10.0.info"), Content.EMPTY
+        ).join();
+        MatcherAssert.assertThat(
+            "Versions were not found",
+            new ModuleIndex(this.asto, ModuleIndexTest.MODULE).versions()
+                .toCompletableFuture().join().stream()
+                .map(ModuleVersion::toString).collect(Collectors.toList()),
+            Matchers.contains("v0.2.0", "v0.10.0")
+        );
+        MatcherAssert.assertThat(
+            "Index was not saved",
+            this.asto.exists(new Key.From("example.com/foo/bar/@v/index")).join(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void keepsVersionsStoredBeforeIndex() {
+        this.info("v1.0.0");
+        this.info("v1.1.0");
+        new ModuleIndex(this.asto, ModuleIndexTest.MODULE).add("v1.1.0")
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.asto.value(new Key.From("example.com/foo/bar/@v/list")).join().asString(),
+            new IsEqual<>("v1.0.0\nv1.1.0\n")
+        );
+    }
+
+    @Test
+    void servesVersionsFromExistingIndex() {
+        final ModuleIndex index = new ModuleIndex(this.asto, ModuleIndexTest.MODULE);
+        this.info("v1.0.0");
+        index.add("v1.0.0").toCompletableFuture().join();
+        this.info("v1.1.0");
+        MatcherAssert.assertThat(
+            "Storage was listed while index exists",
+            index.versions().toCompletableFuture().join().stream()
+                .map(ModuleVersion::toString).collect(Collectors.toList()),
+            Matchers.contains("v1.0.0")
+        );
+    }
+
+    /**
+     * Saves version info item.
+     * @param version Version
+     */
+    private void info(final String version) {
+        this.asto.save(
+            new Key.From(String.format("example.com/foo/bar/@v/%s.info", version)),
+            Content.EMPTY
+        ).join();
+    }
+}
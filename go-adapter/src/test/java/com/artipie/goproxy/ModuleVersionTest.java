@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.goproxy;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for {@link ModuleVersion}.
+ * @since 1.0
+ */
+final class ModuleVersionTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "v1.10.0,v1.9.0,1",
+        "v1.0.0,v1.0.0-rc.1,1",
+        "v1.0.0-rc.2,v1.0.0-rc.10,-1",
+        "v1.0.0-alpha,v1.0.0-alpha.1,-1",
+        "v1.0.0-alpha.beta,v1.0.0-alpha.1,1",
+        "v1.0.0+meta,v1.0.0,0",
+        "v0.0.0-20191109021931-daa7c04131f5,v0.0.0-20200101000000-aaaaaaaaaaaa,-1",
+        "v1.2.4-0.20191109021931-daa7c04131f5,v1.2.3,1"
+    })
+    void comparesVersions(final String left, final String right, final int res) {
+        MatcherAssert.assertThat(
+            Integer.signum(new ModuleVersion(left).compareTo(new ModuleVersion(right))),
+            new IsEqual<>(res)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "v0.0.0-20191109021931-daa7c04131f5,true",
+        "v1.2.4-0.20191109021931-daa7c04131f5,true",
+        "v1.2.4-pre.0.20191109021931-daa7c04131f5,true",
+        "v1.2.4,false",
+        "v1.2.4-rc.1,false"
+    })
+    void detectsPseudoVersions(final String version, final boolean res) {
+        MatcherAssert.assertThat(
+            new ModuleVersion(version).pseudo(),
+            new IsEqual<>(res)
+        );
+    }
+}
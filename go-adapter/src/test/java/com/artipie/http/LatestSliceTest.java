@@ -57,6 +57,48 @@ public class LatestSliceTest {
         );
     }
 
+    @Test
+    void returnsLatestSemverVersion() {
+        final Storage storage = new InMemoryStorage();
+        final String info = "{\"Version\":\"v1.10.0\",\"Time\":\"2019-06-28T10:22:31Z\"}";
+        storage.save(
+            new KeyFromPath("example.com/semver/@v/v1.9.0.info"), new Content.From(new byte[]{})
+        ).join();
+        storage.save(
+            new KeyFromPath("example.com/semver/@v/v1.10.0.info"), new Content.From(info.getBytes())
+        ).join();
+        storage.save(
+            new KeyFromPath("example.com/semver/@v/v1.11.0-rc.1.info"),
+            new Content.From(new byte[]{})
+        ).join();
+        Response response = new LatestSlice(storage).response(
+            RequestLine.from("GET /example.com/semver/@latest HTTP/1.1"),
+            Headers.EMPTY, Content.EMPTY
+        ).join();
+        Assertions.assertArrayEquals(info.getBytes(), response.body().asBytes());
+    }
+
+    @Test
+    void returnsNotModifiedForSameEtag() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(
+            new KeyFromPath("example.com/etag/@v/v0.1.0.info"),
+            new Content.From("{\"Version\":\"v0.1.0\"}".getBytes())
+        ).join();
+        final LatestSlice slice = new LatestSlice(storage);
+        final String etag = slice.response(
+            RequestLine.from("GET /example.com/etag/@latest HTTP/1.1"),
+            Headers.EMPTY, Content.EMPTY
+        ).join().headers().values("ETag").get(0);
+        Assertions.assertEquals(
+            RsStatus.NOT_MODIFIED,
+            slice.response(
+                RequestLine.from("GET /example.com/etag/@latest HTTP/1.1"),
+                Headers.from("If-None-Match", etag), Content.EMPTY
+            ).join().status()
+        );
+    }
+
     @Test
     void returnsNotFondWhenModuleNotFound() {
         Response response = new LatestSlice(new InMemoryStorage()).response(
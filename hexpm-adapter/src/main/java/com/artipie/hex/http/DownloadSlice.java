@@ -14,6 +14,7 @@ import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.headers.ContentType;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.slice.ETagged;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
@@ -44,6 +45,11 @@ public final class DownloadSlice implements Slice {
     static final Pattern TARBALLS_PTRN =
         Pattern.compile(String.format("/%s/\\S+", DownloadSlice.TARBALLS));
 
+    /**
+     * Binary content type.
+     */
+    private static final String OCTET = "application/octet-stream";
+
     /**
      * Repository storage.
      */
@@ -63,17 +69,36 @@ public final class DownloadSlice implements Slice {
         );
         return this.storage.exists(key)
             .thenCompose(exist -> {
-                    if (exist) {
+                    if (!exist) {
+                        return CompletableFuture.completedFuture(ResponseBuilder.notFound().build());
+                    }
+                    if (key.string().startsWith(String.format("%s/", DownloadSlice.PACKAGES))) {
                         return this.storage.value(key)
-                            .thenApply(
-                                value -> ResponseBuilder.ok()
-                                    .header(ContentType.mime("application/octet-stream"))
-                                    .body(value)
-                                    .build()
-                            );
+                            .thenCompose(Content::asBytesFuture)
+                            .thenApply(bytes -> DownloadSlice.registry(headers, bytes));
                     }
-                    return CompletableFuture.completedFuture(ResponseBuilder.notFound().build());
+                    return this.storage.value(key)
+                        .thenApply(
+                            value -> ResponseBuilder.ok()
+                                .header(ContentType.mime(DownloadSlice.OCTET))
+                                .body(value)
+                                .build()
+                        );
                 }
             );
     }
+
+    /**
+     * Package registry resource response with `ETag` header, registry resources are
+     * small and precomputed on publish, so tag is calculated from the resource bytes.
+     * @param headers Request headers
+     * @param bytes Registry resource
+     * @return Response, `304 Not Modified` if request `If-None-Match` header has the same tag
+     */
+    private static Response registry(final Headers headers, final byte[] bytes) {
+        return ETagged.of(bytes).response(
+            headers,
+            () -> ResponseBuilder.ok().header(ContentType.mime(DownloadSlice.OCTET)).body(bytes)
+        ).build();
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+
+package com.artipie.hex.registry;
+
+import com.artipie.ArtipieException;
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.lock.RetryExclusively;
+import com.artipie.hex.proto.generated.PackageOuterClass;
+import com.artipie.hex.proto.generated.SignedOuterClass;
+import com.artipie.hex.utils.Gzip;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+/**
+ * Packages registry of hex repository. Registry resource `packages/{name}` is a gzipped
+ * `Signed` message with `Package` payload, it's precomputed on publish and served as is.
+ * <p>
+ * Encoded releases of every package are kept in `.registry/{name}` item: protobuf
+ * repeated fields are encoded as a sequence of records, so new release is appended
+ * to the encoded releases without decoding them, and the payload is the encoded releases
+ * followed by encoded package name and repository. Release of the same version is
+ * removed before appending, so retried or replacing publish doesn't duplicate it.
+ * </p>
+ * @since 1.0
+ */
+public final class PackageRegistry {
+
+    /**
+     * Registry resources root.
+     */
+    public static final Key PACKAGES = new Key.From("packages");
+
+    /**
+     * Encoded releases root.
+     */
+    private static final Key RELEASES = new Key.From(".registry");
+
+    /**
+     * Repository name in package payload.
+     */
+    private static final String REPOSITORY = "artipie";
+
+    /**
+     * Repository storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Ctor.
+     * @param storage Repository storage
+     */
+    public PackageRegistry(final Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Adds release to the package registry resource, release of the same version
+     * is replaced.
+     * @param name Package name
+     * @param release Release
+     * @return Completion action
+     */
+    public CompletionStage<Void> add(final String name,
+        final PackageOuterClass.Release release) {
+        final Key resource = new Key.From(PackageRegistry.PACKAGES, name);
+        final Key releases = new Key.From(PackageRegistry.RELEASES, name);
+        return new RetryExclusively(this.storage).perform(
+            resource,
+            asto -> PackageRegistry.releases(asto, resource, releases).thenApply(
+                encoded -> PackageRegistry.concat(
+                    PackageRegistry.without(encoded, release.getVersion()),
+                    PackageOuterClass.Package.newBuilder()
+                        .addReleases(release)
+                        .buildPartial()
+                        .toByteArray()
+                )
+            ).thenCompose(
+                encoded -> asto.save(releases, new Content.From(encoded)).thenCompose(
+                    nothing -> asto.save(
+                        resource,
+                        new Content.From(PackageRegistry.resource(name, encoded))
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * Encoded releases of the package, they are extracted from registry resource
+     * once for the packages published before releases were kept separately.
+     * @param asto Storage
+     * @param resource Registry resource key
+     * @param releases Encoded releases key
+     * @return Encoded releases, empty for new package
+     */
+    private static CompletionStage<byte[]> releases(final Storage asto, final Key resource,
+        final Key releases) {
+        return asto.exists(releases).thenCompose(
+            exists -> {
+                final CompletionStage<byte[]> res;
+                if (exists) {
+                    res = asto.value(releases).thenCompose(Content::asBytesFuture);
+                } else {
+                    res = asto.exists(resource).thenCompose(
+                        published -> {
+                            final CompletionStage<byte[]> encoded;
+                            if (published) {
+                                encoded = asto.value(resource)
+                                    .thenCompose(Content::asBytesFuture)
+                                    .thenApply(PackageRegistry::decode);
+                            } else {
+                                encoded = CompletableFuture.completedFuture(new byte[0]);
+                            }
+                            return encoded;
+                        }
+                    );
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Encoded releases from registry resource.
+     * @param gzipped Registry resource
+     * @return Encoded releases
+     */
+    private static byte[] decode(final byte[] gzipped) {
+        try {
+            return PackageOuterClass.Package.newBuilder()
+                .addAllReleases(
+                    PackageOuterClass.Package.parseFrom(
+                        SignedOuterClass.Signed.parseFrom(new Gzip(gzipped).decompress())
+                            .getPayload()
+                    ).getReleasesList()
+                ).buildPartial().toByteArray();
+        } catch (final InvalidProtocolBufferException ipbex) {
+            throw new ArtipieException("Cannot parse package", ipbex);
+        }
+    }
+
+    /**
+     * Removes release of the version from encoded releases.
+     * @param encoded Encoded releases
+     * @param version Version to remove
+     * @return Encoded releases without the version
+     */
+    private static byte[] without(final byte[] encoded, final String version) {
+        try {
+            return PackageOuterClass.Package.newBuilder()
+                .addAllReleases(
+                    PackageOuterClass.Package.newBuilder().mergeFrom(encoded)
+                        .getReleasesList().stream()
+                        .filter(item -> !item.getVersion().equals(version))
+                        .collect(Collectors.toList())
+                ).buildPartial().toByteArray();
+        } catch (final InvalidProtocolBufferException ipbex) {
+            throw new ArtipieException("Cannot parse package releases", ipbex);
+        }
+    }
+
+    /**
+     * Registry resource: gzipped signed package.
+     * @param name Package name
+     * @param releases Encoded releases
+     * @return Registry resource bytes
+     */
+    private static byte[] resource(final String name, final byte[] releases) {
+        return new Gzip(
+            SignedOuterClass.Signed.newBuilder()
+                .setPayload(
+                    ByteString.copyFrom(releases).concat(
+                        PackageOuterClass.Package.newBuilder()
+                            .setName(name)
+                            .setRepository(PackageRegistry.REPOSITORY)
+                            .buildPartial()
+                            .toByteString()
+                    )
+                )
+                .setSignature(ByteString.EMPTY)
+                .build()
+                .toByteArray()
+        ).compress();
+    }
+
+    /**
+     * Concatenates byte arrays.
+     * @param first First array
+     * @param second Second array
+     * @return Concatenation
+     */
+    private static byte[] concat(final byte[] first, final byte[] second) {
+        final byte[] res = new byte[first.length + second.length];
+        System.arraycopy(first, 0, res, 0, first.length);
+        System.arraycopy(second, 0, res, first.length, second.length);
+        return res;
+    }
+}
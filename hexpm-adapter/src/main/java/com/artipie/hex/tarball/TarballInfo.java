@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+
+package com.artipie.hex.tarball;
+
+import com.artipie.ArtipieException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+
+/**
+ * Package tarball info: name, version and checksums, read from tarball stream
+ * in one pass. Only `metadata.config` and `CHECKSUM` entries are kept in memory,
+ * the rest of the tarball is just digested to calculate outer checksum.
+ *
+ * @since 1.0
+ */
+public final class TarballInfo {
+
+    /**
+     * Package metadata.
+     */
+    private final MetadataConfig metadata;
+
+    /**
+     * Inner checksum hex.
+     */
+    private final String inner;
+
+    /**
+     * Outer checksum hex: SHA-256 of the whole tarball.
+     */
+    private final String outer;
+
+    /**
+     * Ctor.
+     * @param metadata Package metadata
+     * @param inner Inner checksum hex
+     * @param outer Outer checksum hex
+     */
+    public TarballInfo(final MetadataConfig metadata, final String inner, final String outer) {
+        this.metadata = metadata;
+        this.inner = inner;
+        this.outer = outer;
+    }
+
+    /**
+     * Package name.
+     * @return Name
+     */
+    public String name() {
+        return this.metadata.app();
+    }
+
+    /**
+     * Package version.
+     * @return Version
+     */
+    public String version() {
+        return this.metadata.version();
+    }
+
+    /**
+     * Inner checksum, stored in `CHECKSUM` entry of the tarball.
+     * @return Checksum hex
+     */
+    public String innerChecksum() {
+        return this.inner;
+    }
+
+    /**
+     * Outer checksum, SHA-256 of the tarball.
+     * @return Checksum hex
+     */
+    public String outerChecksum() {
+        return this.outer;
+    }
+
+    /**
+     * Reads tarball info from stream.
+     * @param input Tarball stream
+     * @return Tarball info
+     * @throws ArtipieException If tarball is invalid
+     */
+    @SuppressWarnings("PMD.AssignmentInOperand")
+    public static TarballInfo read(final InputStream input) {
+        final MessageDigest sha = DigestUtils.getSha256Digest();
+        final DigestInputStream digest = new DigestInputStream(input, sha);
+        byte[] metadata = null;
+        byte[] checksum = null;
+        try {
+            final TarArchiveInputStream tar = new TarArchiveInputStream(digest);
+            TarArchiveEntry entry;
+            while ((entry = (TarArchiveEntry) tar.getNextEntry()) != null) {
+                if (TarReader.METADATA.equals(entry.getName())) {
+                    metadata = tar.readAllBytes();
+                } else if (TarReader.CHECKSUM.equals(entry.getName())) {
+                    checksum = tar.readAllBytes();
+                }
+            }
+            digest.transferTo(OutputStream.nullOutputStream());
+        } catch (final IOException ioex) {
+            throw new ArtipieException("Cannot read package tarball", ioex);
+        }
+        if (metadata == null || checksum == null) {
+            throw new ArtipieException("Package tarball has no metadata.config or CHECKSUM");
+        }
+        return new TarballInfo(
+            new MetadataConfig(metadata),
+            new String(checksum, StandardCharsets.UTF_8).trim(),
+            Hex.encodeHexString(sha.digest())
+        );
+    }
+}
@@ -20,6 +20,7 @@ import com.artipie.http.rq.RqMethod;
 import com.artipie.http.RsStatus;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -70,4 +71,25 @@ class DownloadSliceTest {
             )
         );
     }
+
+    @Test
+    void returnsNotModifiedForSamePackageEtag() throws Exception {
+        final String path = "packages/decimal";
+        this.storage.save(
+            new Key.From(path),
+            new Content.From(Files.readAllBytes(new ResourceUtil(path).asPath()))
+        ).join();
+        final RequestLine line = new RequestLine(RqMethod.GET, String.format("/%s", path));
+        final String etag = this.slice.response(line, Headers.EMPTY, Content.EMPTY).join()
+            .headers().values("ETag").get(0);
+        MatcherAssert.assertThat(
+            this.slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_MODIFIED),
+                line,
+                Headers.from("If-None-Match", etag),
+                Content.EMPTY
+            )
+        );
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+
+package com.artipie.hex.registry;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.hex.ResourceUtil;
+import com.artipie.hex.proto.generated.PackageOuterClass;
+import com.artipie.hex.proto.generated.SignedOuterClass;
+import com.artipie.hex.utils.Gzip;
+import com.google.protobuf.ByteString;
+import java.nio.file.Files;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link PackageRegistry}.
+ * @since 1.0
+ */
+class PackageRegistryTest {
+
+    /**
+     * Test storage.
+     */
+    private Storage storage;
+
+    /**
+     * Registry.
+     */
+    private PackageRegistry registry;
+
+    @BeforeEach
+    void init() {
+        this.storage = new InMemoryStorage();
+        this.registry = new PackageRegistry(this.storage);
+    }
+
+    @Test
+    void appendsReleases() throws Exception {
+        this.registry.add("foo", PackageRegistryTest.release("1.0.0", 1))
+            .toCompletableFuture().join();
+        this.registry.add("foo", PackageRegistryTest.release("1.1.0", 2))
+            .toCompletableFuture().join();
+        final PackageOuterClass.Package pkg = this.pkg("foo");
+        MatcherAssert.assertThat("Wrong name", pkg.getName(), new IsEqual<>("foo"));
+        MatcherAssert.assertThat(
+            "Wrong repository", pkg.getRepository(), new IsEqual<>("artipie")
+        );
+        MatcherAssert.assertThat(
+            "Wrong releases",
+            pkg.getReleasesList().stream()
+                .map(PackageOuterClass.Release::getVersion)
+                .collect(Collectors.toList()),
+            Matchers.contains("1.0.0", "1.1.0")
+        );
+    }
+
+    @Test
+    void replacesRelease() throws Exception {
+        this.registry.add("bar", PackageRegistryTest.release("0.1.0", 1))
+            .toCompletableFuture().join();
+        this.registry.add("bar", PackageRegistryTest.release("0.2.0", 2))
+            .toCompletableFuture().join();
+        this.registry.add("bar", PackageRegistryTest.release("0.1.0", 3))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.pkg("bar").getReleasesList(),
+            Matchers.contains(
+                PackageRegistryTest.release("0.2.0", 2),
+                PackageRegistryTest.release("0.1.0", 3)
+            )
+        );
+    }
+
+    @Test
+    void doesNotDuplicateRetriedRelease() throws Exception {
+        this.registry.add("qux", PackageRegistryTest.release("1.0.0", 1))
+            .toCompletableFuture().join();
+        this.registry.add("qux", PackageRegistryTest.release("1.0.0", 1))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.pkg("qux").getReleasesList(),
+            Matchers.contains(PackageRegistryTest.release("1.0.0", 1))
+        );
+    }
+
+    @Test
+    void writesSameResourceAsPackageBuilder() throws Exception {
+        final PackageOuterClass.Release release = PackageRegistryTest.release("2.0.0", 4);
+        this.registry.add("baz", release).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.storage.value(new Key.From("packages", "baz")).join().asBytes(),
+            new IsEqual<>(
+                new Gzip(
+                    SignedOuterClass.Signed.newBuilder()
+                        .setPayload(
+                            PackageOuterClass.Package.newBuilder()
+                                .setName("baz")
+                                .setRepository("artipie")
+                                .addReleases(release)
+                                .build()
+                                .toByteString()
+                        )
+                        .setSignature(ByteString.EMPTY)
+                        .build()
+                        .toByteArray()
+                ).compress()
+            )
+        );
+    }
+
+    @Test
+    void appendsReleaseToPublishedPackage() throws Exception {
+        this.storage.save(
+            new Key.From("packages", "decimal"),
+            new Content.From(
+                Files.readAllBytes(new ResourceUtil("packages/decimal").asPath())
+            )
+        ).join();
+        this.registry.add("decimal", PackageRegistryTest.release("2.1.0", 5))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.pkg("decimal").getReleasesList().stream()
+                .map(PackageOuterClass.Release::getVersion)
+                .collect(Collectors.toList()),
+            Matchers.contains("2.0.0", "2.1.0")
+        );
+    }
+
+    private PackageOuterClass.Package pkg(final String name) throws Exception {
+        return PackageOuterClass.Package.parseFrom(
+            SignedOuterClass.Signed.parseFrom(
+                new Gzip(
+                    this.storage.value(new Key.From("packages", name)).join().asBytes()
+                ).decompress()
+            ).getPayload()
+        );
+    }
+
+    private static PackageOuterClass.Release release(final String version, final int sum) {
+        return PackageOuterClass.Release.newBuilder()
+            .setVersion(version)
+            .setInnerChecksum(ByteString.copyFrom(new byte[]{(byte) sum}))
+            .setOuterChecksum(ByteString.copyFrom(new byte[]{(byte) sum, 0}))
+            .build();
+    }
+}
@@ -0,0 +1,11 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+
+/**
+ * Tests for hex packages registry.
+ *
+ * @since 1.0
+ */
+package com.artipie.hex.registry;
@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+
+package com.artipie.hex.tarball;
+
+import com.artipie.ArtipieException;
+import com.artipie.hex.ResourceUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link TarballInfo}.
+ * @since 1.0
+ */
+class TarballInfoTest {
+
+    @Test
+    void readsInfo() throws IOException {
+        final byte[] tar = Files.readAllBytes(
+            new ResourceUtil("tarballs/decimal-2.0.0.tar").asPath()
+        );
+        final TarballInfo info = TarballInfo.read(new ByteArrayInputStream(tar));
+        MatcherAssert.assertThat("Wrong name", info.name(), new IsEqual<>("decimal"));
+        MatcherAssert.assertThat("Wrong version", info.version(), new IsEqual<>("2.0.0"));
+        MatcherAssert.assertThat(
+            "Wrong inner checksum",
+            info.innerChecksum(),
+            new IsEqual<>(
+                new String(new TarReader(tar).readEntryContent(TarReader.CHECKSUM).orElseThrow())
+            )
+        );
+        MatcherAssert.assertThat(
+            "Wrong outer checksum",
+            info.outerChecksum(),
+            new IsEqual<>(DigestUtils.sha256Hex(tar))
+        );
+    }
+
+    @Test
+    void failsOnInvalidTarball() {
+        Assertions.assertThrows(
+            ArtipieException.class,
+            () -> TarballInfo.read(new ByteArrayInputStream("not a tar".getBytes()))
+        );
+    }
+}
@@ -40,6 +40,18 @@ public class HttpClientSettings {
             if (!Strings.isNullOrEmpty(http3)) {
                 res.setHttp3(Boolean.parseBoolean(http3));
             }
+            final String http2 = mapping.string("http2");
+            if (!Strings.isNullOrEmpty(http2)) {
+                res.setHttp2(Boolean.parseBoolean(http2));
+            }
+            final String connections = mapping.string("max_connections_per_destination");
+            if (!Strings.isNullOrEmpty(connections)) {
+                res.setMaxConnectionsPerDestination(Integer.parseInt(connections));
+            }
+            final String queued = mapping.string("max_requests_queued_per_destination");
+            if (!Strings.isNullOrEmpty(queued)) {
+                res.setMaxRequestsQueuedPerDestination(Integer.parseInt(queued));
+            }
             final String followRedirects = mapping.string("follow_redirects");
             if (!Strings.isNullOrEmpty(followRedirects)) {
                 res.setFollowRedirects(Boolean.parseBoolean(followRedirects));
@@ -116,6 +128,21 @@ public class HttpClientSettings {
      */
     private boolean http3;
 
+    /**
+     * Negotiate HTTP/2 with secure destinations, HTTP/1.1 is used if not supported.
+     */
+    private boolean http2;
+
+    /**
+     * Max number of connections to one destination (scheme, host and port).
+     */
+    private int maxConnectionsPerDestination;
+
+    /**
+     * Max number of requests waiting for connection to one destination.
+     */
+    private int maxRequestsQueuedPerDestination;
+
     /**
      * Max time, in milliseconds, a connection can take to connect to destination.
      * Zero means infinite wait time.
@@ -134,6 +161,9 @@ public class HttpClientSettings {
         this.connectTimeout = 15_000L;
         this.idleTimeout = 0L;
         this.http3 = false;
+        this.http2 = false;
+        this.maxConnectionsPerDestination = 64;
+        this.maxRequestsQueuedPerDestination = 1024;
         this.proxies = new ArrayList<>();
         proxySettingsFromSystem("http")
             .ifPresent(this::addProxy);
@@ -195,6 +225,33 @@ public class HttpClientSettings {
         return this;
     }
 
+    public boolean http2() {
+        return http2;
+    }
+
+    public HttpClientSettings setHttp2(final boolean http2) {
+        this.http2 = http2;
+        return this;
+    }
+
+    public int maxConnectionsPerDestination() {
+        return maxConnectionsPerDestination;
+    }
+
+    public HttpClientSettings setMaxConnectionsPerDestination(final int max) {
+        this.maxConnectionsPerDestination = max;
+        return this;
+    }
+
+    public int maxRequestsQueuedPerDestination() {
+        return maxRequestsQueuedPerDestination;
+    }
+
+    public HttpClientSettings setMaxRequestsQueuedPerDestination(final int max) {
+        this.maxRequestsQueuedPerDestination = max;
+        return this;
+    }
+
     public long connectTimeout() {
         return connectTimeout;
     }
@@ -212,4 +269,37 @@ public class HttpClientSettings {
         this.idleTimeout = idleTimeout;
         return this;
     }
+
+    @Override
+    public boolean equals(final Object other) {
+        final boolean res;
+        if (this == other) {
+            res = true;
+        } else if (other == null || this.getClass() != other.getClass()) {
+            res = false;
+        } else {
+            final HttpClientSettings that = (HttpClientSettings) other;
+            res = this.trustAll == that.trustAll
+                && this.followRedirects == that.followRedirects
+                && this.http3 == that.http3
+                && this.http2 == that.http2
+                && this.maxConnectionsPerDestination == that.maxConnectionsPerDestination
+                && this.maxRequestsQueuedPerDestination == that.maxRequestsQueuedPerDestination
+                && this.connectTimeout == that.connectTimeout
+                && this.idleTimeout == that.idleTimeout
+                && Objects.equals(this.jksPath, that.jksPath)
+                && Objects.equals(this.jksPwd, that.jksPwd)
+                && this.proxies.equals(that.proxies);
+        }
+        return res;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.proxies, this.trustAll, this.jksPath, this.jksPwd, this.followRedirects,
+            this.http3, this.http2, this.maxConnectionsPerDestination,
+            this.maxRequestsQueuedPerDestination, this.connectTimeout, this.idleTimeout
+        );
+    }
 }
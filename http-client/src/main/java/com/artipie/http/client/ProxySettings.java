@@ -147,4 +147,26 @@ public class ProxySettings {
     public void setBasicPwd(final String basicPwd) {
         this.basicPwd = basicPwd;
     }
+
+    @Override
+    public boolean equals(final Object other) {
+        final boolean res;
+        if (this == other) {
+            res = true;
+        } else if (other == null || this.getClass() != other.getClass()) {
+            res = false;
+        } else {
+            final ProxySettings that = (ProxySettings) other;
+            res = this.uri.equals(that.uri)
+                && Objects.equals(this.basicRealm, that.basicRealm)
+                && Objects.equals(this.basicUser, that.basicUser)
+                && Objects.equals(this.basicPwd, that.basicPwd);
+        }
+        return res;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.uri, this.basicRealm, this.basicUser, this.basicPwd);
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.client.jetty;
+
+import com.artipie.http.Slice;
+import com.artipie.http.client.ClientSlices;
+import com.artipie.http.client.HttpClientSettings;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pool of Jetty HTTP clients shared by equal {@link HttpClientSettings}.
+ * <p>
+ * Each client has its own selector threads and connection pool, so creating
+ * a client per proxy repository multiplies threads and sockets and prevents
+ * reuse of connections to the same upstream. The pool gives all users of equal
+ * settings leases of the same started client and stops the client when the last
+ * lease is closed. Settings must not be modified after the lease is acquired.
+ * Clients don't store cookies, so upstream session of one repository is not
+ * sent with requests of other repository sharing the client.
+ * </p>
+ * @since 1.0
+ */
+public final class JettyClientPool {
+
+    /**
+     * Shared clients by settings, guarded by this.
+     */
+    private final Map<HttpClientSettings, Shared> clients;
+
+    /**
+     * Ctor.
+     */
+    public JettyClientPool() {
+        this.clients = new HashMap<>();
+    }
+
+    /**
+     * Acquire lease of client with settings, client is created and started
+     * if there is no client with equal settings.
+     * @param settings Client settings
+     * @return Lease of started client
+     */
+    public Lease acquire(final HttpClientSettings settings) {
+        final Shared shared;
+        synchronized (this) {
+            shared = this.clients.computeIfAbsent(settings, JettyClientPool::start);
+            shared.refs += 1;
+        }
+        return new Lease(shared);
+    }
+
+    /**
+     * Number of clients in the pool.
+     * @return Number of clients
+     */
+    public synchronized int size() {
+        return this.clients.size();
+    }
+
+    /**
+     * Create and start client.
+     * @param settings Client settings
+     * @return Shared client
+     */
+    private static Shared start(final HttpClientSettings settings) {
+        final JettyClientSlices client = new JettyClientSlices(settings);
+        client.start();
+        return new Shared(settings, client);
+    }
+
+    /**
+     * Release client, stop it if it's not used anymore.
+     * @param shared Shared client
+     */
+    private void release(final Shared shared) {
+        final boolean unused;
+        synchronized (this) {
+            shared.refs -= 1;
+            unused = shared.refs == 0;
+            if (unused) {
+                this.clients.remove(shared.settings);
+            }
+        }
+        if (unused) {
+            shared.client.stop();
+        }
+    }
+
+    /**
+     * Lease of shared client. The lease should be closed when it's not used anymore,
+     * closing it more than once has no effect.
+     * @since 1.0
+     */
+    public final class Lease implements ClientSlices, AutoCloseable {
+
+        /**
+         * Shared client.
+         */
+        private final Shared shared;
+
+        /**
+         * Lease is closed.
+         */
+        private final AtomicBoolean closed;
+
+        /**
+         * Ctor.
+         * @param shared Shared client
+         */
+        private Lease(final Shared shared) {
+            this.shared = shared;
+            this.closed = new AtomicBoolean();
+        }
+
+        @Override
+        public Slice http(final String host) {
+            return this.shared.client.http(host);
+        }
+
+        @Override
+        public Slice http(final String host, final int port) {
+            return this.shared.client.http(host, port);
+        }
+
+        @Override
+        public Slice https(final String host) {
+            return this.shared.client.https(host);
+        }
+
+        @Override
+        public Slice https(final String host, final int port) {
+            return this.shared.client.https(host, port);
+        }
+
+        @Override
+        public void close() {
+            if (this.closed.compareAndSet(false, true)) {
+                JettyClientPool.this.release(this.shared);
+            }
+        }
+    }
+
+    /**
+     * Shared client with its users counter.
+     * @since 1.0
+     */
+    private static final class Shared {
+
+        /**
+         * Client settings.
+         */
+        private final HttpClientSettings settings;
+
+        /**
+         * Client.
+         */
+        private final JettyClientSlices client;
+
+        /**
+         * Number of leases, guarded by pool.
+         */
+        private int refs;
+
+        /**
+         * Ctor.
+         * @param settings Client settings
+         * @param client Client
+         */
+        Shared(final HttpClientSettings settings, final JettyClientSlices client) {
+            this.settings = settings;
+            this.client = client;
+        }
+    }
+}
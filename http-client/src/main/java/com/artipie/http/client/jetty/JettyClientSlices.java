@@ -13,8 +13,14 @@ import org.eclipse.jetty.client.BasicAuthentication;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpProxy;
 import org.eclipse.jetty.client.Origin;
+import org.eclipse.jetty.client.transport.HttpClientConnectionFactory;
+import org.eclipse.jetty.client.transport.HttpClientTransportDynamic;
+import org.eclipse.jetty.http.HttpCookieStore;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.transport.ClientConnectionFactoryOverHTTP2;
 import org.eclipse.jetty.http3.client.HTTP3Client;
 import org.eclipse.jetty.http3.client.transport.HttpClientTransportOverHTTP3;
+import org.eclipse.jetty.io.ClientConnector;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 
 /**
@@ -122,6 +128,15 @@ public final class JettyClientSlices implements ClientSlices {
         final HttpClient result;
         if (settings.http3()) {
             result = new HttpClient(new HttpClientTransportOverHTTP3(new HTTP3Client()));
+        } else if (settings.http2()) {
+            final ClientConnector connector = new ClientConnector();
+            result = new HttpClient(
+                new HttpClientTransportDynamic(
+                    connector,
+                    HttpClientConnectionFactory.HTTP11,
+                    new ClientConnectionFactoryOverHTTP2.HTTP2(new HTTP2Client(connector))
+                )
+            );
         } else {
             result = new HttpClient();
         }
@@ -147,9 +162,12 @@ public final class JettyClientSlices implements ClientSlices {
                 );
             }
         );
+        result.setMaxConnectionsPerDestination(settings.maxConnectionsPerDestination());
+        result.setMaxRequestsQueuedPerDestination(settings.maxRequestsQueuedPerDestination());
         result.setFollowRedirects(settings.followRedirects());
         result.setConnectTimeout(settings.connectTimeout());
         result.setIdleTimeout(settings.idleTimeout());
+        result.setHttpCookieStore(new HttpCookieStore.Empty());
         return result;
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.http.client.jetty;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.ResponseBuilder;
+import com.artipie.http.RsStatus;
+import com.artipie.http.client.HttpClientSettings;
+import com.artipie.http.client.HttpServer;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link JettyClientPool}.
+ */
+final class JettyClientPoolTest {
+
+    @Test
+    void sharesClientOfEqualSettings() {
+        final JettyClientPool pool = new JettyClientPool();
+        try (JettyClientPool.Lease first = pool.acquire(new HttpClientSettings());
+            JettyClientPool.Lease second = pool.acquire(new HttpClientSettings())) {
+            MatcherAssert.assertThat(pool.size(), Matchers.is(1));
+        }
+        MatcherAssert.assertThat(pool.size(), Matchers.is(0));
+    }
+
+    @Test
+    void createsClientPerSettings() {
+        final JettyClientPool pool = new JettyClientPool();
+        try (JettyClientPool.Lease first = pool.acquire(new HttpClientSettings());
+            JettyClientPool.Lease second = pool.acquire(
+                new HttpClientSettings().setMaxConnectionsPerDestination(8)
+            )) {
+            MatcherAssert.assertThat(pool.size(), Matchers.is(2));
+        }
+    }
+
+    @Test
+    void keepsClientUntilLastLeaseIsClosed() {
+        final JettyClientPool pool = new JettyClientPool();
+        final JettyClientPool.Lease first = pool.acquire(new HttpClientSettings());
+        final JettyClientPool.Lease second = pool.acquire(new HttpClientSettings());
+        first.close();
+        first.close();
+        MatcherAssert.assertThat(
+            "Client was stopped while it is used",
+            pool.size(), Matchers.is(1)
+        );
+        second.close();
+        MatcherAssert.assertThat(pool.size(), Matchers.is(0));
+    }
+
+    @Test
+    void sendsRequestsWithSharedClient() {
+        final HttpServer server = new HttpServer();
+        server.update((line, headers, body) -> ResponseBuilder.ok().completedFuture());
+        final int port = server.start();
+        final JettyClientPool pool = new JettyClientPool();
+        try (JettyClientPool.Lease first = pool.acquire(new HttpClientSettings());
+            JettyClientPool.Lease second = pool.acquire(new HttpClientSettings())) {
+            first.close();
+            MatcherAssert.assertThat(
+                second.http("localhost", port).response(
+                    new RequestLine(RqMethod.GET, "/"), Headers.EMPTY, Content.EMPTY
+                ).join().status(),
+                Matchers.is(RsStatus.OK)
+            );
+        } finally {
+            server.stop();
+        }
+    }
+}
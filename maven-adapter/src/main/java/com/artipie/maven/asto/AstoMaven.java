@@ -5,10 +5,8 @@
 package com.artipie.maven.asto;
 
 import com.artipie.asto.Content;
-import com.artipie.asto.Copy;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
-import com.artipie.asto.SubStorage;
 import com.artipie.asto.ext.KeyLastPart;
 import com.artipie.maven.Maven;
 import com.artipie.maven.http.PutMetadataSlice;
@@ -18,10 +16,13 @@ import org.xembly.Directives;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
 
 /**
  * Maven front for artipie maven adaptor.
+ * <p>
+ * Artifact versions are taken from {@link VersionsIndex}, so deploy doesn't list
+ * files of existing versions. Uploaded files are moved to the repository.
+ * </p>
  */
 public final class AstoMaven implements Maven {
 
@@ -47,18 +48,10 @@ public final class AstoMaven implements Maven {
     public CompletionStage<Void> update(final Key upload, final Key artifact) {
         return this.storage.exclusively(
             artifact,
-            target -> target.list(artifact).thenApply(
-                items -> items.stream()
-                    .map(
-                        item -> item.string()
-                            .replaceAll(String.format("%s/", artifact.string()), "")
-                            .split("/")[0]
-                    )
-                    .filter(item -> !item.startsWith("maven-metadata"))
-                    .collect(Collectors.toSet())
-            ).thenCompose(
-                versions ->
-                    this.storage.value(
+            target -> {
+                final VersionsIndex index = new VersionsIndex(target, artifact);
+                return index.versions().thenCompose(
+                    versions -> this.storage.value(
                         new Key.From(upload, PutMetadataSlice.SUB_META, AstoMaven.MAVEN_META)
                     ).thenCompose(Content::asStringFuture)
                         .thenCompose(
@@ -71,15 +64,17 @@ public final class AstoMaven implements Maven {
                                 );
                             }
                         )
-            )
-                .thenCompose(meta -> new RepositoryChecksums(this.storage).generate(meta))
-                .thenCompose(nothing -> this.moveToTheRepository(upload, target, artifact))
-                .thenCompose(nothing -> this.storage.deleteAll(upload))
-            );
+                        .thenCompose(meta -> new RepositoryChecksums(this.storage).generate(meta))
+                        .thenCompose(nothing -> this.moveToTheRepository(upload, target, artifact))
+                        .thenCompose(nothing -> index.save(versions))
+                ).thenCompose(nothing -> this.storage.deleteAll(upload));
+            }
+        );
     }
 
     /**
-     * Moves artifacts from temp location to repository.
+     * Moves artifacts from temp location to repository: metadata files are moved to
+     * artifact location, other uploaded files are moved to artifact version location.
      * @param upload Upload temp location
      * @param target Repository
      * @param artifact Artifact repository location
@@ -88,28 +83,39 @@ public final class AstoMaven implements Maven {
     private CompletableFuture<Void> moveToTheRepository(
         final Key upload, final Storage target, final Key artifact
     ) {
-        final Storage sub = new SubStorage(
-            new Key.From(upload, PutMetadataSlice.SUB_META), this.storage
-        );
-        final Storage subversion = new SubStorage(upload.parent().get(), this.storage);
-        return sub.list(Key.ROOT).thenCompose(
-            list -> new Copy(
-                sub,
-                list.stream().filter(key -> key.string().contains(AstoMaven.MAVEN_META))
-                    .collect(Collectors.toList())
-            ).copy(new SubStorage(artifact, target))
-        ).thenCompose(
-            nothing -> subversion.list(Key.ROOT).thenCompose(
-                list -> new Copy(
-                    subversion,
-                    list.stream()
-                        .filter(
-                            key -> !key.string().contains(
-                                String.format("/%s/", PutMetadataSlice.SUB_META)
-                            )
-                        ).collect(Collectors.toList())
-                ).copy(new SubStorage(artifact, target))
+        final Key meta = new Key.From(upload, PutMetadataSlice.SUB_META);
+        final Key version = new Key.From(artifact, new KeyLastPart(upload).get());
+        final String uploaded = String.format("%s/", upload.string());
+        final String metadata = String.format("%s/", meta.string());
+        return this.storage.list(upload).thenCompose(
+            keys -> CompletableFuture.allOf(
+                keys.stream().filter(
+                    key -> key.string().startsWith(uploaded) && (
+                        !key.string().startsWith(metadata)
+                            || key.string().contains(AstoMaven.MAVEN_META)
+                    )
+                ).map(
+                    key -> {
+                        final Key dest;
+                        if (key.string().startsWith(metadata)) {
+                            dest = new Key.From(artifact, AstoMaven.relative(meta, key));
+                        } else {
+                            dest = new Key.From(version, AstoMaven.relative(upload, key));
+                        }
+                        return target.move(key, dest);
+                    }
+                ).toArray(CompletableFuture[]::new)
             )
         );
     }
+
+    /**
+     * Key relative to the base key.
+     * @param base Base key
+     * @param key Key
+     * @return Relative key string
+     */
+    private static String relative(final Key base, final Key key) {
+        return key.string().substring(base.string().length() + 1);
+    }
 }
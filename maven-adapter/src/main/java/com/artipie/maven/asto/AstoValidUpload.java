@@ -6,7 +6,7 @@ package com.artipie.maven.asto;
 
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
-import com.artipie.asto.ext.ContentDigest;
+import com.artipie.asto.ext.ContentDigests;
 import com.artipie.asto.ext.Digests;
 import com.artipie.asto.rx.RxStorageWrapper;
 import com.artipie.maven.ValidUpload;
@@ -18,7 +18,6 @@ import io.reactivex.Observable;
 import io.reactivex.Single;
 import java.util.ArrayList;
 import java.util.Locale;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
@@ -188,22 +187,33 @@ public final class AstoValidUpload implements ValidUpload {
     private Single<Boolean> validateArtifactChecksums(final Key artifact) {
         return SingleInterop.fromFuture(
             new RepositoryChecksums(this.storage).checksums(artifact)
-        ).map(Map::entrySet)
-            .flatMapObservable(Observable::fromIterable)
-            .flatMapSingle(
-                entry ->
-                    SingleInterop.fromFuture(
+        ).flatMap(
+            checksums -> {
+                final Single<Boolean> res;
+                if (checksums.isEmpty()) {
+                    res = Single.just(true);
+                } else {
+                    res = SingleInterop.fromFuture(
                         this.storage.value(artifact).thenCompose(
-                            content -> new ContentDigest(
+                            content -> new ContentDigests(
                                 content,
-                                Digests.valueOf(
-                                    entry.getKey().toUpperCase(Locale.US)
+                                checksums.keySet().stream()
+                                    .map(alg -> Digests.valueOf(alg.toUpperCase(Locale.US)))
+                                    .collect(Collectors.toList())
+                            ).hex()
+                        ).thenApply(
+                            hashes -> checksums.entrySet().stream().allMatch(
+                                entry -> entry.getValue().equals(
+                                    hashes.get(
+                                        Digests.valueOf(entry.getKey().toUpperCase(Locale.US))
+                                    )
                                 )
-                            ).hex().thenApply(
-                                hex -> hex.equals(entry.getValue())
                             )
-                    )
-                )
-            ).all(equal -> equal);
+                        )
+                    );
+                }
+                return res;
+            }
+        );
     }
 }
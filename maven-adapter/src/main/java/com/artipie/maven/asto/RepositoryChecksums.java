@@ -7,7 +7,7 @@ package com.artipie.maven.asto;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
-import com.artipie.asto.ext.ContentDigest;
+import com.artipie.asto.ext.ContentDigests;
 import com.artipie.asto.ext.Digests;
 import com.artipie.asto.rx.RxStorageWrapper;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 /**
  * Checksums for Maven artifact.
@@ -74,24 +75,32 @@ public final class RepositoryChecksums {
     }
 
     /**
-     * Calculates and generates artifact checksum files.
+     * Calculates and generates artifact checksum files, artifact is read once
+     * for all checksum algorithms.
      * @param artifact Artifact
      * @return Completable action
      */
     public CompletionStage<Void> generate(final Key artifact) {
-        return CompletableFuture.allOf(
-            SUPPORTED_ALGS.stream().map(
-                alg -> this.repo.value(artifact).thenCompose(
-                    content -> new ContentDigest(
-                        content, Digests.valueOf(alg.toUpperCase(Locale.US))
-                    ).hex().thenCompose(
-                        hex -> this.repo.save(
-                            new Key.From(String.format("%s.%s", artifact.string(), alg)),
-                            new Content.From(hex.getBytes(StandardCharsets.UTF_8))
-                        )
+        return this.repo.value(artifact).thenCompose(
+            content -> new ContentDigests(
+                content,
+                SUPPORTED_ALGS.stream().map(alg -> Digests.valueOf(alg.toUpperCase(Locale.US)))
+                    .collect(Collectors.toList())
+            ).hex()
+        ).thenCompose(
+            hashes -> CompletableFuture.allOf(
+                hashes.entrySet().stream().map(
+                    hash -> this.repo.save(
+                        new Key.From(
+                            String.format(
+                                "%s.%s", artifact.string(),
+                                hash.getKey().name().toLowerCase(Locale.US)
+                            )
+                        ),
+                        new Content.From(hash.getValue().getBytes(StandardCharsets.UTF_8))
                     )
-                )
-            ).toArray(CompletableFuture[]::new)
+                ).toArray(CompletableFuture[]::new)
+            )
         );
     }
 
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Index of artifact versions.
+ * <p>
+ * Index is a small text file with one version per line stored next to artifact
+ * {@code maven-metadata.xml}. It is read and written instead of listing all
+ * files of all artifact versions on each deploy, it should be accessed
+ * only under artifact exclusive lock. If index doesn't exist yet, versions
+ * are collected from artifact directories once.
+ * </p>
+ * @since 1.0
+ */
+public final class VersionsIndex {
+
+    /**
+     * Index file name.
+     */
+    static final String NAME = ".versions";
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Artifact key.
+     */
+    private final Key artifact;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param artifact Artifact key
+     */
+    public VersionsIndex(final Storage storage, final Key artifact) {
+        this.storage = storage;
+        this.artifact = artifact;
+    }
+
+    /**
+     * Artifact versions in order of addition.
+     * @return Versions
+     */
+    public CompletionStage<Set<String>> versions() {
+        final Key key = this.key();
+        return this.storage.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Set<String>> res;
+                if (exists) {
+                    res = this.storage.value(key).thenCompose(Content::asStringFuture)
+                        .thenApply(VersionsIndex::parse);
+                } else {
+                    res = this.storage.list(this.artifact).thenApply(this::collect);
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Save versions to index.
+     * @param versions Versions
+     * @return Completion action
+     */
+    public CompletionStage<Void> save(final Collection<String> versions) {
+        return this.storage.save(
+            this.key(),
+            new Content.From(String.join("\n", versions).getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    /**
+     * Index key.
+     * @return Key
+     */
+    private Key key() {
+        return new Key.From(this.artifact, VersionsIndex.NAME);
+    }
+
+    /**
+     * Collect versions from artifact keys: the first part of each key nested
+     * into artifact subdirectory.
+     * @param keys Artifact keys
+     * @return Versions
+     */
+    private Set<String> collect(final Collection<Key> keys) {
+        final String prefix = String.format("%s/", this.artifact.string());
+        final Set<String> res = new LinkedHashSet<>();
+        for (final Key key : keys) {
+            final String str = key.string();
+            final int end = str.indexOf('/', prefix.length());
+            if (str.startsWith(prefix) && end > prefix.length()) {
+                res.add(str.substring(prefix.length(), end));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Parse index content.
+     * @param content Index content
+     * @return Versions
+     */
+    private static Set<String> parse(final String content) {
+        final Set<String> res = new LinkedHashSet<>();
+        Arrays.stream(content.split("\n")).map(String::trim)
+            .filter(line -> !line.isEmpty()).forEach(res::add);
+        return res;
+    }
+}
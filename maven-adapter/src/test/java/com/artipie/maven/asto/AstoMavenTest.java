@@ -26,6 +26,7 @@ import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -270,6 +271,53 @@ final class AstoMavenTest {
         );
     }
 
+    @Test
+    void takesVersionsFromIndexAndUpdatesIt() {
+        final String version = "1.1";
+        this.storage.save(
+            new Key.From(AstoMavenTest.LGR, VersionsIndex.NAME),
+            new Content.From("1.0".getBytes(StandardCharsets.UTF_8))
+        ).join();
+        new MetadataXml("com.test", "logger").addXmlToStorage(
+            this.storage,
+            new Key.From(
+                AstoMavenTest.LGR_UPLOAD, version, PutMetadataSlice.SUB_META, "maven-metadata.xml"
+            ),
+            new MetadataXml.VersionTags("1.1", "1.1", new ListOf<>("1.1"))
+        );
+        this.storage.save(
+            new Key.From(AstoMavenTest.LGR_UPLOAD, version, "logger-1.1.jar"), Content.EMPTY
+        ).join();
+        new AstoMaven(this.storage).update(
+            new Key.From(AstoMavenTest.LGR_UPLOAD, version), AstoMavenTest.LGR
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Maven metadata xml is not correct",
+            new XMLDocument(
+                this.storage.value(new Key.From(AstoMavenTest.LGR, "maven-metadata.xml"))
+                    .join().asString()
+            ),
+            new AllOf<>(
+                new ListOf<Matcher<? super XML>>(
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions/version[text() = '1.0']"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions/version[text() = '1.1']"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions[count(//version) = 2]")
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Versions index was not updated",
+            this.storage.value(new Key.From(AstoMavenTest.LGR, VersionsIndex.NAME))
+                .join().asString(),
+            new IsEqual<>("1.0\n1.1")
+        );
+        MatcherAssert.assertThat(
+            "Artifact was not moved to the correct location",
+            this.storage.exists(new Key.From(AstoMavenTest.LGR, version, "logger-1.1.jar")).join(),
+            new IsEqual<>(true)
+        );
+    }
+
     private void addFilesToStorage(final Predicate<String> condition, final Key base) {
         final Storage resources = new FileStorage(new TestResource("com/artipie/asto").asPath());
         final BlockingStorage bsto = new BlockingStorage(resources);
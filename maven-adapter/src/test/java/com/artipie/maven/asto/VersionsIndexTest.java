@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link VersionsIndex}.
+ * @since 1.0
+ */
+final class VersionsIndexTest {
+
+    /**
+     * Artifact key.
+     */
+    private static final Key ARTIFACT = new Key.From("com/test/logger");
+
+    /**
+     * Test storage.
+     */
+    private Storage storage;
+
+    @BeforeEach
+    void init() {
+        this.storage = new InMemoryStorage();
+    }
+
+    @Test
+    void collectsVersionsFromDirectoriesWhenIndexIsAbsent() {
+        this.storage.save(
+            new Key.From(VersionsIndexTest.ARTIFACT, "1.0", "logger-1.0.jar"), Content.EMPTY
+        ).join();
+        this.storage.save(
+            new Key.From(VersionsIndexTest.ARTIFACT, "1.1", "logger-1.1.pom"), Content.EMPTY
+        ).join();
+        this.storage.save(
+            new Key.From(VersionsIndexTest.ARTIFACT, "maven-metadata.xml"), Content.EMPTY
+        ).join();
+        this.storage.save(
+            new Key.From("com/test/logger-api/2.0/logger-api-2.0.jar"), Content.EMPTY
+        ).join();
+        MatcherAssert.assertThat(
+            new VersionsIndex(this.storage, VersionsIndexTest.ARTIFACT).versions()
+                .toCompletableFuture().join(),
+            Matchers.containsInAnyOrder("1.0", "1.1")
+        );
+    }
+
+    @Test
+    void readsVersionsFromIndex() {
+        this.storage.save(
+            new Key.From(VersionsIndexTest.ARTIFACT, "1.0", "logger-1.0.jar"), Content.EMPTY
+        ).join();
+        this.storage.save(
+            new Key.From(VersionsIndexTest.ARTIFACT, VersionsIndex.NAME),
+            new Content.From("0.1\n0.2-SNAPSHOT\n".getBytes(StandardCharsets.UTF_8))
+        ).join();
+        MatcherAssert.assertThat(
+            new VersionsIndex(this.storage, VersionsIndexTest.ARTIFACT).versions()
+                .toCompletableFuture().join(),
+            Matchers.contains("0.1", "0.2-SNAPSHOT")
+        );
+    }
+
+    @Test
+    void savesVersions() {
+        final VersionsIndex index = new VersionsIndex(this.storage, VersionsIndexTest.ARTIFACT);
+        index.save(List.of("1.0", "1.1", "2.0")).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            index.versions().toCompletableFuture().join(),
+            Matchers.contains("1.0", "1.1", "2.0")
+        );
+    }
+}
@@ -10,11 +10,14 @@ import com.artipie.asto.Key;
 import com.artipie.asto.Meta;
 import com.artipie.asto.Storage;
 import com.artipie.asto.streams.ContentAsStream;
+import com.artipie.nuget.metadata.CatalogEntry;
 import com.artipie.nuget.metadata.Nuspec;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 import javax.json.Json;
 
 /**
@@ -91,6 +94,13 @@ public final class AstoRepository implements Repository {
                                                 target,
                                                 pkey.versionsKey()
                                             )
+                                        ).thenCompose(nothing -> this.entries(target, pkey))
+                                        .thenApply(
+                                            entries -> entries.add(
+                                                new CatalogEntry.FromNuspec(nuspec).asJson()
+                                            )
+                                        ).thenCompose(
+                                            entries -> entries.save(target, pkey.catalogKey())
                                         ).thenCompose(
                                             nothing -> this.storage.metadata(id.nuspecKey())
                                                 .thenApply(meta -> meta.read(Meta.OP_SIZE).get())
@@ -126,6 +136,33 @@ public final class AstoRepository implements Repository {
         );
     }
 
+    @Override
+    public CompletionStage<CatalogEntries> catalog(final PackageKeys id) {
+        return this.storage.exists(id.catalogKey()).thenCompose(
+            exists -> {
+                final CompletionStage<CatalogEntries> entries;
+                if (exists) {
+                    entries = AstoRepository.read(this.storage, id);
+                } else {
+                    entries = this.versions(id).thenCompose(
+                        versions -> {
+                            final CompletionStage<CatalogEntries> res;
+                            if (versions.all().isEmpty()) {
+                                res = CompletableFuture.completedFuture(new CatalogEntries());
+                            } else {
+                                res = this.entries(this.storage, id).thenCompose(
+                                    all -> this.migrate(id, all).thenApply(nothing -> all)
+                                );
+                            }
+                            return res;
+                        }
+                    );
+                }
+                return entries;
+            }
+        );
+    }
+
     @Override
     public CompletionStage<Nuspec> nuspec(final PackageIdentity identity) {
         return this.storage.exists(identity.nuspecKey()).thenCompose(
@@ -140,4 +177,90 @@ public final class AstoRepository implements Repository {
             }
         );
     }
+
+    /**
+     * Saves catalog entries built for package added before the registry was introduced.
+     * Saving is best-effort: it's skipped if package is locked by publish, which saves
+     * the registry itself, or if the registry was saved meanwhile.
+     *
+     * @param id Package identifier.
+     * @param entries Catalog entries.
+     * @return Completion action, never failed.
+     */
+    private CompletionStage<Void> migrate(final PackageKeys id, final CatalogEntries entries) {
+        return this.storage.exclusively(
+            id.rootKey(),
+            target -> target.exists(id.catalogKey()).thenCompose(
+                exists -> {
+                    final CompletionStage<Void> res;
+                    if (exists) {
+                        res = CompletableFuture.allOf();
+                    } else {
+                        res = entries.save(target, id.catalogKey());
+                    }
+                    return res;
+                }
+            )
+        ).handle((nothing, err) -> null);
+    }
+
+    /**
+     * Reads catalog entries registry or builds it from .nuspec files of package versions
+     * if package was added before the registry was introduced.
+     *
+     * @param target Storage to read registry from.
+     * @param id Package identifier.
+     * @return Catalog entries.
+     */
+    private CompletionStage<CatalogEntries> entries(final Storage target, final PackageKeys id) {
+        return target.exists(id.catalogKey()).thenCompose(
+            exists -> {
+                final CompletionStage<CatalogEntries> res;
+                if (exists) {
+                    res = AstoRepository.read(target, id);
+                } else {
+                    res = this.versions(id).thenCompose(
+                        versions -> {
+                            final List<CompletableFuture<Nuspec>> nuspecs = versions.all()
+                                .stream()
+                                .map(
+                                    version -> this.nuspec(new PackageIdentity(id.raw(), version))
+                                        .toCompletableFuture()
+                                ).collect(Collectors.toList());
+                            return CompletableFuture.allOf(
+                                nuspecs.toArray(new CompletableFuture[0])
+                            ).thenApply(
+                                nothing -> {
+                                    CatalogEntries entries = new CatalogEntries();
+                                    for (final CompletableFuture<Nuspec> nuspec : nuspecs) {
+                                        entries = entries.add(
+                                            new CatalogEntry.FromNuspec(nuspec.join()).asJson()
+                                        );
+                                    }
+                                    return entries;
+                                }
+                            );
+                        }
+                    );
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Reads catalog entries registry.
+     *
+     * @param storage Storage to read from.
+     * @param id Package identifier.
+     * @return Catalog entries.
+     */
+    private static CompletionStage<CatalogEntries> read(final Storage storage,
+        final PackageKeys id) {
+        return storage.value(id.catalogKey()).thenCompose(
+            val -> new ContentAsStream<CatalogEntries>(val).process(
+                input -> new CatalogEntries(Json.createReader(input).readObject())
+            )
+        );
+    }
 }
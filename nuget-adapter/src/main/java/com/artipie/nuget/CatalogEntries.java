@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.nuget;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.nuget.metadata.Version;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+/**
+ * Package catalog entries registry: catalog entries of all package versions, created
+ * from .nuspec files when packages are added. Registration pages are generated
+ * from this registry without reading every version .nuspec.
+ * See <a href="https://docs.microsoft.com/en-us/nuget/api/registration-base-url-resource#catalog-entry">Catalog entry</a>.
+ *
+ * @since 1.6
+ */
+public final class CatalogEntries {
+
+    /**
+     * Name of array in JSON containing entries.
+     */
+    private static final String ARRAY = "entries";
+
+    /**
+     * Name of catalog entry version field.
+     */
+    private static final String VERSION = "version";
+
+    /**
+     * Registry content.
+     */
+    private final JsonObject content;
+
+    /**
+     * Ctor.
+     */
+    public CatalogEntries() {
+        this(
+            Json.createObjectBuilder()
+                .add(CatalogEntries.ARRAY, Json.createArrayBuilder())
+                .build()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param content Registry content.
+     */
+    public CatalogEntries(final JsonObject content) {
+        this.content = content;
+    }
+
+    /**
+     * Add catalog entry, entry of the same version is replaced.
+     *
+     * @param entry Catalog entry.
+     * @return Updated entries.
+     */
+    public CatalogEntries add(final JsonObject entry) {
+        final Version version = CatalogEntries.version(entry);
+        final JsonArrayBuilder builder = Json.createArrayBuilder();
+        this.all().stream()
+            .filter(item -> CatalogEntries.version(item).compareTo(version) != 0)
+            .forEach(builder::add);
+        builder.add(entry);
+        return new CatalogEntries(
+            Json.createObjectBuilder(this.content)
+                .add(CatalogEntries.ARRAY, builder)
+                .build()
+        );
+    }
+
+    /**
+     * Read all catalog entries.
+     *
+     * @return All entries sorted by version.
+     */
+    public List<JsonObject> all() {
+        final JsonArray entries = this.content.getJsonArray(CatalogEntries.ARRAY);
+        final List<JsonObject> res;
+        if (entries == null) {
+            res = List.of();
+        } else {
+            res = entries.getValuesAs(JsonObject.class).stream()
+                .sorted(Comparator.comparing(CatalogEntries::version))
+                .collect(Collectors.toList());
+        }
+        return res;
+    }
+
+    /**
+     * Saves binary content to storage.
+     *
+     * @param storage Storage to use for saving.
+     * @param key Key to store data at.
+     * @return Completion of save operation.
+     */
+    public CompletableFuture<Void> save(final Storage storage, final Key key) {
+        return storage.save(
+            key,
+            new Content.From(this.content.toString().getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    /**
+     * Version of catalog entry.
+     *
+     * @param entry Catalog entry.
+     * @return Version.
+     */
+    public static Version version(final JsonObject entry) {
+        return new Version(entry.getString(CatalogEntries.VERSION));
+    }
+}
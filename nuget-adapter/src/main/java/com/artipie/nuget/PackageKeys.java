@@ -56,6 +56,24 @@ public final class PackageKeys {
         return new Key.From(this.rootKey(), "index.json");
     }
 
+    /**
+     * Get key for package catalog entries registry.
+     *
+     * @return Key for package catalog entries registry.
+     */
+    public Key catalogKey() {
+        return new Key.From(this.rootKey(), "catalog.json");
+    }
+
+    /**
+     * Package identifier.
+     *
+     * @return Package identifier.
+     */
+    public NuspecField raw() {
+        return this.raw;
+    }
+
     @Override
     public String toString() {
         return this.raw.raw();
@@ -43,6 +43,14 @@ public interface Repository {
      */
     CompletionStage<Versions> versions(PackageKeys id);
 
+    /**
+     * Read catalog entries of all package versions.
+     *
+     * @param id Package identifier.
+     * @return Catalog entries of package.
+     */
+    CompletionStage<CatalogEntries> catalog(PackageKeys id);
+
     /**
      * Read package description in .nuspec format.
      *
@@ -111,7 +111,7 @@ public final class NuGet implements Slice {
     private Resource resource(final String path) {
         final PackagePublish publish = new PackagePublish(this.repository, this.events, this.name);
         final PackageContent content = new PackageContent(this.url, this.repository);
-        final PackageMetadata metadata = new PackageMetadata(this.repository, content);
+        final PackageMetadata metadata = new PackageMetadata(this.url, this.repository, content);
         return new RoutingResource(
             path,
             new ServiceIndex(
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.nuget.http.metadata;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.ResponseBuilder;
+import com.artipie.nuget.PackageKeys;
+import com.artipie.nuget.Repository;
+import com.artipie.nuget.http.Resource;
+import com.artipie.nuget.metadata.NuspecField;
+import com.artipie.nuget.metadata.Version;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Registration page resource, linked from registration index of packages
+ * with many versions.
+ * See <a href="https://docs.microsoft.com/en-us/nuget/api/registration-base-url-resource#registration-page">Registration page</a>
+ *
+ * @since 1.6
+ */
+final class LinkedPage implements Resource {
+
+    /**
+     * Registrations base URL.
+     */
+    private final URL base;
+
+    /**
+     * Repository to read data from.
+     */
+    private final Repository repository;
+
+    /**
+     * Package content location.
+     */
+    private final ContentLocation content;
+
+    /**
+     * Package identifier.
+     */
+    private final NuspecField id;
+
+    /**
+     * Lowest version on the page.
+     */
+    private final Version lower;
+
+    /**
+     * Highest version on the page.
+     */
+    private final Version upper;
+
+    /**
+     * Ctor.
+     *
+     * @param base Registrations base URL.
+     * @param repository Repository to read data from.
+     * @param content Package content location.
+     * @param id Package identifier.
+     * @param lower Lowest version on the page.
+     * @param upper Highest version on the page.
+     */
+    LinkedPage(
+        final URL base, final Repository repository, final ContentLocation content,
+        final NuspecField id, final Version lower, final Version upper
+    ) {
+        this.base = base;
+        this.repository = repository;
+        this.content = content;
+        this.id = id;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    @Override
+    public CompletableFuture<Response> get(final Headers headers) {
+        return this.repository.catalog(new PackageKeys(this.id)).thenApply(
+            catalog -> new RegistrationPages(this.base, this.content, this.id, catalog.all())
+                .all().stream()
+                .filter(
+                    page -> page.lower().normalized().equals(this.lower.normalized())
+                        && page.upper().normalized().equals(this.upper.normalized())
+                ).findFirst()
+                .map(page -> new TaggedJson(headers, page.json()).build())
+                .orElseGet(() -> ResponseBuilder.notFound().build())
+        ).toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Response> put(final Headers headers, final Content body) {
+        return ResponseBuilder.methodNotAllowed().completedFuture();
+    }
+}
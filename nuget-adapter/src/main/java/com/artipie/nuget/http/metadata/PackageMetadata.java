@@ -9,6 +9,9 @@ import com.artipie.nuget.http.Absent;
 import com.artipie.nuget.http.Resource;
 import com.artipie.nuget.http.Route;
 import com.artipie.nuget.metadata.PackageId;
+import com.artipie.nuget.metadata.Version;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,6 +35,20 @@ public final class PackageMetadata implements Route {
         String.format("%s/(?<id>[^/]+)/index.json$", PackageMetadata.BASE)
     );
 
+    /**
+     * RegEx pattern for registration page path.
+     */
+    private static final Pattern PAGE = Pattern.compile(
+        String.format(
+            "%s/(?<id>[^/]+)/page/(?<lower>[^/]+)/(?<upper>[^/]+).json$", PackageMetadata.BASE
+        )
+    );
+
+    /**
+     * Base URL of repository.
+     */
+    private final URL base;
+
     /**
      * Repository to read data from.
      */
@@ -45,10 +62,14 @@ public final class PackageMetadata implements Route {
     /**
      * Ctor.
      *
+     * @param base Base URL of repository.
      * @param repository Repository to read data from.
      * @param content Package content storage.
      */
-    public PackageMetadata(final Repository repository, final ContentLocation content) {
+    public PackageMetadata(
+        final URL base, final Repository repository, final ContentLocation content
+    ) {
+        this.base = base;
         this.repository = repository;
         this.content = content;
     }
@@ -61,16 +82,45 @@ public final class PackageMetadata implements Route {
     @Override
     public Resource resource(final String path) {
         final Matcher matcher = REGISTRATION.matcher(path);
+        final Matcher page = PAGE.matcher(path);
         final Resource resource;
         if (matcher.find()) {
             resource = new Registration(
+                this.registrations(),
                 this.repository,
                 this.content,
                 new PackageId(matcher.group("id"))
             );
+        } else if (page.find()) {
+            resource = new LinkedPage(
+                this.registrations(),
+                this.repository,
+                this.content,
+                new PackageId(page.group("id")),
+                new Version(page.group("lower")),
+                new Version(page.group("upper"))
+            );
         } else {
             resource = new Absent();
         }
         return resource;
     }
+
+    /**
+     * Registrations base URL.
+     *
+     * @return URL.
+     */
+    private URL registrations() {
+        try {
+            return new URL(
+                this.base, String.format("%s%s", this.base.getPath(), PackageMetadata.BASE)
+            );
+        } catch (final MalformedURLException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to build URL from base: '%s'", this.base),
+                ex
+            );
+        }
+    }
 }
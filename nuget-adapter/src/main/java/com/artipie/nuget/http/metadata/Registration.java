@@ -10,28 +10,29 @@ import com.artipie.http.ResponseBuilder;
 import com.artipie.http.Response;
 import com.artipie.nuget.PackageKeys;
 import com.artipie.nuget.Repository;
-import com.artipie.nuget.Versions;
 import com.artipie.nuget.http.Resource;
 import com.artipie.nuget.metadata.NuspecField;
 
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
-import javax.json.JsonObject;
-import javax.json.JsonWriter;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.Collections;
+import java.net.URL;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionStage;
 
 /**
  * Registration resource.
  * See <a href="https://docs.microsoft.com/en-us/nuget/api/registration-base-url-resource#registration-pages-and-leaves">Registration pages and leaves</a>
+ * Registration is generated from package catalog entries with single storage read,
+ * pages are inlined for packages with up to {@link RegistrationPages#INLINE} versions
+ * and linked for packages with more versions.
  */
 class Registration implements Resource {
 
+    /**
+     * Registrations base URL.
+     */
+    private final URL base;
+
     /**
      * Repository to read data from.
      */
@@ -48,11 +49,16 @@ class Registration implements Resource {
     private final NuspecField id;
 
     /**
+     * @param base Registrations base URL.
      * @param repository Repository to read data from.
      * @param content Package content location.
      * @param id Package identifier.
      */
-    Registration(Repository repository, ContentLocation content, NuspecField id) {
+    Registration(
+        final URL base, final Repository repository,
+        final ContentLocation content, final NuspecField id
+    ) {
+        this.base = base;
         this.repository = repository;
         this.content = content;
         this.id = id;
@@ -60,54 +66,33 @@ class Registration implements Resource {
 
     @Override
     public CompletableFuture<Response> get(final Headers headers) {
-        return this.pages()
-            .thenCompose(
-                pages -> new CompletionStages<>(pages.stream().map(RegistrationPage::json)).all()
-            ).thenApply(
-                pages -> {
-                    final JsonArrayBuilder items = Json.createArrayBuilder();
-                    for (final JsonObject page : pages) {
-                        items.add(page);
-                    }
-                    final JsonObject json = Json.createObjectBuilder()
-                        .add("count", pages.size())
-                        .add("items", items)
-                        .build();
-                    try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-                         JsonWriter writer = Json.createWriter(out)) {
-                        writer.writeObject(json);
-                        out.flush();
-                        return ResponseBuilder.ok()
-                            .body(out.toByteArray())
-                            .build();
-                    } catch (final IOException ex) {
-                        throw new UncheckedIOException(ex);
+        return this.repository.catalog(new PackageKeys(this.id)).thenApply(
+            catalog -> {
+                final RegistrationPages pages = new RegistrationPages(
+                    this.base, this.content, this.id, catalog.all()
+                );
+                final List<RegistrationPage> all = pages.all();
+                final JsonArrayBuilder items = Json.createArrayBuilder();
+                for (final RegistrationPage page : all) {
+                    if (pages.inlined()) {
+                        items.add(page.json());
+                    } else {
+                        items.add(page.summary(pages.url(page)));
                     }
                 }
-            ).toCompletableFuture();
+                return new TaggedJson(
+                    headers,
+                    Json.createObjectBuilder()
+                        .add("count", all.size())
+                        .add("items", items)
+                        .build()
+                ).build();
+            }
+        ).toCompletableFuture();
     }
 
     @Override
     public CompletableFuture<Response> put(Headers headers, Content body) {
         return ResponseBuilder.methodNotAllowed().completedFuture();
     }
-
-    /**
-     * Enumerate version pages.
-     *
-     * @return List of pages.
-     */
-    private CompletionStage<List<RegistrationPage>> pages() {
-        return this.repository.versions(new PackageKeys(this.id)).thenApply(Versions::all)
-            .thenApply(
-                versions -> {
-                    if (versions.isEmpty()) {
-                        return Collections.emptyList();
-                    }
-                    return Collections.singletonList(
-                        new RegistrationPage(this.repository, this.content, this.id, versions)
-                    );
-                }
-            );
-    }
 }
@@ -4,11 +4,12 @@
  */
 package com.artipie.nuget.http.metadata;
 
+import com.artipie.nuget.CatalogEntries;
 import com.artipie.nuget.PackageIdentity;
-import com.artipie.nuget.Repository;
 import com.artipie.nuget.metadata.NuspecField;
+import com.artipie.nuget.metadata.Version;
+import java.net.URL;
 import java.util.List;
-import java.util.concurrent.CompletionStage;
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
@@ -21,11 +22,6 @@ import javax.json.JsonObject;
  */
 final class RegistrationPage {
 
-    /**
-     * Repository.
-     */
-    private final Repository repository;
-
     /**
      * Package content location.
      */
@@ -37,84 +33,109 @@ final class RegistrationPage {
     private final NuspecField id;
 
     /**
-     * Ordered list of versions on this page from lowest to highest.
+     * Catalog entries on this page ordered from lowest to highest version.
      */
-    private final List<NuspecField> versions;
+    private final List<JsonObject> entries;
 
     /**
      * Ctor.
      *
-     * @param repository Repository.
      * @param content Package content location.
      * @param id Package identifier.
-     * @param versions Ordered list of versions on this page from lowest to highest.
-     * @todo #87:60min Refactor RegistrationPage class, reduce number of fields.
-     *  Probably it is needed to extract some abstraction for creating leaf objects,
-     *  that will join `repository` and `content` fields and produce leaf JSON for package identity.
+     * @param entries Catalog entries on this page ordered from lowest to highest version.
      */
     RegistrationPage(
-        final Repository repository,
         final ContentLocation content,
         final NuspecField id,
-        final List<NuspecField> versions
+        final List<JsonObject> entries
     ) {
-        this.repository = repository;
         this.content = content;
         this.id = id;
-        this.versions = versions;
+        this.entries = entries;
+    }
+
+    /**
+     * Lowest version on the page.
+     *
+     * @return Version.
+     */
+    public NuspecField lower() {
+        return CatalogEntries.version(this.entries.get(0));
     }
 
     /**
-     * Generates page in JSON.
+     * Highest version on the page.
+     *
+     * @return Version.
+     */
+    public NuspecField upper() {
+        return CatalogEntries.version(this.entries.get(this.entries.size() - 1));
+    }
+
+    /**
+     * Generates page in JSON with all the leafs.
      *
      * @return Page JSON.
      */
-    public CompletionStage<JsonObject> json() {
-        if (this.versions.isEmpty()) {
+    public JsonObject json() {
+        this.validate();
+        final JsonArrayBuilder items = Json.createArrayBuilder();
+        for (final JsonObject entry : this.entries) {
+            items.add(this.leaf(entry));
+        }
+        return Json.createObjectBuilder()
+            .add("lower", this.lower().normalized())
+            .add("upper", this.upper().normalized())
+            .add("count", this.entries.size())
+            .add("items", items)
+            .build();
+    }
+
+    /**
+     * Generates page in JSON without leafs, leafs are available by page URL.
+     *
+     * @param url Page URL.
+     * @return Page JSON.
+     */
+    public JsonObject summary(final URL url) {
+        this.validate();
+        return Json.createObjectBuilder()
+            .add("@id", url.toString())
+            .add("lower", this.lower().normalized())
+            .add("upper", this.upper().normalized())
+            .add("count", this.entries.size())
+            .build();
+    }
+
+    /**
+     * Checks page contains entries.
+     */
+    private void validate() {
+        if (this.entries.isEmpty()) {
             throw new IllegalStateException(
                 String.format("Registration page contains no versions: '%s'", this.id)
             );
         }
-        final NuspecField lower = this.versions.get(0);
-        final NuspecField upper = this.versions.get(this.versions.size() - 1);
-        return new CompletionStages<>(
-            this.versions.stream().map(
-                version -> this.leaf(new PackageIdentity(this.id, version))
-            )
-        ).all().thenApply(
-            leafs -> {
-                final JsonArrayBuilder items = Json.createArrayBuilder();
-                for (final JsonObject leaf : leafs) {
-                    items.add(leaf);
-                }
-                return Json.createObjectBuilder()
-                    .add("lower", lower.normalized())
-                    .add("upper", upper.normalized())
-                    .add("count", this.versions.size())
-                    .add("items", items)
-                    .build();
-            }
-        );
     }
 
     /**
      * Builds registration leaf.
      * See <a href="https://docs.microsoft.com/en-us/nuget/api/registration-base-url-resource#registration-leaf-object-in-a-page"></a>
      *
-     * @param identity Package identity.
+     * @param entry Catalog entry.
      * @return JSON representing registration leaf.
      */
-    private CompletionStage<JsonObject> leaf(final PackageIdentity identity) {
-        return this.repository.nuspec(identity).thenApply(
-            nuspec -> Json.createObjectBuilder()
-                .add(
-                    "catalogEntry",
-                    Json.createObjectBuilder()
-                        .add("id", nuspec.id().raw())
-                        .add("version", nuspec.version().normalized())
-                )
-                .add("packageContent", this.content.url(identity).toString())
-                .build()
-        );
+    private JsonObject leaf(final JsonObject entry) {
+        final Version version = CatalogEntries.version(entry);
+        return Json.createObjectBuilder()
+            .add(
+                "catalogEntry",
+                Json.createObjectBuilder(entry).add("version", version.normalized())
+            )
+            .add(
+                "packageContent",
+                this.content.url(new PackageIdentity(this.id, version)).toString()
+            )
+            .build();
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.nuget.http.metadata;
+
+import com.artipie.nuget.metadata.NuspecField;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import javax.json.JsonObject;
+
+/**
+ * Registration pages of the package: catalog entries split into pages
+ * of {@link #SIZE} versions ordered from lowest to highest version.
+ *
+ * @since 1.6
+ */
+final class RegistrationPages {
+
+    /**
+     * Max number of versions on page.
+     */
+    static final int SIZE = 64;
+
+    /**
+     * Max number of versions in registration index with pages inlined,
+     * pages of packages with more versions are linked.
+     */
+    static final int INLINE = 128;
+
+    /**
+     * Registrations base URL.
+     */
+    private final URL base;
+
+    /**
+     * Package content location.
+     */
+    private final ContentLocation content;
+
+    /**
+     * Package identifier.
+     */
+    private final NuspecField id;
+
+    /**
+     * Catalog entries ordered from lowest to highest version.
+     */
+    private final List<JsonObject> entries;
+
+    /**
+     * Ctor.
+     *
+     * @param base Registrations base URL.
+     * @param content Package content location.
+     * @param id Package identifier.
+     * @param entries Catalog entries ordered from lowest to highest version.
+     */
+    RegistrationPages(
+        final URL base,
+        final ContentLocation content,
+        final NuspecField id,
+        final List<JsonObject> entries
+    ) {
+        this.base = base;
+        this.content = content;
+        this.id = id;
+        this.entries = entries;
+    }
+
+    /**
+     * All pages.
+     *
+     * @return List of pages.
+     */
+    public List<RegistrationPage> all() {
+        final List<RegistrationPage> res = new ArrayList<>(
+            (this.entries.size() + RegistrationPages.SIZE - 1) / RegistrationPages.SIZE
+        );
+        for (int idx = 0; idx < this.entries.size(); idx += RegistrationPages.SIZE) {
+            res.add(
+                new RegistrationPage(
+                    this.content,
+                    this.id,
+                    this.entries.subList(
+                        idx, Math.min(idx + RegistrationPages.SIZE, this.entries.size())
+                    )
+                )
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Should pages be inlined into registration index.
+     *
+     * @return True if pages are inlined.
+     */
+    public boolean inlined() {
+        return this.entries.size() <= RegistrationPages.INLINE;
+    }
+
+    /**
+     * Page URL.
+     *
+     * @param page Page.
+     * @return URL of page.
+     */
+    public URL url(final RegistrationPage page) {
+        try {
+            return new URL(
+                this.base,
+                String.format(
+                    "%s/%s/page/%s/%s.json",
+                    this.base.getPath(),
+                    this.id.normalized(),
+                    page.lower().normalized(),
+                    page.upper().normalized()
+                )
+            );
+        } catch (final MalformedURLException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to build URL from base: '%s'", this.base),
+                ex
+            );
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.nuget.http.metadata;
+
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.ResponseBuilder;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.slice.ETagged;
+import java.nio.charset.StandardCharsets;
+import javax.json.JsonObject;
+
+/**
+ * JSON response with strong `ETag` header calculated from the body, see {@link ETagged}.
+ *
+ * @since 1.6
+ */
+final class TaggedJson {
+
+    /**
+     * Request headers.
+     */
+    private final Headers headers;
+
+    /**
+     * Response JSON.
+     */
+    private final JsonObject json;
+
+    /**
+     * Ctor.
+     *
+     * @param headers Request headers.
+     * @param json Response JSON.
+     */
+    TaggedJson(final Headers headers, final JsonObject json) {
+        this.headers = headers;
+        this.json = json;
+    }
+
+    /**
+     * Builds response.
+     *
+     * @return Response.
+     */
+    Response build() {
+        final byte[] body = this.json.toString().getBytes(StandardCharsets.UTF_8);
+        return ETagged.of(body).response(
+            this.headers, () -> ResponseBuilder.ok().header(ContentType.json()).body(body)
+        ).build();
+    }
+}
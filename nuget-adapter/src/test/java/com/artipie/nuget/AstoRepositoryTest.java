@@ -24,6 +24,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.json.Json;
+import javax.json.JsonObject;
 import javax.json.JsonReader;
 import javax.json.JsonString;
 import org.hamcrest.FeatureMatcher;
@@ -163,6 +164,64 @@ class AstoRepositoryTest {
         );
     }
 
+    @Test
+    void shouldAddCatalogEntry() throws Exception {
+        this.repository.add(new Content.From(this.nupkg().bytes())).toCompletableFuture().join();
+        final List<JsonObject> entries = new CatalogEntries(
+            Json.createReader(
+                new ByteArrayInputStream(
+                    this.storage.value(new PackageKeys("Newtonsoft.Json").catalogKey())
+                )
+            ).readObject()
+        ).all();
+        MatcherAssert.assertThat(
+            entries.stream().map(entry -> entry.getString("version"))
+                .collect(Collectors.toList()),
+            Matchers.contains("12.0.3")
+        );
+        MatcherAssert.assertThat(
+            entries.get(0).getString("id"),
+            new IsEqual<>("Newtonsoft.Json")
+        );
+    }
+
+    @Test
+    void shouldBuildCatalogFromNuspecs() throws Exception {
+        final PackageKeys foo = new PackageKeys("Foo");
+        this.legacy(foo);
+        MatcherAssert.assertThat(
+            "Catalog entries are built from nuspecs",
+            this.repository.catalog(foo).toCompletableFuture().join().all().stream()
+                .map(entry -> entry.getString("version"))
+                .collect(Collectors.toList()),
+            Matchers.contains("0.1", "1.0")
+        );
+        MatcherAssert.assertThat(
+            "Catalog entries are saved",
+            this.storage.exists(foo.catalogKey()),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void shouldBuildCatalogWhenPackageIsLocked() throws Exception {
+        final PackageKeys foo = new PackageKeys("Foo");
+        this.legacy(foo);
+        this.asto.exclusively(foo.rootKey(), target -> new CompletableFuture<>());
+        MatcherAssert.assertThat(
+            this.repository.catalog(foo).toCompletableFuture().join().all(),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void shouldGetEmptyCatalogWhenNonePresent() {
+        MatcherAssert.assertThat(
+            this.repository.catalog(new PackageKeys("Bar")).toCompletableFuture().join().all(),
+            new IsEmptyCollection<>()
+        );
+    }
+
     @Test
     void shouldReadNuspec() throws Exception {
         final PackageIdentity identity = new PackageIdentity(
@@ -288,4 +347,23 @@ class AstoRepositoryTest {
     private NewtonJsonResource nupkg() {
         return new NewtonJsonResource("newtonsoft.json.12.0.3.nupkg");
     }
+
+    private void legacy(final PackageKeys id) {
+        new Versions().add(new Version("1.0")).add(new Version("0.1"))
+            .save(this.asto, id.versionsKey()).join();
+        for (final String version : Arrays.asList("0.1", "1.0")) {
+            this.storage.save(
+                new PackageIdentity(id.raw(), new Version(version)).nuspecKey(),
+                String.join(
+                    "",
+                    "<?xml version=\"1.0\"?>",
+                    "<package xmlns=\"http://schemas.microsoft.com/packaging/2013/05/nuspec.xsd\">",
+                    "<metadata><id>Foo</id>",
+                    String.format("<version>%s</version>", version),
+                    "<description>foo</description><authors>bar</authors>",
+                    "</metadata></package>"
+                ).getBytes()
+            );
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.nuget;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.blocking.BlockingStorage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import javax.json.JsonObject;
+import org.cactoos.io.ReaderOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.collection.IsEmptyCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CatalogEntries}.
+ *
+ * @since 1.6
+ */
+class CatalogEntriesTest {
+
+    @Test
+    void shouldGetAllEntriesOrdered() {
+        final CatalogEntries entries = new CatalogEntries()
+            .add(CatalogEntriesTest.entry("1.0.1"))
+            .add(CatalogEntriesTest.entry("0.1"))
+            .add(CatalogEntriesTest.entry("2.0"))
+            .add(CatalogEntriesTest.entry("1.0"));
+        MatcherAssert.assertThat(
+            CatalogEntriesTest.versions(entries),
+            Matchers.contains("0.1", "1.0", "1.0.1", "2.0")
+        );
+    }
+
+    @Test
+    void shouldReplaceEntryOfSameVersion() {
+        final JsonObject replacement = Json.createObjectBuilder(CatalogEntriesTest.entry("1.0.0"))
+            .add("description", "updated")
+            .build();
+        final List<JsonObject> all = new CatalogEntries()
+            .add(CatalogEntriesTest.entry("1.0"))
+            .add(replacement)
+            .all();
+        MatcherAssert.assertThat(all, Matchers.contains(replacement));
+    }
+
+    @Test
+    void shouldGetNoEntriesWhenEmpty() {
+        MatcherAssert.assertThat(
+            new CatalogEntries(
+                Json.createReader(new ReaderOf("{\"entries\":[]}")).readObject()
+            ).all(),
+            new IsEmptyCollection<>()
+        );
+    }
+
+    @Test
+    void shouldSave() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("foo/catalog.json");
+        new CatalogEntries().add(CatalogEntriesTest.entry("0.2"))
+            .save(storage, key).join();
+        MatcherAssert.assertThat(
+            CatalogEntriesTest.versions(
+                new CatalogEntries(
+                    Json.createReader(
+                        new ByteArrayInputStream(new BlockingStorage(storage).value(key))
+                    ).readObject()
+                )
+            ),
+            Matchers.contains("0.2")
+        );
+    }
+
+    private static List<String> versions(final CatalogEntries entries) {
+        return entries.all().stream()
+            .map(entry -> entry.getString("version"))
+            .collect(Collectors.toList());
+    }
+
+    private static JsonObject entry(final String version) {
+        return Json.createObjectBuilder()
+            .add("id", "Foo")
+            .add("version", version)
+            .build();
+    }
+}
@@ -14,6 +14,7 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.RsStatus;
 import com.artipie.nuget.AstoRepository;
+import com.artipie.nuget.CatalogEntries;
 import com.artipie.nuget.PackageIdentity;
 import com.artipie.nuget.PackageKeys;
 import com.artipie.nuget.Versions;
@@ -26,6 +27,8 @@ import org.hamcrest.Description;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.TypeSafeMatcher;
 import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringStartsWith;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -74,7 +77,9 @@ class NuGetPackageMetadataTest {
                 "",
                 "<?xml version=\"1.0\"?>",
                 "<package xmlns=\"http://schemas.microsoft.com/packaging/2013/05/nuspec.xsd\">",
-                "<metadata><id>Newtonsoft.Json</id><version>12.0.3</version></metadata>",
+                "<metadata><id>Newtonsoft.Json</id><version>12.0.3</version>",
+                "<description>Json.NET</description><authors>James Newton-King</authors>",
+                "</metadata>",
                 "</package>"
             ).getBytes()
         );
@@ -101,6 +106,85 @@ class NuGetPackageMetadataTest {
         );
     }
 
+    @Test
+    void shouldReturnNotModifiedForSameEtag() {
+        new CatalogEntries().add(NuGetPackageMetadataTest.entry("1.0.0"))
+            .save(this.storage, new PackageKeys("Foo").catalogKey()).join();
+        final RequestLine line = new RequestLine(RqMethod.GET, "/registrations/foo/index.json");
+        final Response first = this.nuget.response(
+            line, TestAuthentication.HEADERS, Content.EMPTY
+        ).join();
+        final String etag = first.headers().values("ETag").get(0);
+        MatcherAssert.assertThat(
+            "ETag is strong",
+            etag,
+            new StringStartsWith("\"")
+        );
+        MatcherAssert.assertThat(
+            this.nuget.response(
+                line,
+                TestAuthentication.HEADERS.copy().add("If-None-Match", etag),
+                Content.EMPTY
+            ).join(),
+            new RsHasStatus(RsStatus.NOT_MODIFIED)
+        );
+    }
+
+    @Test
+    void shouldLinkPagesOfPackageWithManyVersions() {
+        CatalogEntries entries = new CatalogEntries();
+        for (int idx = 0; idx < 130; idx += 1) {
+            entries = entries.add(NuGetPackageMetadataTest.entry(String.format("1.0.%d", idx)));
+        }
+        entries.save(this.storage, new PackageKeys("Foo").catalogKey()).join();
+        final JsonObject index = NuGetPackageMetadataTest.json(
+            this.nuget.response(
+                new RequestLine(RqMethod.GET, "/registrations/foo/index.json"),
+                TestAuthentication.HEADERS, Content.EMPTY
+            ).join()
+        );
+        MatcherAssert.assertThat(
+            "Registration has 3 pages",
+            index.getInt("count"),
+            new IsEqual<>(3)
+        );
+        final JsonObject page = index.getJsonArray("items").getJsonObject(0);
+        MatcherAssert.assertThat(
+            "Page is linked",
+            page.getString("@id"),
+            new IsEqual<>("http://localhost:4321/repo/registrations/foo/page/1.0.0/1.0.63.json")
+        );
+        MatcherAssert.assertThat(
+            "Page items are not inlined",
+            page.containsKey("items"),
+            new IsEqual<>(false)
+        );
+        final JsonObject linked = NuGetPackageMetadataTest.json(
+            this.nuget.response(
+                new RequestLine(RqMethod.GET, "/registrations/foo/page/1.0.0/1.0.63.json"),
+                TestAuthentication.HEADERS, Content.EMPTY
+            ).join()
+        );
+        MatcherAssert.assertThat(
+            "Linked page contains leafs",
+            linked.getJsonArray("items").size(),
+            new IsEqual<>(64)
+        );
+    }
+
+    @Test
+    void shouldNotFindUnknownPage() {
+        new CatalogEntries().add(NuGetPackageMetadataTest.entry("1.0.0"))
+            .save(this.storage, new PackageKeys("Foo").catalogKey()).join();
+        MatcherAssert.assertThat(
+            this.nuget.response(
+                new RequestLine(RqMethod.GET, "/registrations/foo/page/0.1.0/0.2.0.json"),
+                TestAuthentication.HEADERS, Content.EMPTY
+            ).join(),
+            new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+    }
+
     @Test
     void shouldGetRegistrationsWhenEmpty() {
         final Response response = this.nuget.response(
@@ -143,6 +227,21 @@ class NuGetPackageMetadataTest {
         );
     }
 
+    private static JsonObject json(final Response response) {
+        try (JsonReader reader = Json.createReader(
+            new ByteArrayInputStream(response.body().asBytes())
+        )) {
+            return reader.readObject();
+        }
+    }
+
+    private static JsonObject entry(final String version) {
+        return Json.createObjectBuilder()
+            .add("id", "Foo")
+            .add("version", version)
+            .build();
+    }
+
     /**
      * Matcher for bytes array representing valid Registration JSON.
      *
@@ -4,12 +4,7 @@
  */
 package com.artipie.nuget.http.metadata;
 
-import com.artipie.asto.Storage;
-import com.artipie.asto.blocking.BlockingStorage;
-import com.artipie.asto.memory.InMemoryStorage;
-import com.artipie.nuget.AstoRepository;
 import com.artipie.nuget.PackageIdentity;
-import com.artipie.nuget.Repository;
 import com.artipie.nuget.metadata.NuspecField;
 import com.artipie.nuget.metadata.PackageId;
 import com.artipie.nuget.metadata.Version;
@@ -21,10 +16,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.json.Json;
 import javax.json.JsonObject;
 import org.hamcrest.Matcher;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.StringContains;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -41,32 +38,16 @@ class RegistrationPageTest {
 
     @Test
     void shouldGenerateJson() {
-        final Storage storage = new InMemoryStorage();
-        final Repository repository = new AstoRepository(storage);
         final PackageId id = new PackageId("My.Lib");
         final String lower = "0.1";
         final String upper = "0.2";
         final List<NuspecField> versions = Stream.of(lower, "0.1.2", upper)
             .map(Version::new)
             .collect(Collectors.toList());
-        for (final NuspecField version : versions) {
-            new BlockingStorage(storage).save(
-                new PackageIdentity(id, version).nuspecKey(),
-                String.join(
-                    "",
-                    "<?xml version=\"1.0\"?>",
-                    "<package xmlns=\"http://schemas.microsoft.com/packaging/2013/05/nuspec.xsd\">",
-                    "<metadata>",
-                    String.format("<id>%s</id>", id.normalized()),
-                    String.format("<version>%s</version>", version.normalized()),
-                    "</metadata>",
-                    "</package>"
-                ).getBytes()
-            );
-        }
         MatcherAssert.assertThat(
-            new RegistrationPage(repository, RegistrationPageTest::contentUrl, id, versions).json()
-                .toCompletableFuture().join(),
+            new RegistrationPage(
+                RegistrationPageTest::contentUrl, id, RegistrationPageTest.entries(id, versions)
+            ).json(),
             new AllOf<>(
                 Arrays.asList(
                     new JsonHas("lower", new JsonValueIs(lower)),
@@ -85,13 +66,41 @@ class RegistrationPageTest {
         );
     }
 
+    @Test
+    void shouldGenerateSummary() throws Exception {
+        final PackageId id = new PackageId("My.Lib");
+        final String url = "http://localhost:8080/registrations/my.lib/page/1.0.0/2.0.0.json";
+        final JsonObject summary = new RegistrationPage(
+            RegistrationPageTest::contentUrl,
+            id,
+            RegistrationPageTest.entries(
+                id, Arrays.asList(new Version("1.0.0"), new Version("2.0.0"))
+            )
+        ).summary(URI.create(url).toURL());
+        MatcherAssert.assertThat(
+            summary,
+            new AllOf<>(
+                Arrays.asList(
+                    new JsonHas("@id", new JsonValueIs(url)),
+                    new JsonHas("lower", new JsonValueIs("1.0.0")),
+                    new JsonHas("upper", new JsonValueIs("2.0.0")),
+                    new JsonHas("count", new JsonValueIs(2))
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Summary has no items",
+            summary.containsKey("items"),
+            new IsEqual<>(false)
+        );
+    }
+
     @Test
     void shouldFailToGenerateJsonWhenEmpty() {
         final String id = "Some.Lib";
         final Throwable throwable = Assertions.assertThrows(
             IllegalStateException.class,
             () -> new RegistrationPage(
-                new AstoRepository(new InMemoryStorage()),
                 RegistrationPageTest::contentUrl,
                 new PackageId(id),
                 Collections.emptyList()
@@ -108,6 +117,17 @@ class RegistrationPageTest {
         );
     }
 
+    private static List<JsonObject> entries(
+        final NuspecField id, final List<NuspecField> versions
+    ) {
+        return versions.stream().map(
+            version -> Json.createObjectBuilder()
+                .add("id", id.normalized())
+                .add("version", version.normalized())
+                .build()
+        ).collect(Collectors.toList());
+    }
+
     private static Matcher<JsonObject> entryMatcher(
         final NuspecField id, final NuspecField version
     ) {
@@ -14,6 +14,7 @@ import com.artipie.http.ResponseBuilder;
 import com.artipie.http.Slice;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.slice.KeyFromPath;
+import com.artipie.pypi.meta.ProjectIndex;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -32,7 +33,11 @@ public final class DeleteSlice implements Slice {
         return this.asto.exists(key).thenCompose(
                 exists -> {
                     if (exists) {
-                        return this.asto.delete(key).thenApply(
+                        return this.asto.delete(key).thenCompose(
+                                nothing -> new ProjectIndex(
+                                        this.asto, key.parent().orElse(Key.ROOT)
+                                ).remove(key)
+                        ).thenApply(
                                 nothing -> ResponseBuilder.ok().build()
                         ).toCompletableFuture();
                     } else {
@@ -15,46 +15,137 @@ import com.artipie.http.Headers;
 import com.artipie.http.ResponseBuilder;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
+import com.artipie.http.headers.Accept;
+import com.artipie.http.headers.ContentType;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RequestLinePrefix;
+import com.artipie.http.slice.ETagged;
 import com.artipie.http.slice.KeyFromPath;
+import com.artipie.pypi.meta.ProjectIndex;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import org.apache.commons.codec.digest.DigestUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
 
 /**
  * SliceIndex returns formatted html output with index of repository packages.
+ * Project pages are built from {@link ProjectIndex} without reading the distributions,
+ * rendered pages are cached by index ETag. PEP 691 json variant is returned
+ * when requested by `Accept` header.
  */
 final class SliceIndex implements Slice {
 
+    /**
+     * PEP 691 json content type.
+     */
+    static final String JSON_TYPE = "application/vnd.pypi.simple.v1+json";
+
+    /**
+     * PEP 691 html content type.
+     */
+    private static final String HTML_TYPE = "application/vnd.pypi.simple.v1+html";
+
     /**
      * Artipie artifacts storage.
      */
     private final Storage storage;
 
+    /**
+     * Rendered pages by ETag.
+     */
+    private final Cache<String, String> pages;
+
     /**
      * @param storage Storage
      */
     SliceIndex(final Storage storage) {
         this.storage = storage;
+        this.pages = CacheBuilder.newBuilder().maximumSize(1000).build();
     }
 
     @Override
     public CompletableFuture<Response> response(RequestLine line, Headers headers, Content publisher) {
         final Key rqkey = new KeyFromPath(line.uri().toString());
         final String prefix = new RequestLinePrefix(rqkey.string(), headers).get();
+        final CompletableFuture<Response> res;
+        if (rqkey.string().isEmpty()) {
+            res = this.listing(rqkey, prefix);
+        } else {
+            final ProjectIndex index = new ProjectIndex(this.storage, rqkey);
+            res = index.load().thenCompose(
+                json -> json.<CompletionStage<JsonObject>>map(CompletableFuture::completedFuture)
+                    .orElseGet(index::rebuild)
+            ).thenApply(
+                json -> this.page(rqkey, prefix, json, headers)
+            ).toCompletableFuture();
+        }
+        return res;
+    }
+
+    /**
+     * Project page response built from the index.
+     * @param rqkey Project key
+     * @param prefix Links prefix
+     * @param index Project index
+     * @param headers Request headers
+     * @return Response
+     */
+    private Response page(final Key rqkey, final String prefix, final JsonObject index,
+        final Headers headers) {
+        final boolean json = SliceIndex.json(headers);
+        final String etag = String.format(
+            "\"%s\"",
+            DigestUtils.sha256Hex(String.join(":", rqkey.string(), prefix, index.toString()))
+                .substring(0, 32).concat(json ? "-json" : "-html")
+        );
+        return new ETagged(etag).response(
+            headers,
+            () -> {
+                String body = this.pages.getIfPresent(etag);
+                if (body == null) {
+                    body = SliceIndex.render(rqkey, prefix, index, json);
+                    this.pages.put(etag, body);
+                }
+                final ResponseBuilder rsp;
+                if (json) {
+                    rsp = ResponseBuilder.ok()
+                        .header(ContentType.mime(SliceIndex.JSON_TYPE))
+                        .body(body.getBytes(StandardCharsets.UTF_8));
+                } else {
+                    rsp = ResponseBuilder.ok().htmlBody(body, StandardCharsets.UTF_8);
+                }
+                return rsp;
+            }
+        ).header("Vary", Accept.NAME).build();
+    }
+
+    /**
+     * Repository root listing: lists all the items and calculates the checksums.
+     * @param rqkey Request key
+     * @param prefix Links prefix
+     * @return Response
+     */
+    private CompletableFuture<Response> listing(final Key rqkey, final String prefix) {
         return SingleInterop.fromFuture(this.storage.list(rqkey))
             .flatMapPublisher(Flowable::fromIterable)
+            .filter(key -> !key.string().startsWith(ProjectIndex.ROOT.string()))
             .flatMapSingle(
                 key -> Single.fromFuture(
                     this.storage.value(key).thenCompose(
                         value -> new ContentDigest(value, Digests.SHA256).hex()
                     ).thenApply(
-                        hex -> String.format(
-                            "<a href=\"%s#sha256=%s\">%s</a><br/>",
+                        hex -> SliceIndex.link(
                             String.format("%s/%s", prefix, key.string()),
                             hex,
                             new KeyLastPart(key).get()
@@ -65,12 +156,94 @@ final class SliceIndex implements Slice {
             .collect(StringBuilder::new, StringBuilder::append)
             .map(
                 resp -> ResponseBuilder.ok()
-                    .htmlBody(
-                        String.format(
-                            "<!DOCTYPE html>\n<html>\n  </body>\n%s\n</body>\n</html>", resp.toString()
-                        ), StandardCharsets.UTF_8)
+                    .htmlBody(SliceIndex.html(resp.toString()), StandardCharsets.UTF_8)
                     .build()
             ).to(SingleInterop.get()).toCompletableFuture();
     }
 
+    /**
+     * Renders project page.
+     * @param rqkey Project key
+     * @param prefix Links prefix
+     * @param index Project index
+     * @param json Render PEP 691 json
+     * @return Page body
+     */
+    private static String render(final Key rqkey, final String prefix, final JsonObject index,
+        final boolean json) {
+        final Map<String, JsonValue> files = index.getJsonObject(ProjectIndex.FILES);
+        final String res;
+        if (json) {
+            final JsonArrayBuilder arr = Json.createArrayBuilder();
+            files.forEach(
+                (name, item) -> arr.add(
+                    Json.createObjectBuilder()
+                        .add("filename", new KeyLastPart(new Key.From(name)).get())
+                        .add("url", String.format("%s/%s/%s", prefix, rqkey.string(), name))
+                        .add(
+                            "hashes",
+                            Json.createObjectBuilder().add(
+                                ProjectIndex.SHA256,
+                                item.asJsonObject().getString(ProjectIndex.SHA256)
+                            )
+                        )
+                        .add(ProjectIndex.SIZE, item.asJsonObject().getJsonNumber(ProjectIndex.SIZE))
+                )
+            );
+            res = Json.createObjectBuilder()
+                .add("meta", Json.createObjectBuilder().add("api-version", "1.0"))
+                .add("name", new KeyLastPart(rqkey).get())
+                .add(ProjectIndex.FILES, arr)
+                .build().toString();
+        } else {
+            final StringBuilder links = new StringBuilder();
+            files.forEach(
+                (name, item) -> links.append(
+                    SliceIndex.link(
+                        String.format("%s/%s/%s", prefix, rqkey.string(), name),
+                        item.asJsonObject().getString(ProjectIndex.SHA256),
+                        new KeyLastPart(new Key.From(name)).get()
+                    )
+                )
+            );
+            res = SliceIndex.html(links.toString());
+        }
+        return res;
+    }
+
+    /**
+     * Does client prefer PEP 691 json over html?
+     * @param headers Request headers
+     * @return True if json should be returned
+     */
+    private static boolean json(final Headers headers) {
+        return new Accept(headers).values().stream()
+            .filter(
+                type -> SliceIndex.JSON_TYPE.equals(type) || SliceIndex.HTML_TYPE.equals(type)
+                    || "text/html".equals(type)
+            ).findFirst().map(SliceIndex.JSON_TYPE::equals).orElse(false);
+    }
+
+    /**
+     * Html link to the distribution.
+     * @param href Link
+     * @param sha SHA-256 checksum hex
+     * @param name Link text
+     * @return Html link
+     */
+    private static String link(final String href, final String sha, final String name) {
+        return String.format("<a href=\"%s#sha256=%s\">%s</a><br/>", href, sha, name);
+    }
+
+    /**
+     * Html page.
+     * @param links Links
+     * @return Html
+     */
+    private static String html(final String links) {
+        return String.format(
+            "<!DOCTYPE html>\n<html>\n  </body>\n%s\n</body>\n</html>", links
+        );
+    }
+
 }
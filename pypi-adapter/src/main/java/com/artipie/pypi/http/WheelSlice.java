@@ -10,6 +10,8 @@ import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Meta;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ext.ContentDigest;
+import com.artipie.asto.ext.Digests;
 import com.artipie.asto.streams.ContentAsStream;
 import com.artipie.http.Headers;
 import com.artipie.http.ResponseBuilder;
@@ -24,6 +26,7 @@ import com.artipie.http.slice.KeyFromPath;
 import com.artipie.pypi.NormalizedProjectName;
 import com.artipie.pypi.meta.Metadata;
 import com.artipie.pypi.meta.PackageInfo;
+import com.artipie.pypi.meta.ProjectIndex;
 import com.artipie.pypi.meta.ValidFilename;
 import com.artipie.scheduling.ArtifactEvent;
 import com.jcabi.log.Logger;
@@ -84,12 +87,22 @@ final class WheelSlice implements Slice {
                 info -> {
                     final CompletionStage<RsStatus> res;
                     if (new ValidFilename(info, filename).valid()) {
-                        final Key name = new Key.From(
+                        final Key project = new Key.From(
                             new KeyFromPath(line.uri().toString()),
-                            new NormalizedProjectName.Simple(info.name()).value(),
-                            filename
+                            new NormalizedProjectName.Simple(info.name()).value()
                         );
-                        CompletionStage<Void> move = this.storage.move(key, name);
+                        final Key name = new Key.From(project, filename);
+                        CompletionStage<Void> move = this.storage.value(key)
+                            .thenCompose(val -> new ContentDigest(val, Digests.SHA256).hex())
+                            .thenCompose(
+                                sha -> this.storage.metadata(key).thenCompose(
+                                    meta -> this.storage.move(key, name).thenCompose(
+                                        nothing -> new ProjectIndex(this.storage, project).add(
+                                            name, sha, meta.read(Meta.OP_SIZE).get()
+                                        )
+                                    )
+                                )
+                            );
                         if (this.events.isPresent()) {
                             move = move.thenCompose(
                                 ignored ->
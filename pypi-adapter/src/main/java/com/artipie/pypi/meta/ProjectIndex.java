@@ -0,0 +1,261 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.pypi.meta;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.ContentDigest;
+import com.artipie.asto.ext.Digests;
+import com.artipie.asto.lock.RetryExclusively;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+
+/**
+ * Per-project index of python distributions: SHA-256 checksum and size of each
+ * distribution file are recorded at upload time, so that simple index page can be built
+ * without reading and hashing the distributions. Index is stored as json
+ * in `.pypi/{project}/index.json` item:
+ * <pre>
+ * {"files": {"alarmtime-0.1.5.tar.gz": {"sha256": "...", "size": 1234}}}
+ * </pre>
+ * @since 1.0
+ */
+public final class ProjectIndex {
+
+    /**
+     * Root key for the indexes.
+     */
+    public static final Key ROOT = new Key.From(".pypi");
+
+    /**
+     * Files json field name.
+     */
+    public static final String FILES = "files";
+
+    /**
+     * Sha256 json field name.
+     */
+    public static final String SHA256 = "sha256";
+
+    /**
+     * Size json field name.
+     */
+    public static final String SIZE = "size";
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Project directory key.
+     */
+    private final Key project;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param project Project directory key
+     */
+    public ProjectIndex(final Storage storage, final Key project) {
+        this.storage = storage;
+        this.project = project;
+    }
+
+    /**
+     * Loads project index.
+     * @return Index json if exists
+     */
+    public CompletionStage<Optional<JsonObject>> load() {
+        final Key key = this.key();
+        return this.storage.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Optional<JsonObject>> res;
+                if (exists) {
+                    res = this.storage.value(key)
+                        .thenCompose(Content::asJsonObjectFuture)
+                        .thenApply(Optional::of);
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Records distribution file into the index.
+     * @param file Distribution file key
+     * @param sha Distribution SHA-256 checksum hex
+     * @param size Distribution size
+     * @return Completion action
+     */
+    public CompletionStage<Void> add(final Key file, final String sha, final long size) {
+        return this.update(files -> files.put(this.filename(file), ProjectIndex.item(sha, size)));
+    }
+
+    /**
+     * Removes distribution file from the index, if index exists.
+     * @param file Distribution file key
+     * @return Completion action
+     */
+    public CompletionStage<Void> remove(final Key file) {
+        return this.storage.exists(this.key()).thenCompose(
+            exists -> {
+                final CompletionStage<Void> res;
+                if (exists) {
+                    res = this.update(files -> files.remove(this.filename(file)));
+                } else {
+                    res = CompletableFuture.allOf();
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Builds index from the files stored in project directory: this requires reading and
+     * hashing of every distribution and is used for the projects uploaded before the index
+     * was introduced. Index is saved only if project contains any distributions.
+     * @return Index json
+     */
+    public CompletionStage<JsonObject> rebuild() {
+        return this.scan().thenCompose(
+            files -> {
+                final JsonObject json = ProjectIndex.json(files);
+                final CompletionStage<Void> save;
+                if (files.isEmpty()) {
+                    save = CompletableFuture.allOf();
+                } else {
+                    save = this.storage.save(
+                        this.key(),
+                        new Content.From(json.toString().getBytes(StandardCharsets.UTF_8))
+                    );
+                }
+                return save.thenApply(ignored -> json);
+            }
+        );
+    }
+
+    /**
+     * Index item key.
+     * @return Key
+     */
+    public Key key() {
+        return new Key.From(new Key.From(ProjectIndex.ROOT, this.project), "index.json");
+    }
+
+    /**
+     * Updates index files exclusively, retrying while index is locked by concurrent
+     * update. If index does not exist, files are read from project directory first,
+     * so distributions uploaded before the index was introduced are not lost.
+     * @param action Action to perform with files map
+     * @return Completion action
+     */
+    private CompletionStage<Void> update(final Consumer<Map<String, JsonValue>> action) {
+        final Key key = this.key();
+        return new RetryExclusively(this.storage).perform(
+            key,
+            asto -> this.load().thenCompose(
+                index -> index.<CompletionStage<Map<String, JsonValue>>>map(
+                    json -> CompletableFuture.completedFuture(
+                        new TreeMap<String, JsonValue>(json.getJsonObject(ProjectIndex.FILES))
+                    )
+                ).orElseGet(this::scan)
+            ).thenCompose(
+                files -> {
+                    action.accept(files);
+                    return asto.save(
+                        key,
+                        new Content.From(
+                            ProjectIndex.json(files).toString().getBytes(StandardCharsets.UTF_8)
+                        )
+                    );
+                }
+            )
+        );
+    }
+
+    /**
+     * Reads and hashes every distribution stored in project directory.
+     * @return Index files items by filename
+     */
+    private CompletionStage<Map<String, JsonValue>> scan() {
+        final Map<String, JsonValue> files = new TreeMap<>();
+        final String prefix = String.format("%s/", this.project.string());
+        return this.storage.list(this.project).thenCompose(
+            keys -> CompletableFuture.allOf(
+                keys.stream().filter(key -> key.string().startsWith(prefix)).map(
+                    key -> this.storage.value(key)
+                        .thenCompose(value -> new ContentDigest(value, Digests.SHA256).hex())
+                        .thenCompose(
+                            sha -> this.storage.metadata(key).thenAccept(
+                                meta -> {
+                                    synchronized (files) {
+                                        files.put(
+                                            this.filename(key),
+                                            ProjectIndex.item(
+                                                sha, meta.read(Meta.OP_SIZE).orElseThrow()
+                                            )
+                                        );
+                                    }
+                                }
+                            )
+                        ).toCompletableFuture()
+                ).toArray(CompletableFuture[]::new)
+            )
+        ).thenApply(nothing -> files);
+    }
+
+    /**
+     * Distribution filename relative to project directory.
+     * @param file Distribution file key
+     * @return Filename
+     */
+    private String filename(final Key file) {
+        final String res;
+        if (this.project.string().isEmpty()) {
+            res = file.string();
+        } else {
+            res = file.string().substring(this.project.string().length() + 1);
+        }
+        return res;
+    }
+
+    /**
+     * Index json.
+     * @param files Files items
+     * @return Json object
+     */
+    private static JsonObject json(final Map<String, JsonValue> files) {
+        final JsonObjectBuilder res = Json.createObjectBuilder();
+        files.forEach(res::add);
+        return Json.createObjectBuilder().add(ProjectIndex.FILES, res).build();
+    }
+
+    /**
+     * Index file item.
+     * @param sha SHA-256 checksum hex
+     * @param size File size
+     * @return Json object
+     */
+    private static JsonObject item(final String sha, final long size) {
+        return Json.createObjectBuilder()
+            .add(ProjectIndex.SHA256, sha)
+            .add(ProjectIndex.SIZE, size)
+            .build();
+    }
+}
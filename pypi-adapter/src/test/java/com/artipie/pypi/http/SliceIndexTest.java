@@ -17,6 +17,8 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.RsStatus;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.cactoos.map.MapEntry;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -209,6 +211,63 @@ class SliceIndexTest {
         ResponseAssert.check(r, RsStatus.OK, ContentType.html(), new ContentLength(179));
     }
 
+    @Test
+    void returnsIndexListFromProjectIndex() {
+        this.storage.save(
+            new Key.From(".pypi/def/index.json"),
+            new Content.From(
+                "{\"files\":{\"def-0.1.tar.gz\":{\"sha256\":\"abc123\",\"size\":3}}}"
+                    .getBytes()
+            )
+        ).join();
+        ResponseAssert.check(
+            new SliceIndex(this.storage).response(
+                new RequestLine("GET", "/def/"),
+                Headers.EMPTY,
+                Content.EMPTY
+            ).join(),
+            String.format(
+                "<!DOCTYPE html>\n<html>\n  </body>\n%s\n</body>\n</html>",
+                "<a href=\"/def/def-0.1.tar.gz#sha256=abc123\">def-0.1.tar.gz</a><br/>"
+            ).getBytes()
+        );
+    }
+
+    @Test
+    void returnsJsonIndexWhenRequested() {
+        final byte[] bytes = "abc".getBytes();
+        this.storage.save(new Key.From("def/def-0.1.tar.gz"), new Content.From(bytes)).join();
+        final Response rsp = new SliceIndex(this.storage).response(
+            new RequestLine("GET", "/def/"),
+            Headers.from("Accept", SliceIndex.JSON_TYPE),
+            Content.EMPTY
+        ).join();
+        ResponseAssert.check(rsp, RsStatus.OK, ContentType.mime(SliceIndex.JSON_TYPE));
+        MatcherAssert.assertThat(
+            rsp.body().asJsonObject().getJsonArray("files").getJsonObject(0)
+                .getJsonObject("hashes").getString("sha256"),
+            new IsEqual<>(DigestUtils.sha256Hex(bytes))
+        );
+    }
+
+    @Test
+    void returnsNotModifiedForKnownEtag() {
+        this.storage.save(new Key.From("def/def-0.1.tar.gz"), new Content.From("1".getBytes()))
+            .join();
+        final SliceIndex slice = new SliceIndex(this.storage);
+        final String etag = slice.response(
+            new RequestLine("GET", "/def/"), Headers.EMPTY, Content.EMPTY
+        ).join().headers().values("ETag").get(0);
+        ResponseAssert.check(
+            slice.response(
+                new RequestLine("GET", "/def/"),
+                Headers.from("If-None-Match", etag),
+                Content.EMPTY
+            ).join(),
+            RsStatus.NOT_MODIFIED
+        );
+    }
+
     @SafeVarargs
     private static byte[] html(final Map.Entry<String, byte[]>... items) {
         return
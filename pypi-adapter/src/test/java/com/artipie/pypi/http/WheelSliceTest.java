@@ -16,7 +16,9 @@ import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.RsStatus;
+import com.artipie.pypi.meta.ProjectIndex;
 import com.artipie.scheduling.ArtifactEvent;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.collection.IsEmptyCollection;
@@ -76,6 +78,14 @@ class WheelSliceTest {
                 this.asto.value(new Key.From("artipie-sample", filename)).join().asBytes(),
             new IsEqual<>(body)
         );
+        MatcherAssert.assertThat(
+            "Records distribution checksum in project index",
+            new ProjectIndex(this.asto, new Key.From("artipie-sample")).load()
+                .toCompletableFuture().join().orElseThrow()
+                .getJsonObject(ProjectIndex.FILES).getJsonObject(filename)
+                .getString(ProjectIndex.SHA256),
+            new IsEqual<>(DigestUtils.sha256Hex(body))
+        );
         MatcherAssert.assertThat(
             "Added event to queue", this.queue.size() == 1
         );
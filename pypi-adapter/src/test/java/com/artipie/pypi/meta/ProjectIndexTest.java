@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2023 artipie.com
+ * https://github.com/artipie/artipie/blob/master/LICENSE.txt
+ */
+package com.artipie.pypi.meta;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import javax.json.JsonObject;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ProjectIndex}.
+ * @since 1.0
+ */
+class ProjectIndexTest {
+
+    /**
+     * Test storage.
+     */
+    private Storage asto;
+
+    @BeforeEach
+    void init() {
+        this.asto = new InMemoryStorage();
+    }
+
+    @Test
+    void addsAndRemovesFiles() {
+        final Key project = new Key.From("repo", "abc");
+        final ProjectIndex index = new ProjectIndex(this.asto, project);
+        index.add(new Key.From(project, "abc-0.1.whl"), "123", 1L).toCompletableFuture().join();
+        index.add(new Key.From(project, "abc-0.2.whl"), "456", 2L).toCompletableFuture().join();
+        index.remove(new Key.From(project, "abc-0.1.whl")).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            index.load().toCompletableFuture().join().orElseThrow().toString(),
+            new IsEqual<>("{\"files\":{\"abc-0.2.whl\":{\"sha256\":\"456\",\"size\":2}}}")
+        );
+    }
+
+    @Test
+    void rebuildsIndexFromStoredFiles() {
+        final byte[] bytes = "whl".getBytes();
+        this.asto.save(new Key.From("abc", "abc-0.1.whl"), new Content.From(bytes)).join();
+        this.asto.save(new Key.From("abcd", "abcd-0.1.whl"), new Content.From(bytes)).join();
+        final JsonObject json = new ProjectIndex(this.asto, new Key.From("abc")).rebuild()
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Index contains only project files",
+            json.getJsonObject(ProjectIndex.FILES).keySet().size(),
+            new IsEqual<>(1)
+        );
+        MatcherAssert.assertThat(
+            "Index is saved to storage",
+            this.asto.exists(new Key.From(".pypi", "abc", "index.json")).join(),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Checksum is calculated",
+            json.getJsonObject(ProjectIndex.FILES).getJsonObject("abc-0.1.whl")
+                .getString(ProjectIndex.SHA256),
+            new IsEqual<>(DigestUtils.sha256Hex(bytes))
+        );
+    }
+
+    @Test
+    void keepsStoredFilesWhenIndexIsCreated() {
+        final byte[] bytes = "whl".getBytes();
+        final Key project = new Key.From("abc");
+        this.asto.save(new Key.From(project, "abc-0.1.whl"), new Content.From(bytes)).join();
+        final ProjectIndex index = new ProjectIndex(this.asto, project);
+        index.add(new Key.From(project, "abc-0.2.whl"), "456", 2L).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            index.load().toCompletableFuture().join().orElseThrow()
+                .getJsonObject(ProjectIndex.FILES).keySet(),
+            Matchers.contains("abc-0.1.whl", "abc-0.2.whl")
+        );
+    }
+}